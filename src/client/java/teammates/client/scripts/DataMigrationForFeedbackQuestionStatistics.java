@@ -0,0 +1,44 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.storage.entity.FeedbackQuestion;
+
+/**
+ * Script to aggregate the statistics of existing feedback questions from the responses written before
+ * statistics were maintained on response writes.
+ */
+public class DataMigrationForFeedbackQuestionStatistics extends DataMigrationEntitiesBaseScript<FeedbackQuestion> {
+
+    private FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackQuestionStatistics().doOperationRemotely();
+    }
+
+    @Override
+    protected Query<FeedbackQuestion> getFilterQuery() {
+        return ofy().load().type(FeedbackQuestion.class);
+    }
+
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    @Override
+    protected boolean isMigrationNeeded(FeedbackQuestion question) {
+        return FeedbackQuestionAttributes.valueOf(question).getQuestionDetails().isStatisticsAggregated();
+    }
+
+    @Override
+    protected void migrateEntity(FeedbackQuestion question) {
+        // rebuilding replaces the statistics of the question, so the migration can be safely re-run
+        frLogic.rebuildFeedbackQuestionStatistics(question.getId());
+    }
+
+}
@@ -0,0 +1,46 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.storage.api.FeedbackSessionNotificationsDb;
+import teammates.storage.entity.FeedbackSession;
+
+/**
+ * Script to schedule the automated emails of existing feedback sessions as FeedbackSessionNotification entities.
+ */
+public class DataMigrationForFeedbackSessionNotifications extends DataMigrationEntitiesBaseScript<FeedbackSession> {
+
+    private FeedbackSessionNotificationsDb notificationsDb = new FeedbackSessionNotificationsDb();
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackSessionNotifications().doOperationRemotely();
+    }
+
+    @Override
+    protected Query<FeedbackSession> getFilterQuery() {
+        return ofy().load().type(FeedbackSession.class);
+    }
+
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    @Override
+    protected boolean isMigrationNeeded(FeedbackSession session) {
+        return session.getDeletedTime() == null
+                && (!session.isSentOpenEmail() || !session.isSentClosingEmail()
+                        || !session.isSentClosedEmail() || !session.isSentPublishedEmail());
+    }
+
+    @Override
+    protected void migrateEntity(FeedbackSession session) {
+        // scheduling overwrites the notifications of the session, so the migration can be safely re-run
+        notificationsDb.scheduleNotifications(Collections.singletonList(FeedbackSessionAttributes.valueOf(session)));
+    }
+
+}
@@ -0,0 +1,59 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.HashSet;
+
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.storage.api.FeedbackSessionRespondentsDb;
+import teammates.storage.entity.FeedbackSession;
+
+/**
+ * Script to move the legacy respondent sets stored in FeedbackSession entities
+ * to FeedbackSessionRespondent entities and their counters.
+ */
+public class DataMigrationForFeedbackSessionRespondents extends DataMigrationEntitiesBaseScript<FeedbackSession> {
+
+    private FeedbackSessionRespondentsDb respondentsDb = new FeedbackSessionRespondentsDb();
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackSessionRespondents().doOperationRemotely();
+    }
+
+    @Override
+    protected Query<FeedbackSession> getFilterQuery() {
+        return ofy().load().type(FeedbackSession.class);
+    }
+
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    @Override
+    protected boolean isMigrationNeeded(FeedbackSession session) {
+        return session.getRespondingStudentList() != null && !session.getRespondingStudentList().isEmpty()
+                || session.getRespondingInstructorList() != null && !session.getRespondingInstructorList().isEmpty();
+    }
+
+    @Override
+    protected void migrateEntity(FeedbackSession session) {
+        // adding an existing respondent is a no-op, so the migration can be safely re-run
+        if (session.getRespondingStudentList() != null) {
+            for (String email : session.getRespondingStudentList()) {
+                respondentsDb.addRespondent(session.getFeedbackSessionName(), session.getCourseId(), email, false);
+            }
+        }
+        if (session.getRespondingInstructorList() != null) {
+            for (String email : session.getRespondingInstructorList()) {
+                respondentsDb.addRespondent(session.getFeedbackSessionName(), session.getCourseId(), email, true);
+            }
+        }
+
+        session.setRespondingStudentList(new HashSet<>());
+        session.setRespondingInstructorList(new HashSet<>());
+
+        saveEntityDeferred(session);
+    }
+
+}
@@ -0,0 +1,273 @@
+package teammates.benchmark;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Generates synthetic {@link DataBundle}s of a feedback session with a given number of responses.
+ *
+ * <p>The session has one question of each type in {@link #QUESTION_TYPES}, all answered by every student
+ * for each member of their own team (including themselves). The data is deterministic for a given size.
+ */
+public final class BenchmarkDataGenerator {
+
+    public static final String COURSE_ID = "Benchmark.CS101";
+    public static final String SESSION_NAME = "Benchmark Session";
+    public static final String INSTRUCTOR_EMAIL = "instructor@benchmark.tmt";
+
+    /**
+     * Question types of the generated session, in question number order.
+     */
+    public static final FeedbackQuestionType[] QUESTION_TYPES = {
+            FeedbackQuestionType.TEXT,
+            FeedbackQuestionType.MCQ,
+            FeedbackQuestionType.MSQ,
+            FeedbackQuestionType.NUMSCALE,
+            FeedbackQuestionType.CONSTSUM,
+            FeedbackQuestionType.CONTRIB,
+            FeedbackQuestionType.RUBRIC,
+            FeedbackQuestionType.RANK_OPTIONS,
+            FeedbackQuestionType.RANK_RECIPIENTS,
+    };
+
+    private static final int TEAM_SIZE = 4;
+    private static final int TEAMS_PER_SECTION = 10;
+    private static final int RESPONSES_PER_TEAM = QUESTION_TYPES.length * TEAM_SIZE * TEAM_SIZE;
+
+    private BenchmarkDataGenerator() {
+        // utility class
+    }
+
+    /**
+     * Generates a data bundle of a session with at least {@code numberOfResponses} responses.
+     */
+    public static DataBundle generate(int numberOfResponses) {
+        int numberOfTeams = (numberOfResponses + RESPONSES_PER_TEAM - 1) / RESPONSES_PER_TEAM;
+
+        DataBundle dataBundle = new DataBundle();
+        dataBundle.courses = generateCourses();
+        dataBundle.instructors = generateInstructors();
+        dataBundle.students = generateStudents(numberOfTeams);
+        dataBundle.feedbackSessions = generateFeedbackSessions();
+        dataBundle.feedbackQuestions = generateFeedbackQuestions();
+        dataBundle.feedbackResponses = generateFeedbackResponses(numberOfTeams);
+        return dataBundle;
+    }
+
+    private static Map<String, CourseAttributes> generateCourses() {
+        Map<String, CourseAttributes> courses = new LinkedHashMap<>();
+
+        courses.put("course", CourseAttributes.builder(COURSE_ID)
+                .withName("Benchmark Course")
+                .withTimezone(ZoneId.of("UTC"))
+                .build());
+
+        return courses;
+    }
+
+    private static Map<String, InstructorAttributes> generateInstructors() {
+        Map<String, InstructorAttributes> instructors = new LinkedHashMap<>();
+
+        instructors.put("instructor", InstructorAttributes.builder(COURSE_ID, INSTRUCTOR_EMAIL)
+                .withGoogleId("Benchmark.instructor")
+                .withName("Benchmark Instructor")
+                .withRole(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER)
+                .withIsDisplayedToStudents(true)
+                .withDisplayedName("Co-owner")
+                .withPrivileges(new InstructorPrivileges(
+                        Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER))
+                .build());
+
+        return instructors;
+    }
+
+    private static Map<String, StudentAttributes> generateStudents(int numberOfTeams) {
+        Map<String, StudentAttributes> students = new LinkedHashMap<>();
+
+        for (int team = 0; team < numberOfTeams; team++) {
+            for (int member = 0; member < TEAM_SIZE; member++) {
+                String email = getStudentEmail(team, member);
+                students.put(email, StudentAttributes.builder(COURSE_ID, email)
+                        .withName("Student " + member + " of Team " + team)
+                        .withTeamName(getTeamName(team))
+                        .withSectionName(getSectionName(team))
+                        .withComment("")
+                        .build());
+            }
+        }
+
+        return students;
+    }
+
+    private static Map<String, FeedbackSessionAttributes> generateFeedbackSessions() {
+        Map<String, FeedbackSessionAttributes> sessions = new LinkedHashMap<>();
+
+        Instant now = Instant.now();
+        sessions.put("session", FeedbackSessionAttributes.builder(SESSION_NAME, COURSE_ID)
+                .withCreatorEmail(INSTRUCTOR_EMAIL)
+                .withInstructions("Benchmark instructions")
+                .withSessionVisibleFromTime(now.minus(Duration.ofDays(2)))
+                .withStartTime(now.minus(Duration.ofDays(1)))
+                .withEndTime(now.plus(Duration.ofDays(1)))
+                .withResultsVisibleFromTime(now.plus(Duration.ofDays(2)))
+                .withTimeZone(ZoneId.of("UTC"))
+                .withGracePeriod(Duration.ofMinutes(15))
+                .build());
+
+        return sessions;
+    }
+
+    private static Map<String, FeedbackQuestionAttributes> generateFeedbackQuestions() {
+        Map<String, FeedbackQuestionAttributes> questions = new LinkedHashMap<>();
+
+        List<FeedbackParticipantType> visibleTo = new ArrayList<>();
+        visibleTo.add(FeedbackParticipantType.INSTRUCTORS);
+        visibleTo.add(FeedbackParticipantType.RECEIVER);
+
+        for (int i = 0; i < QUESTION_TYPES.length; i++) {
+            questions.put("question" + (i + 1), FeedbackQuestionAttributes.builder()
+                    .withFeedbackSessionName(SESSION_NAME)
+                    .withCourseId(COURSE_ID)
+                    .withQuestionNumber(i + 1)
+                    .withQuestionDetails(generateQuestionDetails(QUESTION_TYPES[i]))
+                    .withGiverType(FeedbackParticipantType.STUDENTS)
+                    .withRecipientType(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF)
+                    .withNumberOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                    .withShowResponsesTo(visibleTo)
+                    .withShowGiverNameTo(visibleTo)
+                    .withShowRecipientNameTo(visibleTo)
+                    .build());
+        }
+
+        return questions;
+    }
+
+    private static Map<String, FeedbackResponseAttributes> generateFeedbackResponses(int numberOfTeams) {
+        Map<String, FeedbackResponseAttributes> responses = new LinkedHashMap<>();
+
+        for (int i = 0; i < QUESTION_TYPES.length; i++) {
+            for (int team = 0; team < numberOfTeams; team++) {
+                for (int giver = 0; giver < TEAM_SIZE; giver++) {
+                    for (int recipient = 0; recipient < TEAM_SIZE; recipient++) {
+                        FeedbackResponseAttributes response = FeedbackResponseAttributes.builder(
+                                String.valueOf(i + 1), getStudentEmail(team, giver), getStudentEmail(team, recipient))
+                                .withFeedbackSessionName(SESSION_NAME)
+                                .withCourseId(COURSE_ID)
+                                .withGiverSection(getSectionName(team))
+                                .withRecipientSection(getSectionName(team))
+                                .withResponseDetails(generateResponseDetails(QUESTION_TYPES[i], giver, recipient))
+                                .build();
+                        responses.put("response" + (i + 1) + "-" + team + "-" + giver + "-" + recipient, response);
+                    }
+                }
+            }
+        }
+
+        return responses;
+    }
+
+    private static FeedbackQuestionDetails generateQuestionDetails(FeedbackQuestionType questionType) {
+        String questionText =
+                "\"questionType\": \"" + questionType + "\", \"questionText\": \"" + questionType + " question\"";
+        String extraFields;
+        switch (questionType) {
+        case MCQ:
+            extraFields = "\"numOfMcqChoices\": 3, \"mcqChoices\": [\"A\", \"B\", \"C\"]";
+            break;
+        case MSQ:
+            extraFields = "\"msqChoices\": [\"A\", \"B\", \"C\"]";
+            break;
+        case NUMSCALE:
+            extraFields = "\"minScale\": 1, \"maxScale\": 5, \"step\": 1";
+            break;
+        case CONSTSUM:
+            extraFields = "\"distributeToRecipients\": true, \"points\": 100";
+            break;
+        case RUBRIC:
+            extraFields = "\"numOfRubricChoices\": 2, \"rubricChoices\": [\"Yes\", \"No\"], "
+                    + "\"numOfRubricSubQuestions\": 2, \"rubricSubQuestions\": [\"a\", \"b\"], "
+                    + "\"rubricDescriptions\": [[\"\", \"\"], [\"\", \"\"]]";
+            break;
+        case RANK_OPTIONS:
+            extraFields = "\"options\": [\"A\", \"B\", \"C\"]";
+            break;
+        default:
+            extraFields = "";
+            break;
+        }
+        String json = "{" + questionText + (extraFields.isEmpty() ? "" : ", " + extraFields) + "}";
+        return JsonUtils.fromJson(json, FeedbackQuestionDetails.class);
+    }
+
+    private static FeedbackResponseDetails generateResponseDetails(FeedbackQuestionType questionType,
+            int giver, int recipient) {
+        String answer;
+        switch (questionType) {
+        case TEXT:
+            answer = "\"answer\": \"Answer from " + giver + " to " + recipient + "\"";
+            break;
+        case MCQ:
+            answer = "\"answer\": \"" + "ABC".charAt((giver + recipient) % 3) + "\", \"isOther\": false";
+            break;
+        case MSQ:
+            answer = "\"answers\": [\"" + "ABC".charAt(giver % 3) + "\", \"" + "ABC".charAt((giver + 1) % 3)
+                    + "\"], \"isOther\": false";
+            break;
+        case NUMSCALE:
+            answer = "\"answer\": " + (1 + (giver + recipient) % 5);
+            break;
+        case CONSTSUM:
+            answer = "\"answers\": [" + (100 / TEAM_SIZE) + "]";
+            break;
+        case CONTRIB:
+            answer = "\"answer\": " + (80 + 10 * ((giver + recipient) % 5));
+            break;
+        case RUBRIC:
+            answer = "\"answer\": [" + (giver + recipient) % 2 + ", " + giver % 2 + "]";
+            break;
+        case RANK_OPTIONS:
+            answer = "\"answers\": [" + (1 + giver % 3) + ", " + (1 + (giver + 1) % 3) + ", " + (1 + (giver + 2) % 3) + "]";
+            break;
+        case RANK_RECIPIENTS:
+            answer = "\"answer\": " + (recipient + 1);
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported question type: " + questionType);
+        }
+        String json = "{\"questionType\": \"" + questionType + "\", " + answer + "}";
+        return JsonUtils.fromJson(json, FeedbackResponseDetails.class);
+    }
+
+    private static String getStudentEmail(int team, int member) {
+        return "student" + member + ".team" + team + "@benchmark.tmt";
+    }
+
+    private static String getTeamName(int team) {
+        return "Team " + team;
+    }
+
+    private static String getSectionName(int team) {
+        return "Section " + team / TEAMS_PER_SECTION;
+    }
+
+}
@@ -0,0 +1,62 @@
+package teammates.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * Benchmarks the construction of {@link FeedbackSessionResultsBundle} and the response maps built from it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FeedbackSessionResultsBundleBenchmark {
+
+    /**
+     * Constructs a bundle from the tables of an existing one.
+     *
+     * <p>The constructor modifies the responses it is given, so every invocation works on fresh copies.
+     */
+    @Benchmark
+    public FeedbackSessionResultsBundle construct(SessionResultsState state) {
+        FeedbackSessionResultsBundle bundle = state.bundle;
+        return new FeedbackSessionResultsBundle(bundle.feedbackSession, state.copyShuffledResponses(),
+                bundle.questions, bundle.emailNameTable, bundle.emailLastNameTable, bundle.emailTeamNameTable,
+                bundle.sectionTeamNameTable, bundle.visibilityTable, bundle.responseStatus, bundle.roster,
+                bundle.responseComments);
+    }
+
+    @Benchmark
+    public Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> getQuestionResponseMap(
+            SessionResultsState state) {
+        return state.bundle.getQuestionResponseMap();
+    }
+
+    /**
+     * Builds the giver > recipient map of the bundle.
+     *
+     * <p>The responses are sorted in place, so they are reset to the same random order before every invocation.
+     */
+    @Benchmark
+    public Map<String, Map<String, List<FeedbackResponseAttributes>>> getResponsesSortedByGiver(
+            SessionResultsState state) {
+        state.bundle.responses.clear();
+        state.bundle.responses.addAll(state.shuffledResponses);
+        return state.bundle.getResponsesSortedByGiver();
+    }
+
+}
@@ -0,0 +1,43 @@
+package teammates.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.io.CharStreams;
+
+import teammates.common.datatransfer.SectionDetail;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.logic.core.FeedbackSessionsLogic;
+
+/**
+ * Benchmarks the generation of the results of a session in CSV format,
+ * including loading the results from the simulated Datastore.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FeedbackSessionResultsCsvBenchmark {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    @Benchmark
+    public void writeResultsAsCsv(SessionResultsState state) throws EntityDoesNotExistException, IOException {
+        Writer writer = CharStreams.nullWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                BenchmarkDataGenerator.SESSION_NAME, BenchmarkDataGenerator.COURSE_ID,
+                BenchmarkDataGenerator.INSTRUCTOR_EMAIL, null, SectionDetail.NOT_APPLICABLE, null,
+                true, true, writer);
+    }
+
+}
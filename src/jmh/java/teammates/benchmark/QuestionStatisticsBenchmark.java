@@ -0,0 +1,56 @@
+package teammates.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+
+/**
+ * Benchmarks {@link FeedbackQuestionDetails#getQuestionResultStatisticsCsv} of every question type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QuestionStatisticsBenchmark {
+
+    @Param({"TEXT", "MCQ", "MSQ", "NUMSCALE", "CONSTSUM", "CONTRIB", "RUBRIC", "RANK_OPTIONS", "RANK_RECIPIENTS"})
+    public String questionType;
+
+    private FeedbackQuestionAttributes question;
+    private List<FeedbackResponseAttributes> responses;
+
+    @Setup
+    public void setUp(SessionResultsState state) {
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                : state.bundle.getQuestionResponseMap().entrySet()) {
+            if (entry.getKey().getQuestionType().name().equals(questionType)) {
+                question = entry.getKey();
+                responses = entry.getValue();
+            }
+        }
+    }
+
+    @Benchmark
+    public String getQuestionResultStatisticsCsv(SessionResultsState state) {
+        return question.getQuestionDetails().getQuestionResultStatisticsCsv(responses, question, state.bundle);
+    }
+
+}
@@ -0,0 +1,91 @@
+package teammates.benchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.ResponseVisibilityEvaluator;
+
+/**
+ * Benchmarks the visibility checks done for every response of a session when building its results for a student,
+ * with {@link ResponseVisibilityEvaluator} against {@link FeedbackResponsesLogic#isNameVisibleToUser}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResponseVisibilityBenchmark {
+
+    private StudentAttributes student;
+    private Set<String> teammateEmails;
+
+    @Setup
+    public void setUp(SessionResultsState state) {
+        student = state.bundle.roster.getStudents().get(0);
+        teammateEmails = new HashSet<>();
+        for (StudentAttributes otherStudent : state.bundle.roster.getStudents()) {
+            if (otherStudent.team.equals(student.team)) {
+                teammateEmails.add(otherStudent.email);
+            }
+        }
+    }
+
+    /**
+     * Checks the visibility of each response and the names in it, including the compilation of the questions.
+     */
+    @Benchmark
+    public void evaluateResponseVisibility(SessionResultsState state, Blackhole blackhole) {
+        ResponseVisibilityEvaluator evaluator = new ResponseVisibilityEvaluator(
+                student.email, UserRole.STUDENT, student, teammateEmails, null, state.bundle.roster);
+        for (FeedbackResponseAttributes response : state.bundle.responses) {
+            FeedbackQuestionAttributes question = state.bundle.questions.get(response.feedbackQuestionId);
+            blackhole.consume(evaluator.isResponseVisible(question, response));
+            blackhole.consume(evaluator.getNameVisibility(question, response));
+        }
+    }
+
+    @Benchmark
+    public void evaluateNameVisibility(SessionResultsState state, Blackhole blackhole) {
+        ResponseVisibilityEvaluator evaluator = new ResponseVisibilityEvaluator(
+                student.email, UserRole.STUDENT, student, teammateEmails, null, state.bundle.roster);
+        for (FeedbackResponseAttributes response : state.bundle.responses) {
+            FeedbackQuestionAttributes question = state.bundle.questions.get(response.feedbackQuestionId);
+            blackhole.consume(evaluator.getNameVisibility(question, response));
+        }
+    }
+
+    /**
+     * Checks the visibility of the names in each response by walking the visibility options of the question.
+     */
+    @Benchmark
+    public void checkNameVisibility(SessionResultsState state, Blackhole blackhole) {
+        FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+        for (FeedbackResponseAttributes response : state.bundle.responses) {
+            FeedbackQuestionAttributes question = state.bundle.questions.get(response.feedbackQuestionId);
+            blackhole.consume(frLogic.isNameVisibleToUser(
+                    question, response, student.email, UserRole.STUDENT, true, state.bundle.roster));
+            blackhole.consume(frLogic.isNameVisibleToUser(
+                    question, response, student.email, UserRole.STUDENT, false, state.bundle.roster));
+        }
+    }
+
+}
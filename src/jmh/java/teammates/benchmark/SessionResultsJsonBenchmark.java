@@ -0,0 +1,68 @@
+package teammates.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.io.CharStreams;
+
+import teammates.common.util.JsonUtils;
+import teammates.ui.webapi.output.SessionResultsData;
+
+/**
+ * Benchmarks the JSON output of the results of a session, i.e. building {@link SessionResultsData}
+ * from the results bundle and serializing it as done by {@code JsonResult}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SessionResultsJsonBenchmark {
+
+    @Benchmark
+    public SessionResultsData buildOutput(SessionResultsState state) {
+        return new SessionResultsData(state.bundle, state.instructor);
+    }
+
+    /**
+     * Serializes the output into a pretty-printed string, as the API output was sent before it was streamed.
+     */
+    @Benchmark
+    public String toJson(OutputState output) {
+        return JsonUtils.toJson(output.data);
+    }
+
+    /**
+     * Serializes the output as compact JSON straight into a writer, as the API output is sent now.
+     */
+    @Benchmark
+    public void writeCompactJson(OutputState output) {
+        JsonUtils.writeCompactJson(output.data, CharStreams.nullWriter());
+    }
+
+    /**
+     * Benchmark state holding the API output of the results bundle of {@link SessionResultsState}.
+     */
+    @State(Scope.Benchmark)
+    public static class OutputState {
+
+        SessionResultsData data;
+
+        @Setup
+        public void setUp(SessionResultsState state) {
+            data = new SessionResultsData(state.bundle, state.instructor);
+        }
+
+    }
+
+}
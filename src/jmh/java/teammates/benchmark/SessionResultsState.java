@@ -0,0 +1,94 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.util.Closeable;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.logic.core.DataBundleLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.storage.api.OfyHelper;
+import teammates.test.driver.GaeSimulation;
+
+/**
+ * Benchmark state holding a generated session persisted in a simulated Datastore
+ * and the results bundle of the session as seen by the instructor.
+ *
+ * <p>The session is generated and persisted once per trial, as this takes much longer than the benchmarks.
+ */
+@State(Scope.Benchmark)
+public class SessionResultsState {
+
+    @Param({"1000", "5000", "10000", "50000"})
+    public int numberOfResponses;
+
+    FeedbackSessionResultsBundle bundle;
+
+    /**
+     * The instructor viewing {@link #bundle}.
+     */
+    InstructorAttributes instructor;
+
+    /**
+     * Responses of {@link #bundle} in a fixed random order, so that every sort starts from the same input.
+     */
+    List<FeedbackResponseAttributes> shuffledResponses;
+
+    private final GaeSimulation gaeSimulation = GaeSimulation.inst();
+
+    private Closeable objectifyContext;
+
+    @Setup
+    public void setUp() throws InvalidParametersException, EntityDoesNotExistException {
+        gaeSimulation.setup();
+        OfyHelper.registerEntityClasses();
+        objectifyContext = ObjectifyService.begin();
+
+        DataBundle dataBundle = BenchmarkDataGenerator.generate(numberOfResponses);
+        DataBundleLogic.inst().persistDataBundle(dataBundle);
+
+        bundle = FeedbackSessionsLogic.inst().getFeedbackSessionResultsForInstructor(
+                BenchmarkDataGenerator.SESSION_NAME, BenchmarkDataGenerator.COURSE_ID,
+                BenchmarkDataGenerator.INSTRUCTOR_EMAIL);
+        instructor = InstructorsLogic.inst().getInstructorForEmail(
+                BenchmarkDataGenerator.COURSE_ID, BenchmarkDataGenerator.INSTRUCTOR_EMAIL);
+        shuffledResponses = new ArrayList<>(bundle.responses);
+        Collections.shuffle(shuffledResponses, new Random(0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        objectifyContext.close();
+        gaeSimulation.tearDown();
+    }
+
+    /**
+     * Returns deep copies of the responses of the bundle in a fixed random order.
+     *
+     * <p>Copies are needed wherever the code under benchmark modifies the responses it is given.
+     */
+    List<FeedbackResponseAttributes> copyShuffledResponses() {
+        List<FeedbackResponseAttributes> copies = new ArrayList<>(shuffledResponses.size());
+        for (FeedbackResponseAttributes response : shuffledResponses) {
+            copies.add(new FeedbackResponseAttributes(response));
+        }
+        return copies;
+    }
+
+}
@@ -0,0 +1,88 @@
+package teammates.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.TeamEvalResultCalculator;
+
+/**
+ * Benchmarks the calculation of {@link TeamEvalResult} for the teams of a course,
+ * one team at a time against {@link TeamEvalResultCalculator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TeamEvalResultBenchmark {
+
+    private static final int NUMBER_OF_TEAMS = 1000;
+
+    @Param({"4", "8", "12"})
+    public int teamSize;
+
+    private int[][][] submissions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        submissions = new int[NUMBER_OF_TEAMS][teamSize][teamSize];
+        for (int[][] team : submissions) {
+            for (int[] giver : team) {
+                // some students do not submit and some are not sure of the contribution of a team member
+                boolean isSubmitted = random.nextInt(10) > 0;
+                for (int recipient = 0; recipient < teamSize; recipient++) {
+                    int value = random.nextInt(22);
+                    giver[recipient] = !isSubmitted ? TeamEvalResult.NSB : value == 21 ? TeamEvalResult.NSU : value * 10;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void calculateTeamEvalResults(Blackhole blackhole) {
+        for (int[][] team : submissions) {
+            // the calculation keeps a reference to the claimed values, so every team gets its own copy
+            int[][] claimed = new int[teamSize][];
+            for (int i = 0; i < teamSize; i++) {
+                claimed[i] = team[i].clone();
+            }
+            blackhole.consume(new TeamEvalResult(claimed));
+        }
+    }
+
+    @Benchmark
+    public void calculateTeamEvalResultsWithCalculator(Blackhole blackhole) {
+        TeamEvalResultCalculator calculator = new TeamEvalResultCalculator();
+        for (int[][] team : submissions) {
+            blackhole.consume(calculator.calculate(team));
+        }
+    }
+
+    /**
+     * Calculates the results of all teams in one batch, which is split across the available processors.
+     */
+    @Benchmark
+    public void calculateAllTeamEvalResults(Blackhole blackhole) {
+        List<int[][]> teams = Arrays.asList(submissions);
+        blackhole.consume(TeamEvalResultCalculator.calculateAll(teams));
+    }
+
+}
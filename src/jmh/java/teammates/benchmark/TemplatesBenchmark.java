@@ -0,0 +1,117 @@
+package teammates.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.common.util.Templates.FeedbackQuestion.FormTemplates;
+import teammates.common.util.Templates.FeedbackQuestion.Slots;
+
+/**
+ * Benchmarks {@link Templates#populateTemplate(String, String...)} on the email and question statistics paths,
+ * against replacing the key-value pairs one after another.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TemplatesBenchmark {
+
+    private static final int NUMBER_OF_STUDENTS = 2000;
+    private static final int NUMBER_OF_OPTIONS = 20;
+
+    @Benchmark
+    public void populateReminderEmails(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            blackhole.consume(Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION,
+                    getReminderEmailKeyValuePairs(i)));
+        }
+    }
+
+    @Benchmark
+    public void replaceReminderEmails(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            blackhole.consume(replaceOneAfterAnother(EmailTemplates.USER_FEEDBACK_SESSION,
+                    getReminderEmailKeyValuePairs(i)));
+        }
+    }
+
+    @Benchmark
+    public void populateMcqStatistics(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_STUDENTS / NUMBER_OF_OPTIONS; i++) {
+            StringBuilder fragments = new StringBuilder();
+            for (int option = 0; option < NUMBER_OF_OPTIONS; option++) {
+                Templates.appendPopulatedTemplate(fragments, FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
+                        getMcqOptionKeyValuePairs(option));
+            }
+            blackhole.consume(Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS,
+                    Slots.FRAGMENTS, fragments.toString(),
+                    Slots.MCQ_RECIPIENT_STATS_HTML, ""));
+        }
+    }
+
+    @Benchmark
+    public void replaceMcqStatistics(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_STUDENTS / NUMBER_OF_OPTIONS; i++) {
+            StringBuilder fragments = new StringBuilder();
+            for (int option = 0; option < NUMBER_OF_OPTIONS; option++) {
+                fragments.append(replaceOneAfterAnother(FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
+                        getMcqOptionKeyValuePairs(option)));
+            }
+            blackhole.consume(replaceOneAfterAnother(FormTemplates.MCQ_RESULT_STATS,
+                    Slots.FRAGMENTS, fragments.toString(),
+                    Slots.MCQ_RECIPIENT_STATS_HTML, ""));
+        }
+    }
+
+    private static String[] getReminderEmailKeyValuePairs(int studentIndex) {
+        return new String[] {
+                "${userName}", "Student " + studentIndex,
+                "${courseName}", "Software Engineering",
+                "${courseId}", "CS2103T",
+                "${feedbackSessionName}", "Peer Evaluation 1",
+                "${deadline}", "Sun, 01 Nov 2026, 11:59 PM SGT",
+                "${instructorFragment}", "",
+                "${sessionInstructions}", "<p>Please give honest feedback to your team members.</p>",
+                "${submitUrl}", "https://teammates.example/web/sessions/submission?key=" + studentIndex,
+                "${reportUrl}", "https://teammates.example/web/sessions/result?key=" + studentIndex,
+                "${feedbackAction}", "submit",
+                "${additionalContactInformation}", "",
+        };
+    }
+
+    private static String[] getMcqOptionKeyValuePairs(int option) {
+        return new String[] {
+                Slots.MCQ_CHOICE_VALUE, "Option " + option,
+                Slots.MCQ_WEIGHT, "-",
+                Slots.COUNT, Integer.toString(option * 3),
+                Slots.PERCENTAGE, "12.34",
+                Slots.WEIGHTED_PERCENTAGE, "-",
+        };
+    }
+
+    /**
+     * Populates the template the way it was done before templates were parsed.
+     */
+    private static String replaceOneAfterAnother(String template, String... keyValuePairs) {
+        String populatedTemplate = template;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        return populatedTemplate;
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains JMH micro-benchmarks of the back-end hot paths, run with the {@code jmh} Gradle task.
+ */
+package teammates.benchmark;
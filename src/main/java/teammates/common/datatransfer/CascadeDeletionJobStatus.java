@@ -0,0 +1,92 @@
+package teammates.common.datatransfer;
+
+import java.time.Instant;
+
+/**
+ * The progress of deleting the entities of one kind in a course or a feedback session
+ * in the background, after the course or the session is deleted.
+ */
+public class CascadeDeletionJobStatus {
+
+    /**
+     * The kinds of entities deleted by separate jobs, in the order they are deleted in a synchronous cascade.
+     */
+    public enum EntityKind {
+        FEEDBACK_RESPONSE_COMMENTS,
+        FEEDBACK_RESPONSES,
+        FEEDBACK_QUESTIONS,
+        FEEDBACK_SESSIONS,
+        STUDENTS,
+        INSTRUCTORS,
+    }
+
+    private final String jobId;
+    private final String courseId;
+    private final String feedbackSessionName;
+    private final EntityKind entityKind;
+    private final long numberOfDeletedEntities;
+    private final String cursor;
+    private final boolean isDone;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+
+    public CascadeDeletionJobStatus(String jobId, String courseId, String feedbackSessionName, EntityKind entityKind,
+            long numberOfDeletedEntities, String cursor, boolean isDone, Instant createdAt, Instant updatedAt) {
+        this.jobId = jobId;
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.entityKind = entityKind;
+        this.numberOfDeletedEntities = numberOfDeletedEntities;
+        this.cursor = cursor;
+        this.isDone = isDone;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Gets the name of the deleted session.
+     *
+     * @return null if the job is part of the deletion of a whole course
+     */
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public EntityKind getEntityKind() {
+        return entityKind;
+    }
+
+    public long getNumberOfDeletedEntities() {
+        return numberOfDeletedEntities;
+    }
+
+    /**
+     * Gets the cursor from which the next batch is deleted.
+     *
+     * @return null if no batch has been deleted yet
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isDone() {
+        return isDone;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+}
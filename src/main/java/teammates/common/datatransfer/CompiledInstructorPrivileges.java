@@ -0,0 +1,160 @@
+package teammates.common.datatransfer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Lookup table of the privileges of an instructor, compiled from the nested maps of {@link InstructorPrivileges}.
+ *
+ * <p>Each privilege is a bit of an {@code int} mask, and the sections and sessions with special settings are
+ * interned to indices of arrays of masks. The fallback of a session to its section and of a section to the course
+ * is resolved when compiling, so that a lookup is at most two hash lookups of the names and a bit test.
+ *
+ * <p>The table is immutable; it is compiled again after the privileges it is compiled from are changed.
+ */
+final class CompiledInstructorPrivileges {
+
+    private static final String[] PRIVILEGE_NAMES = new String[] {
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_INSTRUCTOR,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS,
+    };
+
+    private static final Map<String, Integer> PRIVILEGE_BITS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < PRIVILEGE_NAMES.length; i++) {
+            PRIVILEGE_BITS.put(PRIVILEGE_NAMES[i], 1 << i);
+        }
+    }
+
+    private final int courseMask;
+
+    /** The index of each section with special section-level or session-level settings. */
+    private final Map<String, Integer> sectionIndices = new HashMap<>();
+
+    /** The index of each session with special settings in any section. */
+    private final Map<String, Integer> sessionIndices = new HashMap<>();
+
+    /** The mask of each interned section, which is the course mask for sections with only session-level settings. */
+    private final int[] sectionMasks;
+
+    /** The mask of each interned session in each interned section, by section index and then session index. */
+    private final int[][] sessionMasks;
+
+    /** The union of the masks of all interned sections for each interned session, by session index. */
+    private final int[] anySectionSessionMasks;
+
+    /** The union of the masks of all interned sections, for sessions without special settings. */
+    private final int anySectionMask;
+
+    CompiledInstructorPrivileges(Map<String, Boolean> courseLevel, Map<String, Map<String, Boolean>> sectionLevel,
+            Map<String, Map<String, Map<String, Boolean>>> sessionLevel) {
+        courseMask = toMask(courseLevel);
+
+        for (String sectionName : sectionLevel.keySet()) {
+            sectionIndices.putIfAbsent(sectionName, sectionIndices.size());
+        }
+        for (Map.Entry<String, Map<String, Map<String, Boolean>>> section : sessionLevel.entrySet()) {
+            sectionIndices.putIfAbsent(section.getKey(), sectionIndices.size());
+            for (String sessionName : section.getValue().keySet()) {
+                sessionIndices.putIfAbsent(sessionName, sessionIndices.size());
+            }
+        }
+
+        sectionMasks = new int[sectionIndices.size()];
+        Arrays.fill(sectionMasks, courseMask);
+        sectionLevel.forEach((sectionName, privileges) ->
+                sectionMasks[sectionIndices.get(sectionName)] = toMask(privileges));
+
+        sessionMasks = new int[sectionIndices.size()][sessionIndices.size()];
+        sectionIndices.forEach((sectionName, sectionIndex) -> {
+            int[] masks = sessionMasks[sectionIndex];
+            Arrays.fill(masks, sectionMasks[sectionIndex]);
+            sessionLevel.getOrDefault(sectionName, Collections.emptyMap()).forEach((sessionName, privileges) ->
+                    masks[sessionIndices.get(sessionName)] = toMask(privileges));
+        });
+
+        int sectionsUnion = 0;
+        for (int mask : sectionMasks) {
+            sectionsUnion |= mask;
+        }
+        anySectionMask = sectionsUnion;
+
+        anySectionSessionMasks = new int[sessionIndices.size()];
+        for (int[] masks : sessionMasks) {
+            for (int sessionIndex = 0; sessionIndex < masks.length; sessionIndex++) {
+                anySectionSessionMasks[sessionIndex] |= masks[sessionIndex];
+            }
+        }
+    }
+
+    private static int toMask(Map<String, Boolean> privileges) {
+        int mask = 0;
+        for (Map.Entry<String, Boolean> privilege : privileges.entrySet()) {
+            Integer bit = PRIVILEGE_BITS.get(privilege.getKey());
+            if (bit != null && Boolean.TRUE.equals(privilege.getValue())) {
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+
+    private static int getPrivilegeBit(String privilegeName) {
+        Integer bit = PRIVILEGE_BITS.get(privilegeName);
+        Assumption.assertTrue(bit != null);
+        return bit;
+    }
+
+    /**
+     * Returns true if the privilege is allowed in the course.
+     */
+    boolean isAllowed(String privilegeName) {
+        return (courseMask & getPrivilegeBit(privilegeName)) != 0;
+    }
+
+    /**
+     * Returns true if the privilege is allowed in the section, falling back to the course.
+     */
+    boolean isAllowed(String sectionName, String privilegeName) {
+        int bit = getPrivilegeBit(privilegeName);
+        Integer sectionIndex = sectionIndices.get(sectionName);
+        int mask = sectionIndex == null ? courseMask : sectionMasks[sectionIndex];
+        return (mask & bit) != 0;
+    }
+
+    /**
+     * Returns true if the privilege is allowed for the session in the section, falling back to the section.
+     */
+    boolean isAllowed(String sectionName, String sessionName, String privilegeName) {
+        int bit = getPrivilegeBit(privilegeName);
+        Integer sectionIndex = sectionIndices.get(sectionName);
+        if (sectionIndex == null) {
+            return (courseMask & bit) != 0;
+        }
+        Integer sessionIndex = sessionIndices.get(sessionName);
+        int mask = sessionIndex == null ? sectionMasks[sectionIndex] : sessionMasks[sectionIndex][sessionIndex];
+        return (mask & bit) != 0;
+    }
+
+    /**
+     * Returns true if the privilege is allowed for the session in any section with special settings.
+     */
+    boolean isAllowedInAnySection(String sessionName, String privilegeName) {
+        int bit = getPrivilegeBit(privilegeName);
+        Integer sessionIndex = sessionIndices.get(sessionName);
+        int mask = sessionIndex == null ? anySectionMask : anySectionSessionMasks[sessionIndex];
+        return (mask & bit) != 0;
+    }
+
+}
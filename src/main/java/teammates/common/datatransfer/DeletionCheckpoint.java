@@ -0,0 +1,34 @@
+package teammates.common.datatransfer;
+
+/**
+ * The outcome of deleting one batch of the entities matched by an {@link AttributesDeletionQuery},
+ * from which the deletion can be continued by a later request.
+ */
+public class DeletionCheckpoint {
+
+    private final int numberOfDeletedEntities;
+    private final String cursor;
+
+    public DeletionCheckpoint(int numberOfDeletedEntities, String cursor) {
+        this.numberOfDeletedEntities = numberOfDeletedEntities;
+        this.cursor = cursor;
+    }
+
+    public int getNumberOfDeletedEntities() {
+        return numberOfDeletedEntities;
+    }
+
+    /**
+     * Gets the web-safe Datastore cursor positioned after the deleted batch.
+     *
+     * @return null if all matched entities have been deleted
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isDone() {
+        return cursor == null;
+    }
+
+}
@@ -0,0 +1,152 @@
+package teammates.common.datatransfer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+
+/**
+ * Aggregate of the responses to a feedback question from which its summary statistics are calculated.
+ *
+ * <p>Every response counts once for each of its {@link FeedbackResponseDetails#getStatisticsKeys() statistics keys},
+ * both over all responses and for the recipient of the response. Aggregates can be merged, and removing a response
+ * subtracts what adding it added, so the aggregate of a question can be maintained as its responses are written.
+ */
+public class FeedbackQuestionStatistics {
+
+    private int responseCount;
+
+    private Map<String, Integer> counts = new TreeMap<>();
+
+    private Map<String, Integer> responseCountsPerRecipient = new TreeMap<>();
+
+    private Map<String, Map<String, Integer>> countsPerRecipient = new TreeMap<>();
+
+    /**
+     * Aggregates the given responses.
+     */
+    public static FeedbackQuestionStatistics of(Collection<FeedbackResponseAttributes> responses) {
+        FeedbackQuestionStatistics statistics = new FeedbackQuestionStatistics();
+        for (FeedbackResponseAttributes response : responses) {
+            statistics.addResponse(response);
+        }
+        return statistics;
+    }
+
+    public void addResponse(FeedbackResponseAttributes response) {
+        addResponse(response, 1);
+    }
+
+    public void removeResponse(FeedbackResponseAttributes response) {
+        addResponse(response, -1);
+    }
+
+    private void addResponse(FeedbackResponseAttributes response, int delta) {
+        List<String> keys = response.getDeserializedResponseDetails().getStatisticsKeys();
+
+        responseCount += delta;
+        addCount(responseCountsPerRecipient, response.recipient, delta);
+        Map<String, Integer> recipientCounts = countsPerRecipient.computeIfAbsent(response.recipient, k -> new TreeMap<>());
+        if (keys != null) {
+            for (String key : keys) {
+                addCount(counts, key, delta);
+                addCount(recipientCounts, key, delta);
+            }
+        }
+        if (recipientCounts.isEmpty()) {
+            countsPerRecipient.remove(response.recipient);
+        }
+    }
+
+    /**
+     * Adds the responses aggregated in {@code other} to this aggregate.
+     */
+    public void merge(FeedbackQuestionStatistics other) {
+        responseCount += other.responseCount;
+        other.counts.forEach((key, count) -> addCount(counts, key, count));
+        other.responseCountsPerRecipient.forEach(
+                (recipient, count) -> addCount(responseCountsPerRecipient, recipient, count));
+        other.countsPerRecipient.forEach((recipient, otherRecipientCounts) -> {
+            Map<String, Integer> recipientCounts = countsPerRecipient.computeIfAbsent(recipient, k -> new TreeMap<>());
+            otherRecipientCounts.forEach((key, count) -> addCount(recipientCounts, key, count));
+            if (recipientCounts.isEmpty()) {
+                countsPerRecipient.remove(recipient);
+            }
+        });
+    }
+
+    private static <K> void addCount(Map<K, Integer> counts, K key, int delta) {
+        int count = counts.getOrDefault(key, 0) + delta;
+        if (count == 0) {
+            counts.remove(key);
+        } else {
+            counts.put(key, count);
+        }
+    }
+
+    /**
+     * Returns true if the aggregate does not count any response.
+     */
+    public boolean isEmpty() {
+        return responseCount == 0 && responseCountsPerRecipient.isEmpty() && counts.isEmpty();
+    }
+
+    public int getResponseCount() {
+        return responseCount;
+    }
+
+    /**
+     * Gets the number of times each statistics key occurs over all responses.
+     */
+    public Map<String, Integer> getCounts() {
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Gets the number of responses received by each recipient.
+     */
+    public Map<String, Integer> getResponseCountsPerRecipient() {
+        return Collections.unmodifiableMap(responseCountsPerRecipient);
+    }
+
+    /**
+     * Gets the number of times each statistics key occurs in the responses received by {@code recipient}.
+     */
+    public Map<String, Integer> getCountsForRecipient(String recipient) {
+        return Collections.unmodifiableMap(countsPerRecipient.getOrDefault(recipient, Collections.emptyMap()));
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (!(another instanceof FeedbackQuestionStatistics)) {
+            return false;
+        }
+        if (another == this) {
+            return true;
+        }
+
+        FeedbackQuestionStatistics rhs = (FeedbackQuestionStatistics) another;
+        return this.responseCount == rhs.responseCount
+               && this.counts.equals(rhs.counts)
+               && this.responseCountsPerRecipient.equals(rhs.responseCountsPerRecipient)
+               && this.countsPerRecipient.equals(rhs.countsPerRecipient);
+    }
+
+    @Override
+    public int hashCode() {
+        int prime = 31;
+        int result = 1;
+
+        result = prime * result + this.responseCount;
+        result = prime * result + this.counts.hashCode();
+        result = prime * result + this.responseCountsPerRecipient.hashCode();
+        result = prime * result + this.countsPerRecipient.hashCode();
+
+        return result;
+    }
+
+}
@@ -50,10 +50,24 @@ public class FeedbackSessionResultsBundle {
     public boolean isComplete;
 
     /**
-     * Responses with identities of giver/recipients NOT hidden.
+     * Responses in the order they are given, with identities of giver/recipients NOT hidden
+     * stored column-wise in {@link #actualGivers} and {@link #actualRecipients}.
      * To be used for anonymous result calculation only, and identities hidden before showing to users.
      */
-    public List<FeedbackResponseAttributes> actualResponses;
+    private final FeedbackResponseAttributes[] unsortedResponses;
+    private final String[] actualGivers;
+    private final String[] actualRecipients;
+
+    /**
+     * Positions of the responses in the columns above, keyed by response ID.
+     */
+    private final Map<String, Integer> responseIndexes;
+
+    /**
+     * Shared instances of the participant identifiers, sections and question IDs of the responses,
+     * so that responses with the same giver, recipient, etc. do not hold a copy of the string each.
+     */
+    private final Map<String, String> identifierPool = new HashMap<>();
 
     // For contribution questions.
     // Key is questionId, value is a map of student email to StudentResultSumary
@@ -61,6 +75,9 @@ public class FeedbackSessionResultsBundle {
     // Key is questionId, value is a map of team name to TeamEvalResult
     public Map<String, Map<String, TeamEvalResult>> contributionQuestionTeamEvalResults = new HashMap<>();
 
+    // Key is questionId, value is the statistics aggregated over all responses to the question
+    private Map<String, FeedbackQuestionStatistics> questionStatistics = new HashMap<>();
+
     /*
      * sectionTeamNameTable takes into account the section viewing privileges of the logged-in instructor
      * and the selected section for viewing
@@ -297,10 +314,14 @@ public class FeedbackSessionResultsBundle {
         this.responseStatus = responseStatus;
         this.roster = roster;
         this.responseComments = responseComments;
-        this.actualResponses = new ArrayList<>();
+        this.unsortedResponses = responses.toArray(new FeedbackResponseAttributes[0]);
+        this.actualGivers = new String[responses.size()];
+        this.actualRecipients = new String[responses.size()];
+        this.responseIndexes = new HashMap<>();
 
         // We change user email to team name here for display purposes.
-        for (FeedbackResponseAttributes response : responses) {
+        for (int i = 0; i < unsortedResponses.length; i++) {
+            FeedbackResponseAttributes response = unsortedResponses[i];
             if (questions.get(response.feedbackQuestionId).giverType == FeedbackParticipantType.TEAMS
                     && roster.isStudentInCourse(response.giver)) {
                 // for TEAMS giver type, for older responses,
@@ -308,10 +329,14 @@ public class FeedbackSessionResultsBundle {
                 // so we convert it to the team name for use in FeedbackSessionResultsBundle
                 response.giver = emailNameTable.get(response.giver + Const.TEAM_OF_EMAIL_OWNER);
             }
-            // Copy the data before hiding response recipient and giver.
-            FeedbackResponseAttributes fraCopy = new FeedbackResponseAttributes(response);
-            actualResponses.add(fraCopy);
+            internIdentifiers(response);
+
+            // Keep the identities before hiding response recipient and giver.
+            actualGivers[i] = response.giver;
+            actualRecipients[i] = response.recipient;
+            responseIndexes.put(response.getId(), i);
         }
+        canonicalizeVisibilityTable();
         this.isComplete = isComplete;
 
         hideResponsesGiverRecipient();
@@ -321,6 +346,34 @@ public class FeedbackSessionResultsBundle {
         this.rosterSectionTeamNameTable = getSectionToTeamNamesFromRoster(roster);
     }
 
+    private String intern(String identifier) {
+        return identifier == null ? null : identifierPool.computeIfAbsent(identifier, id -> id);
+    }
+
+    private void internIdentifiers(FeedbackResponseAttributes response) {
+        response.feedbackQuestionId = intern(response.feedbackQuestionId);
+        response.giver = intern(response.giver);
+        response.recipient = intern(response.recipient);
+        response.giverSection = intern(response.giverSection);
+        response.recipientSection = intern(response.recipientSection);
+    }
+
+    /**
+     * Makes all entries of {@link #visibilityTable} with the same visibility share one array,
+     * as there are only four possible combinations of giver and recipient visibility.
+     */
+    private void canonicalizeVisibilityTable() {
+        boolean[][] visibilities = new boolean[4][];
+        visibilityTable.replaceAll((responseId, visibility) -> {
+            int combination = (visibility[Const.VISIBILITY_TABLE_GIVER] ? 2 : 0)
+                    + (visibility[Const.VISIBILITY_TABLE_RECIPIENT] ? 1 : 0);
+            if (visibilities[combination] == null) {
+                visibilities[combination] = visibility;
+            }
+            return visibilities[combination];
+        });
+    }
+
     /**
      * Hides response names/emails and teams that are not visible to the current user.
      * Replaces the giver/recipient email in responses to an email with two "@@"s
@@ -338,7 +391,7 @@ public class FeedbackSessionResultsBundle {
             }
 
             if (!isRecipientVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
+                String anonEmail = intern(getAnonEmail(participantType, name));
                 name = getAnonName(participantType, name);
 
                 emailNameTable.put(anonEmail, name);
@@ -352,7 +405,7 @@ public class FeedbackSessionResultsBundle {
             participantType = question.giverType;
 
             if (!isGiverVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
+                String anonEmail = intern(getAnonEmail(participantType, name));
                 name = getAnonName(participantType, name);
 
                 emailNameTable.put(anonEmail, name);
@@ -402,6 +455,50 @@ public class FeedbackSessionResultsBundle {
         return isFeedbackParticipantVisible(true, response);
     }
 
+    /**
+     * Sets the statistics aggregated over all responses to the questions, keyed by question ID.
+     *
+     * <p>Every response to these questions must be in this bundle, so that the number of responses counted
+     * in the statistics can be checked against it.
+     */
+    public void setQuestionStatistics(Map<String, FeedbackQuestionStatistics> questionStatistics) {
+        this.questionStatistics = questionStatistics;
+    }
+
+    /**
+     * Gets the statistics of a question over {@code responses}, which are responses to the question in this bundle.
+     *
+     * <p>The aggregated statistics of the question are used as they are if they count as many responses
+     * and the recipients of the responses are not hidden. Otherwise, e.g. when only some of the responses
+     * are shown, the statistics are calculated from the responses.
+     */
+    public FeedbackQuestionStatistics getQuestionStatistics(String questionId,
+            List<FeedbackResponseAttributes> responses) {
+        FeedbackQuestionStatistics statistics = questionStatistics.get(questionId);
+        if (statistics != null && statistics.getResponseCount() == responses.size()
+                && responses.stream().allMatch(this::isRecipientVisible)) {
+            return statistics;
+        }
+        return FeedbackQuestionStatistics.of(responses);
+    }
+
+    /**
+     * Gets the IDs of the questions whose aggregated statistics count a different number of responses
+     * than there are in this bundle, which means that the statistics are out of date.
+     */
+    public List<String> getQuestionIdsWithOutdatedStatistics() {
+        Map<String, Integer> responseCounts = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            if (questionStatistics.containsKey(response.feedbackQuestionId)) {
+                responseCounts.merge(response.feedbackQuestionId, 1, Integer::sum);
+            }
+        }
+        return questionStatistics.entrySet().stream()
+                .filter(entry -> entry.getValue().getResponseCount() != responseCounts.getOrDefault(entry.getKey(), 0))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
     public static String getAnonEmail(FeedbackParticipantType type, String name) {
         String anonName = getAnonName(type, name);
         return anonName + "@@" + anonName + ".com";
@@ -1036,14 +1133,26 @@ public class FeedbackSessionResultsBundle {
         return response.getResponseDetails().getAnswerCsv(response, question, this);
     }
 
-    public FeedbackResponseAttributes getActualResponse(FeedbackResponseAttributes response) {
-        FeedbackResponseAttributes actualResponse = null;
-        for (FeedbackResponseAttributes resp : actualResponses) {
-            if (resp.getId().equals(response.getId())) {
-                actualResponse = resp;
-                break;
-            }
-        }
+    /**
+     * Returns the giver of the response with identity NOT hidden, or null if the response is not in this bundle.
+     */
+    public String getActualGiver(FeedbackResponseAttributes response) {
+        Integer index = responseIndexes.get(response.getId());
+        return index == null ? null : actualGivers[index];
+    }
+
+    /**
+     * Returns the recipient of the response with identity NOT hidden, or null if the response is not in this bundle.
+     */
+    public String getActualRecipient(FeedbackResponseAttributes response) {
+        Integer index = responseIndexes.get(response.getId());
+        return index == null ? null : actualRecipients[index];
+    }
+
+    private FeedbackResponseAttributes getActualResponse(int index) {
+        FeedbackResponseAttributes actualResponse = new FeedbackResponseAttributes(unsortedResponses[index]);
+        actualResponse.giver = actualGivers[index];
+        actualResponse.recipient = actualRecipients[index];
         return actualResponse;
     }
 
@@ -1759,8 +1868,12 @@ public class FeedbackSessionResultsBundle {
      * @return list of responses
      */
     public List<FeedbackResponseAttributes> getActualUnsortedResponses(FeedbackQuestionAttributes question) {
-        return actualResponses.stream()
-                            .filter(response -> response.feedbackQuestionId.equals(question.getId()))
-                            .collect(Collectors.toList());
+        List<FeedbackResponseAttributes> actualResponses = new ArrayList<>();
+        for (int i = 0; i < unsortedResponses.length; i++) {
+            if (unsortedResponses[i].feedbackQuestionId.equals(question.getId())) {
+                actualResponses.add(getActualResponse(i));
+            }
+        }
+        return actualResponses;
     }
 }
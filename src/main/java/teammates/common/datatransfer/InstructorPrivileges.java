@@ -6,7 +6,6 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
-import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 
 /**
@@ -95,6 +94,12 @@ public final class InstructorPrivileges {
     private Map<String, Map<String, Boolean>> sectionLevel;
     private Map<String, Map<String, Map<String, Boolean>>> sessionLevel;
 
+    /**
+     * The privileges compiled into a lookup table, which is compiled on the first lookup after the privileges
+     * are changed. Instructors are loaded once per request, so this also caches the table for the request.
+     */
+    private transient CompiledInstructorPrivileges compiledPrivileges;
+
     public InstructorPrivileges() {
         this.courseLevel = new LinkedHashMap<>();
         this.sectionLevel = new LinkedHashMap<>();
@@ -162,6 +167,7 @@ public final class InstructorPrivileges {
 
     private void setDefaultPrivileges(Map<String, Boolean> defaultPrivileges) {
         defaultPrivileges.forEach((key, value) -> courseLevel.put(key, value));
+        compiledPrivileges = null;
     }
 
     public Map<String, Boolean> getOverallPrivilegesForSections() {
@@ -220,6 +226,7 @@ public final class InstructorPrivileges {
             return;
         }
         this.courseLevel.put(privilegeName, isAllowed);
+        compiledPrivileges = null;
     }
 
     private void updatePrivilegeInSectionLevel(String sectionName, String privilegeName, boolean isAllowed) {
@@ -228,6 +235,7 @@ public final class InstructorPrivileges {
         }
         addSectionWithDefaultPrivileges(sectionName);
         this.sectionLevel.get(sectionName).put(privilegeName, isAllowed);
+        compiledPrivileges = null;
     }
 
     private void updatePrivilegeInSessionLevel(String sectionName, String sessionName,
@@ -238,6 +246,7 @@ public final class InstructorPrivileges {
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName).computeIfAbsent(sessionName, key -> new LinkedHashMap<>())
                                           .put(privilegeName, isAllowed);
+        compiledPrivileges = null;
     }
 
     public void updatePrivileges(String sectionName, Map<String, Boolean> privileges) {
@@ -255,6 +264,7 @@ public final class InstructorPrivileges {
             }
         }
         sectionLevel.put(sectionName, new LinkedHashMap<>(privileges));
+        compiledPrivileges = null;
     }
 
     private void updatePrivilegesInSessionLevel(String sectionName, String sessionName,
@@ -266,6 +276,7 @@ public final class InstructorPrivileges {
         }
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName).put(sessionName, new LinkedHashMap<>(privileges));
+        compiledPrivileges = null;
     }
 
     private void verifyExistenceOfsectionName(String sectionName) {
@@ -273,16 +284,19 @@ public final class InstructorPrivileges {
             addSectionWithDefaultPrivileges(sectionName);
             return new LinkedHashMap<>();
         });
+        compiledPrivileges = null;
     }
 
     public void addSectionWithDefaultPrivileges(String sectionName) {
         this.sectionLevel.putIfAbsent(sectionName, getOverallPrivilegesForSections());
+        compiledPrivileges = null;
     }
 
     public void addSessionWithDefaultPrivileges(String sectionName, String sessionName) {
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName)
                 .putIfAbsent(sessionName, getOverallPrivilegesForSessionsInSection(sectionName));
+        compiledPrivileges = null;
     }
 
     /**
@@ -371,6 +385,7 @@ public final class InstructorPrivileges {
             this.sectionLevel.remove(sectionName);
         }
         this.removeSessionsPrivilegesForSection(sectionName);
+        compiledPrivileges = null;
     }
 
     /**
@@ -380,6 +395,7 @@ public final class InstructorPrivileges {
         if (this.sessionLevel.containsKey(sectionName)) {
             this.sessionLevel.remove(sectionName);
         }
+        compiledPrivileges = null;
     }
 
     /**
@@ -389,50 +405,32 @@ public final class InstructorPrivileges {
         if (this.sessionLevel.containsKey(sectionName) && this.sessionLevel.get(sectionName).containsKey(sessionName)) {
             this.sessionLevel.get(sectionName).remove(sessionName);
         }
+        compiledPrivileges = null;
     }
 
     private boolean isAllowedInCourseLevel(String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        return this.courseLevel.getOrDefault(privilegeName, false);
+        return getCompiledPrivileges().isAllowed(privilegeName);
     }
 
     private boolean isAllowedInSectionLevel(String sectionName, String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        if (!this.sectionLevel.containsKey(sectionName)) {
-            return isAllowedInCourseLevel(privilegeName);
-        }
-
-        return this.sectionLevel.get(sectionName).getOrDefault(privilegeName, false);
+        return getCompiledPrivileges().isAllowed(sectionName, privilegeName);
     }
 
     private boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        if (!this.sessionLevel.containsKey(sectionName)
-                || !this.sessionLevel.get(sectionName).containsKey(sessionName)) {
-            return isAllowedInSectionLevel(sectionName, privilegeName);
-        }
-
-        return this.sessionLevel.get(sectionName).get(sessionName).getOrDefault(privilegeName, false);
+        return getCompiledPrivileges().isAllowed(sectionName, sessionName, privilegeName);
     }
 
     private boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
+        return getCompiledPrivileges().isAllowedInAnySection(sessionName, privilegeName);
+    }
 
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        Set<String> sections = new LinkedHashSet<>(this.sessionLevel.keySet());
-        sections.addAll(this.sectionLevel.keySet());
-        for (String sectionName : sections) {
-            if (isAllowedInSessionLevel(sectionName, sessionName, privilegeName)) {
-                return true;
-            }
+    private CompiledInstructorPrivileges getCompiledPrivileges() {
+        CompiledInstructorPrivileges compiled = compiledPrivileges;
+        if (compiled == null) {
+            compiled = new CompiledInstructorPrivileges(courseLevel, sectionLevel, sessionLevel);
+            compiledPrivileges = compiled;
         }
-        return false;
+        return compiled;
     }
 
     /**
@@ -460,6 +458,7 @@ public final class InstructorPrivileges {
                 }
             }
         }
+        compiledPrivileges = null;
     }
 
     public Map<String, Boolean> getCourseLevelPrivileges() {
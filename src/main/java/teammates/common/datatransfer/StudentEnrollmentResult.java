@@ -0,0 +1,34 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * The outcome of enrolling a list of students into a course.
+ */
+public class StudentEnrollmentResult {
+
+    private final List<StudentAttributes> enrolledStudents;
+    private final List<StudentAttributes> movedStudents;
+
+    public StudentEnrollmentResult(List<StudentAttributes> enrolledStudents, List<StudentAttributes> movedStudents) {
+        this.enrolledStudents = enrolledStudents;
+        this.movedStudents = movedStudents;
+    }
+
+    /**
+     * Gets the successfully enrolled students, in the order they are given.
+     */
+    public List<StudentAttributes> getEnrolledStudents() {
+        return enrolledStudents;
+    }
+
+    /**
+     * Gets the students who are moved to a different team or section, as they were before the enrollment.
+     */
+    public List<StudentAttributes> getMovedStudents() {
+        return movedStudents;
+    }
+
+}
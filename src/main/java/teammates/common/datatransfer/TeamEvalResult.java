@@ -44,7 +44,7 @@ public class TeamEvalResult {
          * other methods are set as public for the ease of testing.
          */
 
-        log.fine("==================\n" + "starting result calculation for\n"
+        log.fine(() -> "==================\n" + "starting result calculation for\n"
                 + pointsToString(submissionValues));
 
         claimed = submissionValues;
@@ -52,47 +52,61 @@ public class TeamEvalResult {
         normalizedClaimed = normalizeValues(claimed);
 
         int[][] claimedSanitized = sanitizeInput(submissionValues);
-        log.fine("claimed values sanitized :\n"
+        log.fine(() -> "claimed values sanitized :\n"
                 + pointsToString(claimedSanitized));
 
         double[][] claimedSanitizedNormalized = normalizeValues(intToDouble(claimedSanitized));
-        log.fine("claimed values sanitized and normalized :\n"
+        log.fine(() -> "claimed values sanitized and normalized :\n"
                 + pointsToString(claimedSanitizedNormalized));
 
         double[][] peerContributionRatioAsDouble = calculatePeerContributionRatio(claimedSanitizedNormalized);
-        log.fine("peerContributionRatio as double :\n"
+        log.fine(() -> "peerContributionRatio as double :\n"
                 + pointsToString(peerContributionRatioAsDouble));
 
         double[] averagePerceivedAsDouble = averageColumns(peerContributionRatioAsDouble);
-        log.fine("averagePerceived as double:\n"
+        log.fine(() -> "averagePerceived as double:\n"
                 + replaceMagicNumbers(Arrays.toString(averagePerceivedAsDouble)));
 
         double[] normalizedAveragePerceivedAsDouble = normalizeValues(averagePerceivedAsDouble);
-        log.fine("normalizedAveragePerceivedAsDouble as double:\n"
+        log.fine(() -> "normalizedAveragePerceivedAsDouble as double:\n"
                 + replaceMagicNumbers(Arrays
                         .toString(normalizedAveragePerceivedAsDouble)));
 
         double[][] normalizedPeerContributionRatioAsDouble =
                 adjustPeerContributionRatioToTallyNormalizedAveragePerceived(peerContributionRatioAsDouble);
-        log.fine("normalizedPeerContributionRatio as double :\n"
+        log.fine(() -> "normalizedPeerContributionRatio as double :\n"
                 + pointsToString(peerContributionRatioAsDouble));
 
         normalizedPeerContributionRatio = doubleToInt(normalizedPeerContributionRatioAsDouble);
-        log.fine("normalizedUnbiasedClaimed as int :\n"
+        log.fine(() -> "normalizedUnbiasedClaimed as int :\n"
                 + pointsToString(normalizedPeerContributionRatio));
 
         denormalizedAveragePerceived = calculatePerceivedForStudents(
                 claimedSanitized, normalizedAveragePerceivedAsDouble);
-        log.fine("perceived to students :\n"
+        log.fine(() -> "perceived to students :\n"
                 + pointsToString(denormalizedAveragePerceived));
 
         normalizedAveragePerceived = doubleToInt(normalizedAveragePerceivedAsDouble);
 
-        log.fine("Final result:\n" + this.toString());
+        log.fine(() -> "Final result:\n" + this.toString());
 
         log.fine("==================");
     }
 
+    /**
+     * Creates a result from values which are already calculated.
+     *
+     * @see TeamEvalResultCalculator
+     */
+    TeamEvalResult(int[][] claimed, int[][] normalizedClaimed, int[] normalizedAveragePerceived,
+            int[][] denormalizedAveragePerceived, int[][] normalizedPeerContributionRatio) {
+        this.claimed = claimed;
+        this.normalizedClaimed = normalizedClaimed;
+        this.normalizedAveragePerceived = normalizedAveragePerceived;
+        this.denormalizedAveragePerceived = denormalizedAveragePerceived;
+        this.normalizedPeerContributionRatio = normalizedPeerContributionRatio;
+    }
+
     /**
      * Replaces all missing points ('not sure' with NSU and 'did not submit' with NA).
      */
@@ -282,20 +296,21 @@ public class TeamEvalResult {
     }
 
     private static double calculateFactor(double[] input) {
-        double actualSum = 0;
+        double sum = 0;
         int count = 0;
         for (double value : input) {
             int valueAsInt = (int) value;
             if (isSpecialValue(valueAsInt)) {
                 continue;
             }
-            actualSum += value;
+            sum += value;
             count++;
         }
 
+        double actualSum = sum;
         double idealSum = count * 100.0;
         double factor = actualSum == 0 ? 0 : idealSum / actualSum;
-        log.fine("Factor = " + idealSum + "/" + actualSum + " = " + factor);
+        log.fine(() -> "Factor = " + idealSum + "/" + actualSum + " = " + factor);
         return factor;
     }
 
@@ -324,7 +339,7 @@ public class TeamEvalResult {
                     isSanitized(doubleToInt(input[i])));
             output[i] = averageColumn(input, i);
         }
-        log.fine("Column averages: "
+        log.fine(() -> "Column averages: "
                 + replaceMagicNumbers(Arrays.toString(output)));
         return output;
     }
@@ -347,7 +362,7 @@ public class TeamEvalResult {
         double average = count == 0 ? NA : (double) (sum / count);
 
         String logMessage = "Average(" + values.toString().trim() + ") = " + average;
-        log.fine(replaceMagicNumbers(logMessage));
+        log.fine(() -> replaceMagicNumbers(logMessage));
 
         return average;
     }
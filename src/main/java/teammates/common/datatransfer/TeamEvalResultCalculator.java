@@ -0,0 +1,238 @@
+package teammates.common.datatransfer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Calculates the feedback contribution question results of teams, giving the same values as
+ * {@link TeamEvalResult#TeamEvalResult(int[][])}.
+ *
+ * <p>The intermediate values of a team are kept in flat buffers which are reused for the teams calculated
+ * after it, so that only the results themselves are allocated. As the buffers are shared, a calculator
+ * must not be used by more than one thread at a time.
+ */
+public class TeamEvalResultCalculator {
+
+    /** The number of teams from which {@link #calculateAll(List)} splits the teams across the processors. */
+    private static final int PARALLEL_THRESHOLD = 200;
+
+    private static final int NA = TeamEvalResult.NA;
+    private static final int NSU = TeamEvalResult.NSU;
+    private static final int NSB = TeamEvalResult.NSB;
+
+    /**
+     * The peer contribution ratios of the team, i.e. the normalized claims with self claims removed
+     * and normalized again, where the ratio given by {@code giver} to {@code recipient}
+     * is at {@code giver * teamSize + recipient}.
+     */
+    private double[] peerContributionRatio = new double[0];
+
+    /** The normalized average perceived contribution of each member of the team. */
+    private double[] normalizedAveragePerceived = new double[0];
+
+    /**
+     * Calculates the results of the given teams, in the same order.
+     *
+     * <p>Large numbers of teams are split across the available processors, each of which uses its own calculator.
+     *
+     * @param teamSubmissionValues the submission values of each team, in the format of
+     *         {@link TeamEvalResult#TeamEvalResult(int[][])}
+     */
+    public static List<TeamEvalResult> calculateAll(List<int[][]> teamSubmissionValues) {
+        int numberOfTeams = teamSubmissionValues.size();
+        int numberOfThreads = numberOfTeams < PARALLEL_THRESHOLD ? 1 : Runtime.getRuntime().availableProcessors();
+
+        TeamEvalResult[] results = new TeamEvalResult[numberOfTeams];
+        if (numberOfThreads <= 1) {
+            calculateEvery(teamSubmissionValues, results, 0, 1);
+        } else {
+            // teams are interleaved across the threads as the sizes of neighbouring teams tend to be similar
+            IntStream.range(0, numberOfThreads).parallel()
+                    .forEach(thread -> calculateEvery(teamSubmissionValues, results, thread, numberOfThreads));
+        }
+        return Arrays.asList(results);
+    }
+
+    private static void calculateEvery(List<int[][]> teamSubmissionValues, TeamEvalResult[] results,
+            int first, int step) {
+        TeamEvalResultCalculator calculator = new TeamEvalResultCalculator();
+        for (int i = first; i < results.length; i += step) {
+            results[i] = calculator.calculate(teamSubmissionValues.get(i));
+        }
+    }
+
+    /**
+     * Calculates the result of a team.
+     *
+     * @param submissionValues the points given by each member of the team to each member,
+     *         in the format of {@link TeamEvalResult#TeamEvalResult(int[][])}
+     */
+    public TeamEvalResult calculate(int[][] submissionValues) {
+        int teamSize = submissionValues.length;
+        ensureCapacity(teamSize);
+
+        int[][] normalizedClaimed = new int[teamSize][teamSize];
+        for (int giver = 0; giver < teamSize; giver++) {
+            calculateRatiosOfGiver(submissionValues[giver], giver, normalizedClaimed[giver]);
+        }
+
+        // the peer contribution ratios are adjusted by the same factor as the average perceived contributions
+        double sumOfAverages = 0;
+        int numberOfAverages = 0;
+        for (int recipient = 0; recipient < teamSize; recipient++) {
+            double average = averageRatiosOfRecipient(teamSize, recipient);
+            normalizedAveragePerceived[recipient] = average;
+            if (!isSpecialValue((int) average)) {
+                sumOfAverages += average;
+                numberOfAverages++;
+            }
+        }
+        double factor = calculateFactor(sumOfAverages, numberOfAverages);
+
+        int[] roundedNormalizedAveragePerceived = new int[teamSize];
+        for (int recipient = 0; recipient < teamSize; recipient++) {
+            normalizedAveragePerceived[recipient] = multiplyByFactor(factor, normalizedAveragePerceived[recipient]);
+            roundedNormalizedAveragePerceived[recipient] = (int) Math.round(normalizedAveragePerceived[recipient]);
+        }
+
+        int[][] normalizedPeerContributionRatio = new int[teamSize][teamSize];
+        int[][] denormalizedAveragePerceived = new int[teamSize][teamSize];
+        for (int giver = 0; giver < teamSize; giver++) {
+            for (int recipient = 0; recipient < teamSize; recipient++) {
+                normalizedPeerContributionRatio[giver][recipient] = (int) Math.round(
+                        multiplyByFactor(factor, peerContributionRatio[giver * teamSize + recipient]));
+            }
+            calculatePerceivedForGiver(submissionValues[giver], denormalizedAveragePerceived[giver]);
+        }
+
+        return new TeamEvalResult(submissionValues, normalizedClaimed, roundedNormalizedAveragePerceived,
+                denormalizedAveragePerceived, normalizedPeerContributionRatio);
+    }
+
+    private void ensureCapacity(int teamSize) {
+        if (normalizedAveragePerceived.length < teamSize) {
+            peerContributionRatio = new double[teamSize * teamSize];
+            normalizedAveragePerceived = new double[teamSize];
+        }
+    }
+
+    /**
+     * Normalizes the claims of a giver into {@code normalizedClaimed}, and calculates the peer contribution
+     * ratios given by the giver from the normalized claims.
+     */
+    private void calculateRatiosOfGiver(int[] claimed, int giver, int[] normalizedClaimed) {
+        int teamSize = claimed.length;
+        int offset = giver * teamSize;
+
+        // 'did not submit' and the other special values are excluded alike, so the sanitized claims
+        // are normalized by the same factor as the claims
+        double sumOfClaims = 0;
+        int numberOfClaims = 0;
+        for (int points : claimed) {
+            if (!isSpecialValue(points)) {
+                sumOfClaims += points;
+                numberOfClaims++;
+            }
+        }
+        double claimFactor = calculateFactor(sumOfClaims, numberOfClaims);
+
+        double sumOfRatios = 0;
+        int numberOfRatios = 0;
+        for (int recipient = 0; recipient < teamSize; recipient++) {
+            int points = claimed[recipient];
+            double normalized = isSpecialValue(points) ? points : multiplyByFactor(claimFactor, points);
+            normalizedClaimed[recipient] = (int) Math.round(normalized);
+
+            double ratio = recipient == giver ? NA : points == NSB ? NA : normalized;
+            peerContributionRatio[offset + recipient] = ratio;
+            if (!isSpecialValue((int) ratio)) {
+                sumOfRatios += ratio;
+                numberOfRatios++;
+            }
+        }
+
+        double ratioFactor = calculateFactor(sumOfRatios, numberOfRatios);
+        for (int recipient = 0; recipient < teamSize; recipient++) {
+            peerContributionRatio[offset + recipient] =
+                    multiplyByFactor(ratioFactor, peerContributionRatio[offset + recipient]);
+        }
+    }
+
+    private double averageRatiosOfRecipient(int teamSize, int recipient) {
+        double sum = 0;
+        int count = 0;
+        for (int giver = 0; giver < teamSize; giver++) {
+            double ratio = peerContributionRatio[giver * teamSize + recipient];
+            if (isValidSpecialValue(ratio)) {
+                continue;
+            }
+            sum += ratio;
+            count++;
+        }
+        return count == 0 ? NA : sum / count;
+    }
+
+    /**
+     * Calculates the team perception shown to a giver, scaled to match the claims of the giver.
+     */
+    private void calculatePerceivedForGiver(int[] claimed, int[] denormalizedAveragePerceived) {
+        double sumOfPerceived = NA;
+        double sumOfActual = NA;
+        for (int recipient = 0; recipient < claimed.length; recipient++) {
+            int sanitizedPoints = claimed[recipient] == NSB ? NA : claimed[recipient];
+            double perceived = normalizedAveragePerceived[recipient];
+
+            double filteredPerceived = isSpecialValue(sanitizedPoints)
+                    ? (sanitizedPoints == NSU ? NSU : NA)
+                    : perceived;
+            sumOfPerceived = addToSum(sumOfPerceived, filteredPerceived);
+
+            double filteredActual = isSpecialValue((int) perceived)
+                    ? ((int) perceived == NSU ? NSU : NA)
+                    : sanitizedPoints;
+            sumOfActual = addToSum(sumOfActual, filteredActual);
+        }
+
+        // the sum of the actual points is rounded down like in TeamEvalResult#sum(int[])
+        sumOfActual = (int) sumOfActual;
+        // if the giver did not submit
+        if (sumOfActual == NA) {
+            sumOfActual = sumOfPerceived;
+        }
+
+        double factor = sumOfActual / sumOfPerceived;
+        for (int recipient = 0; recipient < claimed.length; recipient++) {
+            denormalizedAveragePerceived[recipient] =
+                    (int) Math.round(multiplyByFactor(factor, normalizedAveragePerceived[recipient]));
+        }
+    }
+
+    private static double addToSum(double sum, double value) {
+        if (isValidSpecialValue(value)) {
+            return sum;
+        }
+        return sum == NA ? value : sum + value;
+    }
+
+    private static double calculateFactor(double actualSum, int count) {
+        double idealSum = count * 100.0;
+        return actualSum == 0 ? 0 : idealSum / actualSum;
+    }
+
+    private static double multiplyByFactor(double factor, double value) {
+        if (isSpecialValue((int) value)) {
+            return value;
+        }
+        return factor == 0 ? value : value * factor;
+    }
+
+    private static boolean isSpecialValue(int value) {
+        return value == NA || value == NSU || value == NSB;
+    }
+
+    private static boolean isValidSpecialValue(double value) {
+        return value == NA || value == NSU;
+    }
+
+}
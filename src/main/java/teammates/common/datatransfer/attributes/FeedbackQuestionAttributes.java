@@ -22,7 +22,7 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
 
     public String feedbackSessionName;
     public String courseId;
-    public FeedbackQuestionDetails questionDetails;
+    private FeedbackQuestionDetails questionDetails;
     public String questionDescription;
     public int questionNumber;
     public FeedbackParticipantType giverType;
@@ -36,6 +36,12 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
 
     private String feedbackQuestionId;
 
+    /**
+     * The question details as stored in the entity, which are only deserialized when first needed.
+     */
+    private transient String serializedQuestionDetails;
+    private transient FeedbackQuestionType serializedQuestionType;
+
     FeedbackQuestionAttributes() {
         this.showResponsesTo = new ArrayList<>();
         this.showGiverNameTo = new ArrayList<>();
@@ -54,7 +60,8 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
 
         faq.feedbackSessionName = fq.getFeedbackSessionName();
         faq.courseId = fq.getCourseId();
-        faq.questionDetails = deserializeFeedbackQuestionDetails(fq.getQuestionMetaData(), fq.getQuestionType());
+        faq.serializedQuestionDetails = fq.getQuestionMetaData();
+        faq.serializedQuestionType = fq.getQuestionType();
         faq.questionDescription = fq.getQuestionDescription();
         faq.questionNumber = fq.getQuestionNumber();
         faq.giverType = fq.getGiverType();
@@ -108,7 +115,14 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
 
         faq.feedbackSessionName = this.feedbackSessionName;
         faq.courseId = this.courseId;
-        faq.questionDetails = this.getQuestionDetails();
+        synchronized (this) {
+            if (serializedQuestionDetails == null) {
+                faq.questionDetails = questionDetails == null ? null : questionDetails.getDeepCopy();
+            } else {
+                faq.serializedQuestionDetails = serializedQuestionDetails;
+                faq.serializedQuestionType = serializedQuestionType;
+            }
+        }
         faq.questionDescription = this.questionDescription;
         faq.questionNumber = this.questionNumber;
         faq.giverType = this.giverType;
@@ -234,7 +248,8 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
 
         result = prime * result + questionNumber;
 
-        result = prime * result + (questionDetails == null ? 0 : questionDetails.hashCode());
+        FeedbackQuestionDetails details = getDeserializedQuestionDetails();
+        result = prime * result + (details == null ? 0 : details.hashCode());
 
         result = prime * result + (questionDescription == null ? 0 : questionDescription.hashCode());
 
@@ -293,11 +308,13 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
             return false;
         }
 
-        if (questionDetails == null) {
-            if (other.questionDetails != null) {
+        FeedbackQuestionDetails details = getDeserializedQuestionDetails();
+        FeedbackQuestionDetails otherDetails = other.getDeserializedQuestionDetails();
+        if (details == null) {
+            if (otherDetails != null) {
                 return false;
             }
-        } else if (!questionDetails.equals(other.questionDetails)) {
+        } else if (!details.equals(otherDetails)) {
             return false;
         }
 
@@ -345,8 +362,8 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         newAttributes.feedbackSessionName = this.feedbackSessionName;
         newAttributes.courseId = this.courseId;
 
-        if (newAttributes.questionDetails == null) {
-            newAttributes.questionDetails = getQuestionDetails();
+        if (newAttributes.getDeserializedQuestionDetails() == null) {
+            newAttributes.setQuestionDetails(getDeserializedQuestionDetails());
         }
 
         if (newAttributes.questionDescription == null) {
@@ -427,16 +444,33 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         this.questionDescription = SanitizationHelper.sanitizeForRichText(this.questionDescription);
     }
 
-    public void setQuestionDetails(FeedbackQuestionDetails newQuestionDetails) {
+    public synchronized void setQuestionDetails(FeedbackQuestionDetails newQuestionDetails) {
         this.questionDetails = newQuestionDetails.getDeepCopy();
+        this.serializedQuestionDetails = null;
+        this.serializedQuestionType = null;
     }
 
     public FeedbackQuestionDetails getQuestionDetails() {
-        return questionDetails.getDeepCopy();
+        return getDeserializedQuestionDetails().getDeepCopy();
+    }
+
+    /**
+     * Gets the question details without copying them, deserializing them first if they are not yet.
+     *
+     * <p>The details are deserialized at most once per attributes object.
+     * Callers must not modify the returned details.
+     */
+    public synchronized FeedbackQuestionDetails getDeserializedQuestionDetails() {
+        if (serializedQuestionDetails != null) {
+            questionDetails = deserializeFeedbackQuestionDetails(serializedQuestionDetails, serializedQuestionType);
+            serializedQuestionDetails = null;
+            serializedQuestionType = null;
+        }
+        return questionDetails;
     }
 
     public String getSerializedQuestionDetails() {
-        return questionDetails.getJsonString();
+        return getDeserializedQuestionDetails().getJsonString();
     }
 
     public String getFeedbackQuestionId() {
@@ -467,8 +501,8 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         this.questionNumber = questionNumber;
     }
 
-    public FeedbackQuestionType getQuestionType() {
-        return questionDetails.getQuestionType();
+    public synchronized FeedbackQuestionType getQuestionType() {
+        return serializedQuestionDetails == null ? questionDetails.getQuestionType() : serializedQuestionType;
     }
 
     public FeedbackParticipantType getGiverType() {
@@ -524,14 +558,14 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         if (questionType == FeedbackQuestionType.TEXT) {
             return deserializeFeedbackTextQuestionDetails(questionDetailsInJson);
         }
-        return JsonUtils.fromJson(questionDetailsInJson, questionType.getQuestionDetailsClass());
+        return JsonUtils.fromJsonToQuestionDetails(questionDetailsInJson, questionType);
     }
 
     private static FeedbackQuestionDetails deserializeFeedbackTextQuestionDetails(String questionDetailsInJson) {
         try {
             // There are `FeedbackTextQuestion` with plain text, Json without `recommendedLength`, and complete Json
             // in data store. Gson cannot parse the plain text case, so we need to handle it separately.
-            return JsonUtils.fromJson(questionDetailsInJson, FeedbackQuestionType.TEXT.getQuestionDetailsClass());
+            return JsonUtils.fromJsonToQuestionDetails(questionDetailsInJson, FeedbackQuestionType.TEXT);
         } catch (JsonParseException e) {
             return new FeedbackTextQuestionDetails(questionDetailsInJson);
         }
@@ -542,7 +576,7 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
      */
     public void update(FeedbackQuestionAttributes.UpdateOptions updateOptions) {
         updateOptions.questionNumberOption.ifPresent(s -> questionNumber = s);
-        updateOptions.questionDetailsOption.ifPresent(s -> questionDetails = s.getDeepCopy());
+        updateOptions.questionDetailsOption.ifPresent(this::setQuestionDetails);
         updateOptions.questionDescriptionOption.ifPresent(s -> questionDescription = s);
         updateOptions.giverTypeOption.ifPresent(s -> giverType = s);
         updateOptions.recipientTypeOption.ifPresent(s -> recipientType = s);
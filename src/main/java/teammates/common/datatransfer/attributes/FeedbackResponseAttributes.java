@@ -31,7 +31,16 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     public String feedbackSessionName;
     public String courseId;
 
-    public FeedbackResponseDetails responseDetails;
+    private FeedbackResponseDetails responseDetails;
+
+    /**
+     * The response details as stored in the entity, which are only deserialized when first needed.
+     *
+     * <p>Code paths such as cascades only need the giver, recipient and sections of responses,
+     * so the details are not deserialized when the attributes are created from the entity.
+     */
+    private transient String serializedResponseDetails;
+    private transient FeedbackQuestionType serializedQuestionType;
 
     public String giverSection;
     public String recipientSection;
@@ -61,7 +70,15 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         this.recipientSection = copy.recipientSection;
         this.createdAt = copy.createdAt;
         this.updatedAt = copy.updatedAt;
-        this.responseDetails = copy.getResponseDetails();
+        synchronized (copy) {
+            if (copy.serializedResponseDetails == null) {
+                this.responseDetails = copy.responseDetails == null ? null : copy.responseDetails.getDeepCopy();
+            } else {
+                // the details are not deserialized yet, the copy can share the immutable serialized form
+                this.serializedResponseDetails = copy.serializedResponseDetails;
+                this.serializedQuestionType = copy.serializedQuestionType;
+            }
+        }
     }
 
     public static FeedbackResponseAttributes valueOf(FeedbackResponse fr) {
@@ -78,16 +95,16 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         if (fr.getRecipientSection() != null) {
             fra.recipientSection = fr.getRecipientSection();
         }
-        fra.responseDetails =
-                fra.deserializeResponseFromSerializedString(fr.getResponseMetaData(), fr.getFeedbackQuestionType());
+        fra.serializedResponseDetails = fr.getResponseMetaData();
+        fra.serializedQuestionType = fr.getFeedbackQuestionType();
         fra.createdAt = fr.getCreatedAt();
         fra.updatedAt = fr.getUpdatedAt();
 
         return fra;
     }
 
-    public FeedbackQuestionType getFeedbackQuestionType() {
-        return responseDetails.questionType;
+    public synchronized FeedbackQuestionType getFeedbackQuestionType() {
+        return serializedResponseDetails == null ? responseDetails.questionType : serializedQuestionType;
     }
 
     public String getId() {
@@ -174,15 +191,32 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     }
 
     public String getSerializedFeedbackResponseDetail() {
-        return responseDetails.getJsonString();
+        return getDeserializedResponseDetails().getJsonString();
     }
 
     public FeedbackResponseDetails getResponseDetails() {
-        return responseDetails.getDeepCopy();
+        return getDeserializedResponseDetails().getDeepCopy();
     }
 
-    public void setResponseDetails(FeedbackResponseDetails newFeedbackResponseDetails) {
+    public synchronized void setResponseDetails(FeedbackResponseDetails newFeedbackResponseDetails) {
         responseDetails = newFeedbackResponseDetails.getDeepCopy();
+        serializedResponseDetails = null;
+        serializedQuestionType = null;
+    }
+
+    /**
+     * Gets the response details without copying them, deserializing them first if they are not yet.
+     *
+     * <p>The details are deserialized at most once per attributes object.
+     * Callers must not modify the returned details.
+     */
+    public synchronized FeedbackResponseDetails getDeserializedResponseDetails() {
+        if (serializedResponseDetails != null) {
+            responseDetails = deserializeResponseFromSerializedString(serializedResponseDetails, serializedQuestionType);
+            serializedResponseDetails = null;
+            serializedQuestionType = null;
+        }
+        return responseDetails;
     }
 
     private FeedbackResponseDetails deserializeResponseFromSerializedString(String serializedResponseDetails,
@@ -192,7 +226,7 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
             // This is due to legacy data in the data store before there are multiple question types
             return new FeedbackTextResponseDetails(serializedResponseDetails);
         }
-        return JsonUtils.fromJson(serializedResponseDetails, questionType.getResponseDetailsClass());
+        return JsonUtils.fromJsonToResponseDetails(serializedResponseDetails, questionType);
     }
 
     /**
@@ -200,8 +234,8 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
      * A missing response should never be written to the database.
      * It should only be used as a representation.
      */
-    public boolean isMissingResponse() {
-        return responseDetails == null;
+    public synchronized boolean isMissingResponse() {
+        return responseDetails == null && serializedResponseDetails == null;
     }
 
     public static void sortFeedbackResponses(List<FeedbackResponseAttributes> frs) {
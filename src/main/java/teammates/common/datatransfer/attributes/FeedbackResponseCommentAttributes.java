@@ -57,6 +57,26 @@ public class FeedbackResponseCommentAttributes extends EntityAttributes<Feedback
         isCommentFromFeedbackParticipant = false;
     }
 
+    public FeedbackResponseCommentAttributes(FeedbackResponseCommentAttributes copy) {
+        this.feedbackResponseCommentId = copy.feedbackResponseCommentId;
+        this.courseId = copy.courseId;
+        this.feedbackSessionName = copy.feedbackSessionName;
+        this.commentGiver = copy.commentGiver;
+        this.commentText = copy.commentText;
+        this.feedbackResponseId = copy.feedbackResponseId;
+        this.feedbackQuestionId = copy.feedbackQuestionId;
+        this.showCommentTo = new ArrayList<>(copy.showCommentTo);
+        this.showGiverNameTo = new ArrayList<>(copy.showGiverNameTo);
+        this.isVisibilityFollowingFeedbackQuestion = copy.isVisibilityFollowingFeedbackQuestion;
+        this.createdAt = copy.createdAt;
+        this.lastEditorEmail = copy.lastEditorEmail;
+        this.lastEditedAt = copy.lastEditedAt;
+        this.giverSection = copy.giverSection;
+        this.receiverSection = copy.receiverSection;
+        this.commentGiverType = copy.commentGiverType;
+        this.isCommentFromFeedbackParticipant = copy.isCommentFromFeedbackParticipant;
+    }
+
     public static FeedbackResponseCommentAttributes valueOf(FeedbackResponseComment comment) {
         FeedbackResponseCommentAttributes frca = new FeedbackResponseCommentAttributes();
         frca.courseId = comment.getCourseId();
@@ -6,9 +6,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
@@ -69,8 +67,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
     private boolean isOpeningEmailEnabled;
     private boolean isClosingEmailEnabled;
     private boolean isPublishedEmailEnabled;
-    private transient Set<String> respondingInstructorList;
-    private transient Set<String> respondingStudentList;
 
     FeedbackSessionAttributes(String feedbackSessionName, String courseId) {
         this.feedbackSessionName = feedbackSessionName;
@@ -83,9 +79,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         this.isClosingEmailEnabled = true;
         this.isPublishedEmailEnabled = true;
 
-        this.respondingInstructorList = new HashSet<>();
-        this.respondingStudentList = new HashSet<>();
-
         this.timeZone = Const.DEFAULT_TIME_ZONE;
         this.gracePeriod = Duration.ZERO;
 
@@ -114,12 +107,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         feedbackSessionAttributes.isOpeningEmailEnabled = fs.isOpeningEmailEnabled();
         feedbackSessionAttributes.isClosingEmailEnabled = fs.isClosingEmailEnabled();
         feedbackSessionAttributes.isPublishedEmailEnabled = fs.isPublishedEmailEnabled();
-        if (fs.getRespondingStudentList() != null) {
-            feedbackSessionAttributes.respondingStudentList = new HashSet<>(fs.getRespondingStudentList());
-        }
-        if (fs.getRespondingInstructorList() != null) {
-            feedbackSessionAttributes.respondingInstructorList = new HashSet<>(fs.getRespondingInstructorList());
-        }
 
         return feedbackSessionAttributes;
     }
@@ -173,8 +160,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 createdTime, deletedTime, startTime, endTime, sessionVisibleFromTime, resultsVisibleFromTime,
                 timeZone.getId(), getGracePeriodMinutes(),
                 sentOpenEmail, sentClosingEmail, sentClosedEmail, sentPublishedEmail,
-                isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled,
-                respondingInstructorList, respondingStudentList);
+                isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled);
     }
 
     @Override
@@ -602,22 +588,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
     }
 
-    public Set<String> getRespondingInstructorList() {
-        return respondingInstructorList;
-    }
-
-    public void setRespondingInstructorList(Set<String> respondingInstructorList) {
-        this.respondingInstructorList = respondingInstructorList;
-    }
-
-    public Set<String> getRespondingStudentList() {
-        return respondingStudentList;
-    }
-
-    public void setRespondingStudentList(Set<String> respondingStudentList) {
-        this.respondingStudentList = respondingStudentList;
-    }
-
     /**
      * Updates with {@link UpdateOptions}.
      */
@@ -635,25 +605,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         updateOptions.sentPublishedEmailOption.ifPresent(s -> sentPublishedEmail = s);
         updateOptions.isClosingEmailEnabledOption.ifPresent(s -> isClosingEmailEnabled = s);
         updateOptions.isPublishedEmailEnabledOption.ifPresent(s -> isPublishedEmailEnabled = s);
-
-        updateOptions.addingStudentRespondentOption.ifPresent(s -> respondingStudentList.add(s));
-        updateOptions.removingStudentRespondentOption.ifPresent(s -> respondingStudentList.remove(s));
-        updateOptions.addingInstructorRespondentOption.ifPresent(s -> respondingInstructorList.add(s));
-        updateOptions.removingInstructorRespondentOption.ifPresent(s -> respondingInstructorList.remove(s));
-
-        updateOptions.updatingStudentRespondentOption.ifPresent(s -> {
-            if (respondingStudentList.contains(s.getOldEmail())) {
-                respondingStudentList.remove(s.getOldEmail());
-                respondingStudentList.add(s.getNewEmail());
-            }
-        });
-
-        updateOptions.updatingInstructorRespondentOption.ifPresent(s -> {
-            if (respondingInstructorList.contains(s.getOldEmail())) {
-                respondingInstructorList.remove(s.getOldEmail());
-                respondingInstructorList.add(s.getNewEmail());
-            }
-        });
     }
 
     /**
@@ -720,13 +671,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         private UpdateOption<Boolean> isClosingEmailEnabledOption = UpdateOption.empty();
         private UpdateOption<Boolean> isPublishedEmailEnabledOption = UpdateOption.empty();
 
-        private UpdateOption<String> addingStudentRespondentOption = UpdateOption.empty();
-        private UpdateOption<String> removingStudentRespondentOption = UpdateOption.empty();
-        private UpdateOption<String> addingInstructorRespondentOption = UpdateOption.empty();
-        private UpdateOption<String> removingInstructorRespondentOption = UpdateOption.empty();
-        private UpdateOption<EmailChange> updatingStudentRespondentOption = UpdateOption.empty();
-        private UpdateOption<EmailChange> updatingInstructorRespondentOption = UpdateOption.empty();
-
         private UpdateOptions(String feedbackSessionName, String courseId) {
             Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
             Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
@@ -761,37 +705,9 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                     + ", sentPublishedEmail = " + sentPublishedEmailOption
                     + ", isClosingEmailEnabled = " + isClosingEmailEnabledOption
                     + ", isPublishedEmailEnabled = " + isPublishedEmailEnabledOption
-                    + ", addingStudentRespondent = " + addingStudentRespondentOption
-                    + ", removingStudentRespondent = " + removingStudentRespondentOption
-                    + ", addingInstructorRespondent = " + addingInstructorRespondentOption
-                    + ", removingInstructorRespondent = " + removingInstructorRespondentOption
-                    + ", updatingStudentRespondent = " + updatingStudentRespondentOption
-                    + ", updatingInstructorRespondent = " + updatingInstructorRespondentOption
                     + "]";
         }
 
-        /**
-         * Represents the change of email for an(a) instructor/student.
-         */
-        private static class EmailChange {
-
-            private String oldEmail;
-            private String newEmail;
-
-            private EmailChange(String oldEmail, String newEmail) {
-                this.oldEmail = oldEmail;
-                this.newEmail = newEmail;
-            }
-
-            private String getOldEmail() {
-                return oldEmail;
-            }
-
-            private String getNewEmail() {
-                return newEmail;
-            }
-        }
-
         /**
          * Builder class to build {@link UpdateOptions}.
          */
@@ -828,50 +744,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 return this;
             }
 
-            public Builder withAddingStudentRespondent(String email) {
-                Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
-
-                updateOptions.addingStudentRespondentOption = UpdateOption.of(email);
-                return this;
-            }
-
-            public Builder withRemovingStudentRespondent(String email) {
-                Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
-
-                updateOptions.removingStudentRespondentOption = UpdateOption.of(email);
-                return this;
-            }
-
-            public Builder withAddingInstructorRespondent(String email) {
-                Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
-
-                updateOptions.addingInstructorRespondentOption = UpdateOption.of(email);
-                return this;
-            }
-
-            public Builder withRemovingInstructorRespondent(String email) {
-                Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
-
-                updateOptions.removingInstructorRespondentOption = UpdateOption.of(email);
-                return this;
-            }
-
-            public Builder withUpdatingStudentRespondent(String oldEmail, String newEmail) {
-                Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, oldEmail);
-                Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, newEmail);
-
-                updateOptions.updatingStudentRespondentOption = UpdateOption.of(new EmailChange(oldEmail, newEmail));
-                return this;
-            }
-
-            public Builder withUpdatingInstructorRespondent(String oldEmail, String newEmail) {
-                Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, oldEmail);
-                Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, newEmail);
-
-                updateOptions.updatingInstructorRespondentOption = UpdateOption.of(new EmailChange(oldEmail, newEmail));
-                return this;
-            }
-
             @Override
             public UpdateOptions build() {
                 return updateOptions;
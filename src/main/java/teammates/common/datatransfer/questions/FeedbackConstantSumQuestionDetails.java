@@ -454,19 +454,19 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
                 String name = bundle.getNameForEmail(participantIdentifier);
                 String teamName = bundle.getTeamNameForEmail(participantIdentifier);
 
-                fragments.append(Templates.populateTemplate(FormTemplates.CONSTSUM_RESULT_STATS_RECIPIENTFRAGMENT,
+                Templates.appendPopulatedTemplate(fragments, FormTemplates.CONSTSUM_RESULT_STATS_RECIPIENTFRAGMENT,
                         Slots.CONSTSUM_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(name),
                         Slots.TEAM, SanitizationHelper.sanitizeForHtml(teamName),
                         Slots.CONSTSUM_POINTS_RECEIVED, pointsReceived,
                         Slots.CONSTSUM_TOTAL_POINTS, Integer.toString(total),
-                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(average)));
+                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(average));
             } else {
 
-                fragments.append(Templates.populateTemplate(FormTemplates.CONSTSUM_RESULT_STATS_OPTIONFRAGMENT,
+                Templates.appendPopulatedTemplate(fragments, FormTemplates.CONSTSUM_RESULT_STATS_OPTIONFRAGMENT,
                         Slots.CONSTSUM_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(option),
                         Slots.CONSTSUM_POINTS_RECEIVED, pointsReceived,
                         Slots.CONSTSUM_TOTAL_POINTS, Integer.toString(total),
-                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(average)));
+                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(average));
             }
         });
 
@@ -3,7 +3,9 @@ package teammates.common.datatransfer.questions;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,6 +14,7 @@ import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.StudentResultSummary;
 import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.TeamEvalResultCalculator;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -178,15 +181,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //Each team's member(email) list
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
         //Get each team's submission array. -> int[teamSize][teamSize]
         //Where int[0][1] refers points from student 0 to student 1
         //Where student 0 is the 0th student in the list in teamMembersEmail
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+                teamNames, teamMembersEmail, actualResponses, bundle);
 
         //Each team's contribution question results.
         Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
@@ -237,15 +236,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //Each team's member(email) list
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
         //Get each team's submission array. -> int[teamSize][teamSize]
         //Where int[0][1] refers points from student 0 to student 1
         //Where student 0 is the 0th student in the list in teamMembersEmail
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+                teamNames, teamMembersEmail, actualResponses, bundle);
 
         //Each team's eval results.
         Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
@@ -288,7 +283,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             for (int i = 0; i < incomingPoints.length; i++) {
                 incomingPoints[i] = teamResult.normalizedPeerContributionRatio[i][studentIndx];
             }
-            contribFragments.append(Templates.populateTemplate(
+            Templates.appendPopulatedTemplate(contribFragments,
                     FormTemplates.CONTRIB_RESULT_STATS_FRAGMENT,
                     Slots.CONTRIB_STUDENT_TEAM, SanitizationHelper.sanitizeForHtml(displayTeam),
                     Slots.CONTRIB_STUDENT_NAME, SanitizationHelper.sanitizeForHtml(displayName),
@@ -296,7 +291,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                     Slots.CONTRIB_PC, getPointsAsColorizedHtml(summary.perceivedToInstructor),
                     Slots.CONTRIB_DIFF, getPointsDiffAsHtml(summary),
                     Slots.CONTRIB_RR, getNormalizedPointsListColorizedDescending(incomingPoints, studentIndx),
-                    Slots.CONTRIB_PARAM_STUDENT_NAME, Const.ParamsNames.STUDENT_NAME));
+                    Slots.CONTRIB_PARAM_STUDENT_NAME, Const.ParamsNames.STUDENT_NAME);
         }
 
         return Templates.populateTemplate(
@@ -334,15 +329,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //Each team's member(email) list
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
         //Get each team's submission array. -> int[teamSize][teamSize]
         //Where int[0][1] refers points from student 0 to student 1
         //Where student 0 is the 0th student in the list in teamMembersEmail
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+                teamNames, teamMembersEmail, actualResponses, bundle);
 
         //Each team's eval results.
         Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
@@ -448,11 +439,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                responses, bundle, teamNames);
-
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+                teamNames, teamMembersEmail, responses, bundle);
 
         Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
 
@@ -491,20 +479,24 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                responses, bundle, teamNames);
-
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+                teamNames, teamMembersEmail, responses, bundle);
 
         return getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
     }
 
     private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
             Map<String, int[][]> teamSubmissionArray, Map<String, List<String>> teamMembersEmail) {
-        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
+        List<int[][]> submissionArrays = new ArrayList<>();
         for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
+            submissionArrays.add(teamSubmissionArray.get(team));
+        }
+        List<TeamEvalResult> teamEvalResults = TeamEvalResultCalculator.calculateAll(submissionArrays);
+
+        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
+        for (int i = 0; i < teamNames.size(); i++) {
+            String team = teamNames.get(i);
+            TeamEvalResult teamEvalResult = teamEvalResults.get(i);
             teamEvalResult.studentEmails = teamMembersEmail.get(team);
             teamResults.put(team, teamEvalResult);
         }
@@ -513,47 +505,43 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
     private Map<String, int[][]> getTeamSubmissionArray(List<String> teamNames,
             Map<String, List<String>> teamMembersEmail,
-            Map<String, List<FeedbackResponseAttributes>> teamResponses) {
+            List<FeedbackResponseAttributes> responses, FeedbackSessionResultsBundle bundle) {
         Map<String, int[][]> teamSubmissionArray = new LinkedHashMap<>();
+        Map<String, Map<String, Integer>> teamMemberIndexes = new HashMap<>();
         for (String team : teamNames) {
-            int teamSize = teamMembersEmail.get(team).size();
-            teamSubmissionArray.put(team, new int[teamSize][teamSize]);
+            List<String> memberEmailList = teamMembersEmail.get(team);
+            int teamSize = memberEmailList.size();
+            int[][] submissionArray = new int[teamSize][teamSize];
             //Initialize all as not submitted.
-            for (int i = 0; i < teamSize; i++) {
-                for (int j = 0; j < teamSize; j++) {
-                    teamSubmissionArray.get(team)[i][j] = Const.POINTS_NOT_SUBMITTED;
-                }
+            for (int[] giverSubmissions : submissionArray) {
+                Arrays.fill(giverSubmissions, Const.POINTS_NOT_SUBMITTED);
             }
-            //Fill in submitted points
-            List<FeedbackResponseAttributes> teamResponseList = teamResponses.get(team);
-            List<String> memberEmailList = teamMembersEmail.get(team);
-            for (FeedbackResponseAttributes response : teamResponseList) {
-                int giverIndx = memberEmailList.indexOf(response.giver);
-                int recipientIndx = memberEmailList.indexOf(response.recipient);
-                if (giverIndx == -1 || recipientIndx == -1) {
-                    continue;
-                }
-                int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
-                teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
+            teamSubmissionArray.put(team, submissionArray);
+
+            Map<String, Integer> memberIndexes = new HashMap<>();
+            for (int i = teamSize - 1; i >= 0; i--) {
+                memberIndexes.put(memberEmailList.get(i), i);
             }
+            teamMemberIndexes.put(team, memberIndexes);
         }
-        return teamSubmissionArray;
-    }
 
-    private Map<String, List<FeedbackResponseAttributes>> getTeamResponses(
-            List<FeedbackResponseAttributes> responses,
-            FeedbackSessionResultsBundle bundle, List<String> teamNames) {
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = new LinkedHashMap<>();
-        for (String teamName : teamNames) {
-            teamResponses.put(teamName, new ArrayList<>());
-        }
+        //Fill in submitted points
         for (FeedbackResponseAttributes response : responses) {
             String team = bundle.emailTeamNameTable.get(response.giver);
-            if (teamResponses.containsKey(team)) {
-                teamResponses.get(team).add(response);
+            int[][] submissionArray = teamSubmissionArray.get(team);
+            if (submissionArray == null) {
+                continue;
             }
+            Map<String, Integer> memberIndexes = teamMemberIndexes.get(team);
+            Integer giverIndx = memberIndexes.get(response.giver);
+            Integer recipientIndx = memberIndexes.get(response.recipient);
+            if (giverIndx == null || recipientIndx == null) {
+                continue;
+            }
+            submissionArray[giverIndx][recipientIndx] =
+                    ((FeedbackContributionResponseDetails) response.getDeserializedResponseDetails()).getAnswer();
         }
-        return teamResponses;
+        return teamSubmissionArray;
     }
 
     private Map<String, List<String>> getTeamMembersEmail(
@@ -574,14 +562,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     private List<String> getTeamsWithAtLeastOneResponse(
             List<FeedbackResponseAttributes> responses,
             FeedbackSessionResultsBundle bundle) {
-        List<String> teamNames = new ArrayList<>();
+        Set<String> teamNames = new LinkedHashSet<>();
         for (FeedbackResponseAttributes response : responses) {
-            String teamNameOfResponseGiver = bundle.getTeamNameForEmail(response.giver);
-            if (!teamNames.contains(teamNameOfResponseGiver)) {
-                teamNames.add(teamNameOfResponseGiver);
-            }
+            teamNames.add(bundle.getTeamNameForEmail(response.giver));
         }
-        return teamNames;
+        return new ArrayList<>(teamNames);
     }
 
     private static String getNormalizedPointsListColorizedDescending(int[] subs, int index) {
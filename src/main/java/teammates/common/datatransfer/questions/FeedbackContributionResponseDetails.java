@@ -81,29 +81,30 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
 
         // Need to get actual team name and giver/recipient emails here,
         // only for getting the responseAnswer.
-        FeedbackResponseAttributes actualResponse = feedbackSessionResultsBundle.getActualResponse(response);
-        String giverTeamName = feedbackSessionResultsBundle.emailTeamNameTable.get(actualResponse.giver);
+        String actualGiver = feedbackSessionResultsBundle.getActualGiver(response);
+        String actualRecipient = feedbackSessionResultsBundle.getActualRecipient(response);
+        String giverTeamName = feedbackSessionResultsBundle.emailTeamNameTable.get(actualGiver);
         TeamEvalResult teamResult = teamResults.get(giverTeamName);
 
-        int giverIndex = teamResult.studentEmails.indexOf(actualResponse.giver);
-        int recipientIndex = teamResult.studentEmails.indexOf(actualResponse.recipient);
+        int giverIndex = teamResult.studentEmails.indexOf(actualGiver);
+        int recipientIndex = teamResult.studentEmails.indexOf(actualRecipient);
 
         String responseAnswerCsv = "";
 
         if (giverIndex == -1 || recipientIndex == -1) {
             if (giverIndex == -1) {
                 log.severe("getContributionQuestionResponseAnswerCsv - giverIndex is -1\n"
-                        + "Cannot find giver: " + actualResponse.giver + "\n"
+                        + "Cannot find giver: " + actualGiver + "\n"
                         + "CourseId: " + feedbackSessionResultsBundle.feedbackSession.getCourseId() + "\n"
                         + "Session Name: " + feedbackSessionResultsBundle.feedbackSession.getFeedbackSessionName() + "\n"
-                        + "Response Id: " + actualResponse.getId());
+                        + "Response Id: " + response.getId());
             }
             if (recipientIndex == -1) {
                 log.severe("getContributionQuestionResponseAnswerCsv - recipientIndex is -1\n"
-                        + "Cannot find recipient: " + actualResponse.recipient + "\n"
+                        + "Cannot find recipient: " + actualRecipient + "\n"
                         + "CourseId: " + feedbackSessionResultsBundle.feedbackSession.getCourseId() + "\n"
                         + "Session Name: " + feedbackSessionResultsBundle.feedbackSession.getFeedbackSessionName() + "\n"
-                        + "Response Id: " + actualResponse.getId());
+                        + "Response Id: " + response.getId());
             }
         } else {
             responseAnswerCsv = SanitizationHelper.sanitizeForCsv(
@@ -2,6 +2,7 @@ package teammates.common.datatransfer.questions;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -9,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -415,7 +417,8 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         StringBuilder responseSummaryFragments = new StringBuilder();
 
         MCQStatistics mcqStats = new MCQStatistics(this);
-        Map<String, Integer> answerFrequency = mcqStats.collateAnswerFrequency(responses);
+        FeedbackQuestionStatistics statistics = bundle.getQuestionStatistics(question.getId(), responses);
+        Map<String, Integer> answerFrequency = mcqStats.collateAnswerFrequency(statistics);
         // Do not calculate weighted percentage if weights are not enabled.
         Map<String, Double> weightedPercentagePerOption =
                 hasAssignedWeights ? mcqStats.calculateWeightedPercentagePerOption(answerFrequency)
@@ -432,23 +435,21 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
                 weightString = hasAssignedWeights ? df.format(mcqWeights.get(mcqChoices.indexOf(key))) : "-";
             }
 
-            responseSummaryFragments.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
+            Templates.appendPopulatedTemplate(responseSummaryFragments, FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
                     Slots.MCQ_CHOICE_VALUE, SanitizationHelper.sanitizeForHtml(key),
                     Slots.MCQ_WEIGHT, weightString,
                     Slots.COUNT, Integer.toString(count),
                     Slots.PERCENTAGE, df.format(100 * (double) count / responses.size()),
                     Slots.WEIGHTED_PERCENTAGE,
-                            hasAssignedWeights ? df.format(weightedPercentagePerOption.get(key)) : "-"));
+                            hasAssignedWeights ? df.format(weightedPercentagePerOption.get(key)) : "-");
         });
 
         // If weights are assigned, create the per recipient statistics table,
         // otherwise pass an empty string in it's place.
         String recipientStatsHtml = "";
         if (hasAssignedWeights) {
-            // Sort the list of responseAttributes based on recipient team and recipient name.
-            List<FeedbackResponseAttributes> sortedResponses = mcqStats.getResponseAttributesSorted(responses, bundle);
             String header = mcqStats.getRecipientStatsHeaderHtml();
-            String body = mcqStats.getPerRecipientStatsBodyHtml(sortedResponses, bundle);
+            String body = mcqStats.getPerRecipientStatsBodyHtml(statistics, bundle);
 
             recipientStatsHtml = Templates.populateTemplate(
                     FormTemplates.MCQ_RESULT_RECIPIENT_STATS,
@@ -478,7 +479,8 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         }
         StringBuilder csv = new StringBuilder();
         MCQStatistics mcqStats = new MCQStatistics(this);
-        Map<String, Integer> answerFrequency = mcqStats.collateAnswerFrequency(responses);
+        FeedbackQuestionStatistics statistics = bundle.getQuestionStatistics(question.getId(), responses);
+        Map<String, Integer> answerFrequency = mcqStats.collateAnswerFrequency(statistics);
         // Add the Response Summary Statistics to the CSV String.
         csv.append(mcqStats.getResponseSummaryStatsCsv(answerFrequency, responses.size()));
 
@@ -486,11 +488,16 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         if (hasAssignedWeights) {
             csv.append(System.lineSeparator())
                 .append("Per Recipient Statistics").append(System.lineSeparator())
-                .append(mcqStats.getPerRecipientResponseStatsCsv(responses, bundle));
+                .append(mcqStats.getPerRecipientResponseStatsCsv(statistics, bundle));
         }
         return csv.toString();
     }
 
+    @Override
+    public boolean isStatisticsAggregated() {
+        return true;
+    }
+
     @Override
     public String getCsvHeader() {
         return "Feedback";
@@ -603,9 +610,42 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         protected int numOfChoices;
 
         /**
-         * Calculates the answer frequency for each option based on the received responses for a question.
+         * Calculates the answer frequency for each option based on the aggregated responses for a question.
+         * Answers which are not options of the question any more are counted after the options.
          */
-        protected abstract Map<String, Integer> collateAnswerFrequency(List<FeedbackResponseAttributes> responses);
+        protected Map<String, Integer> collateAnswerFrequency(FeedbackQuestionStatistics statistics) {
+            Map<String, Integer> answerFrequency = getEmptyResponseCountPerOption();
+            statistics.getCounts().forEach((answer, count) -> answerFrequency.merge(answer, count, Integer::sum));
+            return answerFrequency;
+        }
+
+        /**
+         * Returns a Map containing response counts for each option for every recipient,
+         * ordered by the team name and then the name of the recipient.
+         */
+        protected Map<String, Map<String, Integer>> calculatePerRecipientResponseCount(
+                FeedbackQuestionStatistics statistics, FeedbackSessionResultsBundle bundle) {
+            Map<String, Map<String, Integer>> perRecipientResponse = new LinkedHashMap<>();
+
+            for (String recipient : getRecipientsSorted(statistics.getResponseCountsPerRecipient().keySet(), bundle)) {
+                Map<String, Integer> responseCountPerOption = getEmptyResponseCountPerOption();
+                statistics.getCountsForRecipient(recipient).forEach((answer, count) ->
+                        responseCountPerOption.computeIfPresent(answer, (option, optionCount) -> optionCount + count));
+                perRecipientResponse.put(recipient, responseCountPerOption);
+            }
+            return perRecipientResponse;
+        }
+
+        private Map<String, Integer> getEmptyResponseCountPerOption() {
+            Map<String, Integer> responseCountPerOption = new LinkedHashMap<>();
+            for (String option : choices) {
+                responseCountPerOption.put(option, 0);
+            }
+            if (otherEnabled) {
+                responseCountPerOption.put("Other", 0);
+            }
+            return responseCountPerOption;
+        }
 
         /**
          * Calculates the weighted percentage for each option.
@@ -657,20 +697,18 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         }
 
         /**
-         * Returns a list of {@link FeedbackResponseAttributes} sorted by comparing recipient Team name and
-         * recipient name for each recipient email.
-         * @param unsortedResponses The list of unsorted responses that needs to be sorted.
+         * Returns a list of recipient emails sorted by comparing recipient Team name and recipient name.
+         * @param recipients The recipients that need to be sorted.
          * @param bundle Result bundle that is used to retrieve recipientTeamName and recipientName for each recipient.
          */
-        public List<FeedbackResponseAttributes> getResponseAttributesSorted(
-                List<FeedbackResponseAttributes> unsortedResponses, FeedbackSessionResultsBundle bundle) {
-            List<FeedbackResponseAttributes> responses = new LinkedList<>(unsortedResponses);
+        public List<String> getRecipientsSorted(Collection<String> recipients, FeedbackSessionResultsBundle bundle) {
+            List<String> sortedRecipients = new ArrayList<>(recipients);
 
-            responses.sort(Comparator
-                    .comparing((FeedbackResponseAttributes obj) -> bundle.getTeamNameForEmail(obj.recipient))
-                    .thenComparing(obj -> bundle.getNameForEmail(obj.recipient)));
+            sortedRecipients.sort(Comparator
+                    .comparing(bundle::getTeamNameForEmail)
+                    .thenComparing(bundle::getNameForEmail));
 
-            return responses;
+            return sortedRecipients;
         }
 
         /**
@@ -818,13 +856,14 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
 
         /**
          * Returns the 'Per Recipient' stats body part for CSV files.<br>
-         * @param responses The response attribute list should be sorted first before passing as an argument.
+         * @param statistics The aggregated responses to the question.
          * @param bundle Feedback session results bundle
          */
-        protected String getPerRecipientResponseStatsBodyCsv(List<FeedbackResponseAttributes> responses,
+        protected String getPerRecipientResponseStatsBodyCsv(FeedbackQuestionStatistics statistics,
                 FeedbackSessionResultsBundle bundle) {
             StringBuilder bodyBuilder = new StringBuilder(100);
-            Map<String, Map<String, Integer>> perRecipientResponses = calculatePerRecipientResponseCount(responses);
+            Map<String, Map<String, Integer>> perRecipientResponses =
+                    calculatePerRecipientResponseCount(statistics, bundle);
 
             for (Map.Entry<String, Map<String, Integer>> entry : perRecipientResponses.entrySet()) {
                 String recipient = entry.getKey();
@@ -852,12 +891,6 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             return fragments.toString();
         }
 
-        /**
-         * Returns a Map containing response counts for each option for every recipient.
-         */
-        protected abstract Map<String, Map<String, Integer>> calculatePerRecipientResponseCount(
-                List<FeedbackResponseAttributes> responses);
-
     }
 
     /**
@@ -874,77 +907,15 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             this.otherWeight = mcqDetails.getMcqOtherWeight();
         }
 
-        /**
-         * Calculates the answer frequency for each option based on the received responses.
-         */
-        @Override
-        protected Map<String, Integer> collateAnswerFrequency(List<FeedbackResponseAttributes> responses) {
-            Map<String, Integer> answerFrequency = new LinkedHashMap<>();
-
-            for (String option : choices) {
-                answerFrequency.put(option, 0);
-            }
-
-            if (otherEnabled) {
-                answerFrequency.put("Other", 0);
-            }
-
-            for (FeedbackResponseAttributes response : responses) {
-                FeedbackResponseDetails responseDetails = response.getResponseDetails();
-                boolean isOtherOptionAnswer =
-                        ((FeedbackMcqResponseDetails) responseDetails).isOtherOptionAnswer();
-                String key = isOtherOptionAnswer ? "Other" : responseDetails.getAnswerString();
-
-                answerFrequency.put(key, answerFrequency.getOrDefault(key, 0) + 1);
-            }
-
-            return answerFrequency;
-        }
-
-        /**
-         * Returns a Map containing response counts for each option for every recipient.
-         */
-        @Override
-        protected Map<String, Map<String, Integer>> calculatePerRecipientResponseCount(
-                List<FeedbackResponseAttributes> responses) {
-            Map<String, Map<String, Integer>> perRecipientResponse = new LinkedHashMap<>();
-
-            responses.forEach(response -> {
-                perRecipientResponse.computeIfAbsent(response.recipient, key -> {
-                    // construct default value for responseCount
-                    Map<String, Integer> responseCountPerOption = new LinkedHashMap<>();
-                    for (String choice : choices) {
-                        responseCountPerOption.put(choice, 0);
-                    }
-                    if (otherEnabled) {
-                        responseCountPerOption.put("Other", 0);
-                    }
-                    return responseCountPerOption;
-                });
-                perRecipientResponse.computeIfPresent(response.recipient, (key, responseCountPerOption) -> {
-                    // update responseCount here
-                    FeedbackMcqResponseDetails frd = (FeedbackMcqResponseDetails) response.getResponseDetails();
-                    boolean isOtherAnswer = frd.isOtherOptionAnswer();
-                    String answer = isOtherAnswer ? "Other" : frd.getAnswerString();
-
-                    responseCountPerOption.computeIfPresent(answer, (choice, count) -> count + 1);
-                    return responseCountPerOption;
-                });
-            });
-            return perRecipientResponse;
-        }
-
         // Generate Recipient Response statistics for csv files.
 
         /**
          * Returns a String containing the 'Per Recipient Statistics' stats for CSV files for all recipients.
          */
-        public String getPerRecipientResponseStatsCsv(List<FeedbackResponseAttributes> responses,
+        public String getPerRecipientResponseStatsCsv(FeedbackQuestionStatistics statistics,
                 FeedbackSessionResultsBundle bundle) {
             String header = getPerRecipientResponseStatsHeaderCsv();
-            // Get the response attributes sorted based on Recipient Team name and recipient name.
-            List<FeedbackResponseAttributes> sortedResponses = getResponseAttributesSorted(responses, bundle);
-            String body = getPerRecipientResponseStatsBodyCsv(sortedResponses, bundle);
+            String body = getPerRecipientResponseStatsBodyCsv(statistics, bundle);
 
             return header + body;
         }
@@ -956,17 +927,18 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
          * The "tr" tags enclose a sequence of "td" tags which have data related to a sub question.
          * The sequence of "tr" tags are not enclosed in a "tbody" tag.
          */
-        public String getPerRecipientStatsBodyHtml(List<FeedbackResponseAttributes> responses,
+        public String getPerRecipientStatsBodyHtml(FeedbackQuestionStatistics statistics,
                 FeedbackSessionResultsBundle bundle) {
             StringBuilder bodyBuilder = new StringBuilder(100);
-            Map<String, Map<String, Integer>> perRecipientResponses = calculatePerRecipientResponseCount(responses);
+            Map<String, Map<String, Integer>> perRecipientResponses =
+                    calculatePerRecipientResponseCount(statistics, bundle);
 
             for (Map.Entry<String, Map<String, Integer>> entry : perRecipientResponses.entrySet()) {
                 String recipient = entry.getKey();
                 Map<String, Integer> responsesForRecipient = entry.getValue();
                 String statsRow = getPerRecipientStatsBodyFragmentHtml(recipient, responsesForRecipient, bundle);
-                bodyBuilder.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
-                        Slots.MCQ_RECIPIENT_STAT_ROW, statsRow));
+                Templates.appendPopulatedTemplate(bodyBuilder, FormTemplates.MCQ_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
+                        Slots.MCQ_RECIPIENT_STAT_ROW, statsRow);
             }
 
             return bodyBuilder.toString();
@@ -1,6 +1,7 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -98,6 +99,11 @@ public class FeedbackMcqResponseDetails extends FeedbackResponseDetails {
         return errors;
     }
 
+    @Override
+    public List<String> getStatisticsKeys() {
+        return Collections.singletonList(isOther ? "Other" : answer);
+    }
+
     public Boolean isOtherOptionAnswer() {
         return isOther;
     }
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -532,8 +533,9 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         }
 
         MSQStatistics msqStats = new MSQStatistics(this);
+        FeedbackQuestionStatistics statistics = bundle.getQuestionStatistics(question.getId(), responses);
 
-        Map<String, Integer> answerFrequency = msqStats.collateAnswerFrequency(responses);
+        Map<String, Integer> answerFrequency = msqStats.collateAnswerFrequency(statistics);
         int numChoicesSelected = getNumberOfResponses(answerFrequency);
         if (numChoicesSelected == -1) {
             return "";
@@ -556,23 +558,21 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
                 weightString = hasAssignedWeights ? df.format(msqWeights.get(msqChoices.indexOf(key))) : "-";
             }
             // Reuse Mcq result template until there is any reason to use a separate template.
-            fragments.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
+            Templates.appendPopulatedTemplate(fragments, FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
                     Slots.MCQ_CHOICE_VALUE, SanitizationHelper.sanitizeForHtml(key),
                     Slots.MCQ_WEIGHT, weightString,
                     Slots.COUNT, Integer.toString(count),
                     Slots.PERCENTAGE, df.format(100 * divideOrReturnZero(count, numChoicesSelected)),
                     Slots.WEIGHTED_PERCENTAGE,
-                            hasAssignedWeights ? df.format(weightedPercentagePerOption.get(key)) : "-"));
+                            hasAssignedWeights ? df.format(weightedPercentagePerOption.get(key)) : "-");
         });
 
         // If weights are assigned, create the per recipient statistics table,
         // otherwise pass an empty string in it's place.
         String recipientStatsHtml = "";
         if (hasAssignedWeights) {
-            // Sort responses based on recipient team and recipient name.
-            List<FeedbackResponseAttributes> sortedResponses = msqStats.getResponseAttributesSorted(responses, bundle);
             String header = msqStats.getRecipientStatsHeaderHtml();
-            String body = msqStats.getPerRecipientStatsBodyHtml(sortedResponses, bundle);
+            String body = msqStats.getPerRecipientStatsBodyHtml(statistics, bundle);
 
             // Reuse Mcq result template until there is any reason to use a separate template.
             recipientStatsHtml = Templates.populateTemplate(
@@ -605,7 +605,8 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         }
 
         MSQStatistics msqStats = new MSQStatistics(this);
-        Map<String, Integer> answerFrequency = msqStats.collateAnswerFrequency(responses);
+        FeedbackQuestionStatistics statistics = bundle.getQuestionStatistics(question.getId(), responses);
+        Map<String, Integer> answerFrequency = msqStats.collateAnswerFrequency(statistics);
         int numChoicesSelected = getNumberOfResponses(answerFrequency);
         if (numChoicesSelected == -1) {
             return "";
@@ -617,9 +618,7 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         // Create 'Per recipient Stats' for csv if weights are enabled.
         if (hasAssignedWeights) {
             String header = msqStats.getPerRecipientResponseStatsHeaderCsv();
-            // Get the response attributes sorted based on Recipient Team name and recipient name.
-            List<FeedbackResponseAttributes> sortedResponses = msqStats.getResponseAttributesSorted(responses, bundle);
-            String body = msqStats.getPerRecipientResponseStatsBodyCsv(sortedResponses, bundle);
+            String body = msqStats.getPerRecipientResponseStatsBodyCsv(statistics, bundle);
             String perRecipientStatsCsv = header + body;
 
             // Add per recipient stats to csv string
@@ -630,6 +629,11 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         return csv.toString();
     }
 
+    @Override
+    public boolean isStatisticsAggregated() {
+        return true;
+    }
+
     @Override
     public String getCsvHeader() {
         List<String> sanitizedChoices = SanitizationHelper.sanitizeListForCsv(msqChoices);
@@ -865,93 +869,6 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
             this.otherWeight = msqDetails.getMsqOtherWeight();
         }
 
-        /**
-         * Calculates the answer frequency for each option based on the received responses for a question.
-         * <p>
-         *   <strong>Note:</strong> Empty answers which denotes the <code>None of the above</code> option are ignored.
-         * </p>
-         * @param responses The list of response attributes.
-         */
-        @Override
-        protected Map<String, Integer> collateAnswerFrequency(List<FeedbackResponseAttributes> responses) {
-            Map<String, Integer> answerFrequency = new LinkedHashMap<>();
-
-            for (String option : choices) {
-                answerFrequency.put(option, 0);
-            }
-            if (otherEnabled) {
-                answerFrequency.put("Other", 0);
-            }
-
-            for (FeedbackResponseAttributes response : responses) {
-                FeedbackMsqResponseDetails responseDetails = (FeedbackMsqResponseDetails) response.getResponseDetails();
-                updateResponseCountPerOptionForResponse(responseDetails, answerFrequency);
-            }
-            return answerFrequency;
-        }
-
-        /**
-         * Updates the number of responses per option for each response in responseCountPerOption map.
-         */
-        private void updateResponseCountPerOptionForResponse(FeedbackMsqResponseDetails responseDetails,
-                Map<String, Integer> responseCountPerOption) {
-            List<String> answerStrings = responseDetails.getAnswerStrings();
-            boolean isOtherOptionAnswer = responseDetails.isOtherOptionAnswer();
-            String otherAnswer = "";
-
-            if (isOtherOptionAnswer) {
-                responseCountPerOption.put("Other", responseCountPerOption.get("Other") + 1);
-
-                // remove other answer temporarily to calculate stats for other options
-                otherAnswer = responseDetails.getOtherFieldContent();
-                answerStrings.remove(otherAnswer);
-            }
-
-            for (String answerString : answerStrings) {
-                // Answer string is empty when 'None of the above' option is selected,
-                // in that case, don't count that response.
-                if (answerString.isEmpty()) {
-                    continue;
-                }
-                responseCountPerOption.put(answerString, responseCountPerOption.getOrDefault(answerString, 0) + 1);
-            }
-
-            // restore other answer if any
-            if (isOtherOptionAnswer) {
-                answerStrings.add(otherAnswer);
-            }
-        }
-
-        /**
-         * Returns a Map containing response counts for each option for every recipient.
-         */
-        @Override
-        protected Map<String, Map<String, Integer>> calculatePerRecipientResponseCount(
-                List<FeedbackResponseAttributes> responses) {
-            Map<String, Map<String, Integer>> perRecipientResponse = new LinkedHashMap<>();
-
-            responses.forEach(response -> {
-                perRecipientResponse.computeIfAbsent(response.recipient, key -> {
-                    // construct default value for responseCount
-                    Map<String, Integer> responseCountPerOption = new LinkedHashMap<>();
-                    for (String choice : choices) {
-                        responseCountPerOption.put(choice, 0);
-                    }
-                    if (otherEnabled) {
-                        responseCountPerOption.put("Other", 0);
-                    }
-                    return responseCountPerOption;
-                });
-                perRecipientResponse.computeIfPresent(response.recipient, (key, responseCountPerOption) -> {
-                    // update responseCount here
-                    FeedbackMsqResponseDetails frd = (FeedbackMsqResponseDetails) response.getResponseDetails();
-                    updateResponseCountPerOptionForResponse(frd, responseCountPerOption);
-                    return responseCountPerOption;
-                });
-            });
-            return perRecipientResponse;
-        }
-
         /**
          * Returns a HTML string which contains a sequence of "td" tags.
          * The "td" tags have data related to a sub question.
@@ -979,18 +896,19 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
          * The "tr" tags enclose a sequence of "td" tags which have data related to a sub question.
          * The sequence of "tr" tags are not enclosed in a "tbody" tag.
          */
-        public String getPerRecipientStatsBodyHtml(List<FeedbackResponseAttributes> responses,
+        public String getPerRecipientStatsBodyHtml(FeedbackQuestionStatistics statistics,
                 FeedbackSessionResultsBundle bundle) {
             StringBuilder bodyBuilder = new StringBuilder(100);
-            Map<String, Map<String, Integer>> perRecipientResponses = calculatePerRecipientResponseCount(responses);
+            Map<String, Map<String, Integer>> perRecipientResponses =
+                    calculatePerRecipientResponseCount(statistics, bundle);
 
             for (Map.Entry<String, Map<String, Integer>> entry : perRecipientResponses.entrySet()) {
                 String recipient = entry.getKey();
                 Map<String, Integer> responsesForRecipient = entry.getValue();
                 String statsRow = getPerRecipientStatsBodyFragmentHtml(recipient, responsesForRecipient, bundle);
                 // Reuse Mcq result template until there is any reason to use a separate template.
-                bodyBuilder.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
-                        Slots.MCQ_RECIPIENT_STAT_ROW, statsRow));
+                Templates.appendPopulatedTemplate(bodyBuilder, FormTemplates.MCQ_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
+                        Slots.MCQ_RECIPIENT_STAT_ROW, statsRow);
             }
 
             return bodyBuilder.toString();
@@ -138,6 +138,23 @@ public class FeedbackMsqResponseDetails extends FeedbackResponseDetails {
         return errors;
     }
 
+    @Override
+    public List<String> getStatisticsKeys() {
+        List<String> keys = new ArrayList<>();
+        List<String> chosenOptions = new ArrayList<>(answers);
+        if (isOther) {
+            keys.add("Other");
+            chosenOptions.remove(otherFieldContent);
+        }
+        for (String option : chosenOptions) {
+            // an empty answer denotes the 'None of the above' option, which is not counted
+            if (!option.isEmpty()) {
+                keys.add(option);
+            }
+        }
+        return keys;
+    }
+
     protected boolean isAnswerBlank() {
         return answers.size() == 1 && answers.get(0).isEmpty();
     }
@@ -201,14 +201,14 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
             String recipientName = recipient.equals(Const.GENERAL_QUESTION) ? "General" : bundle.getNameForEmail(recipient);
             String recipientTeam = bundle.getTeamNameForEmail(recipient);
 
-            fragmentHtml.append(Templates.populateTemplate(
+            Templates.appendPopulatedTemplate(fragmentHtml,
                                     fragmentTemplateToUse,
                                     Slots.RECIPIENT_TEAM, SanitizationHelper.sanitizeForHtml(recipientTeam),
                                     Slots.RECIPIENT_NAME, SanitizationHelper.sanitizeForHtml(recipientName),
                                     Slots.AVERAGE, df.format(average.get(recipient)),
                                     Slots.MAX, df.format(max.get(recipient)),
                                     Slots.MIN, df.format(min.get(recipient)),
-                                    Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, userAverageExcludingSelfText));
+                                    Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, userAverageExcludingSelfText);
         }
 
         if (fragmentHtml.length() == 0) {
@@ -68,6 +68,14 @@ public abstract class FeedbackQuestionDetails {
                                                           FeedbackQuestionAttributes question,
                                                           FeedbackSessionResultsBundle bundle);
 
+    /**
+     * Returns true if the responses to questions of this type are aggregated into statistics
+     * under their {@link FeedbackResponseDetails#getStatisticsKeys() statistics keys} as they are written.
+     */
+    public boolean isStatisticsAggregated() {
+        return false;
+    }
+
     public abstract boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails);
 
     public abstract String getCsvHeader();
@@ -301,10 +301,10 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
 
             String ranksReceived = getListOfRanksReceivedAsString(ranks);
             String overallRank = Integer.toString(optionOverallRank.get(option));
-            fragments.append(Templates.populateTemplate(FormTemplates.RANK_RESULT_STATS_OPTIONFRAGMENT,
+            Templates.appendPopulatedTemplate(fragments, FormTemplates.RANK_RESULT_STATS_OPTIONFRAGMENT,
                     Slots.RANK_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(option),
                     Slots.RANK_RECIEVED, ranksReceived,
-                    Slots.RANK_OVERALL, overallRank));
+                    Slots.RANK_OVERALL, overallRank);
 
         });
 
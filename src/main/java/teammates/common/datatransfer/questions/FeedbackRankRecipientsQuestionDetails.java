@@ -339,13 +339,13 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
             String selfRank = recipientSelfRanks.containsKey(participantIdentifier)
                     ? Integer.toString(recipientSelfRanks.get(participantIdentifier)) : "-";
 
-            fragments.append(Templates.populateTemplate(fragmentTemplateToUse,
+            Templates.appendPopulatedTemplate(fragments, fragmentTemplateToUse,
                     Slots.RANK_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(name),
                     Slots.TEAM, SanitizationHelper.sanitizeForHtml(teamName),
                     Slots.RANK_RECIEVED, ranksReceived,
                     Slots.RANK_SELF, selfRank,
                     Slots.RANK_OVERALL, overallRank,
-                    Slots.RANK_EXCLUDING_SELF_OVERALL, overallRankExceptSelf));
+                    Slots.RANK_EXCLUDING_SELF_OVERALL, overallRankExceptSelf);
 
         });
 
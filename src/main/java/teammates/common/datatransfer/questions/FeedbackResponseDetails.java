@@ -71,4 +71,16 @@ public abstract class FeedbackResponseDetails {
      * Validates the response details.
      */
     public abstract List<String> validateResponseDetails(FeedbackQuestionAttributes correspondingQuestion);
+
+    /**
+     * Gets the keys this response is counted under in the aggregated statistics of its question.
+     *
+     * <p>Override together with {@link FeedbackQuestionDetails#isStatisticsAggregated()}.
+     *
+     * @return null if the statistics of this question type are not aggregated
+     * @see teammates.common.datatransfer.FeedbackQuestionStatistics
+     */
+    public List<String> getStatisticsKeys() {
+        return null;
+    }
 }
@@ -1301,9 +1301,9 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
             for (int i = 0; i < getNumOfRubricSubQuestions(); i++) {
                 String subQuestionStats = getHtmlForSubQuestion(i);
-                html.append(Templates.populateTemplate(
+                Templates.appendPopulatedTemplate(html,
                         FormTemplates.RUBRIC_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
-                        Slots.RUBRIC_RECIPIENT_STAT_ROW, subQuestionStats));
+                        Slots.RUBRIC_RECIPIENT_STAT_ROW, subQuestionStats);
             }
 
             return html.toString();
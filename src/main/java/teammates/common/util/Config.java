@@ -60,6 +60,12 @@ public final class Config {
     /** The value of the "app.email.service" in build.properties file. */
     public static final String EMAIL_SERVICE;
 
+    /** The value of the "app.email.batchsize" in build.properties file. */
+    public static final int EMAIL_BATCH_SIZE;
+
+    /** The value of the "app.email.ratelimit" in build.properties file. */
+    public static final int EMAIL_RATE_LIMIT;
+
     /** The value of the "app.sendgrid.apikey" in build.properties file. */
     public static final String SENDGRID_APIKEY;
 
@@ -100,6 +106,8 @@ public final class Config {
         EMAIL_SENDERNAME = properties.getProperty("app.email.sendername");
         EMAIL_REPLYTO = properties.getProperty("app.email.replyto");
         EMAIL_SERVICE = properties.getProperty("app.email.service");
+        EMAIL_BATCH_SIZE = Integer.parseInt(properties.getProperty("app.email.batchsize", "25"));
+        EMAIL_RATE_LIMIT = Integer.parseInt(properties.getProperty("app.email.ratelimit", "10"));
         SENDGRID_APIKEY = properties.getProperty("app.sendgrid.apikey");
         MAILGUN_APIKEY = properties.getProperty("app.mailgun.apikey");
         MAILGUN_DOMAINNAME = properties.getProperty("app.mailgun.domainname");
@@ -602,6 +602,7 @@ public final class Const {
         public static final String EMAIL_FEEDBACK = "feedback";
 
         public static final String EMAIL_CONTENT = "content";
+        public static final String EMAIL_CONTENT_INDEX = "contentindex";
         public static final String EMAIL_SENDER = "sender";
         public static final String EMAIL_SENDERNAME = "sendername";
         public static final String EMAIL_SUBJECT = "subject";
@@ -621,6 +622,11 @@ public final class Const {
         public static final String RESPONDENT_IS_INSTRUCTOR = "respondentisinstructor";
         public static final String RESPONDENT_IS_TO_BE_REMOVED = "respondentistoberemoved";
 
+        public static final String STUDENT_ORIGINAL_TEAM = "studentoriginalteam";
+        public static final String STUDENT_ORIGINAL_SECTION = "studentoriginalsection";
+
+        public static final String CASCADE_DELETION_JOB_ID = "cascadedeletionjobid";
+
         public static final String SESSION_LINKS_RECOVERY_EMAIL = "sessionlinksrecoveryemail";
         public static final String USER_CAPTCHA_RESPONSE = "captcharesponse";
 
@@ -740,6 +746,7 @@ public final class Const {
         public static final String ACCOUNTS_SEARCH = "/accounts/search";
         public static final String ACCOUNT_RESET = "/account/reset";
         public static final String ACCOUNT_DOWNGRADE = "/account/downgrade";
+        public static final String CASCADE_DELETION_JOBS = "/cascadedeletionjobs";
         public static final String RESPONSE_COMMENT = "/responsecomment";
         public static final String COURSE = "/course";
         public static final String COURSE_ARCHIVE = "/course/archive";
@@ -759,6 +766,7 @@ public final class Const {
         public static final String SESSION_REMIND_RESULT = "/session/remind/result";
         public static final String SESSION_STATS = "/session/stats";
         public static final String SESSION_SUBMITTED_GIVER_SET = "/session/submitted/giverset";
+        public static final String SESSION_RECIPIENTS = "/session/recipients";
         public static final String SESSIONS = "/sessions";
         public static final String BIN_SESSION = "/bin/session";
         public static final String QUESTIONS = "/questions";
@@ -814,6 +822,7 @@ public final class Const {
         public static final String AUTOMATED_FEEDBACK_CLOSED_REMINDERS = "/auto/feedbackSessionClosedReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSING_REMINDERS = "/auto/feedbackSessionClosingReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS = "/auto/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_SEARCH_INDEX_UPDATES = "/auto/searchIndexUpdates";
     }
 
     /**
@@ -821,6 +830,14 @@ public final class Const {
      */
     public static class TaskQueue {
 
+        public static final String CASCADE_DELETION_QUEUE_NAME = "cascade-deletion-queue";
+        public static final String CASCADE_DELETION_WORKER_URL = "/worker/cascadeDeletion";
+
+        public static final String FEEDBACK_QUESTION_STATISTICS_REBUILD_QUEUE_NAME =
+                "feedback-question-statistics-rebuild-queue";
+        public static final String FEEDBACK_QUESTION_STATISTICS_REBUILD_WORKER_URL =
+                "/worker/feedbackQuestionStatisticsRebuild";
+
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-published-email-queue";
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
@@ -852,12 +869,18 @@ public final class Const {
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_QUEUE_NAME = "instructor-course-join-email-queue";
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL = "/worker/instructorCourseJoinEmail";
 
+        public static final String SEARCH_INDEX_UPDATE_QUEUE_NAME = "search-index-update-queue";
+        public static final String SEARCH_INDEX_UPDATE_WORKER_URL = "/worker/searchIndexUpdate";
+
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = "/worker/sendEmail";
 
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = "/worker/studentCourseJoinEmail";
 
+        public static final String STUDENT_UPDATE_CASCADE_QUEUE_NAME = "student-update-cascade-queue";
+        public static final String STUDENT_UPDATE_CASCADE_WORKER_URL = "/worker/studentUpdateCascade";
+
     }
 
     @Deprecated
@@ -949,9 +972,6 @@ public final class Const {
                 "The feedback session has been deleted. You can restore it from the deleted sessions table below.";
         public static final String FEEDBACK_SESSION_RESTORED = "The feedback session has been restored.";
         public static final String FEEDBACK_SESSION_ALL_RESTORED = "All sessions have been restored.";
-        public static final String FEEDBACK_SESSION_DOWNLOAD_FILE_SIZE_EXCEEDED = "This session has more responses than "
-                + "that can be downloaded in one go. Please download responses for one question at a time instead. "
-                + "To download responses for a specific question, click on the corresponding question number.";
         public static final String FEEDBACK_SESSION_PUBLISHED =
                 "The feedback session has been published. "
                 + "Please allow up to 1 hour for all the notification emails to be sent out.";
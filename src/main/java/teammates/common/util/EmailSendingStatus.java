@@ -5,6 +5,11 @@ package teammates.common.util;
  */
 public class EmailSendingStatus {
 
+    /**
+     * Status code of emails which were not sent because the rate limit of the email service was reached.
+     */
+    public static final int RATE_LIMITED_STATUS_CODE = 429;
+
     private final int statusCode;
     private final String message;
     private final boolean isSuccess;
@@ -27,4 +32,8 @@ public class EmailSendingStatus {
         return isSuccess;
     }
 
+    public boolean isRateLimited() {
+        return statusCode == RATE_LIMITED_STATUS_CODE;
+    }
+
 }
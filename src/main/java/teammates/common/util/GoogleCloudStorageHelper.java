@@ -8,6 +8,7 @@ import javax.servlet.http.HttpServletResponse;
 import com.google.appengine.api.blobstore.BlobKey;
 import com.google.appengine.api.blobstore.BlobstoreService;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
+import com.google.appengine.tools.cloudstorage.GcsFileMetadata;
 import com.google.appengine.tools.cloudstorage.GcsFileOptions;
 import com.google.appengine.tools.cloudstorage.GcsFilename;
 import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
@@ -71,6 +72,24 @@ public final class GoogleCloudStorageHelper {
         return createBlobKey(googleId);
     }
 
+    /**
+     * Gets a tag which changes whenever the image written with {@link #writeImageDataToGcs} for the {@code googleId}
+     * is replaced, without reading the image.
+     *
+     * @return null if the image does not exist or its version cannot be determined
+     */
+    public static String getImageVersion(String googleId) {
+        GcsFilename gcsFilename = new GcsFilename(Config.PRODUCTION_GCS_BUCKETNAME, googleId);
+        try {
+            GcsFileMetadata metadata =
+                    GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance()).getMetadata(gcsFilename);
+            return metadata == null ? null : metadata.getEtag();
+        } catch (IOException e) {
+            log.warning("Failed to get metadata of image of " + googleId + ": " + e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Creates a blob key for the object with the given identifier in the production GCS bucket.
      */
@@ -1,10 +1,15 @@
 package teammates.common.util;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -15,7 +20,16 @@ import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -25,24 +39,53 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
  */
 public final class JsonUtils {
 
+    /**
+     * Shared Gson instance which outputs JSON in pretty-print format.
+     *
+     * <p>Gson instances are immutable and thread-safe, so they are created once and reused.
+     */
+    private static final Gson TEAMMATES_GSON = getTeammatesGsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * Shared Gson instance which outputs JSON without any whitespace, used for API responses.
+     */
+    private static final Gson TEAMMATES_COMPACT_GSON = getTeammatesGsonBuilder().create();
+
+    /**
+     * Adapters of the concrete question details classes, looked up once per question type.
+     */
+    private static final Map<FeedbackQuestionType, TypeAdapter<? extends FeedbackQuestionDetails>>
+            QUESTION_DETAILS_ADAPTERS = new EnumMap<>(FeedbackQuestionType.class);
+
+    /**
+     * Adapters of the concrete response details classes, looked up once per question type.
+     */
+    private static final Map<FeedbackQuestionType, TypeAdapter<? extends FeedbackResponseDetails>>
+            RESPONSE_DETAILS_ADAPTERS = new EnumMap<>(FeedbackQuestionType.class);
+
+    static {
+        for (FeedbackQuestionType questionType : FeedbackQuestionType.values()) {
+            QUESTION_DETAILS_ADAPTERS.put(questionType, TEAMMATES_GSON.getAdapter(questionType.getQuestionDetailsClass()));
+            RESPONSE_DETAILS_ADAPTERS.put(questionType, TEAMMATES_GSON.getAdapter(questionType.getResponseDetailsClass()));
+        }
+    }
+
     private JsonUtils() {
         // utility class
     }
 
     /**
-     * This creates a Gson object that can handle the Date format we use in the
-     * Json file and also reformat the Json string in pretty-print format.
+     * This creates a GsonBuilder that can handle the Date format we use in the Json file.
      */
-    private static Gson getTeammatesGson() {
+    private static GsonBuilder getTeammatesGsonBuilder() {
         return new GsonBuilder()
                 .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter())
                 .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter())
                 .registerTypeAdapter(Duration.class, new TeammatesDurationMinutesAdapter())
                 .registerTypeAdapter(FeedbackQuestionDetails.class, new TeammatesFeedbackQuestionDetailsAdapter())
                 .registerTypeAdapter(FeedbackResponseDetails.class, new TeammatesFeedbackResponseDetailsAdapter())
-                .setPrettyPrinting()
-                .disableHtmlEscaping()
-                .create();
+                .registerTypeAdapterFactory(new TeammatesLazyDetailsAttributesAdapterFactory())
+                .disableHtmlEscaping();
     }
 
     /**
@@ -51,7 +94,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getTeammatesGson().toJson(src, typeOfSrc);
+        return TEAMMATES_GSON.toJson(src, typeOfSrc);
     }
 
     /**
@@ -60,7 +103,26 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getTeammatesGson().toJson(src);
+        return TEAMMATES_GSON.toJson(src);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent compact JSON string, i.e. without pretty-printing.
+     *
+     * @see Gson#toJson(Object)
+     */
+    public static String toCompactJson(Object src) {
+        return TEAMMATES_COMPACT_GSON.toJson(src);
+    }
+
+    /**
+     * Serializes the specified object as compact JSON directly into {@code writer},
+     * without building the whole JSON string in memory first.
+     *
+     * @see Gson#toJson(Object, Appendable)
+     */
+    public static void writeCompactJson(Object src, Writer writer) {
+        TEAMMATES_COMPACT_GSON.toJson(src, writer);
     }
 
     /**
@@ -69,7 +131,44 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Type)
      */
     public static <T> T fromJson(String json, Type typeOfT) {
-        return getTeammatesGson().fromJson(json, typeOfT);
+        return TEAMMATES_GSON.fromJson(json, typeOfT);
+    }
+
+    /**
+     * Deserializes the specified JSON string into the question details of the specified question type.
+     *
+     * <p>This gives the same result as {@link #fromJson(String, Type)} with the question details class of the type,
+     * but reuses the adapter of the class instead of looking it up for every call.
+     */
+    public static FeedbackQuestionDetails fromJsonToQuestionDetails(String json, FeedbackQuestionType questionType) {
+        return readJson(json, QUESTION_DETAILS_ADAPTERS.get(questionType));
+    }
+
+    /**
+     * Deserializes the specified JSON string into the response details of the specified question type.
+     *
+     * @see #fromJsonToQuestionDetails(String, FeedbackQuestionType)
+     */
+    public static FeedbackResponseDetails fromJsonToResponseDetails(String json, FeedbackQuestionType questionType) {
+        return readJson(json, RESPONSE_DETAILS_ADAPTERS.get(questionType));
+    }
+
+    private static <T> T readJson(String json, TypeAdapter<T> adapter) {
+        if (json == null) {
+            return null;
+        }
+        JsonReader reader = new JsonReader(new StringReader(json));
+        // same leniency as Gson#fromJson
+        reader.setLenient(true);
+        try {
+            T result = adapter.read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("JSON document was not fully consumed.");
+            }
+            return result;
+        } catch (IOException | IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
     }
 
     /**
@@ -86,16 +185,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
-            }
+            return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
         public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Instant.parse(element.getAsString());
-            }
+            return Instant.parse(element.getAsString());
         }
     }
 
@@ -103,16 +198,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(zoneId.getId());
-            }
+            return new JsonPrimitive(zoneId.getId());
         }
 
         @Override
         public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return ZoneId.of(element.getAsString());
-            }
+            return ZoneId.of(element.getAsString());
         }
     }
 
@@ -120,16 +211,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(duration.toMinutes());
-            }
+            return new JsonPrimitive(duration.toMinutes());
         }
 
         @Override
         public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Duration.ofMinutes(element.getAsLong());
-            }
+            return Duration.ofMinutes(element.getAsLong());
         }
     }
 
@@ -150,6 +237,41 @@ public final class JsonUtils {
 
     }
 
+    /**
+     * Deserializes the details of question and response attributes, if they are not yet, before the attributes
+     * are serialized, so that the details are always part of the JSON.
+     */
+    private static class TeammatesLazyDetailsAttributesAdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<? super T> rawType = type.getRawType();
+            if (!FeedbackQuestionAttributes.class.isAssignableFrom(rawType)
+                    && !FeedbackResponseAttributes.class.isAssignableFrom(rawType)) {
+                return null;
+            }
+            TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+            return new TypeAdapter<T>() {
+
+                @Override
+                public void write(JsonWriter out, T value) throws IOException {
+                    if (value instanceof FeedbackQuestionAttributes) {
+                        ((FeedbackQuestionAttributes) value).getDeserializedQuestionDetails();
+                    } else if (value instanceof FeedbackResponseAttributes) {
+                        ((FeedbackResponseAttributes) value).getDeserializedResponseDetails();
+                    }
+                    delegate.write(out, value);
+                }
+
+                @Override
+                public T read(JsonReader in) throws IOException {
+                    return delegate.read(in);
+                }
+
+            };
+        }
+    }
+
     private static class TeammatesFeedbackQuestionDetailsAdapter implements JsonSerializer<FeedbackQuestionDetails>,
             JsonDeserializer<FeedbackQuestionDetails> {
 
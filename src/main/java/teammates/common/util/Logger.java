@@ -1,7 +1,12 @@
 package teammates.common.util;
 
+import java.util.function.Supplier;
+
 /**
  * Allows any component of the application to log messages at appropriate levels.
+ *
+ * <p>Messages which are costly to build, e.g. those describing entities or requests, should be given as
+ * suppliers, which are only called if the message is logged at the level.
  */
 public final class Logger {
 
@@ -25,6 +30,15 @@ public final class Logger {
         log.fine(msg);
     }
 
+    /**
+     * Logs a message at FINE level, building the message only if it is logged.
+     *
+     * @see java.util.logging.Logger#fine(Supplier)
+     */
+    public void fine(Supplier<String> msgSupplier) {
+        log.fine(msgSupplier);
+    }
+
     /**
      * Logs a message at INFO level.
      *
@@ -34,6 +48,15 @@ public final class Logger {
         log.info(msg);
     }
 
+    /**
+     * Logs a message at INFO level, building the message only if it is logged.
+     *
+     * @see java.util.logging.Logger#info(Supplier)
+     */
+    public void info(Supplier<String> msgSupplier) {
+        log.info(msgSupplier);
+    }
+
     /**
      * Logs a message at WARNING level.
      *
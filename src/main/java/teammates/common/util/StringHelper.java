@@ -1,5 +1,6 @@
 package teammates.common.util;
 
+import java.security.GeneralSecurityException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -130,17 +131,41 @@ public final class StringHelper {
      */
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes());
-            return byteArrayToHexString(encrypted);
+            return encrypt(AesCipher.ENCRYPTION_CIPHER.get(), value);
         } catch (Exception e) {
             Assumption.fail(TeammatesException.toStringWithStackTrace(e));
             return null;
         }
     }
 
+    /**
+     * Encrypts each of the supplied strings.
+     *
+     * <p>This gives the same ciphertexts as {@link #encrypt(String)}, but uses a single {@code Cipher} for all
+     * of them, e.g. when generating the links of a whole course.
+     *
+     * @param values the plaintexts as strings
+     * @return the ciphertexts, in the same order as {@code values}
+     * @throws RuntimeException if the encryption fails for some reason, such as {@code Cipher} initialization failure.
+     */
+    public static List<String> encrypt(List<String> values) {
+        List<String> encryptedValues = new ArrayList<>(values.size());
+        try {
+            Cipher cipher = AesCipher.ENCRYPTION_CIPHER.get();
+            for (String value : values) {
+                encryptedValues.add(encrypt(cipher, value));
+            }
+        } catch (Exception e) {
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+        }
+        return encryptedValues;
+    }
+
+    private static String encrypt(Cipher cipher, String value) throws GeneralSecurityException {
+        byte[] encrypted = cipher.doFinal(value.getBytes());
+        return byteArrayToHexString(encrypted);
+    }
+
     /**
      * Decrypts the supplied string.
      *
@@ -151,12 +176,11 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = AesCipher.DECRYPTION_CIPHER.get().doFinal(hexStringToByteArray(message));
             return new String(decrypted);
         } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
+            // the cipher is not guaranteed to be reset after a failed decryption
+            AesCipher.DECRYPTION_CIPHER.remove();
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
             throw new InvalidParametersException(e);
         } catch (Exception e) {
@@ -555,4 +579,53 @@ public final class StringHelper {
         }
         return quotedString;
     }
+
+    /**
+     * Holds the key parsed from {@link Config#ENCRYPTION_KEY} and a {@code Cipher} per thread for each mode,
+     * as {@code Cipher} instances are not thread-safe but are expensive to create for every call.
+     *
+     * <p>A {@code Cipher} is reset to its initial state after each {@code doFinal}, so it can be reused for
+     * any number of values. The key is only parsed when encryption is first needed.
+     */
+    private static final class AesCipher {
+
+        private static final String TRANSFORMATION = "AES/ECB/PKCS5Padding";
+
+        private static final SecretKeySpec KEY =
+                new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+
+        static final ThreadLocal<Cipher> ENCRYPTION_CIPHER = ThreadLocal.withInitial(() -> {
+            Cipher cipher = getCipher();
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, KEY, cipher.getParameters());
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+            return cipher;
+        });
+
+        static final ThreadLocal<Cipher> DECRYPTION_CIPHER = ThreadLocal.withInitial(() -> {
+            Cipher cipher = getCipher();
+            try {
+                cipher.init(Cipher.DECRYPT_MODE, KEY);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+            return cipher;
+        });
+
+        private AesCipher() {
+            // holder class
+        }
+
+        private static Cipher getCipher() {
+            try {
+                return Cipher.getInstance(TRANSFORMATION);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
 }
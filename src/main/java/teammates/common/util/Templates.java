@@ -1,9 +1,22 @@
 package teammates.common.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class Templates {
 
     public static final String INSTRUCTOR_SAMPLE_DATA = FileHelper.readResourceFile("InstructorSampleData.json");
 
+    private static final String SLOT_START = "${";
+    private static final String SLOT_END = "}";
+
+    /**
+     * The templates read from files, parsed once when they are read.
+     */
+    private static final Map<String, CompiledTemplate> COMPILED_TEMPLATES = new ConcurrentHashMap<>();
+
     private Templates() {
         // utility class
     }
@@ -11,6 +24,10 @@ public final class Templates {
     /**
      * Populates the HTML templates by replacing variables in the template string
      * with the given value strings.
+     *
+     * <p>The result is the same as replacing the key-value pairs one after another, i.e. a value can contain
+     * variables which are replaced by later pairs. When all keys are variables of the form {@code ${name}},
+     * the template is populated in a single pass over its parsed form instead of being copied once per pair.
      * @param template The template html to be populated
      * @param keyValuePairs Array of a variable, even number of key-value pairs:
      *                   { "key1", "val1", "key2", "val2", ... }
@@ -19,6 +36,30 @@ public final class Templates {
     public static String populateTemplate(String template, String... keyValuePairs) {
         Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
                 keyValuePairs.length % 2 == 0);
+        if (!areAllKeysSlots(keyValuePairs)) {
+            return replaceOneAfterAnother(template, keyValuePairs);
+        }
+        StringBuilder populatedTemplate = new StringBuilder(estimatePopulatedLength(template, keyValuePairs));
+        getCompiledTemplate(template).appendTo(populatedTemplate, keyValuePairs, 0);
+        return populatedTemplate.toString();
+    }
+
+    /**
+     * Populates the template as in {@link #populateTemplate(String, String...)} and appends the result
+     * directly to {@code builder}.
+     */
+    public static void appendPopulatedTemplate(StringBuilder builder, String template, String... keyValuePairs) {
+        Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
+                keyValuePairs.length % 2 == 0);
+        if (!areAllKeysSlots(keyValuePairs)) {
+            builder.append(replaceOneAfterAnother(template, keyValuePairs));
+            return;
+        }
+        builder.ensureCapacity(builder.length() + estimatePopulatedLength(template, keyValuePairs));
+        getCompiledTemplate(template).appendTo(builder, keyValuePairs, 0);
+    }
+
+    private static String replaceOneAfterAnother(String template, String... keyValuePairs) {
         String populatedTemplate = template;
         for (int i = 0; i < keyValuePairs.length; i += 2) {
             populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
@@ -26,206 +67,312 @@ public final class Templates {
         return populatedTemplate;
     }
 
+    private static boolean areAllKeysSlots(String... keyValuePairs) {
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            String key = keyValuePairs[i];
+            boolean isSlot = key.startsWith(SLOT_START) && key.endsWith(SLOT_END)
+                    && key.indexOf(SLOT_END) == key.length() - SLOT_END.length()
+                    && key.lastIndexOf(SLOT_START) == 0;
+            if (!isSlot) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int estimatePopulatedLength(String template, String... keyValuePairs) {
+        int length = template.length();
+        for (int i = 1; i < keyValuePairs.length; i += 2) {
+            length += keyValuePairs[i].length();
+        }
+        return length;
+    }
+
+    private static CompiledTemplate getCompiledTemplate(String template) {
+        CompiledTemplate compiledTemplate = COMPILED_TEMPLATES.get(template);
+        // templates built at runtime are parsed for every use, so that they do not accumulate in memory
+        return compiledTemplate == null ? CompiledTemplate.compile(template) : compiledTemplate;
+    }
+
+    private static String readTemplateFile(String fileName) {
+        String template = FileHelper.readResourceFile(fileName);
+        COMPILED_TEMPLATES.put(template, CompiledTemplate.compile(template));
+        return template;
+    }
+
+    /**
+     * A template parsed into its literal text and the variables of the form {@code ${name}} between the text.
+     */
+    private static final class CompiledTemplate {
+
+        /**
+         * The literal text, which has one more element than {@link #slots}.
+         */
+        private final String[] literals;
+        private final String[] slots;
+
+        private CompiledTemplate(List<String> literals, List<String> slots) {
+            this.literals = literals.toArray(new String[0]);
+            this.slots = slots.toArray(new String[0]);
+        }
+
+        static CompiledTemplate compile(String template) {
+            List<String> literals = new ArrayList<>();
+            List<String> slots = new ArrayList<>();
+            int literalStart = 0;
+            int searchFrom = 0;
+            while (true) {
+                int slotStart = template.indexOf(SLOT_START, searchFrom);
+                int slotEnd = slotStart == -1 ? -1 : template.indexOf(SLOT_END, slotStart + SLOT_START.length());
+                if (slotEnd == -1) {
+                    break;
+                }
+                int nextSlotStart = template.indexOf(SLOT_START, slotStart + SLOT_START.length());
+                if (nextSlotStart != -1 && nextSlotStart < slotEnd) {
+                    // e.g. "${a ${b}", where only "${b}" is a variable
+                    searchFrom = nextSlotStart;
+                    continue;
+                }
+                literals.add(template.substring(literalStart, slotStart));
+                slots.add(template.substring(slotStart, slotEnd + SLOT_END.length()));
+                literalStart = slotEnd + SLOT_END.length();
+                searchFrom = literalStart;
+            }
+            literals.add(template.substring(literalStart));
+            return new CompiledTemplate(literals, slots);
+        }
+
+        /**
+         * Appends the template populated with the key-value pairs starting from {@code firstPair}.
+         */
+        void appendTo(StringBuilder builder, String[] keyValuePairs, int firstPair) {
+            for (int i = 0; i < slots.length; i++) {
+                builder.append(literals[i]);
+                appendSlotValue(builder, slots[i], keyValuePairs, firstPair);
+            }
+            builder.append(literals[slots.length]);
+        }
+
+        private static void appendSlotValue(StringBuilder builder, String slot, String[] keyValuePairs, int firstPair) {
+            for (int i = firstPair; i < keyValuePairs.length; i += 2) {
+                if (!keyValuePairs[i].equals(slot)) {
+                    continue;
+                }
+                String value = keyValuePairs[i + 1];
+                if (i + 2 < keyValuePairs.length && value.contains(SLOT_START)) {
+                    // the value is populated with the later pairs, as it would be when replacing one pair after another
+                    getCompiledTemplate(value).appendTo(builder, keyValuePairs, i + 2);
+                } else {
+                    builder.append(value);
+                }
+                return;
+            }
+            // variables without a value are kept as they are
+            builder.append(slot);
+        }
+
+    }
+
     /**
      * Collection of templates of emails to be sent by the system.
      */
     public static class EmailTemplates {
         public static final String USER_COURSE_JOIN =
-                FileHelper.readResourceFile("userEmailTemplate-courseJoin.html");
+                readTemplateFile("userEmailTemplate-courseJoin.html");
         public static final String USER_COURSE_REGISTER =
-                FileHelper.readResourceFile("userEmailTemplate-userRegisterForCourse.html");
+                readTemplateFile("userEmailTemplate-userRegisterForCourse.html");
         public static final String FRAGMENT_STUDENT_COURSE_JOIN =
-                FileHelper.readResourceFile("studentEmailFragment-courseJoin.html");
+                readTemplateFile("studentEmailFragment-courseJoin.html");
         public static final String FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET =
-                FileHelper.readResourceFile("studentEmailFragment-googleIdReset.html");
+                readTemplateFile("studentEmailFragment-googleIdReset.html");
         public static final String FRAGMENT_INSTRUCTOR_COURSE_JOIN =
-                FileHelper.readResourceFile("instructorEmailFragment-courseJoin.html");
+                readTemplateFile("instructorEmailFragment-courseJoin.html");
         public static final String FRAGMENT_INSTRUCTOR_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET =
-                FileHelper.readResourceFile("instructorEmailFragment-googleIdReset.html");
+                readTemplateFile("instructorEmailFragment-googleIdReset.html");
         public static final String USER_FEEDBACK_SESSION =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSession.html");
+                readTemplateFile("userEmailTemplate-feedbackSession.html");
         public static final String USER_FEEDBACK_SESSION_PUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionPublished.html");
+                readTemplateFile("userEmailTemplate-feedbackSessionPublished.html");
         public static final String USER_FEEDBACK_SUBMISSION_CONFIRMATION =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSubmissionConfirmation.html");
+                readTemplateFile("userEmailTemplate-feedbackSubmissionConfirmation.html");
         public static final String FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_SESSION =
-                FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplateFragment-sessionAccessLinksBySession.html");
+                readTemplateFile("sessionLinksRecoveryEmailTemplateFragment-sessionAccessLinksBySession.html");
         public static final String FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_COURSE =
-                FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplateFragment-sessionAccessLinksByCourse.html");
+                readTemplateFile("sessionLinksRecoveryEmailTemplateFragment-sessionAccessLinksByCourse.html");
         public static final String SESSION_LINKS_RECOVERY_ACCESS_LINKS =
-                FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplate-feedbackSessionAccessLinks.html");
+                readTemplateFile("sessionLinksRecoveryEmailTemplate-feedbackSessionAccessLinks.html");
         public static final String SESSION_LINKS_RECOVERY_ACCESS_LINKS_NONE =
-                FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplate-feedbackSessionAccessLinksNone.html");
+                readTemplateFile("sessionLinksRecoveryEmailTemplate-feedbackSessionAccessLinksNone.html");
         public static final String SESSION_LINKS_RECOVERY_EMAIL_NOT_FOUND =
-                FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplate-emailNotFound.html");
+                readTemplateFile("sessionLinksRecoveryEmailTemplate-emailNotFound.html");
         public static final String USER_FEEDBACK_SESSION_UNPUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionUnpublished.html");
+                readTemplateFile("userEmailTemplate-feedbackSessionUnpublished.html");
         public static final String FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS =
-                FileHelper.readResourceFile("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
+                readTemplateFile("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
         public static final String USER_FEEDBACK_SESSION_RESEND_ALL_LINKS =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionResendAllLinks.html");
+                readTemplateFile("userEmailTemplate-feedbackSessionResendAllLinks.html");
         public static final String SEVERE_ERROR_LOG_LINE =
-                FileHelper.readResourceFile("severeErrorLogLine.html");
+                readTemplateFile("severeErrorLogLine.html");
         public static final String NEW_INSTRUCTOR_ACCOUNT_WELCOME =
-                FileHelper.readResourceFile("newInstructorAccountWelcome.html");
+                readTemplateFile("newInstructorAccountWelcome.html");
         public static final String FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION =
-                FileHelper.readResourceFile("userEmailFragment-sessionAdditionalContactInformationFragment.html");
+                readTemplateFile("userEmailFragment-sessionAdditionalContactInformationFragment.html");
     }
 
     public static class FeedbackQuestion {
 
         public static class FormTemplates {
             public static final String TEXT_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionTextSubmissionFormTemplate.html");
+                    readTemplateFile("feedbackQuestionTextSubmissionFormTemplate.html");
             public static final String TEXT_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionTextResultStatsTemplate.html");
+                    readTemplateFile("feedbackQuestionTextResultStatsTemplate.html");
             public static final String TEXT_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionTextEditFormTemplate.html");
+                    readTemplateFile("feedbackQuestionTextEditFormTemplate.html");
 
             public static final String MCQ_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMcqSubmissionFormTemplate.html");
+                    readTemplateFile("feedbackQuestionMcqSubmissionFormTemplate.html");
             public static final String MCQ_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqSubmissionFormOptionFragment.html");
+                    readTemplateFile("feedbackQuestionMcqSubmissionFormOptionFragment.html");
             public static final String MCQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqSubmissionFormOtherOptionFragment.html");
+                    readTemplateFile("feedbackQuestionMcqSubmissionFormOtherOptionFragment.html");
             public static final String MCQ_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMcqEditFormTemplate.html");
+                    readTemplateFile("feedbackQuestionMcqEditFormTemplate.html");
             public static final String MCQ_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqEditFormOptionFragment.html");
+                    readTemplateFile("feedbackQuestionMcqEditFormOptionFragment.html");
             public static final String MCQ_EDIT_FORM_WEIGHTFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqEditFormWeightFragment.html");
+                    readTemplateFile("feedbackQuestionMcqEditFormWeightFragment.html");
             public static final String MCQ_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultStatsTemplate.html");
+                    readTemplateFile("feedbackQuestionMcqResultStatsTemplate.html");
             public static final String MCQ_RESULT_STATS_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultStatsOptionFragment.html");
+                    readTemplateFile("feedbackQuestionMcqResultStatsOptionFragment.html");
             public static final String MCQ_RESULT_RECIPIENT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultRecipientStatsTemplate.html");
+                    readTemplateFile("feedbackQuestionMcqResultRecipientStatsTemplate.html");
             public static final String MCQ_RESULT_RECIPIENT_STATS_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultRecipientStatsHeaderFragment.html");
+                    readTemplateFile("feedbackQuestionMcqResultRecipientStatsHeaderFragment.html");
             public static final String MCQ_RESULT_RECIPIENT_STATS_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultRecipientStatsBodyFragment.html");
+                    readTemplateFile("feedbackQuestionMcqResultRecipientStatsBodyFragment.html");
             public static final String MCQ_RESULT_RECIPIENT_STATS_BODY_ROW_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultRecipientStatsBodyRowFragment.html");
+                    readTemplateFile("feedbackQuestionMcqResultRecipientStatsBodyRowFragment.html");
 
             public static final String MSQ_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMsqSubmissionFormTemplate.html");
+                    readTemplateFile("feedbackQuestionMsqSubmissionFormTemplate.html");
             public static final String MSQ_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqSubmissionFormOptionFragment.html");
+                    readTemplateFile("feedbackQuestionMsqSubmissionFormOptionFragment.html");
             public static final String MSQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqSubmissionFormOtherOptionFragment.html");
+                    readTemplateFile("feedbackQuestionMsqSubmissionFormOtherOptionFragment.html");
             public static final String MSQ_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMsqEditFormTemplate.html");
+                    readTemplateFile("feedbackQuestionMsqEditFormTemplate.html");
             public static final String MSQ_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqEditFormOptionFragment.html");
+                    readTemplateFile("feedbackQuestionMsqEditFormOptionFragment.html");
             public static final String MSQ_EDIT_FORM_WEIGHTFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqEditFormWeightFragment.html");
+                    readTemplateFile("feedbackQuestionMsqEditFormWeightFragment.html");
 
             public static final String NUMSCALE_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleEditFormTemplate.html");
+                    readTemplateFile("feedbackQuestionNumScaleEditFormTemplate.html");
             public static final String NUMSCALE_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleSubmissionFormTemplate.html");
+                    readTemplateFile("feedbackQuestionNumScaleSubmissionFormTemplate.html");
             public static final String NUMSCALE_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultStatsTemplate.html");
+                    readTemplateFile("feedbackQuestionNumScaleResultStatsTemplate.html");
             public static final String NUMSCALE_RESULTS_STATS_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultsStatsFragment.html");
+                    readTemplateFile("feedbackQuestionNumScaleResultsStatsFragment.html");
             public static final String NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultStatsTemplateWithSelfResponse.html");
+                    readTemplateFile("feedbackQuestionNumScaleResultStatsTemplateWithSelfResponse.html");
             public static final String NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultsStatsFragmentWithSelfResponse.html");
+                    readTemplateFile("feedbackQuestionNumScaleResultsStatsFragmentWithSelfResponse.html");
 
             public static final String CONSTSUM_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumSubmissionFormTemplate.html");
+                    readTemplateFile("feedbackQuestionConstSumSubmissionFormTemplate.html");
             public static final String CONSTSUM_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumSubmissionFormOptionFragment.html");
+                    readTemplateFile("feedbackQuestionConstSumSubmissionFormOptionFragment.html");
             public static final String CONSTSUM_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumEditFormTemplate.html");
+                    readTemplateFile("feedbackQuestionConstSumEditFormTemplate.html");
             public static final String CONSTSUM_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumEditFormOptionFragment.html");
+                    readTemplateFile("feedbackQuestionConstSumEditFormOptionFragment.html");
             public static final String CONSTSUM_RESULT_OPTION_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsTemplate.html");
+                    readTemplateFile("feedbackQuestionConstSumResultStatsTemplate.html");
             public static final String CONSTSUM_RESULT_STATS_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsOptionFragment.html");
+                    readTemplateFile("feedbackQuestionConstSumResultStatsOptionFragment.html");
             public static final String CONSTSUM_RESULT_RECIPIENT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsRecipientTemplate.html");
+                    readTemplateFile("feedbackQuestionConstSumResultStatsRecipientTemplate.html");
             public static final String CONSTSUM_RESULT_STATS_RECIPIENTFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsRecipientFragment.html");
+                    readTemplateFile("feedbackQuestionConstSumResultStatsRecipientFragment.html");
 
             public static final String CONTRIB_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionContribAdditionalInfoTemplate.html");
+                    readTemplateFile("feedbackQuestionContribAdditionalInfoTemplate.html");
             public static final String CONTRIB_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionContribEditFormTemplate.html");
+                    readTemplateFile("feedbackQuestionContribEditFormTemplate.html");
             public static final String CONTRIB_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionContribSubmissionFormTemplate.html");
+                    readTemplateFile("feedbackQuestionContribSubmissionFormTemplate.html");
             public static final String CONTRIB_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsTemplate.html");
+                    readTemplateFile("feedbackQuestionContribResultStatsTemplate.html");
             public static final String CONTRIB_RESULT_STATS_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsFragment.html");
+                    readTemplateFile("feedbackQuestionContribResultStatsFragment.html");
             public static final String CONTRIB_RESULT_STATS_STUDENT =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsStudentViewTemplate.html");
+                    readTemplateFile("feedbackQuestionContribResultStatsStudentViewTemplate.html");
             public static final String CONTRIB_RESULT_STATS_STUDENT_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsStudentViewAdditionalInfo.html");
+                    readTemplateFile("feedbackQuestionContribResultStatsStudentViewAdditionalInfo.html");
 
             public static final String RUBRIC_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormTemplate.html");
+                    readTemplateFile("feedbackQuestionRubricSubmissionFormTemplate.html");
             public static final String RUBRIC_SUBMISSION_FORM_MOBILE_PANEL_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormMobilePanelFragment.html");
+                    readTemplateFile("feedbackQuestionRubricSubmissionFormMobilePanelFragment.html");
             public static final String RUBRIC_SUBMISSION_FORM_MOBILE_PANEL =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormMobilePanel.html");
+                    readTemplateFile("feedbackQuestionRubricSubmissionFormMobilePanel.html");
             public static final String RUBRIC_SUBMISSION_FORM_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormHeaderFragment.html");
+                    readTemplateFile("feedbackQuestionRubricSubmissionFormHeaderFragment.html");
             public static final String RUBRIC_SUBMISSION_FORM_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormBodyFragment.html");
+                    readTemplateFile("feedbackQuestionRubricSubmissionFormBodyFragment.html");
             public static final String RUBRIC_SUBMISSION_FORM_BODY =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormBody.html");
+                    readTemplateFile("feedbackQuestionRubricSubmissionFormBody.html");
             public static final String RUBRIC_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormTemplate.html");
+                    readTemplateFile("feedbackQuestionRubricEditFormTemplate.html");
             public static final String RUBRIC_EDIT_FORM_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormHeaderFragment.html");
+                    readTemplateFile("feedbackQuestionRubricEditFormHeaderFragment.html");
             public static final String RUBRIC_EDIT_FORM_WEIGHT_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormWeightFragment.html");
+                    readTemplateFile("feedbackQuestionRubricEditFormWeightFragment.html");
             public static final String RUBRIC_EDIT_FORM_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormBodyFragment.html");
+                    readTemplateFile("feedbackQuestionRubricEditFormBodyFragment.html");
             public static final String RUBRIC_EDIT_FORM_BODY =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormBody.html");
+                    readTemplateFile("feedbackQuestionRubricEditFormBody.html");
             public static final String RUBRIC_EDIT_FORM_TABLE_OPTIONS =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormTableOptions.html");
+                    readTemplateFile("feedbackQuestionRubricEditFormTableOptions.html");
             public static final String RUBRIC_EDIT_FORM_TABLE_OPTIONS_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormTableOptionsFragment.html");
+                    readTemplateFile("feedbackQuestionRubricEditFormTableOptionsFragment.html");
             public static final String RUBRIC_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsTemplate.html");
+                    readTemplateFile("feedbackQuestionRubricResultStatsTemplate.html");
             public static final String RUBRIC_RESULT_STATS_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsHeaderFragment.html");
+                    readTemplateFile("feedbackQuestionRubricResultStatsHeaderFragment.html");
             public static final String RUBRIC_RESULT_STATS_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsBodyFragment.html");
+                    readTemplateFile("feedbackQuestionRubricResultStatsBodyFragment.html");
             public static final String RUBRIC_RESULT_STATS_BODY =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsBody.html");
+                    readTemplateFile("feedbackQuestionRubricResultStatsBody.html");
             public static final String RUBRIC_RESULT_RECIPIENT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultRecipientStatsTemplate.html");
+                    readTemplateFile("feedbackQuestionRubricResultRecipientStatsTemplate.html");
             public static final String RUBRIC_RESULT_RECIPIENT_STATS_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultRecipientStatsHeaderFragment.html");
+                    readTemplateFile("feedbackQuestionRubricResultRecipientStatsHeaderFragment.html");
             public static final String RUBRIC_RESULT_RECIPIENT_STATS_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultRecipientStatsBodyFragment.html");
+                    readTemplateFile("feedbackQuestionRubricResultRecipientStatsBodyFragment.html");
             public static final String RUBRIC_RESULT_RECIPIENT_STATS_BODY_ROW_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultRecipientStatsBodyRowFragment.html");
+                    readTemplateFile("feedbackQuestionRubricResultRecipientStatsBodyRowFragment.html");
 
             public static final String RANK_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRankSubmissionFormTemplate.html");
+                    readTemplateFile("feedbackQuestionRankSubmissionFormTemplate.html");
             public static final String RANK_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankSubmissionFormOptionFragment.html");
+                    readTemplateFile("feedbackQuestionRankSubmissionFormOptionFragment.html");
             public static final String RANK_EDIT_RECIPIENTS_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRankRecipientsEditFormTemplate.html");
+                    readTemplateFile("feedbackQuestionRankRecipientsEditFormTemplate.html");
             public static final String RANK_EDIT_OPTIONS_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRankOptionsEditFormTemplate.html");
+                    readTemplateFile("feedbackQuestionRankOptionsEditFormTemplate.html");
             public static final String RANK_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankEditFormOptionFragment.html");
+                    readTemplateFile("feedbackQuestionRankEditFormOptionFragment.html");
             public static final String RANK_RESULT_OPTION_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsTemplate.html");
+                    readTemplateFile("feedbackQuestionRankResultStatsTemplate.html");
             public static final String RANK_RESULT_STATS_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsOptionFragment.html");
+                    readTemplateFile("feedbackQuestionRankResultStatsOptionFragment.html");
             public static final String RANK_RESULT_RECIPIENT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsRecipientTemplate.html");
+                    readTemplateFile("feedbackQuestionRankResultStatsRecipientTemplate.html");
             public static final String RANK_RESULT_STATS_RECIPIENTFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsRecipientFragment.html");
+                    readTemplateFile("feedbackQuestionRankResultStatsRecipientFragment.html");
         }
 
         public static class Slots {
@@ -0,0 +1,76 @@
+package teammates.common.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket used to limit the rate of operations, e.g. requests to a third-party service.
+ *
+ * <p>Tokens are added at a fixed rate up to the capacity of the bucket.
+ * Permits are reserved in advance: a caller which reserves more permits than the tokens available
+ * is told how long to wait before proceeding, and the tokens it owes are taken from those added in that time.
+ */
+public class TokenBucket {
+
+    private final double tokensPerMilli;
+    private final double capacity;
+    private final LongSupplier clock;
+
+    private double tokens;
+    private long lastRefillTime;
+
+    /**
+     * Creates a full token bucket.
+     *
+     * @param tokensPerSecond the rate at which tokens are added
+     * @param capacity the maximum number of tokens held by the bucket
+     */
+    public TokenBucket(double tokensPerSecond, int capacity) {
+        this(tokensPerSecond, capacity, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a full token bucket which reads the current time in milliseconds from {@code clock}.
+     */
+    public TokenBucket(double tokensPerSecond, int capacity, LongSupplier clock) {
+        Assumption.assertTrue("Rate must be positive", tokensPerSecond > 0);
+        Assumption.assertTrue("Capacity must be positive", capacity > 0);
+        this.tokensPerMilli = tokensPerSecond / 1000;
+        this.capacity = capacity;
+        this.clock = clock;
+        this.tokens = capacity;
+        this.lastRefillTime = clock.getAsLong();
+    }
+
+    /**
+     * Reserves the given number of permits if they can be used within {@code maxWaitMillis}.
+     *
+     * @return the time in milliseconds to wait before using the permits,
+     *         or -1 if the wait would exceed {@code maxWaitMillis}, in which case no permit is reserved
+     */
+    public synchronized long reserve(int permits, long maxWaitMillis) {
+        long waitMillis = getWaitMillis(permits);
+        if (waitMillis > maxWaitMillis) {
+            return -1;
+        }
+        tokens -= permits;
+        return waitMillis;
+    }
+
+    /**
+     * Gets the time in milliseconds until the given number of permits could be used, without reserving them.
+     */
+    public synchronized long getWaitMillis(int permits) {
+        refill();
+        double deficit = permits - tokens;
+        return deficit > 0 ? (long) Math.ceil(deficit / tokensPerMilli) : 0;
+    }
+
+    private void refill() {
+        long now = clock.getAsLong();
+        if (now > lastRefillTime) {
+            tokens = Math.min(capacity, tokens + (now - lastRefillTime) * tokensPerMilli);
+            lastRefillTime = now;
+        }
+    }
+
+}
@@ -128,7 +128,7 @@ public class EmailGenerator {
             }
         }
 
-        StringBuffer linksFragmentValue = new StringBuffer(1000);
+        StringBuilder linksFragmentValue = new StringBuilder(1000);
         String joinUrl = Config.getFrontEndAppUrl(student.getRegistrationUrl()).toAbsoluteString();
 
         String joinFragmentValue = isYetToJoinCourse(student)
@@ -163,12 +163,12 @@ public class EmailGenerator {
                 reportUrlHtml = "<a href=\"" + reportUrl + "\">" + reportUrl + "</a>";
             }
 
-            linksFragmentValue.append(Templates.populateTemplate(
+            Templates.appendPopulatedTemplate(linksFragmentValue,
                     EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS,
                     "${feedbackSessionName}", fsa.getFeedbackSessionName(),
                     "${deadline}", fsa.getEndTimeString() + (fsa.isClosed() ? " (Passed)" : ""),
                     "${submitUrl}", submitUrlHtml,
-                    "${reportUrl}", reportUrlHtml));
+                    "${reportUrl}", reportUrlHtml);
         }
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         String emailBody = Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION_RESEND_ALL_LINKS,
@@ -339,11 +339,11 @@ public class EmailGenerator {
                 reportUrlHtml = "[<a href=\"" + reportUrl + "\">result link</a>]";
             }
 
-            linksFragmentValue.append(Templates.populateTemplate(
+            Templates.appendPopulatedTemplate(linksFragmentValue,
                     EmailTemplates.FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_SESSION,
                     "${sessionName}", session.getFeedbackSessionName(),
                     "${submitUrl}", submitUrlHtml,
-                    "${reportUrl}", reportUrlHtml));
+                    "${reportUrl}", reportUrlHtml);
 
             linkFragmentsMap.putIfAbsent(courseId, linksFragmentValue);
         }
@@ -359,11 +359,10 @@ public class EmailGenerator {
         } else {
             StringBuilder courseFragments = new StringBuilder(10000);
             linkFragmentsMap.forEach((courseId, linksFragments) -> {
-                String courseBody = Templates.populateTemplate(
+                Templates.appendPopulatedTemplate(courseFragments,
                         EmailTemplates.FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_COURSE,
                         "${sessionFragment}", linksFragments.toString(),
                         "${courseName}", coursesLogic.getCourse(courseId).getName());
-                courseFragments.append(courseBody);
             });
             emailBody = Templates.populateTemplate(
                     EmailTemplates.SESSION_LINKS_RECOVERY_ACCESS_LINKS,
@@ -543,9 +542,12 @@ public class EmailGenerator {
             String addtionalContactInformation) {
 
         List<EmailWrapper> emails = new ArrayList<>();
-        for (StudentAttributes student : students) {
-            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, subject, feedbackAction, addtionalContactInformation));
+        List<String> encryptedKeys = StringHelper.encrypt(students.stream()
+                .map(student -> student.key)
+                .collect(Collectors.toList()));
+        for (int i = 0; i < students.size(); i++) {
+            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, students.get(i),
+                    encryptedKeys.get(i), template, subject, feedbackAction, addtionalContactInformation));
         }
         for (InstructorAttributes instructor : instructors) {
             emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
@@ -555,20 +557,21 @@ public class EmailGenerator {
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, String template,
-            String subject, String feedbackAction, String additionalContactInformation) {
+            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student,
+            String encryptedKey, String template, String subject, String feedbackAction,
+            String additionalContactInformation) {
 
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
-                .withRegistrationKey(StringHelper.encrypt(student.key))
+                .withRegistrationKey(encryptedKey)
                 .withStudentEmail(student.email)
                 .toAbsoluteString();
 
         String reportUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_RESULTS_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
-                .withRegistrationKey(StringHelper.encrypt(student.key))
+                .withRegistrationKey(encryptedKey)
                 .withStudentEmail(student.email)
                 .toAbsoluteString();
 
@@ -1,17 +1,29 @@
 package teammates.logic.api;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import javax.mail.MessagingException;
 
 import org.apache.http.HttpStatus;
 
+import com.google.common.collect.Lists;
+
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
+import teammates.common.util.TokenBucket;
 import teammates.logic.core.EmailSenderService;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
@@ -20,12 +32,22 @@ import teammates.logic.core.SendgridService;
 
 /**
  * Handles operations related to sending emails.
+ *
+ * <p>Requests to each email service are rate-limited per instance to {@link Config#EMAIL_RATE_LIMIT} emails per second,
+ * with bursts of up to twice that number. Emails over the limit are not sent and get a status which is
+ * {@link EmailSendingStatus#isRateLimited() rate-limited}, so that the caller can send them again later
+ * instead of waiting.
  */
 public class EmailSender {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int RATE_LIMITER_CAPACITY = 2 * Config.EMAIL_RATE_LIMIT;
+
+    private static final Map<Class<?>, TokenBucket> RATE_LIMITERS = new ConcurrentHashMap<>();
+
     private final EmailSenderService service;
+    private final TokenBucket rateLimiter;
 
     public EmailSender() {
         if (Config.isUsingSendgrid()) {
@@ -37,6 +59,8 @@ public class EmailSender {
         } else {
             service = new JavamailService();
         }
+        rateLimiter = RATE_LIMITERS.computeIfAbsent(service.getClass(),
+                serviceClass -> new TokenBucket(Config.EMAIL_RATE_LIMIT, RATE_LIMITER_CAPACITY));
     }
 
     /**
@@ -45,21 +69,94 @@ public class EmailSender {
      * @return The HTTP status of the email request.
      */
     public EmailSendingStatus sendEmail(EmailWrapper message) {
-        EmailSendingStatus status;
+        EmailSendingStatus status = send(1, () -> service.sendEmail(message));
+        logSendingStatus(Collections.singletonList(message), status);
+        return status;
+    }
+
+    /**
+     * Sends the given {@code messages} and generates a log report for each of them.
+     *
+     * <p>Messages which differ only in their recipients are sent in as few requests to the email service as possible,
+     * each recipient still receiving a separate copy addressed only to them.
+     *
+     * @return The statuses of the email requests, in the same order as the messages.
+     */
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> messages) {
+        Map<List<String>, List<EmailWrapper>> messagesByRequestKey = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            messagesByRequestKey.computeIfAbsent(getRequestKey(messages.get(i), i), key -> new ArrayList<>())
+                    .add(messages.get(i));
+        }
+
+        int maxRecipientsPerRequest = Math.min(service.getMaxRecipientsPerRequest(), RATE_LIMITER_CAPACITY);
+        Map<EmailWrapper, EmailSendingStatus> statuses = new IdentityHashMap<>();
+        for (List<EmailWrapper> similarMessages : messagesByRequestKey.values()) {
+            for (List<EmailWrapper> requestMessages : Lists.partition(similarMessages, maxRecipientsPerRequest)) {
+                EmailWrapper message = requestMessages.get(0);
+                EmailSendingStatus status;
+                if (requestMessages.size() == 1) {
+                    status = send(1, () -> service.sendEmail(message));
+                } else {
+                    List<String> recipients = requestMessages.stream()
+                            .map(EmailWrapper::getRecipient)
+                            .collect(Collectors.toList());
+                    status = send(recipients.size(), () -> service.sendEmailToRecipients(message, recipients));
+                }
+                logSendingStatus(requestMessages, status);
+                requestMessages.forEach(requestMessage -> statuses.put(requestMessage, status));
+            }
+        }
+
+        return messages.stream().map(statuses::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the key by which messages that can be sent in the same request are grouped.
+     * Messages with bcc are never grouped, as the bcc recipient would receive a copy for every recipient.
+     */
+    private List<String> getRequestKey(EmailWrapper message, int index) {
+        if (message.getBcc() != null && !message.getBcc().isEmpty()) {
+            return Collections.singletonList(String.valueOf(index));
+        }
+        return Arrays.asList(message.getSenderEmail(), message.getSenderName(), message.getReplyTo(),
+                message.getSubject(), message.getContent());
+    }
+
+    /**
+     * Gets the time in milliseconds until the rate limit of the email service allows {@code numberOfEmails} emails
+     * to be sent.
+     */
+    public long getRateLimitDelayMillis(int numberOfEmails) {
+        return rateLimiter.getWaitMillis(numberOfEmails);
+    }
+
+    /**
+     * Sends a request for {@code numberOfEmails} emails to the email service if the rate limit of the service allows.
+     */
+    private EmailSendingStatus send(int numberOfEmails, Callable<EmailSendingStatus> request) {
+        if (rateLimiter.reserve(numberOfEmails, 0) < 0) {
+            return new EmailSendingStatus(EmailSendingStatus.RATE_LIMITED_STATUS_CODE,
+                    "Rate limit of email service exceeded");
+        }
         try {
-            status = service.sendEmail(message);
+            return request.call();
         } catch (Exception e) {
-            status = new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+            return new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage());
         }
+    }
+
+    private void logSendingStatus(List<EmailWrapper> messages, EmailSendingStatus status) {
         if (!status.isSuccess()) {
             log.severe("Email failed to send: " + status.getMessage());
         }
 
-        String emailLogInfo = String.join("|||", "TEAMMATESEMAILLOG",
-                message.getRecipient(), message.getSubject(), message.getContent(),
-                status.getMessage() == null ? "" : status.getMessage());
-        log.info(emailLogInfo);
-        return status;
+        for (EmailWrapper message : messages) {
+            String emailLogInfo = String.join("|||", "TEAMMATESEMAILLOG",
+                    message.getRecipient(), message.getSubject(), message.getContent(),
+                    status.getMessage() == null ? "" : status.getMessage());
+            log.info(emailLogInfo);
+        }
     }
 
     /**
@@ -1,10 +1,14 @@
 package teammates.logic.api;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.DataBundle;
@@ -17,6 +21,7 @@ import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
 import teammates.common.datatransfer.SectionDetail;
 import teammates.common.datatransfer.SectionDetailsBundle;
+import teammates.common.datatransfer.StudentEnrollmentResult;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -35,6 +40,7 @@ import teammates.common.exception.ExceedingRangeException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.CascadeDeletionLogic;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.DataBundleLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
@@ -43,6 +49,8 @@ import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.ProfilesLogic;
+import teammates.logic.core.ResultsSnapshotsLogic;
+import teammates.logic.core.SearchIndexOutboxLogic;
 import teammates.logic.core.StudentsLogic;
 
 /**
@@ -62,7 +70,10 @@ public class Logic {
     private static final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic =
             FeedbackResponseCommentsLogic.inst();
     private static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    private static final SearchIndexOutboxLogic searchIndexOutboxLogic = SearchIndexOutboxLogic.inst();
     private static final DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
+    private static final ResultsSnapshotsLogic resultsSnapshotsLogic = ResultsSnapshotsLogic.inst();
+    private static final CascadeDeletionLogic cascadeDeletionLogic = CascadeDeletionLogic.inst();
 
     /**
      * Preconditions: <br>
@@ -605,6 +616,22 @@ public class Logic {
         coursesLogic.deleteCourseCascade(courseId);
     }
 
+    /**
+     * Starts deleting a course cascade its students, instructors, sessions, responses and comments
+     * in the background, moving the course to the recycle bin until the deletion is done.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the cascade deletion jobs to be run, or an empty list if there is no such course
+     * @see CascadeDeletionLogic#startCourseDeletionCascade(String)
+     */
+    public List<CascadeDeletionJobStatus> startCourseDeletionCascade(String courseId) {
+        Assumption.assertNotNull(courseId);
+
+        return cascadeDeletionLogic.startCourseDeletionCascade(courseId);
+    }
+
     /**
      * Checks if the course is present in the system based on its courseid.
      */
@@ -873,6 +900,45 @@ public class Logic {
         return studentsLogic.createStudent(student);
     }
 
+    /**
+     * Creates the students who are not in the course and updates the name, section, team and comments
+     * of the students who are already in the course. Students who are not valid are skipped.
+     *
+     * <p>Responses of students who are moved to a different team or section are NOT updated;
+     * see {@link #updateStudentResponsesCascade(String, String, String, String)}.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the successfully enrolled students, in the order they are given, and the original details
+     *         of the students who are moved to a different team or section
+     */
+    public StudentEnrollmentResult enrollStudents(String courseId, List<StudentAttributes> students) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(students);
+
+        return studentsLogic.enrollStudents(courseId, students);
+    }
+
+    /**
+     * Updates the responses given and received by the student after the student is moved
+     * from the original team and section to the current ones.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @throws EntityDoesNotExistException if the student cannot be found
+     */
+    public void updateStudentResponsesCascade(String courseId, String email, String originalTeam, String originalSection)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(email);
+        Assumption.assertNotNull(originalTeam);
+        Assumption.assertNotNull(originalSection);
+
+        studentsLogic.updateStudentResponsesCascade(courseId, email, originalTeam, originalSection);
+    }
+
     /**
      * Updates a student by {@link StudentAttributes.UpdateOptions}.
      *
@@ -1195,6 +1261,35 @@ public class Logic {
         return feedbackQuestionsLogic.getRecipientsOfQuestionForInstructor(question, giverEmail);
     }
 
+    /**
+     * Gets the recipients of each of the feedback questions of a course for student.
+     *
+     * @see FeedbackQuestionsLogic#getRecipientsOfQuestionsForStudent(String, List, String, String)
+     */
+    public Map<String, Map<String, String>> getRecipientsOfQuestionsForStudent(String courseId,
+            List<FeedbackQuestionAttributes> questions, String giverEmail, String giverTeam) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(questions);
+        Assumption.assertNotNull(giverEmail);
+        Assumption.assertNotNull(giverTeam);
+
+        return feedbackQuestionsLogic.getRecipientsOfQuestionsForStudent(courseId, questions, giverEmail, giverTeam);
+    }
+
+    /**
+     * Gets the recipients of each of the feedback questions of a course for instructor.
+     *
+     * @see FeedbackQuestionsLogic#getRecipientsOfQuestionsForInstructor(String, List, String)
+     */
+    public Map<String, Map<String, String>> getRecipientsOfQuestionsForInstructor(String courseId,
+            List<FeedbackQuestionAttributes> questions, String giverEmail) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(questions);
+        Assumption.assertNotNull(giverEmail);
+
+        return feedbackQuestionsLogic.getRecipientsOfQuestionsForInstructor(courseId, questions, giverEmail);
+    }
+
     public FeedbackQuestionAttributes getFeedbackQuestion(String feedbackSessionName,
                                                           String courseId,
                                                           int questionNumber) {
@@ -1280,6 +1375,33 @@ public class Logic {
                 questionId, isMissingResponsesShown, isStatsShown);
     }
 
+    /**
+     * Writes the summary results of a feedback session in CSV format to {@code writer},
+     * loading the responses one question at a time.
+     *
+     * <p>Preconditions: <br>
+     * * {@code courseId}, {@code feedbackSessionName}, {@code sectionDetail} and {@code writer} are non-null.
+     *
+     * @param section the section to export, or null for all sections
+     * @param questionId the question to export, or null for all questions
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryInSectionAsCsv
+     */
+    public void writeFeedbackSessionResultSummaryAsCsv(
+            String courseId, String feedbackSessionName, String instructorEmail, String section,
+            SectionDetail sectionDetail, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(sectionDetail);
+        Assumption.assertNotNull(writer);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                feedbackSessionName, courseId, instructorEmail, section, sectionDetail,
+                questionId, isMissingResponsesShown, isStatsShown, writer);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1325,11 +1447,11 @@ public class Logic {
     }
 
     /**
-     * Adds an instructor with {@code email} in the instructor respondent set
+     * Adds an instructor with {@code email} to the instructor respondents
      * in feedback session {@code feedbackSessionName} in {@code courseId}.
      */
     public void addInstructorRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(email);
         Assumption.assertNotNull(feedbackSessionName);
@@ -1339,11 +1461,11 @@ public class Logic {
     }
 
     /**
-     * Adds a student with {@code email} in the student respondent set
+     * Adds a student with {@code email} to the student respondents
      * in feedback session {@code feedbackSessionName} in {@code courseId}.
      */
     public void addStudentRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(email);
         Assumption.assertNotNull(feedbackSessionName);
@@ -1353,11 +1475,11 @@ public class Logic {
     }
 
     /**
-     * Deletes an instructor with {@code email} in the instructor respondent set
+     * Deletes an instructor with {@code email} from the instructor respondents
      * in session {@code feedbackSessionName} of course {@code courseId}.
      */
     public void deleteInstructorRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(email);
         Assumption.assertNotNull(feedbackSessionName);
@@ -1367,11 +1489,11 @@ public class Logic {
     }
 
     /**
-     * Deletes a student with {@code email} in the student respondent set
+     * Deletes a student with {@code email} from the student respondents
      * in session {@code feedbackSessionName} of course {@code courseId}.
      */
     public void deleteStudentRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(email);
         Assumption.assertNotNull(feedbackSessionName);
@@ -1433,6 +1555,77 @@ public class Logic {
         feedbackSessionsLogic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
     }
 
+    /**
+     * Starts deleting a feedback session cascade to its associated questions, responses and comments
+     * in the background, moving the session to the recycle bin until the deletion is done.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the cascade deletion jobs to be run, or an empty list if there is no such session
+     * @see CascadeDeletionLogic#startFeedbackSessionDeletionCascade(String, String)
+     */
+    public List<CascadeDeletionJobStatus> startFeedbackSessionDeletionCascade(
+            String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        return cascadeDeletionLogic.startFeedbackSessionDeletionCascade(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Deletes the next batch of entities of a cascade deletion job.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the updated status of the job, or null if there is no such job
+     * @see CascadeDeletionLogic#runCascadeDeletionJobStep(String)
+     */
+    public CascadeDeletionJobStatus runCascadeDeletionJobStep(String jobId) {
+        Assumption.assertNotNull(jobId);
+
+        return cascadeDeletionLogic.runCascadeDeletionJobStep(jobId);
+    }
+
+    /**
+     * Checks if a course is being deleted in the background.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see CascadeDeletionLogic#isCourseDeletionCascadeRunning(String)
+     */
+    public boolean isCourseDeletionCascadeRunning(String courseId) {
+        Assumption.assertNotNull(courseId);
+
+        return cascadeDeletionLogic.isCourseDeletionCascadeRunning(courseId);
+    }
+
+    /**
+     * Checks if a feedback session is being deleted in the background.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see CascadeDeletionLogic#isFeedbackSessionDeletionCascadeRunning(String, String)
+     */
+    public boolean isFeedbackSessionDeletionCascadeRunning(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        return cascadeDeletionLogic.isFeedbackSessionDeletionCascadeRunning(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Gets the most recently updated cascade deletion jobs.
+     *
+     * @see CascadeDeletionLogic#getRecentCascadeDeletionJobs(int)
+     */
+    public List<CascadeDeletionJobStatus> getRecentCascadeDeletionJobs(int limit) {
+        return cascadeDeletionLogic.getRecentCascadeDeletionJobs(limit);
+    }
+
     /**
      * Soft-deletes a specific session to Recycle Bin.
      */
@@ -1557,6 +1750,21 @@ public class Logic {
         return feedbackQuestionsLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets the number of students and instructors who have responded to a feedback session.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackSessionsLogic#getRespondentCount(String, String)
+     */
+    public int getFeedbackSessionRespondentCount(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        return feedbackSessionsLogic.getRespondentCount(feedbackSessionName, courseId);
+    }
+
     /**
      * Gets the response rate status for a session.
      *
@@ -1574,6 +1782,19 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionResponseStatus(feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets a tag which changes whenever the results of feedback sessions in the course may have changed.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return null if the version of the results cannot be determined
+     */
+    public String getFeedbackSessionResultsVersion(String courseId) {
+        Assumption.assertNotNull(courseId);
+
+        return resultsSnapshotsLogic.getResultsVersion(courseId);
+    }
+
     /**
      * Gets a question+response bundle for questions with responses that
      * is visible to the student for a feedback session.
@@ -1792,6 +2013,30 @@ public class Logic {
         return feedbackResponsesLogic.createFeedbackResponse(feedbackResponse);
     }
 
+    /**
+     * Creates or updates all responses of a giver to a question with a single batched write,
+     * and deletes the other responses of the giver to the question cascade their associated comments.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @param recipients the identifiers of all the recipients of the giver for the question
+     * @return the responses after saving, in the same order
+     * @throws InvalidParametersException if any of the responses is not valid, in which case none of them is saved
+     */
+    public List<FeedbackResponseAttributes> putFeedbackResponsesFromGiverForQuestion(
+            String feedbackQuestionId, String giver, Collection<String> recipients,
+            List<FeedbackResponseAttributes> feedbackResponses)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(feedbackQuestionId);
+        Assumption.assertNotNull(giver);
+        Assumption.assertNotNull(recipients);
+        Assumption.assertNotNull(feedbackResponses);
+
+        return feedbackResponsesLogic.putFeedbackResponsesFromGiverForQuestion(
+                feedbackQuestionId, giver, recipients, feedbackResponses);
+    }
+
     public boolean hasGiverRespondedForSession(String userEmail, String feedbackSessionName, String courseId) {
         Assumption.assertNotNull(userEmail);
         Assumption.assertNotNull(feedbackSessionName);
@@ -1847,6 +2092,17 @@ public class Logic {
         feedbackResponsesLogic.deleteFeedbackResponseCascade(responseId);
     }
 
+    /**
+     * Aggregates the statistics of a feedback question again from all its responses.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     */
+    public void rebuildFeedbackQuestionStatistics(String feedbackQuestionId) {
+        Assumption.assertNotNull(feedbackQuestionId);
+        feedbackResponsesLogic.rebuildFeedbackQuestionStatistics(feedbackQuestionId);
+    }
+
     /**
      * Create a feedback response comment, and return the created comment.
      *
@@ -1905,6 +2161,30 @@ public class Logic {
         feedbackResponseCommentsLogic.putDocuments(comments);
     }
 
+    /**
+     * Gets the courses which have out of date search documents.
+     *
+     * @see SearchIndexOutboxLogic#getCourseIdsWithOutdatedSearchDocuments()
+     */
+    public Set<String> getCourseIdsWithOutdatedSearchDocuments() {
+        return searchIndexOutboxLogic.getCourseIdsWithOutdatedSearchDocuments();
+    }
+
+    /**
+     * Rebuilds the out of date search documents of a course.
+     *
+     * <br/> Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the number of out of date documents handled
+     * @see SearchIndexOutboxLogic#updateOutdatedSearchDocuments(String)
+     */
+    public int updateOutdatedSearchDocuments(String courseId) {
+        Assumption.assertNotNull(courseId);
+
+        return searchIndexOutboxLogic.updateOutdatedSearchDocuments(courseId);
+    }
+
     /**
      * Search for FeedbackResponseComment. Preconditions: all parameters are non-null.
      * @param instructors   a list of InstructorAttributes associated to a googleId,
@@ -1,9 +1,17 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import com.google.common.collect.Lists;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Config;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
@@ -18,6 +26,14 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int STUDENTS_PER_UPDATE_CASCADE_TASK = 50;
+
+    /**
+     * Maximum total length of the distinct email contents carried by a single send email task,
+     * which keeps the task well within the task size limit.
+     */
+    private static final int MAX_EMAIL_CONTENT_LENGTH_PER_TASK = 90_000;
+
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
@@ -42,6 +58,12 @@ public class TaskQueuer {
         new TaskQueuesLogic().addTask(task);
     }
 
+    protected void addDeferredTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap,
+                                                long countdownTime) {
+        TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap);
+        new TaskQueuesLogic().addDeferredTask(task, countdownTime);
+    }
+
     /**
      * Gets the tasks added to the queue.
      * This method is used only for testing, where it is overridden.
@@ -192,6 +214,29 @@ public class TaskQueuer {
                 TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules the next batch of a cascade deletion job to be deleted.
+     *
+     * @param jobId the ID of the job
+     */
+    public void scheduleCascadeDeletionJobStep(String jobId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.CASCADE_DELETION_JOB_ID, jobId);
+
+        addTask(TaskQueue.CASCADE_DELETION_QUEUE_NAME, TaskQueue.CASCADE_DELETION_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules the statistics of a feedback question to be rebuilt from its responses.
+     */
+    public void scheduleFeedbackQuestionStatisticsRebuild(String feedbackQuestionId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.FEEDBACK_QUESTION_ID, feedbackQuestionId);
+
+        addTask(TaskQueue.FEEDBACK_QUESTION_STATISTICS_REBUILD_QUEUE_NAME,
+                TaskQueue.FEEDBACK_QUESTION_STATISTICS_REBUILD_WORKER_URL, paramMap);
+    }
+
     /**
      * Schedules adjustments to be done for the respondents of a feedback session.
      */
@@ -208,12 +253,62 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules the out of date search documents of a course to be rebuilt.
+     *
+     * @param courseId the target course ID
+     */
+    public void scheduleSearchIndexUpdate(String courseId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+
+        addTask(TaskQueue.SEARCH_INDEX_UPDATE_QUEUE_NAME, TaskQueue.SEARCH_INDEX_UPDATE_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules the responses of the given students to be updated after the students are moved
+     * to a different team or section.
+     *
+     * <p>The students are split into batches of {@value #STUDENTS_PER_UPDATE_CASCADE_TASK}, one task per batch.
+     *
+     * @param courseId the course ID of the students
+     * @param originalStudents the students with their team and section before the move
+     */
+    public void scheduleStudentsUpdateCascade(String courseId, List<StudentAttributes> originalStudents) {
+        for (List<StudentAttributes> batch : Lists.partition(originalStudents, STUDENTS_PER_UPDATE_CASCADE_TASK)) {
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.COURSE_ID, new String[] { courseId });
+            paramMap.put(ParamsNames.STUDENT_EMAIL,
+                    batch.stream().map(StudentAttributes::getEmail).toArray(String[]::new));
+            paramMap.put(ParamsNames.STUDENT_ORIGINAL_TEAM,
+                    batch.stream().map(StudentAttributes::getTeam).toArray(String[]::new));
+            paramMap.put(ParamsNames.STUDENT_ORIGINAL_SECTION,
+                    batch.stream().map(StudentAttributes::getSection).toArray(String[]::new));
+
+            addTaskMultisetParam(TaskQueue.STUDENT_UPDATE_CASCADE_QUEUE_NAME,
+                    TaskQueue.STUDENT_UPDATE_CASCADE_WORKER_URL, paramMap);
+        }
+    }
+
     /**
      * Schedules for the given list of emails to be sent.
      *
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
+        scheduleEmailsForSending(emails, 0);
+    }
+
+    /**
+     * Schedules for the given list of emails to be sent, starting after the specified time.
+     *
+     * <p>The emails are split into batches of up to {@link Config#EMAIL_BATCH_SIZE}, one task per batch.
+     * Emails of a batch with identical content share a single copy of the content in the task.
+     *
+     * @param emails the list of emails to be sent
+     * @param countdownTime the time delay before the first batch is sent
+     */
+    public void scheduleEmailsForSending(List<EmailWrapper> emails, long countdownTime) {
         if (emails.isEmpty()) {
             return;
         }
@@ -223,40 +318,66 @@ public class TaskQueuer {
         int oneHourInMillis = 60 * 60 * 1000;
         int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
 
-        int numberOfEmailsSent = 0;
-        for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+        List<EmailWrapper> batch = new ArrayList<>();
+        Set<String> batchContents = new HashSet<>();
+        int batchContentLength = 0;
+        long batchDelayTimer = countdownTime;
+        for (int i = 0; i < emails.size(); i++) {
+            EmailWrapper email = emails.get(i);
+            boolean hasNewContent = !batchContents.contains(email.getContent());
+            int contentLength = hasNewContent ? email.getContent().length() : 0;
+            if (!batch.isEmpty() && (batch.size() >= Config.EMAIL_BATCH_SIZE
+                    || batchContentLength + contentLength > MAX_EMAIL_CONTENT_LENGTH_PER_TASK)) {
+                scheduleEmailBatchForSending(batch, batchDelayTimer);
+                batch = new ArrayList<>();
+                batchContents.clear();
+                batchContentLength = 0;
+                batchDelayTimer = countdownTime + (long) i * emailIntervalMillis;
+                contentLength = email.getContent().length();
+            }
+            batch.add(email);
+            batchContents.add(email.getContent());
+            batchContentLength += contentLength;
         }
+        scheduleEmailBatchForSending(batch, batchDelayTimer);
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
+    private void scheduleEmailBatchForSending(List<EmailWrapper> emails, long emailDelayTimer) {
         try {
-            Map<String, String> paramMap = new HashMap<>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
-            if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
+            Map<String, Integer> contentIndexes = new LinkedHashMap<>();
+            String[] contentIndexOfEmails = new String[emails.size()];
+            for (int i = 0; i < emails.size(); i++) {
+                Integer contentIndex = contentIndexes.computeIfAbsent(emails.get(i).getContent(),
+                        content -> contentIndexes.size());
+                contentIndexOfEmails[i] = String.valueOf(contentIndex);
             }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
 
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            paramMap, emailDelayTimer);
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.EMAIL_SUBJECT,
+                    emails.stream().map(EmailWrapper::getSubject).toArray(String[]::new));
+            paramMap.put(ParamsNames.EMAIL_CONTENT, contentIndexes.keySet().toArray(new String[0]));
+            paramMap.put(ParamsNames.EMAIL_CONTENT_INDEX, contentIndexOfEmails);
+            paramMap.put(ParamsNames.EMAIL_SENDER,
+                    emails.stream().map(EmailWrapper::getSenderEmail).toArray(String[]::new));
+            paramMap.put(ParamsNames.EMAIL_SENDERNAME,
+                    emails.stream().map(email -> email.getSenderName() == null ? "" : email.getSenderName())
+                            .toArray(String[]::new));
+            paramMap.put(ParamsNames.EMAIL_RECEIVER,
+                    emails.stream().map(EmailWrapper::getRecipient).toArray(String[]::new));
+            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS,
+                    emails.stream().map(EmailWrapper::getReplyTo).toArray(String[]::new));
+
+            addDeferredTaskMultisetParam(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                                         paramMap, emailDelayTimer);
         } catch (Exception e) {
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+            for (EmailWrapper email : emails) {
+                log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
+                           + "Email sender: " + email.getSenderEmail() + "\n"
+                           + "Email sender name: " + email.getSenderName() + "\n"
+                           + "Email receiver: " + email.getRecipient() + "\n"
+                           + "Email subject: " + email.getSubject() + "\n"
+                           + "Email reply-to address: " + email.getReplyTo());
+            }
         }
     }
 
@@ -0,0 +1,210 @@
+package teammates.logic.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
+import teammates.common.datatransfer.CascadeDeletionJobStatus.EntityKind;
+import teammates.common.datatransfer.DeletionCheckpoint;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Logger;
+import teammates.storage.api.CascadeDeletionJobsDb;
+import teammates.storage.api.FeedbackQuestionsDb;
+import teammates.storage.api.FeedbackResponseCommentsDb;
+import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionsDb;
+import teammates.storage.api.InstructorsDb;
+import teammates.storage.api.StudentsDb;
+
+/**
+ * Handles the deletion of courses and feedback sessions in the background.
+ *
+ * <p>The course or the session is moved to the recycle bin, and one job is started for each kind of entity in it.
+ * Each job deletes its entities one batch per task, saving a checkpoint after every batch. After the last job
+ * of a course or a session is done, what remains of it is deleted by the synchronous cascade deletion,
+ * e.g. the question statistics and the session respondents, followed by the course or the session itself.
+ *
+ * @see CascadeDeletionJobsDb
+ */
+public final class CascadeDeletionLogic {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final List<EntityKind> COURSE_ENTITY_KINDS = Arrays.asList(EntityKind.values());
+
+    private static final List<EntityKind> FEEDBACK_SESSION_ENTITY_KINDS = Arrays.asList(
+            EntityKind.FEEDBACK_RESPONSE_COMMENTS, EntityKind.FEEDBACK_RESPONSES, EntityKind.FEEDBACK_QUESTIONS);
+
+    private static CascadeDeletionLogic instance = new CascadeDeletionLogic();
+
+    private static final CascadeDeletionJobsDb cascadeDeletionJobsDb = new CascadeDeletionJobsDb();
+    private static final FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
+    private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
+    private static final FeedbackResponseCommentsDb frcDb = new FeedbackResponseCommentsDb();
+    private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
+    private static final InstructorsDb instructorsDb = new InstructorsDb();
+    private static final StudentsDb studentsDb = new StudentsDb();
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    private CascadeDeletionLogic() {
+        // prevent initialization
+    }
+
+    public static CascadeDeletionLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Starts deleting a course cascade its students, instructors, sessions, responses and comments
+     * in the background. The course is moved to the recycle bin until the deletion is done.
+     *
+     * <p>Starting the deletion of a course which is already being deleted continues the unfinished jobs.
+     *
+     * @return the jobs to be run, or an empty list if there is no such course
+     */
+    public List<CascadeDeletionJobStatus> startCourseDeletionCascade(String courseId) {
+        CourseAttributes course = coursesLogic.getCourse(courseId);
+        if (course == null) {
+            return Collections.emptyList();
+        }
+
+        if (!course.isCourseDeleted()) {
+            try {
+                coursesLogic.moveCourseToRecycleBin(courseId);
+            } catch (EntityDoesNotExistException e) {
+                // the course is deleted concurrently
+                return Collections.emptyList();
+            }
+        }
+        return cascadeDeletionJobsDb.startJobs(courseId, null, COURSE_ENTITY_KINDS);
+    }
+
+    /**
+     * Starts deleting a feedback session cascade its questions, responses and comments in the background.
+     * The session is moved to the recycle bin until the deletion is done.
+     *
+     * <p>Starting the deletion of a session which is already being deleted continues the unfinished jobs.
+     *
+     * @return the jobs to be run, or an empty list if there is no such session
+     */
+    public List<CascadeDeletionJobStatus> startFeedbackSessionDeletionCascade(
+            String feedbackSessionName, String courseId) {
+        FeedbackSessionAttributes session = fsLogic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null && fsLogic.getFeedbackSessionFromRecycleBin(feedbackSessionName, courseId) == null) {
+            return Collections.emptyList();
+        }
+
+        if (session != null) {
+            try {
+                fsLogic.moveFeedbackSessionToRecycleBin(feedbackSessionName, courseId);
+            } catch (EntityDoesNotExistException e) {
+                // the session is deleted concurrently
+                return Collections.emptyList();
+            }
+        }
+        return cascadeDeletionJobsDb.startJobs(courseId, feedbackSessionName, FEEDBACK_SESSION_ENTITY_KINDS);
+    }
+
+    /**
+     * Deletes the next batch of entities of a job and saves the checkpoint of the job.
+     *
+     * <p>Once all jobs of a course or a session are done, the course or the session is deleted. Running a step
+     * of a job which is done only repeats this, so a step can be retried any number of times.
+     *
+     * @return the updated status of the job, or null if there is no such job
+     */
+    public CascadeDeletionJobStatus runCascadeDeletionJobStep(String jobId) {
+        CascadeDeletionJobStatus job = cascadeDeletionJobsDb.getJob(jobId);
+        if (job == null) {
+            return null;
+        }
+
+        if (!job.isDone()) {
+            DeletionCheckpoint checkpoint = deleteBatch(job);
+            job = cascadeDeletionJobsDb.recordDeletedBatch(
+                    jobId, checkpoint.getNumberOfDeletedEntities(), checkpoint.getCursor());
+            log.info(String.format("Deleted %d entities of cascade deletion job %s",
+                    checkpoint.getNumberOfDeletedEntities(), jobId));
+        }
+
+        if (job.isDone() && areAllJobsOfCascadeDone(job)) {
+            if (job.getFeedbackSessionName() == null) {
+                coursesLogic.deleteCourseCascade(job.getCourseId());
+            } else {
+                fsLogic.deleteFeedbackSessionCascade(job.getFeedbackSessionName(), job.getCourseId());
+            }
+        }
+        return job;
+    }
+
+    /**
+     * Checks if a course is being deleted in the background, i.e. some of the jobs deleting it are not done.
+     */
+    public boolean isCourseDeletionCascadeRunning(String courseId) {
+        return hasUnfinishedJobs(courseId, null, COURSE_ENTITY_KINDS);
+    }
+
+    /**
+     * Checks if a feedback session is being deleted in the background, either by itself or together with its course.
+     */
+    public boolean isFeedbackSessionDeletionCascadeRunning(String feedbackSessionName, String courseId) {
+        return hasUnfinishedJobs(courseId, feedbackSessionName, FEEDBACK_SESSION_ENTITY_KINDS)
+                || isCourseDeletionCascadeRunning(courseId);
+    }
+
+    /**
+     * Gets the most recently updated cascade deletion jobs.
+     */
+    public List<CascadeDeletionJobStatus> getRecentCascadeDeletionJobs(int limit) {
+        return cascadeDeletionJobsDb.getRecentlyUpdatedJobs(limit);
+    }
+
+    private DeletionCheckpoint deleteBatch(CascadeDeletionJobStatus job) {
+        AttributesDeletionQuery.Builder queryBuilder = AttributesDeletionQuery.builder()
+                .withCourseId(job.getCourseId());
+        if (job.getFeedbackSessionName() != null) {
+            queryBuilder.withFeedbackSessionName(job.getFeedbackSessionName());
+        }
+        AttributesDeletionQuery query = queryBuilder.build();
+
+        switch (job.getEntityKind()) {
+        case FEEDBACK_RESPONSE_COMMENTS:
+            return frcDb.deleteFeedbackResponseCommentsBatch(query, job.getCursor());
+        case FEEDBACK_RESPONSES:
+            return frDb.deleteFeedbackResponsesBatch(query, job.getCursor());
+        case FEEDBACK_QUESTIONS:
+            return fqDb.deleteFeedbackQuestionsBatch(query, job.getCursor());
+        case FEEDBACK_SESSIONS:
+            return fsDb.deleteFeedbackSessionsBatch(job.getCourseId(), job.getCursor());
+        case STUDENTS:
+            return studentsDb.deleteStudentsBatch(job.getCourseId(), job.getCursor());
+        case INSTRUCTORS:
+            return instructorsDb.deleteInstructorsBatch(job.getCourseId(), job.getCursor());
+        default:
+            Assumption.fail("Unknown kind of entities to delete: " + job.getEntityKind());
+            return null;
+        }
+    }
+
+    private boolean hasUnfinishedJobs(String courseId, String feedbackSessionName, List<EntityKind> entityKinds) {
+        return cascadeDeletionJobsDb.getJobs(courseId, feedbackSessionName, entityKinds)
+                .stream()
+                .anyMatch(job -> !job.isDone());
+    }
+
+    private boolean areAllJobsOfCascadeDone(CascadeDeletionJobStatus job) {
+        List<EntityKind> entityKinds =
+                job.getFeedbackSessionName() == null ? COURSE_ENTITY_KINDS : FEEDBACK_SESSION_ENTITY_KINDS;
+        return cascadeDeletionJobsDb.getJobs(job.getCourseId(), job.getFeedbackSessionName(), entityKinds)
+                .stream()
+                .allMatch(CascadeDeletionJobStatus::isDone);
+    }
+
+}
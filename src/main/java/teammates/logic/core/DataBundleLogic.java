@@ -3,7 +3,6 @@ package teammates.logic.core;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -13,6 +12,7 @@ import com.google.common.collect.SetMultimap;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -29,9 +29,11 @@ import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.api.CoursesDb;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.ProfilesDb;
@@ -50,7 +52,9 @@ public final class DataBundleLogic {
     private static final StudentsDb studentsDb = new StudentsDb();
     private static final InstructorsDb instructorsDb = new InstructorsDb();
     private static final FeedbackSessionsDb fbDb = new FeedbackSessionsDb();
+    private static final FeedbackSessionRespondentsDb fsRespondentsDb = new FeedbackSessionRespondentsDb();
     private static final FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
+    private static final FeedbackQuestionStatisticsDb fqStatisticsDb = new FeedbackQuestionStatisticsDb();
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
     private static final FeedbackResponseCommentsDb fcDb = new FeedbackResponseCommentsDb();
 
@@ -97,17 +101,20 @@ public final class DataBundleLogic {
         // For ensuring only one account per Google ID is created
         Map<String, AccountAttributes> googleIdAccountMap = new HashMap<>();
 
-        // For updating the student and instructor respondent lists in sessions before they are persisted
+        // For computing the student and instructor respondents of sessions before their responses are persisted
         SetMultimap<String, InstructorAttributes> courseInstructorsMap = HashMultimap.create();
         SetMultimap<String, FeedbackQuestionAttributes> sessionQuestionsMap = HashMultimap.create();
         SetMultimap<String, FeedbackResponseAttributes> sessionResponsesMap = HashMultimap.create();
+        SetMultimap<String, String> sessionStudentRespondentsMap = HashMultimap.create();
+        SetMultimap<String, String> sessionInstructorRespondentsMap = HashMultimap.create();
 
         processAccountsAndPopulateAccountsMap(accounts, googleIdAccountMap);
         processInstructorsAndPopulateMapAndAccounts(instructors, courseInstructorsMap, googleIdAccountMap);
         processStudentsAndPopulateAccounts(students, googleIdAccountMap);
         processQuestionsAndPopulateMap(questions, sessionQuestionsMap);
         processResponsesAndPopulateMap(responses, sessionResponsesMap);
-        processSessionsAndUpdateRespondents(sessions, courseInstructorsMap, sessionQuestionsMap, sessionResponsesMap);
+        processSessionsAndPopulateRespondentsMaps(sessions, courseInstructorsMap, sessionQuestionsMap, sessionResponsesMap,
+                sessionStudentRespondentsMap, sessionInstructorRespondentsMap);
 
         accountsDb.putEntities(googleIdAccountMap.values());
         profilesDb.putEntities(profiles);
@@ -115,39 +122,73 @@ public final class DataBundleLogic {
         instructorsDb.putEntities(instructors);
         studentsDb.putEntities(students);
         fbDb.putEntities(sessions);
+        for (FeedbackSessionAttributes session : sessions) {
+            String sessionKey = makeSessionKey(session.getFeedbackSessionName(), session.getCourseId());
+            fsRespondentsDb.putRespondents(session.getFeedbackSessionName(), session.getCourseId(),
+                    sessionStudentRespondentsMap.get(sessionKey), sessionInstructorRespondentsMap.get(sessionKey));
+        }
 
         List<FeedbackQuestionAttributes> createdQuestions = fqDb.putEntities(questions);
         injectRealIds(responses, responseComments, createdQuestions);
 
         frDb.putEntities(responses);
+        putQuestionStatistics(createdQuestions, responses);
         fcDb.putEntities(responseComments);
     }
 
+    /**
+     * Puts the statistics of the questions whose statistics are aggregated as responses are written,
+     * as the responses in the data bundle are put directly without going through the logic layer.
+     */
+    private void putQuestionStatistics(List<FeedbackQuestionAttributes> questions,
+            Collection<FeedbackResponseAttributes> responses) {
+        SetMultimap<String, FeedbackResponseAttributes> questionResponsesMap = HashMultimap.create();
+        for (FeedbackResponseAttributes response : responses) {
+            questionResponsesMap.put(response.feedbackQuestionId, response);
+        }
+        for (FeedbackQuestionAttributes question : questions) {
+            if (question.getQuestionDetails().isStatisticsAggregated()) {
+                fqStatisticsDb.putStatistics(question.getId(), question.getFeedbackSessionName(), question.getCourseId(),
+                        FeedbackQuestionStatistics.of(questionResponsesMap.get(question.getId())));
+            }
+        }
+    }
+
     /**
      * Creates document for entities that have document, i.e. searchable.
      */
     public void putDocuments(DataBundle dataBundle) {
         // query the entity in db first to get the actual data and create document for actual entity
+        // the documents are put in batches, one batch per course
 
-        Map<String, StudentAttributes> students = dataBundle.students;
-        for (StudentAttributes student : students.values()) {
+        List<StudentAttributes> studentsInDb = new ArrayList<>();
+        for (StudentAttributes student : dataBundle.students.values()) {
             StudentAttributes studentInDb = studentsDb.getStudentForEmail(student.course, student.email);
-            studentsDb.putDocument(studentInDb);
+            if (studentInDb != null) {
+                studentsInDb.add(studentInDb);
+            }
         }
+        studentsDb.putDocuments(studentsInDb);
 
-        Map<String, InstructorAttributes> instructors = dataBundle.instructors;
-        for (InstructorAttributes instructor : instructors.values()) {
+        List<InstructorAttributes> instructorsInDb = new ArrayList<>();
+        for (InstructorAttributes instructor : dataBundle.instructors.values()) {
             InstructorAttributes instructorInDb =
                     instructorsDb.getInstructorForEmail(instructor.courseId, instructor.email);
-            instructorsDb.putDocument(instructorInDb);
+            if (instructorInDb != null) {
+                instructorsInDb.add(instructorInDb);
+            }
         }
+        instructorsDb.putDocuments(instructorsInDb);
 
-        Map<String, FeedbackResponseCommentAttributes> responseComments = dataBundle.feedbackResponseComments;
-        for (FeedbackResponseCommentAttributes responseComment : responseComments.values()) {
+        List<FeedbackResponseCommentAttributes> responseCommentsInDb = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes responseComment : dataBundle.feedbackResponseComments.values()) {
             FeedbackResponseCommentAttributes fcInDb = fcDb.getFeedbackResponseComment(
                     responseComment.courseId, responseComment.createdAt, responseComment.commentGiver);
-            fcDb.putDocument(fcInDb);
+            if (fcInDb != null) {
+                responseCommentsInDb.add(fcInDb);
+            }
         }
+        fcDb.putDocuments(responseCommentsInDb);
     }
 
     private void processAccountsAndPopulateAccountsMap(Collection<AccountAttributes> accounts,
@@ -200,10 +241,12 @@ public final class DataBundleLogic {
         }
     }
 
-    private void processSessionsAndUpdateRespondents(Collection<FeedbackSessionAttributes> sessions,
+    private void processSessionsAndPopulateRespondentsMaps(Collection<FeedbackSessionAttributes> sessions,
             SetMultimap<String, InstructorAttributes> courseInstructorsMap,
             SetMultimap<String, FeedbackQuestionAttributes> sessionQuestionsMap,
-            SetMultimap<String, FeedbackResponseAttributes> sessionResponsesMap) {
+            SetMultimap<String, FeedbackResponseAttributes> sessionResponsesMap,
+            SetMultimap<String, String> sessionStudentRespondentsMap,
+            SetMultimap<String, String> sessionInstructorRespondentsMap) {
         for (FeedbackSessionAttributes session : sessions) {
             String sessionKey = makeSessionKey(session.getFeedbackSessionName(), session.getCourseId());
 
@@ -211,14 +254,17 @@ public final class DataBundleLogic {
             Set<FeedbackQuestionAttributes> sessionQuestions = sessionQuestionsMap.get(sessionKey);
             Set<FeedbackResponseAttributes> sessionResponses = sessionResponsesMap.get(sessionKey);
 
-            updateRespondents(session, courseInstructors, sessionQuestions, sessionResponses);
+            populateRespondents(session, courseInstructors, sessionQuestions, sessionResponses,
+                    sessionStudentRespondentsMap, sessionInstructorRespondentsMap);
         }
     }
 
-    private void updateRespondents(FeedbackSessionAttributes session,
+    private void populateRespondents(FeedbackSessionAttributes session,
             Set<InstructorAttributes> courseInstructors,
             Set<FeedbackQuestionAttributes> sessionQuestions,
-            Set<FeedbackResponseAttributes> sessionResponses) {
+            Set<FeedbackResponseAttributes> sessionResponses,
+            SetMultimap<String, String> sessionStudentRespondentsMap,
+            SetMultimap<String, String> sessionInstructorRespondentsMap) {
         String sessionKey = makeSessionKey(session.getFeedbackSessionName(), session.getCourseId());
 
         SetMultimap<String, String> instructorQuestionKeysMap = HashMultimap.create();
@@ -231,9 +277,6 @@ public final class DataBundleLogic {
             instructorQuestionKeysMap.putAll(instructor.email, questionKeys);
         }
 
-        Set<String> respondingInstructors = new HashSet<>();
-        Set<String> respondingStudents = new HashSet<>();
-
         for (FeedbackResponseAttributes response : sessionResponses) {
             String respondent = response.giver;
             String responseQuestionNumber = response.feedbackQuestionId; // contains question number before injection
@@ -241,14 +284,11 @@ public final class DataBundleLogic {
 
             Set<String> instructorQuestionKeys = instructorQuestionKeysMap.get(respondent);
             if (instructorQuestionKeys.contains(responseQuestionKey)) {
-                respondingInstructors.add(respondent);
+                sessionInstructorRespondentsMap.put(sessionKey, respondent);
             } else {
-                respondingStudents.add(respondent);
+                sessionStudentRespondentsMap.put(sessionKey, respondent);
             }
         }
-
-        session.setRespondingInstructorList(respondingInstructors);
-        session.setRespondingStudentList(respondingStudents);
     }
 
     private void injectRealIds(
@@ -436,6 +476,7 @@ public final class DataBundleLogic {
                         .build();
                 fcDb.deleteFeedbackResponseComments(query);
                 frDb.deleteFeedbackResponses(query);
+                fqStatisticsDb.deleteStatistics(query);
                 fqDb.deleteFeedbackQuestions(query);
                 fbDb.deleteFeedbackSessions(query);
                 studentsDb.deleteStudents(query);
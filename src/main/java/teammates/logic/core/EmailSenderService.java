@@ -1,5 +1,7 @@
 package teammates.logic.core;
 
+import java.util.List;
+
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
 
@@ -23,4 +25,43 @@ public abstract class EmailSenderService {
     // accounts for the many different Exceptions from different email services
     public abstract EmailSendingStatus sendEmail(EmailWrapper wrapper) throws Exception;
 
+    /**
+     * Gets the maximum number of recipients which can be sent the same email in a single request to the service,
+     * where each recipient receives a separate copy addressed only to them.
+     */
+    public int getMaxRecipientsPerRequest() {
+        return 1;
+    }
+
+    /**
+     * Sends a separate copy of the email packaged as a {@code wrapper} to each of the {@code recipients}
+     * in a single request. The recipient of the {@code wrapper} is ignored.
+     *
+     * <p>Services which do not support more than one recipient per request send one request per recipient.
+     *
+     * @return the status of the first request which failed, or of the last request if all succeeded
+     * @see #getMaxRecipientsPerRequest()
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    // accounts for the many different Exceptions from different email services
+    public EmailSendingStatus sendEmailToRecipients(EmailWrapper wrapper, List<String> recipients) throws Exception {
+        EmailSendingStatus status = null;
+        for (String recipient : recipients) {
+            EmailWrapper email = new EmailWrapper();
+            email.setSenderName(wrapper.getSenderName());
+            email.setSenderEmail(wrapper.getSenderEmail());
+            email.setReplyTo(wrapper.getReplyTo());
+            email.setRecipient(recipient);
+            email.setBcc(wrapper.getBcc());
+            email.setSubject(wrapper.getSubject());
+            email.setContent(wrapper.getContent());
+
+            status = sendEmail(email);
+            if (!status.isSuccess()) {
+                return status;
+            }
+        }
+        return status;
+    }
+
 }
@@ -0,0 +1,242 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Resolves the recipients of the feedback questions of a course for givers of the course.
+ *
+ * <p>The students and instructors of the course are loaded once into a {@link CourseRoster}, from which the teams,
+ * the members of each team and the section of each team are derived on first use. Resolving the recipients of
+ * any number of questions afterwards does not read the database again, so one resolver should be shared by all
+ * questions of a session which are resolved in the same request.
+ *
+ * <p>The roster is only used for the lists of recipients. The givers are looked up by key by the callers and passed
+ * in, as the roster is loaded with queries which may not include a giver who has just been added to the course.
+ *
+ * <p>The recipients are the same as those given by {@link FeedbackQuestionsLogic#getRecipientsForQuestion},
+ * {@link FeedbackQuestionsLogic#getRecipientsOfQuestionForStudent} and
+ * {@link FeedbackQuestionsLogic#getRecipientsOfQuestionForInstructor}.
+ */
+public final class FeedbackQuestionRecipientsResolver {
+
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private final String courseId;
+    private CourseRoster roster;
+
+    // derived from the roster on first use
+    private Map<String, List<StudentAttributes>> studentsByTeam;
+    private Map<String, String> sectionsByTeam;
+
+    /**
+     * Creates a resolver which loads the roster of the course when it is first needed.
+     */
+    public FeedbackQuestionRecipientsResolver(String courseId) {
+        this.courseId = courseId;
+    }
+
+    /**
+     * Creates a resolver from a roster of the course which is already loaded.
+     */
+    public FeedbackQuestionRecipientsResolver(String courseId, CourseRoster roster) {
+        this.courseId = courseId;
+        this.roster = roster;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Gets the roster of the course, loading it if it is not loaded yet.
+     */
+    public CourseRoster getRoster() {
+        if (roster == null) {
+            roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                    instructorsLogic.getInstructorsForCourse(courseId));
+        }
+        return roster;
+    }
+
+    /**
+     * Gets the recipients of a feedback question.
+     *
+     * @param question the feedback question
+     * @param giverEmail the email of the giver of the feedback question; In the case where the giver is a team,
+     *                   this parameter can be anything as long as {@code giverTeam} is the name of the team.
+     * @param giverTeam the team name of the giver of the feedback question
+     * @return a map which keys are the identifiers of the recipients and values are the names of the recipients
+     */
+    public Map<String, String> getRecipients(FeedbackQuestionAttributes question, String giverEmail, String giverTeam) {
+        Map<String, String> recipients = new HashMap<>();
+
+        switch (question.recipientType) {
+        case SELF:
+            if (question.giverType == FeedbackParticipantType.TEAMS) {
+                recipients.put(giverTeam, giverTeam);
+            } else {
+                recipients.put(giverEmail, Const.USER_NAME_FOR_SELF);
+            }
+            break;
+        case STUDENTS:
+            for (StudentAttributes student : getRoster().getStudents()) {
+                // Ensure student does not evaluate himself
+                if (!giverEmail.equals(student.email)) {
+                    recipients.put(student.email, student.name);
+                }
+            }
+            break;
+        case INSTRUCTORS:
+            for (InstructorAttributes instructor : getRoster().getInstructors()) {
+                // Ensure instructor does not evaluate himself
+                if (!giverEmail.equals(instructor.email)) {
+                    recipients.put(instructor.email, instructor.name);
+                }
+            }
+            break;
+        case TEAMS:
+            for (String teamName : getStudentsByTeam().keySet()) {
+                // Ensure student('s team) does not evaluate own team.
+                if (!giverTeam.equals(teamName)) {
+                    // recipientEmail doubles as team name in this case.
+                    recipients.put(teamName, teamName);
+                }
+            }
+            break;
+        case OWN_TEAM:
+            recipients.put(giverTeam, giverTeam);
+            break;
+        case OWN_TEAM_MEMBERS:
+            for (StudentAttributes student : getStudentsForTeam(giverTeam)) {
+                if (!student.email.equals(giverEmail)) {
+                    recipients.put(student.email, student.name);
+                }
+            }
+            break;
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            for (StudentAttributes student : getStudentsForTeam(giverTeam)) {
+                // accepts self feedback too
+                recipients.put(student.email, student.name);
+            }
+            break;
+        case NONE:
+            recipients.put(Const.GENERAL_QUESTION, Const.GENERAL_QUESTION);
+            break;
+        default:
+            break;
+        }
+        return recipients;
+    }
+
+    /**
+     * Gets the recipients of a feedback question for a student, without instructors who are not displayed to students.
+     */
+    public Map<String, String> getRecipientsForStudent(
+            FeedbackQuestionAttributes question, String giverEmail, String giverTeam) {
+        Map<String, String> recipients = getRecipients(question, giverEmail, giverTeam);
+
+        if (question.recipientType == FeedbackParticipantType.INSTRUCTORS) {
+            for (InstructorAttributes instructor : getRoster().getInstructors()) {
+                if (!instructor.isDisplayedToStudents()) {
+                    recipients.remove(instructor.email);
+                }
+            }
+        }
+        return recipients;
+    }
+
+    /**
+     * Gets the recipients of a feedback question for an instructor, without students and teams in sections
+     * where the instructor is not allowed to submit responses to the session of the question.
+     *
+     * @param instructor the instructor giving the responses
+     */
+    public Map<String, String> getRecipientsForInstructor(FeedbackQuestionAttributes question,
+            InstructorAttributes instructor) {
+        Map<String, String> recipients = getRecipients(question, instructor.email, Const.USER_TEAM_FOR_INSTRUCTOR);
+        String sessionName = question.feedbackSessionName;
+
+        // instructor can only see students in allowed sections for him/her
+        if (question.recipientType == FeedbackParticipantType.STUDENTS) {
+            recipients.keySet().removeIf(studentEmail ->
+                    !instructor.isAllowedForPrivilege(getRoster().getStudentForEmail(studentEmail).section,
+                            sessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+        }
+        // instructor can only see teams in allowed sections for him/her
+        if (question.recipientType == FeedbackParticipantType.TEAMS) {
+            recipients.keySet().removeIf(teamName ->
+                    !instructor.isAllowedForPrivilege(getSectionForTeam(teamName),
+                            sessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+        }
+        return recipients;
+    }
+
+    /**
+     * Gets the recipients of each of the feedback questions for a student, keyed by the ID of the question
+     * in the order of the questions.
+     *
+     * @see #getRecipientsForStudent(FeedbackQuestionAttributes, String, String)
+     */
+    public Map<String, Map<String, String>> getRecipientsForStudent(
+            List<FeedbackQuestionAttributes> questions, String giverEmail, String giverTeam) {
+        Map<String, Map<String, String>> recipientsByQuestion = new LinkedHashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            recipientsByQuestion.put(question.getId(), getRecipientsForStudent(question, giverEmail, giverTeam));
+        }
+        return recipientsByQuestion;
+    }
+
+    /**
+     * Gets the recipients of each of the feedback questions for an instructor, keyed by the ID of the question
+     * in the order of the questions.
+     *
+     * @see #getRecipientsForInstructor(FeedbackQuestionAttributes, InstructorAttributes)
+     */
+    public Map<String, Map<String, String>> getRecipientsForInstructor(
+            List<FeedbackQuestionAttributes> questions, InstructorAttributes instructor) {
+        Map<String, Map<String, String>> recipientsByQuestion = new LinkedHashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            recipientsByQuestion.put(question.getId(), getRecipientsForInstructor(question, instructor));
+        }
+        return recipientsByQuestion;
+    }
+
+    /**
+     * Gets the section of a team, which is {@link Const#DEFAULT_SECTION} if the team has no students.
+     */
+    public String getSectionForTeam(String teamName) {
+        if (sectionsByTeam == null) {
+            sectionsByTeam = new HashMap<>();
+            getStudentsByTeam().forEach((team, students) -> sectionsByTeam.put(team, students.get(0).section));
+        }
+        return sectionsByTeam.getOrDefault(teamName, Const.DEFAULT_SECTION);
+    }
+
+    private List<StudentAttributes> getStudentsForTeam(String teamName) {
+        return getStudentsByTeam().getOrDefault(teamName, new ArrayList<>());
+    }
+
+    private Map<String, List<StudentAttributes>> getStudentsByTeam() {
+        if (studentsByTeam == null) {
+            studentsByTeam = new TreeMap<>();
+            for (StudentAttributes student : getRoster().getStudents()) {
+                studentsByTeam.computeIfAbsent(student.team, team -> new ArrayList<>()).add(student);
+            }
+        }
+        return studentsByTeam;
+    }
+
+}
@@ -2,7 +2,6 @@ package teammates.logic.core;
 
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -279,85 +278,37 @@ public final class FeedbackQuestionsLogic {
 
     public Map<String, String> getRecipientsForQuestion(FeedbackQuestionAttributes question, String giver)
             throws EntityDoesNotExistException {
-
-        InstructorAttributes instructorGiver = instructorsLogic.getInstructorForEmail(question.courseId, giver);
-        StudentAttributes studentGiver = studentsLogic.getStudentForEmail(question.courseId, giver);
-
-        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver);
+        return getRecipientsForQuestion(question, giver, new FeedbackQuestionRecipientsResolver(question.courseId));
     }
 
-    public Map<String, String> getRecipientsForQuestion(
-            FeedbackQuestionAttributes question, String giver,
-            InstructorAttributes instructorGiver, StudentAttributes studentGiver)
-            throws EntityDoesNotExistException {
-
-        Map<String, String> recipients = new HashMap<>();
-
-        FeedbackParticipantType recipientType = question.recipientType;
+    /**
+     * Gets the recipients of a feedback question for a giver, using the roster of the course in {@code resolver}.
+     *
+     * @see #getRecipientsForQuestion(FeedbackQuestionAttributes, String)
+     */
+    public Map<String, String> getRecipientsForQuestion(FeedbackQuestionAttributes question, String giver,
+            FeedbackQuestionRecipientsResolver resolver) throws EntityDoesNotExistException {
+        if (question.recipientType == FeedbackParticipantType.TEAMS && coursesLogic.getCourse(question.courseId) == null) {
+            throw new EntityDoesNotExistException("The course " + question.courseId + " does not exist");
+        }
 
-        String giverTeam = getGiverTeam(giver, instructorGiver, studentGiver);
+        StudentAttributes studentGiver = studentsLogic.getStudentForEmail(question.courseId, giver);
+        InstructorAttributes instructorGiver = studentGiver == null
+                ? instructorsLogic.getInstructorById(question.courseId, giver)
+                : null;
+        return resolver.getRecipients(question, giver, getGiverTeam(giver, instructorGiver, studentGiver));
+    }
 
-        switch (recipientType) {
-        case SELF:
-            if (question.giverType == FeedbackParticipantType.TEAMS) {
-                recipients.put(studentGiver.team, studentGiver.team);
-            } else {
-                recipients.put(giver, Const.USER_NAME_FOR_SELF);
-            }
-            break;
-        case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
-                // Ensure student does not evaluate himself
-                if (!giver.equals(student.email)) {
-                    recipients.put(student.email, student.name);
-                }
-            }
-            break;
-        case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
-                // Ensure instructor does not evaluate himself
-                if (!giver.equals(instr.email)) {
-                    recipients.put(instr.email, instr.name);
-                }
-            }
-            break;
-        case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
-                // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
-                    // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
-                }
-            }
-            break;
-        case OWN_TEAM:
-            recipients.put(giverTeam, giverTeam);
-            break;
-        case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
-                if (!student.email.equals(giver)) {
-                    recipients.put(student.email, student.name);
-                }
-            }
-            break;
-        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
-                // accepts self feedback too
-                recipients.put(student.email, student.name);
-            }
-            break;
-        case NONE:
-            recipients.put(Const.GENERAL_QUESTION, Const.GENERAL_QUESTION);
-            break;
-        default:
-            break;
+    /**
+     * Gets the team of a giver, which is the team of the student giver,
+     * {@link Const#USER_TEAM_FOR_INSTRUCTOR} for an instructor giver, or {@code defaultTeam} for anyone else.
+     */
+    private String getGiverTeam(String defaultTeam, InstructorAttributes instructorGiver,
+            StudentAttributes studentGiver) {
+        if (studentGiver != null) {
+            return studentGiver.team;
         }
-        return recipients;
+        return instructorGiver == null ? defaultTeam : Const.USER_TEAM_FOR_INSTRUCTOR;
     }
 
     /**
@@ -367,24 +318,8 @@ public final class FeedbackQuestionsLogic {
      */
     public Map<String, String> getRecipientsOfQuestionForStudent(
             FeedbackQuestionAttributes question, String giverEmail, String giverTeam) {
-        Map<String, String> recipients = getRecipientsOfQuestion(question, giverEmail, giverTeam);
-
-        // remove hidden instructors
-        if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-            List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(question.getCourseId());
-            Set<String> hiddenInstructorEmails = new HashSet<>();
-            for (InstructorAttributes instructorAttributes : instructors) {
-                if (!instructorAttributes.isDisplayedToStudents()) {
-                    hiddenInstructorEmails.add(instructorAttributes.email);
-                }
-            }
-
-            for (String instructorEmail : hiddenInstructorEmails) {
-                recipients.remove(instructorEmail);
-            }
-        }
-
-        return recipients;
+        return new FeedbackQuestionRecipientsResolver(question.getCourseId())
+                .getRecipientsForStudent(question, giverEmail, giverTeam);
     }
 
     /**
@@ -393,112 +328,36 @@ public final class FeedbackQuestionsLogic {
      * <p>Filter out some recipients based on the privileges of the instructor.
      */
     public Map<String, String> getRecipientsOfQuestionForInstructor(FeedbackQuestionAttributes question, String giverEmail) {
-        Map<String, String> recipients = getRecipientsOfQuestion(question, giverEmail, Const.USER_TEAM_FOR_INSTRUCTOR);
-        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(question.getCourseId(), giverEmail);
-
-        // TODO the below will cause slow queries when recipients are large, find a better way
-
-        // instructor can only see students in allowed sections for him/her
-        if (question.getRecipientType().equals(FeedbackParticipantType.STUDENTS)) {
-            recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(question.getCourseId(), studentEntry.getKey());
-                return !instructor.isAllowedForPrivilege(student.section, question.getFeedbackSessionName(),
-                        Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
-            });
-        }
-        // instructor can only see teams in allowed sections for him/her
-        if (question.getRecipientType().equals(FeedbackParticipantType.TEAMS)) {
-            recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(question.getCourseId(), teamEntry.getKey());
-                return !instructor.isAllowedForPrivilege(teamSection, question.getFeedbackSessionName(),
-                        Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
-            });
-        }
-
-        return recipients;
+        InstructorAttributes instructor = instructorsLogic.getInstructorById(question.getCourseId(), giverEmail);
+        return new FeedbackQuestionRecipientsResolver(question.getCourseId())
+                .getRecipientsForInstructor(question, instructor);
     }
 
     /**
-     * Gets the recipients of a feedback question.
+     * Gets the recipients of each of the feedback questions of a course for students,
+     * resolving all questions from one roster of the course.
      *
-     * @param question the feedback question
-     * @param giverEmail the email of the giver of the feedback question; In the case where the giver is a team,
-     *                   this parameter can be anything as long as {@code giverTeam} is the name of the team.
-     * @param giverTeam the team name of the giver of the feedback question
-     * @return a map which keys are the identifiers of the recipients and values are the names of the recipients
+     * @return a map which keys are the IDs of the questions, in the order of {@code questions},
+     *         and values are the recipients as given by
+     *         {@link #getRecipientsOfQuestionForStudent(FeedbackQuestionAttributes, String, String)}
      */
-    private Map<String, String> getRecipientsOfQuestion(
-            FeedbackQuestionAttributes question, String giverEmail, String giverTeam) {
-        Map<String, String> recipients = new HashMap<>();
-
-        FeedbackParticipantType recipientType = question.recipientType;
+    public Map<String, Map<String, String>> getRecipientsOfQuestionsForStudent(String courseId,
+            List<FeedbackQuestionAttributes> questions, String giverEmail, String giverTeam) {
+        return new FeedbackQuestionRecipientsResolver(courseId).getRecipientsForStudent(questions, giverEmail, giverTeam);
+    }
 
-        switch (recipientType) {
-        case SELF:
-            if (question.giverType == FeedbackParticipantType.TEAMS) {
-                recipients.put(giverTeam, giverTeam);
-            } else {
-                recipients.put(giverEmail, Const.USER_NAME_FOR_SELF);
-            }
-            break;
-        case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
-                // Ensure student does not evaluate himself
-                if (!giverEmail.equals(student.email)) {
-                    recipients.put(student.email, student.name);
-                }
-            }
-            break;
-        case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
-                // Ensure instructor does not evaluate himself
-                if (!giverEmail.equals(instr.email)) {
-                    recipients.put(instr.email, instr.name);
-                }
-            }
-            break;
-        case TEAMS:
-            List<TeamDetailsBundle> teams = null;
-            try {
-                teams = coursesLogic.getTeamsForCourse(question.courseId);
-            } catch (EntityDoesNotExistException e) {
-                Assumption.fail(e.getMessage());
-            }
-            for (TeamDetailsBundle team : teams) {
-                // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
-                    // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
-                }
-            }
-            break;
-        case OWN_TEAM:
-            recipients.put(giverTeam, giverTeam);
-            break;
-        case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
-                if (!student.email.equals(giverEmail)) {
-                    recipients.put(student.email, student.name);
-                }
-            }
-            break;
-        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
-                // accepts self feedback too
-                recipients.put(student.email, student.name);
-            }
-            break;
-        case NONE:
-            recipients.put(Const.GENERAL_QUESTION, Const.GENERAL_QUESTION);
-            break;
-        default:
-            break;
-        }
-        return recipients;
+    /**
+     * Gets the recipients of each of the feedback questions of a course for instructors,
+     * resolving all questions from one roster of the course.
+     *
+     * @return a map which keys are the IDs of the questions, in the order of {@code questions},
+     *         and values are the recipients as given by
+     *         {@link #getRecipientsOfQuestionForInstructor(FeedbackQuestionAttributes, String)}
+     */
+    public Map<String, Map<String, String>> getRecipientsOfQuestionsForInstructor(String courseId,
+            List<FeedbackQuestionAttributes> questions, String giverEmail) {
+        return new FeedbackQuestionRecipientsResolver(courseId)
+                .getRecipientsForInstructor(questions, instructorsLogic.getInstructorById(courseId, giverEmail));
     }
 
     /**
@@ -598,21 +457,19 @@ public final class FeedbackQuestionsLogic {
         }
     }
 
-    private String getGiverTeam(String defaultTeam, InstructorAttributes instructorGiver,
-            StudentAttributes studentGiver) {
-        String giverTeam = defaultTeam;
-        boolean isStudentGiver = studentGiver != null;
-        boolean isInstructorGiver = instructorGiver != null;
-        if (isStudentGiver) {
-            giverTeam = studentGiver.team;
-        } else if (isInstructorGiver) {
-            giverTeam = Const.USER_TEAM_FOR_INSTRUCTOR;
-        }
-        return giverTeam;
-    }
-
     public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email)
             throws EntityDoesNotExistException {
+        return isQuestionFullyAnsweredByUser(question, email, new FeedbackQuestionRecipientsResolver(question.courseId));
+    }
+
+    /**
+     * Checks whether a user has given all the responses needed by a feedback question, using the roster
+     * of the course in {@code resolver}.
+     *
+     * @see #isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes, String)
+     */
+    public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email,
+            FeedbackQuestionRecipientsResolver resolver) throws EntityDoesNotExistException {
 
         int numberOfResponsesGiven =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
@@ -620,7 +477,7 @@ public final class FeedbackQuestionsLogic {
                 question.numberOfEntitiesToGiveFeedbackTo;
 
         if (numberOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
-            numberOfResponsesNeeded = getRecipientsForQuestion(question, email).size();
+            numberOfResponsesNeeded = getRecipientsForQuestion(question, email, resolver).size();
         }
 
         return numberOfResponsesGiven >= numberOfResponsesNeeded;
@@ -1,8 +1,11 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,6 +14,7 @@ import java.util.stream.Collectors;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
 import teammates.common.datatransfer.SectionDetail;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -23,6 +27,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Logger;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
 import teammates.storage.api.FeedbackResponsesDb;
 
 /**
@@ -38,6 +43,7 @@ public final class FeedbackResponsesLogic {
     private static FeedbackResponsesLogic instance = new FeedbackResponsesLogic();
 
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
+    private static final FeedbackQuestionStatisticsDb fqStatisticsDb = new FeedbackQuestionStatisticsDb();
 
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
@@ -68,7 +74,9 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponseAttributes createFeedbackResponse(FeedbackResponseAttributes fra)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createEntity(fra);
+        FeedbackResponseAttributes createdResponse = frDb.createEntity(fra);
+        updateQuestionStatistics(null, createdResponse);
+        return createdResponse;
     }
 
     public FeedbackResponseAttributes getFeedbackResponse(
@@ -243,6 +251,96 @@ public final class FeedbackResponsesLogic {
     public List<FeedbackResponseAttributes> getViewableFeedbackResponsesForQuestionInSection(
             FeedbackQuestionAttributes question, String userEmail,
             UserRole role, String section, SectionDetail sectionDetail) {
+        return getViewableFeedbackResponsesForQuestionInSection(question, userEmail, role, section, sectionDetail, null);
+    }
+
+    /**
+     * Gets the responses viewable by the user in a section for each of the questions, grouped by question ID.
+     *
+     * <p>Responses of questions which are visible to everyone of the user's role are loaded
+     * for all the questions in one batch instead of one question at a time.
+     */
+    public Map<String, List<FeedbackResponseAttributes>> getViewableFeedbackResponsesForQuestionsInSection(
+            List<FeedbackQuestionAttributes> questions, String userEmail,
+            UserRole role, String section, SectionDetail sectionDetail) {
+        FeedbackParticipantType roleType =
+                role == UserRole.STUDENT ? FeedbackParticipantType.STUDENTS : FeedbackParticipantType.INSTRUCTORS;
+        List<String> questionIdsVisibleToRole = questions.stream()
+                .filter(question -> question.isResponseVisibleTo(roleType))
+                .map(FeedbackQuestionAttributes::getId)
+                .collect(Collectors.toList());
+
+        // students see all responses of such questions regardless of section
+        Map<String, List<FeedbackResponseAttributes>> responsesOfQuestions = role == UserRole.STUDENT
+                ? frDb.getFeedbackResponsesForQuestionsInSection(questionIdsVisibleToRole, null, null)
+                : frDb.getFeedbackResponsesForQuestionsInSection(questionIdsVisibleToRole, section, sectionDetail);
+
+        Map<String, List<FeedbackResponseAttributes>> viewableResponses = new LinkedHashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            viewableResponses.put(question.getId(), getViewableFeedbackResponsesForQuestionInSection(
+                    question, userEmail, role, section, sectionDetail, responsesOfQuestions.get(question.getId())));
+        }
+        return viewableResponses;
+    }
+
+    /**
+     * Gets the responses of each question viewable by a student, filtered in memory from the given responses.
+     *
+     * <p>Gives the same responses as {@link #getViewableFeedbackResponsesForQuestionsInSection}
+     * for a student without a section, without querying the Datastore.
+     *
+     * @param responsesOfQuestions all responses of the questions, grouped by question ID
+     */
+    public Map<String, List<FeedbackResponseAttributes>> getViewableFeedbackResponsesForStudentForQuestions(
+            List<FeedbackQuestionAttributes> questions, String studentEmail, CourseRoster roster,
+            Map<String, List<FeedbackResponseAttributes>> responsesOfQuestions) {
+        StudentAttributes student = roster.getStudentForEmail(studentEmail);
+
+        Map<String, List<FeedbackResponseAttributes>> viewableResponses = new LinkedHashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            List<FeedbackResponseAttributes> responsesOfQuestion =
+                    responsesOfQuestions.getOrDefault(question.getId(), Collections.emptyList());
+            viewableResponses.put(question.getId(), responsesOfQuestion.stream()
+                    .filter(response -> isResponseViewableByStudent(question, response, studentEmail, student, roster))
+                    .collect(Collectors.toList()));
+        }
+        return viewableResponses;
+    }
+
+    private boolean isResponseViewableByStudent(FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
+            String studentEmail, StudentAttributes student, CourseRoster roster) {
+        boolean isVisibleToReceiver = question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER);
+        if (response.giver.equals(studentEmail)
+                || isVisibleToReceiver && response.recipient.equals(studentEmail)
+                || question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+            return true;
+        }
+        if (student == null) {
+            return false;
+        }
+
+        if (question.recipientType.isTeam() && isVisibleToReceiver && response.recipient.equals(student.team)) {
+            return true;
+        }
+        if ((question.giverType == FeedbackParticipantType.TEAMS
+                || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS))
+                && (response.giver.equals(student.team) || roster.isStudentInTeam(response.giver, student.team))) {
+            return true;
+        }
+        return question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                && !response.recipient.equals(studentEmail)
+                && roster.isStudentInTeam(response.recipient, student.team);
+    }
+
+    /**
+     * Gets the responses of a question viewable by the user in a section.
+     *
+     * @param responsesOfQuestion all responses of the question visible to the user's role if already loaded,
+     *                            otherwise null
+     */
+    private List<FeedbackResponseAttributes> getViewableFeedbackResponsesForQuestionInSection(
+            FeedbackQuestionAttributes question, String userEmail, UserRole role, String section,
+            SectionDetail sectionDetail, List<FeedbackResponseAttributes> responsesOfQuestion) {
 
         List<FeedbackResponseAttributes> viewableResponses = new ArrayList<>();
 
@@ -265,12 +363,13 @@ public final class FeedbackResponsesLogic {
         case STUDENT:
             // many queries
             addNewResponses(viewableResponses,
-                            getViewableFeedbackResponsesForStudentForQuestion(question, userEmail));
+                            getViewableFeedbackResponsesForStudentForQuestion(question, userEmail, responsesOfQuestion));
             break;
         case INSTRUCTOR:
             if (question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)) {
-                addNewResponses(viewableResponses,
-                                getFeedbackResponsesForQuestionInSection(question.getId(), section, sectionDetail));
+                addNewResponses(viewableResponses, responsesOfQuestion == null
+                        ? getFeedbackResponsesForQuestionInSection(question.getId(), section, sectionDetail)
+                        : responsesOfQuestion);
             }
             break;
         default:
@@ -417,35 +516,110 @@ public final class FeedbackResponsesLogic {
 
         FeedbackResponseAttributes oldResponse = frDb.getFeedbackResponse(updateOptions.getFeedbackResponseId());
         FeedbackResponseAttributes newResponse = frDb.updateFeedbackResponse(updateOptions);
+        updateQuestionStatistics(oldResponse, newResponse);
+
+        updateFeedbackResponseCommentsForChangingResponse(oldResponse, newResponse);
+
+        return newResponse;
+    }
+
+    /**
+     * Creates or updates all responses of a giver to a question, and deletes the other responses of the giver
+     * to the question cascade their associated comments.
+     *
+     * <p>The responses are validated together before any of them is saved, and are then saved with a single
+     * batched write. The statistics of the question are updated once for all the responses.
+     *
+     * <p>The existing responses are loaded by their IDs, which are built from the recipients of the question,
+     * so that responses which have just been written are not missed.
+     *
+     * <p>The respondent lists will NOT be updated.
+     *
+     * @param recipients the identifiers of all the recipients of the giver for the question
+     * @param responses the responses of the giver to the question, which are all to the same question and
+     *                  from the same giver, with a different recipient each
+     * @return the responses after saving, in the same order
+     * @throws InvalidParametersException if any of the responses is not valid, in which case none of them is saved
+     */
+    public List<FeedbackResponseAttributes> putFeedbackResponsesFromGiverForQuestion(
+            String feedbackQuestionId, String giver, Collection<String> recipients,
+            List<FeedbackResponseAttributes> responses)
+            throws InvalidParametersException {
+        Set<String> candidateRecipients = new HashSet<>(recipients);
+        for (FeedbackResponseAttributes response : responses) {
+            Assumption.assertEquals("The response is to another question",
+                    feedbackQuestionId, response.feedbackQuestionId);
+            Assumption.assertEquals("The response is from another giver", giver, response.giver);
+            candidateRecipients.add(response.recipient);
+        }
+
+        List<FeedbackResponseAttributes> replacedResponses = frDb.getFeedbackResponsesFromGiverForQuestionToRecipients(
+                feedbackQuestionId, giver, candidateRecipients);
+        Map<String, FeedbackResponseAttributes> oldResponses = new HashMap<>();
+        replacedResponses.forEach(response -> oldResponses.put(response.getId(), response));
+
+        List<FeedbackResponseAttributes> putResponses = frDb.putFeedbackResponses(responses);
+
+        for (FeedbackResponseAttributes putResponse : putResponses) {
+            FeedbackResponseAttributes oldResponse = oldResponses.remove(putResponse.getId());
+            if (oldResponse == null) {
+                continue;
+            }
+            try {
+                updateFeedbackResponseCommentsForChangingResponse(oldResponse, putResponse);
+            } catch (EntityDoesNotExistException e) {
+                log.warning("Comment of response " + putResponse.getId() + " is deleted during the update: "
+                        + TeammatesException.toStringWithStackTrace(e));
+            }
+        }
+        // the remaining responses are no longer given
+        for (String responseId : oldResponses.keySet()) {
+            frcLogic.deleteFeedbackResponseComments(
+                    AttributesDeletionQuery.builder()
+                            .withResponseId(responseId)
+                            .build());
+            frDb.deleteFeedbackResponse(responseId);
+        }
+
+        updateQuestionStatistics(replacedResponses, putResponses);
+
+        return putResponses;
+    }
 
+    /**
+     * Updates the comments of a response to follow the response when its ID or sections change.
+     */
+    private void updateFeedbackResponseCommentsForChangingResponse(FeedbackResponseAttributes oldResponse,
+            FeedbackResponseAttributes newResponse)
+            throws InvalidParametersException, EntityDoesNotExistException {
         boolean isResponseIdChanged = !oldResponse.getId().equals(newResponse.getId());
         boolean isGiverSectionChanged = !oldResponse.giverSection.equals(newResponse.giverSection);
         boolean isRecipientSectionChanged = !oldResponse.recipientSection.equals(newResponse.recipientSection);
 
-        if (isResponseIdChanged || isGiverSectionChanged || isRecipientSectionChanged) {
-            List<FeedbackResponseCommentAttributes> responseComments =
-                    frcLogic.getFeedbackResponseCommentForResponse(oldResponse.getId());
-            for (FeedbackResponseCommentAttributes responseComment : responseComments) {
-                FeedbackResponseCommentAttributes.UpdateOptions.Builder updateOptionsBuilder =
-                        FeedbackResponseCommentAttributes.updateOptionsBuilder(responseComment.getId());
+        if (!isResponseIdChanged && !isGiverSectionChanged && !isRecipientSectionChanged) {
+            return;
+        }
 
-                if (isResponseIdChanged) {
-                    updateOptionsBuilder.withFeedbackResponseId(newResponse.getId());
-                }
+        List<FeedbackResponseCommentAttributes> responseComments =
+                frcLogic.getFeedbackResponseCommentForResponse(oldResponse.getId());
+        for (FeedbackResponseCommentAttributes responseComment : responseComments) {
+            FeedbackResponseCommentAttributes.UpdateOptions.Builder updateOptionsBuilder =
+                    FeedbackResponseCommentAttributes.updateOptionsBuilder(responseComment.getId());
 
-                if (isGiverSectionChanged) {
-                    updateOptionsBuilder.withGiverSection(newResponse.giverSection);
-                }
+            if (isResponseIdChanged) {
+                updateOptionsBuilder.withFeedbackResponseId(newResponse.getId());
+            }
 
-                if (isRecipientSectionChanged) {
-                    updateOptionsBuilder.withReceiverSection(newResponse.recipientSection);
-                }
+            if (isGiverSectionChanged) {
+                updateOptionsBuilder.withGiverSection(newResponse.giverSection);
+            }
 
-                frcLogic.updateFeedbackResponseComment(updateOptionsBuilder.build());
+            if (isRecipientSectionChanged) {
+                updateOptionsBuilder.withReceiverSection(newResponse.recipientSection);
             }
-        }
 
-        return newResponse;
+            frcLogic.updateFeedbackResponseComment(updateOptionsBuilder.build());
+        }
     }
 
     /**
@@ -463,12 +637,12 @@ public final class FeedbackResponsesLogic {
 
         // deletes all responses given by the user to team members or given by the user as a representative of a team.
         List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
+                frDb.getFeedbackResponseRoutingsFromGiverForCourse(courseId, userEmail);
         for (FeedbackResponseAttributes response : responsesFromUser) {
             question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
             if (question.giverType == FeedbackParticipantType.TEAMS
                     || isRecipientTypeTeamMembers(question)) {
-                deleteFeedbackResponseCascade(response.getId());
+                deleteFeedbackResponseCascade(response, question);
 
                 studentEmailsNeedRespondentsUpdate
                         .computeIfAbsent(response.feedbackSessionName, key -> new HashSet<>())
@@ -478,11 +652,11 @@ public final class FeedbackResponsesLogic {
 
         // Deletes all responses given by other team members to the user.
         List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
+                frDb.getFeedbackResponseRoutingsForReceiverForCourse(courseId, userEmail);
         for (FeedbackResponseAttributes response : responsesToUser) {
             question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
             if (isRecipientTypeTeamMembers(question)) {
-                deleteFeedbackResponseCascade(response.getId());
+                deleteFeedbackResponseCascade(response, question);
 
                 if (question.getGiverType() == FeedbackParticipantType.STUDENTS) {
                     studentEmailsNeedRespondentsUpdate
@@ -518,20 +692,24 @@ public final class FeedbackResponsesLogic {
     private void deleteResponsesInvolvedTeam(String courseId, String teamName,
                                              Map<String, Set<String>> studentEmailsNeedRespondentsUpdate,
                                              Map<String, Set<String>> instructorEmailsNeedRespondentsUpdate) {
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+
         // Deletes all responses given by the team.
         List<FeedbackResponseAttributes> responsesFromOldTeam =
-                getFeedbackResponsesFromGiverForCourse(courseId, teamName);
+                frDb.getFeedbackResponseRoutingsFromGiverForCourse(courseId, teamName);
         for (FeedbackResponseAttributes response : responsesFromOldTeam) {
-            deleteFeedbackResponseCascade(response.getId());
+            deleteFeedbackResponseCascade(response,
+                    questions.computeIfAbsent(response.feedbackQuestionId, fqLogic::getFeedbackQuestion));
         }
 
         // Deletes all responses received by the team.
         List<FeedbackResponseAttributes> responsesToOldTeam =
-                getFeedbackResponsesForReceiverForCourse(courseId, teamName);
+                frDb.getFeedbackResponseRoutingsForReceiverForCourse(courseId, teamName);
         for (FeedbackResponseAttributes response : responsesToOldTeam) {
-            deleteFeedbackResponseCascade(response.getId());
+            FeedbackQuestionAttributes question =
+                    questions.computeIfAbsent(response.feedbackQuestionId, fqLogic::getFeedbackQuestion);
+            deleteFeedbackResponseCascade(response, question);
 
-            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
             if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
                     || question.getGiverType() == FeedbackParticipantType.SELF) {
                 instructorEmailsNeedRespondentsUpdate
@@ -559,7 +737,7 @@ public final class FeedbackResponsesLogic {
     private void updateSectionOfResponsesToUser(String courseId, String userEmail, String newSection)
             throws InvalidParametersException, EntityDoesNotExistException {
         List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
+                frDb.getFeedbackResponseRoutingsForReceiverForCourse(courseId, userEmail);
 
         for (FeedbackResponseAttributes response : responsesToUser) {
             try {
@@ -577,7 +755,7 @@ public final class FeedbackResponsesLogic {
     private void updateSectionOfResponsesFromUser(String courseId, String userEmail, String newSection)
             throws InvalidParametersException, EntityDoesNotExistException {
         List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
+                frDb.getFeedbackResponseRoutingsFromGiverForCourse(courseId, userEmail);
 
         for (FeedbackResponseAttributes response : responsesFromUser) {
             try {
@@ -601,7 +779,7 @@ public final class FeedbackResponsesLogic {
                 if (!hasGiverRespondedForSession(studentEmail, sessionName, courseId)) {
                     fsLogic.deleteStudentFromRespondentList(studentEmail, sessionName, courseId);
                 }
-            } catch (EntityDoesNotExistException | InvalidParametersException e) {
+            } catch (EntityDoesNotExistException e) {
                 log.warning(String.format(
                         "Cannot adjust response rate for student %s course %s feedbackSession %s because of %s",
                         studentEmail, courseId, sessionName, TeammatesException.toStringWithStackTrace(e)));
@@ -619,7 +797,7 @@ public final class FeedbackResponsesLogic {
                 if (!hasGiverRespondedForSession(instructorEmail, sessionName, courseId)) {
                     fsLogic.deleteInstructorRespondent(instructorEmail, sessionName, courseId);
                 }
-            } catch (EntityDoesNotExistException | InvalidParametersException e) {
+            } catch (EntityDoesNotExistException e) {
                 log.warning(String.format(
                         "Cannot adjust response rate for instructor %s course %s feedbackSession %s because of %s",
                         instructorEmail, courseId, sessionName, TeammatesException.toStringWithStackTrace(e)));
@@ -640,7 +818,7 @@ public final class FeedbackResponsesLogic {
             throws InvalidParametersException, EntityDoesNotExistException {
 
         List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
+                frDb.getFeedbackResponseRoutingsFromGiverForCourse(courseId, oldEmail);
 
         for (FeedbackResponseAttributes response : responsesFromUser) {
             try {
@@ -657,7 +835,7 @@ public final class FeedbackResponsesLogic {
         }
 
         List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, oldEmail);
+                frDb.getFeedbackResponseRoutingsForReceiverForCourse(courseId, oldEmail);
 
         for (FeedbackResponseAttributes response : responsesToUser) {
             try {
@@ -675,9 +853,12 @@ public final class FeedbackResponsesLogic {
 
     /**
      * Deletes responses using {@link AttributesDeletionQuery}.
+     *
+     * <p>The statistics of the questions whose responses are deleted are also deleted.
      */
     public void deleteFeedbackResponses(AttributesDeletionQuery query) {
         frDb.deleteFeedbackResponses(query);
+        fqStatisticsDb.deleteStatistics(query);
     }
 
     /**
@@ -690,7 +871,90 @@ public final class FeedbackResponsesLogic {
                 AttributesDeletionQuery.builder()
                         .withResponseId(responseId)
                         .build());
+        FeedbackResponseAttributes response = frDb.getFeedbackResponse(responseId);
         frDb.deleteFeedbackResponse(responseId);
+        if (response != null) {
+            updateQuestionStatistics(response, null);
+        }
+    }
+
+    /**
+     * Deletes a feedback response cascade its associated comments, where the response may be loaded
+     * with only its routing fields.
+     *
+     * <p>The whole response is only loaded if the statistics of its question are aggregated,
+     * as they need the response details. The respondent lists will NOT be updated.
+     */
+    private void deleteFeedbackResponseCascade(FeedbackResponseAttributes response,
+            FeedbackQuestionAttributes question) {
+        if (question != null && question.getQuestionDetails().isStatisticsAggregated()) {
+            deleteFeedbackResponseCascade(response.getId());
+            return;
+        }
+
+        frcLogic.deleteFeedbackResponseComments(
+                AttributesDeletionQuery.builder()
+                        .withResponseId(response.getId())
+                        .build());
+        frDb.deleteFeedbackResponse(response.getId());
+    }
+
+    /**
+     * Gets the statistics aggregated over all responses to the given questions, keyed by question ID.
+     *
+     * @see teammates.common.datatransfer.questions.FeedbackQuestionDetails#isStatisticsAggregated()
+     */
+    public Map<String, FeedbackQuestionStatistics> getFeedbackQuestionStatistics(Collection<String> feedbackQuestionIds) {
+        return fqStatisticsDb.getStatistics(feedbackQuestionIds);
+    }
+
+    /**
+     * Aggregates the statistics of a question again from all its responses.
+     */
+    public void rebuildFeedbackQuestionStatistics(String feedbackQuestionId) {
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
+        if (question == null || !question.getQuestionDetails().isStatisticsAggregated()) {
+            fqStatisticsDb.deleteStatistics(AttributesDeletionQuery.builder()
+                    .withQuestionId(feedbackQuestionId)
+                    .build());
+            return;
+        }
+
+        fqStatisticsDb.putStatistics(feedbackQuestionId, question.getFeedbackSessionName(), question.getCourseId(),
+                FeedbackQuestionStatistics.of(frDb.getFeedbackResponsesForQuestion(feedbackQuestionId)));
+    }
+
+    /**
+     * Replaces {@code oldResponse} with {@code newResponse} in the statistics of their question,
+     * where a null response stands for a response which does not exist.
+     */
+    private void updateQuestionStatistics(FeedbackResponseAttributes oldResponse,
+            FeedbackResponseAttributes newResponse) {
+        updateQuestionStatistics(
+                oldResponse == null ? Collections.emptyList() : Collections.singletonList(oldResponse),
+                newResponse == null ? Collections.emptyList() : Collections.singletonList(newResponse));
+    }
+
+    /**
+     * Replaces {@code oldResponses} with {@code newResponses} in the statistics of their question
+     * with a single update, where all the responses are to the same question.
+     */
+    private void updateQuestionStatistics(List<FeedbackResponseAttributes> oldResponses,
+            List<FeedbackResponseAttributes> newResponses) {
+        FeedbackResponseAttributes response = newResponses.isEmpty()
+                ? oldResponses.isEmpty() ? null : oldResponses.get(0)
+                : newResponses.get(0);
+        if (response == null || response.getDeserializedResponseDetails().getStatisticsKeys() == null) {
+            return;
+        }
+
+        FeedbackQuestionStatistics delta = new FeedbackQuestionStatistics();
+        oldResponses.forEach(delta::removeResponse);
+        newResponses.forEach(delta::addResponse);
+        if (!delta.isEmpty()) {
+            fqStatisticsDb.addToStatistics(response.feedbackQuestionId, response.feedbackSessionName,
+                    response.courseId, delta);
+        }
     }
 
     /**
@@ -700,7 +964,7 @@ public final class FeedbackResponsesLogic {
      */
     public void deleteFeedbackResponsesForQuestionCascade(String feedbackQuestionId) {
         List<FeedbackResponseAttributes> responsesForQuestion =
-                getFeedbackResponsesForQuestion(feedbackQuestionId);
+                frDb.getFeedbackResponseRoutingsForQuestion(feedbackQuestionId);
 
         Set<String> emails = new HashSet<>();
         // record all giver and prepare respondents update
@@ -810,20 +1074,23 @@ public final class FeedbackResponsesLogic {
             String courseId, String entityEmail,
             Map<String, Set<String>> studentEmailsNeedRespondentsUpdate,
             Map<String, Set<String>> instructorEmailsNeedRespondentsUpdate) {
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+
         // delete responses from the entity
         List<FeedbackResponseAttributes> responsesFromStudent =
-                getFeedbackResponsesFromGiverForCourse(courseId, entityEmail);
+                frDb.getFeedbackResponseRoutingsFromGiverForCourse(courseId, entityEmail);
         for (FeedbackResponseAttributes response : responsesFromStudent) {
-            deleteFeedbackResponseCascade(response.getId());
+            deleteFeedbackResponseCascade(response,
+                    questions.computeIfAbsent(response.feedbackQuestionId, fqLogic::getFeedbackQuestion));
         }
 
         // delete responses to the entity
         List<FeedbackResponseAttributes> responsesToStudent =
-                getFeedbackResponsesForReceiverForCourse(courseId, entityEmail);
+                frDb.getFeedbackResponseRoutingsForReceiverForCourse(courseId, entityEmail);
         FeedbackQuestionAttributes question;
         for (FeedbackResponseAttributes response : responsesToStudent) {
-            question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
-            deleteFeedbackResponseCascade(response.getId());
+            question = questions.computeIfAbsent(response.feedbackQuestionId, fqLogic::getFeedbackQuestion);
+            deleteFeedbackResponseCascade(response, question);
 
             if (question.getGiverType() == FeedbackParticipantType.STUDENTS) {
                 studentEmailsNeedRespondentsUpdate
@@ -846,9 +1113,9 @@ public final class FeedbackResponsesLogic {
     private void addNewResponses(
             List<FeedbackResponseAttributes> existingResponses,
             List<FeedbackResponseAttributes> newResponses) {
-        List<String> existingResponseIds = existingResponses.stream()
+        Set<String> existingResponseIds = existingResponses.stream()
                 .map(FeedbackResponseAttributes::getId)
-                .collect(Collectors.toList());
+                .collect(Collectors.toSet());
 
         for (FeedbackResponseAttributes newResponse : newResponses) {
             String newResponseId = newResponse.getId();
@@ -897,13 +1164,14 @@ public final class FeedbackResponsesLogic {
     }
 
     private List<FeedbackResponseAttributes> getViewableFeedbackResponsesForStudentForQuestion(
-            FeedbackQuestionAttributes question, String studentEmail) {
+            FeedbackQuestionAttributes question, String studentEmail, List<FeedbackResponseAttributes> responsesOfQuestion) {
 
         List<FeedbackResponseAttributes> viewableResponses = new ArrayList<>();
 
         if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            addNewResponses(viewableResponses,
-                    getFeedbackResponsesForQuestion(question.getId()));
+            addNewResponses(viewableResponses, responsesOfQuestion == null
+                    ? getFeedbackResponsesForQuestion(question.getId())
+                    : responsesOfQuestion);
 
             // Early return as STUDENTS covers all other student types.
             return viewableResponses;
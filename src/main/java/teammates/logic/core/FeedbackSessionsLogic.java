@@ -1,8 +1,11 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -15,6 +18,7 @@ import java.util.stream.Collectors;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
@@ -39,6 +43,7 @@ import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
 import teammates.common.util.TimeHelper;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
 import teammates.storage.api.FeedbackSessionsDb;
 
 /**
@@ -56,6 +61,12 @@ public final class FeedbackSessionsLogic {
     private static final int EMAIL_LASTNAME_PAIR = 1;
     private static final int EMAIL_TEAMNAME_PAIR = 2;
 
+    /**
+     * Minimum number of responses to a question for its stored statistics to be read, as reading the shards
+     * of the statistics costs more than aggregating the statistics of fewer responses.
+     */
+    private static final int MIN_RESPONSES_FOR_STORED_STATISTICS = 100;
+
     private static final String PARAM_FROM_SECTION = "fromSection";
     private static final String PARAM_IN_SECTION = "inSection";
     private static final String PARAM_IS_INCLUDE_RESPONSE_STATUS = "isIncludeResponseStatus";
@@ -65,11 +76,12 @@ public final class FeedbackSessionsLogic {
     private static final String PARAM_TO_SECTION = "toSection";
     private static final String PARAM_VIEW_TYPE = "viewType";
 
-    private static final String ASSUMPTION_FAIL_DELETE_INSTRUCTOR = "Fail to delete instructor respondent for ";
     private static final String ASSUMPTION_FAIL_RESPONSE_ORIGIN = "Client did not indicate the origin of the response(s)";
     private static final String ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE = "Number of responses exceeds the limited range";
     private static final String ERROR_NON_EXISTENT_COURSE = "Error getting feedback session(s): Course does not exist.";
     private static final String ERROR_NON_EXISTENT_STUDENT = "Error getting feedback session(s): Student does not exist.";
+    private static final String ERROR_NON_EXISTENT_INSTRUCTOR =
+            "Error getting feedback session(s): Instructor does not exist.";
     private static final String ERROR_NON_EXISTENT_FS_STRING_FORMAT = "Trying to %s a non-existent feedback session: ";
     private static final String ERROR_NON_EXISTENT_FS_GET = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "get");
     private static final String ERROR_NON_EXISTENT_FS_UPDATE = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "update");
@@ -83,12 +95,14 @@ public final class FeedbackSessionsLogic {
     private static FeedbackSessionsLogic instance = new FeedbackSessionsLogic();
 
     private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
+    private static final FeedbackSessionRespondentsDb fsRespondentsDb = new FeedbackSessionRespondentsDb();
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final ResultsSnapshotsLogic resultsSnapshotsLogic = ResultsSnapshotsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
     private FeedbackSessionsLogic() {
@@ -329,8 +343,11 @@ public final class FeedbackSessionsLogic {
         if (fsa == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_GET + courseId + "/" + feedbackSessionName);
         }
+        InstructorAttributes instructor = instructorsLogic.getInstructorById(courseId, userEmail);
+        if (instructor == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_INSTRUCTOR);
+        }
 
-        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
         Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle = new HashMap<>();
         Map<String, Map<String, String>> recipientList = new HashMap<>();
 
@@ -341,12 +358,12 @@ public final class FeedbackSessionsLogic {
         Map<String, List<FeedbackResponseCommentAttributes>> commentsForResponses = new HashMap<>();
         CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
                 instructorsLogic.getInstructorsForCourse(courseId));
+        FeedbackQuestionRecipientsResolver recipientsResolver = new FeedbackQuestionRecipientsResolver(courseId, roster);
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForInstructor(courseId,
-                    userEmail, fsa, instructor, bundle, recipientList,
-                    question, instructor, null);
+            updateBundleAndRecipientListWithResponsesForInstructor(
+                    instructor, bundle, recipientList, question, recipientsResolver);
             updateBundleWithCommentsForResponses(bundle.get(question), commentsForResponses);
         }
 
@@ -354,36 +371,16 @@ public final class FeedbackSessionsLogic {
     }
 
     private void updateBundleAndRecipientListWithResponsesForInstructor(
-            String courseId,
-            String userEmail,
-            FeedbackSessionAttributes fsa,
             InstructorAttributes instructor,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            InstructorAttributes instructorGiver, StudentAttributes studentGiver)
-            throws EntityDoesNotExistException {
+            FeedbackQuestionRecipientsResolver recipientsResolver) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(
-                        question.getId(), userEmail);
-        Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver);
-        // instructor can only see students in allowed sections for him/her
-        if (question.recipientType.equals(FeedbackParticipantType.STUDENTS)) {
-            recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, studentEntry.getKey());
-                return !instructor.isAllowedForPrivilege(student.section,
-                        fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
-            });
-        }
-        // instructor can only see teams in allowed sections for him/her
-        if (question.recipientType.equals(FeedbackParticipantType.TEAMS)) {
-            recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(courseId, teamEntry.getKey());
-                return !instructor.isAllowedForPrivilege(teamSection,
-                        fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
-            });
-        }
+                        question.getId(), instructor.email);
+        // instructor can only see students and teams in allowed sections for him/her
+        Map<String, String> recipients = recipientsResolver.getRecipientsForInstructor(question, instructor);
         normalizeMaximumResponseEntities(question, recipients);
 
         bundle.put(question, responses);
@@ -429,10 +426,12 @@ public final class FeedbackSessionsLogic {
             }
         }
 
+        FeedbackQuestionRecipientsResolver recipientsResolver = new FeedbackQuestionRecipientsResolver(courseId, roster);
+
         for (FeedbackQuestionAttributes question : questions) {
 
             updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
-                    bundle, recipientList, question, hiddenInstructorEmails);
+                    bundle, recipientList, question, hiddenInstructorEmails, recipientsResolver);
             updateBundleWithCommentsForResponses(bundle.get(question), commentsForResponses);
 
         }
@@ -455,13 +454,12 @@ public final class FeedbackSessionsLogic {
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            Set<String> hiddenInstructorEmails)
-            throws EntityDoesNotExistException {
+            Set<String> hiddenInstructorEmails,
+            FeedbackQuestionRecipientsResolver recipientsResolver) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(
                         question, student);
-        Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, null, student);
+        Map<String, String> recipients = recipientsResolver.getRecipients(question, userEmail, student.team);
 
         removeHiddenInstructors(question, responses, recipients, hiddenInstructorEmails);
 
@@ -563,30 +561,33 @@ public final class FeedbackSessionsLogic {
                 .getFeedbackQuestionsForStudents(questions);
 
         List<String> studentNoResponses = new ArrayList<>();
-        List<String> studentResponded = new ArrayList<>();
         List<String> instructorNoResponses = new ArrayList<>();
 
+        Set<String> studentResponded = getStudentRespondents(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        Set<String> instructorResponded = getInstructorRespondents(fsa.getFeedbackSessionName(), fsa.getCourseId());
+
         if (!studentQns.isEmpty()) {
             for (StudentAttributes student : students) {
-                studentNoResponses.add(student.email);
+                if (!studentResponded.contains(student.email)) {
+                    studentNoResponses.add(student.email);
+                }
                 responseStatus.emailNameTable.put(student.email, student.name);
                 responseStatus.emailSectionTable.put(student.email, student.section);
                 responseStatus.emailTeamNameTable.put(student.email, student.team);
             }
         }
-        studentNoResponses.removeAll(fsa.getRespondingStudentList());
-        studentResponded.addAll(fsa.getRespondingStudentList());
 
         for (InstructorAttributes instructor : instructors) {
             List<FeedbackQuestionAttributes> instructorQns = fqLogic
                     .getFeedbackQuestionsForInstructor(questions,
                             fsa.isCreator(instructor.email));
             if (!instructorQns.isEmpty() && responseStatus.emailNameTable.get(instructor.email) == null) {
-                instructorNoResponses.add(instructor.email);
+                if (!instructorResponded.contains(instructor.email)) {
+                    instructorNoResponses.add(instructor.email);
+                }
                 responseStatus.emailNameTable.put(instructor.email, instructor.name);
             }
         }
-        instructorNoResponses.removeAll(fsa.getRespondingInstructorList());
 
         responseStatus.studentsWhoDidNotRespond.addAll(studentNoResponses);
         responseStatus.studentsWhoResponded.addAll(studentResponded);
@@ -609,15 +610,9 @@ public final class FeedbackSessionsLogic {
         CourseRoster roster = new CourseRoster(
                 studentsLogic.getStudentsForCourse(courseId),
                 instructorsLogic.getInstructorsForCourse(courseId));
-        Map<String, String> params = new HashMap<>();
-        params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
-        params.put(PARAM_IN_SECTION, "false");
-        params.put(PARAM_FROM_SECTION, "false");
-        params.put(PARAM_TO_SECTION, "false");
-        params.put(PARAM_QUESTION_ID, questionId);
 
-        return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
-                                                          UserRole.INSTRUCTOR, roster, params, SectionDetail.NOT_APPLICABLE);
+        return getFeedbackSessionResultsForInstructorFromQuestionInSection(
+                feedbackSessionName, courseId, userEmail, questionId, null, SectionDetail.NOT_APPLICABLE, roster);
     }
 
     /**
@@ -633,14 +628,35 @@ public final class FeedbackSessionsLogic {
         CourseRoster roster = new CourseRoster(
                 studentsLogic.getStudentsForCourse(courseId),
                 instructorsLogic.getInstructorsForCourse(courseId));
-        Map<String, String> params = initializeParamsWithSelectedSectionDetail(selectedSectionDetail);
 
+        return getFeedbackSessionResultsForInstructorFromQuestionInSection(
+                feedbackSessionName, courseId, userEmail, questionId, selectedSection, selectedSectionDetail, roster);
+    }
+
+    /**
+     * Gets results of a feedback session to show to an instructor from an indicated question
+     * and in a section, or in all sections if {@code selectedSection} is null.
+     */
+    private FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromQuestionInSection(
+            String feedbackSessionName, String courseId, String userEmail, String questionId,
+            String selectedSection, SectionDetail selectedSectionDetail, CourseRoster roster)
+            throws EntityDoesNotExistException {
+
+        Map<String, String> params;
+        if (selectedSection == null) {
+            params = new HashMap<>();
+            params.put(PARAM_IN_SECTION, "false");
+            params.put(PARAM_FROM_SECTION, "false");
+            params.put(PARAM_TO_SECTION, "false");
+        } else {
+            params = initializeParamsWithSelectedSectionDetail(selectedSectionDetail);
+            params.put(PARAM_SECTION, selectedSection);
+        }
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_QUESTION_ID, questionId);
-        params.put(PARAM_SECTION, selectedSection);
 
         return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
-                                                          UserRole.INSTRUCTOR, roster, params, selectedSectionDetail);
+                                                          UserRole.INSTRUCTOR, roster, params, selectedSectionDetail, null);
     }
 
     /**
@@ -663,9 +679,13 @@ public final class FeedbackSessionsLogic {
             int range, String viewType)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        ResultsSnapshot snapshot = section == null
+                ? resultsSnapshotsLogic.getSnapshot(feedbackSessionName, courseId)
+                : null;
+        CourseRoster roster = snapshot == null
+                ? new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                        instructorsLogic.getInstructorsForCourse(courseId))
+                : snapshot.getRoster();
 
         Map<String, String> params = initializeParamsWithSelectedSectionDetail(sectionDetail);
 
@@ -678,7 +698,7 @@ public final class FeedbackSessionsLogic {
         params.put(PARAM_VIEW_TYPE, viewType);
 
         return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
-                                                          UserRole.INSTRUCTOR, roster, params, sectionDetail);
+                                                          UserRole.INSTRUCTOR, roster, params, sectionDetail, snapshot);
     }
 
     /**
@@ -702,7 +722,8 @@ public final class FeedbackSessionsLogic {
             params.put(PARAM_RANGE, String.valueOf(range));
         }
         return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
-                                                          UserRole.INSTRUCTOR, roster, params, SectionDetail.NOT_APPLICABLE);
+                                                          UserRole.INSTRUCTOR, roster, params, SectionDetail.NOT_APPLICABLE,
+                                                          null);
     }
 
     /**
@@ -726,7 +747,8 @@ public final class FeedbackSessionsLogic {
             params.put(PARAM_RANGE, String.valueOf(range));
         }
         return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
-                                                          UserRole.INSTRUCTOR, roster, params, SectionDetail.NOT_APPLICABLE);
+                                                          UserRole.INSTRUCTOR, roster, params, SectionDetail.NOT_APPLICABLE,
+                                                          null);
     }
 
     /**
@@ -748,16 +770,20 @@ public final class FeedbackSessionsLogic {
             String section, SectionDetail sectionDetail)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        ResultsSnapshot snapshot = section == null
+                ? resultsSnapshotsLogic.getSnapshot(feedbackSessionName, courseId)
+                : null;
+        CourseRoster roster = snapshot == null
+                ? new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                        instructorsLogic.getInstructorsForCourse(courseId))
+                : snapshot.getRoster();
         Map<String, String> params = initializeParamsWithSelectedSectionDetail(sectionDetail);
 
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_SECTION, section);
 
         return getFeedbackSessionResultsForUserWithParams(feedbackSessionName,
-                courseId, userEmail, UserRole.INSTRUCTOR, roster, params, sectionDetail);
+                courseId, userEmail, UserRole.INSTRUCTOR, roster, params, sectionDetail, snapshot);
     }
 
     /**
@@ -807,13 +833,82 @@ public final class FeedbackSessionsLogic {
         // sort responses by giver > recipient > qnNumber
         results.responses.sort(results.compareByGiverRecipientQuestion);
 
+        StringBuilder exportBuilder = getCsvHeader(results.feedbackSession, section, sectionDetail);
+
+        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
+                results.getQuestionResponseMap().entrySet();
+
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
+            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                    results, entry, isMissingResponsesShown, isStatsShown, section));
+        }
+
+        return exportBuilder.toString();
+    }
+
+    /**
+     * Writes the summary results of a feedback session in CSV format to {@code writer}.
+     *
+     * <p>Unlike {@link #getFeedbackSessionResultsSummaryInSectionAsCsv}, the results are loaded and written
+     * one question at a time, so that only the responses of a single question are held in memory
+     * and there is no limit on the number of responses in the session.
+     *
+     * @param section the section to export, or null for all sections
+     * @param questionId the question to export, or null for all questions
+     */
+    public void writeFeedbackSessionResultsSummaryInSectionAsCsv(
+            String feedbackSessionName, String courseId, String userEmail, String section,
+            SectionDetail sectionDetail, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        List<String> questionIds = new ArrayList<>();
+        if (questionId == null) {
+            List<FeedbackQuestionAttributes> questions =
+                    fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+            for (FeedbackQuestionAttributes question : questions) {
+                questionIds.add(question.getId());
+            }
+        } else {
+            questionIds.add(questionId);
+        }
+
+        // Load details of students and instructors once for all questions
+        CourseRoster roster = new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+
+        writer.append(getCsvHeader(session, section, sectionDetail));
+
+        for (String id : questionIds) {
+            FeedbackSessionResultsBundle results = getFeedbackSessionResultsForInstructorFromQuestionInSection(
+                    feedbackSessionName, courseId, userEmail, id, section, sectionDetail, roster);
+
+            // sort responses by giver > recipient > qnNumber
+            results.responses.sort(results.compareByGiverRecipientQuestion);
+
+            for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                    : results.getQuestionResponseMap().entrySet()) {
+                writer.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                        results, entry, isMissingResponsesShown, isStatsShown, section));
+            }
+            writer.flush();
+        }
+    }
+
+    private StringBuilder getCsvHeader(FeedbackSessionAttributes session, String section, SectionDetail sectionDetail) {
         StringBuilder exportBuilder = new StringBuilder(100);
 
         exportBuilder.append(String.format("Course,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
+                             SanitizationHelper.sanitizeForCsv(session.getCourseId())))
                      .append(System.lineSeparator())
                      .append(String.format("Session Name,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
+                             SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())))
                      .append(System.lineSeparator());
 
         if (section != null) {
@@ -826,16 +921,7 @@ public final class FeedbackSessionsLogic {
         }
 
         exportBuilder.append(System.lineSeparator()).append(System.lineSeparator());
-
-        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
-                results.getQuestionResponseMap().entrySet();
-
-        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
-            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
-                    results, entry, isMissingResponsesShown, isStatsShown, section));
-        }
-
-        return exportBuilder.toString();
+        return exportBuilder;
     }
 
     private StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
@@ -997,26 +1083,34 @@ public final class FeedbackSessionsLogic {
             FeedbackQuestionDetails questionDetails,
             List<String> possibleRecipientsForGiver, String giver) {
         StringBuilder exportBuilder = new StringBuilder();
+        if (!questionDetails.shouldShowNoResponseText(question) || possibleRecipientsForGiver.isEmpty()) {
+            return exportBuilder;
+        }
+
+        // the giver's columns are the same for every row
+        String giverColumns = SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(giver))
+                + "," + SanitizationHelper.sanitizeForCsv(
+                        StringHelper.removeExtraSpace(results.getFullNameFromRoster(giver)))
+                + "," + SanitizationHelper.sanitizeForCsv(
+                        StringHelper.removeExtraSpace(results.getLastNameFromRoster(giver)))
+                + "," + SanitizationHelper.sanitizeForCsv(
+                        StringHelper.removeExtraSpace(results.getDisplayableEmailFromRoster(giver)));
+
         for (String possibleRecipient : possibleRecipientsForGiver) {
-            String giverName = results.getFullNameFromRoster(giver);
-            String giverLastName = results.getLastNameFromRoster(giver);
-            String giverEmail = results.getDisplayableEmailFromRoster(giver);
             String possibleRecipientName = results.getFullNameFromRoster(possibleRecipient);
             String possibleRecipientLastName = results.getLastNameFromRoster(possibleRecipient);
             String possibleRecipientEmail = results.getDisplayableEmailFromRoster(possibleRecipient);
 
-            if (questionDetails.shouldShowNoResponseText(question)) {
-                exportBuilder.append(SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(giver))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverLastName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverEmail))
-                        + "," + SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(possibleRecipient))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientLastName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientEmail))
-                        + "," + questionDetails.getNoResponseTextInCsv(giver, possibleRecipient, results, question)
-                        + System.lineSeparator());
-            }
+            exportBuilder.append(giverColumns)
+                    .append(',').append(SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(possibleRecipient)))
+                    .append(',').append(SanitizationHelper.sanitizeForCsv(
+                            StringHelper.removeExtraSpace(possibleRecipientName)))
+                    .append(',').append(SanitizationHelper.sanitizeForCsv(
+                            StringHelper.removeExtraSpace(possibleRecipientLastName)))
+                    .append(',').append(SanitizationHelper.sanitizeForCsv(
+                            StringHelper.removeExtraSpace(possibleRecipientEmail)))
+                    .append(',').append(questionDetails.getNoResponseTextInCsv(giver, possibleRecipient, results, question))
+                    .append(System.lineSeparator());
         }
         return exportBuilder;
     }
@@ -1079,7 +1173,7 @@ public final class FeedbackSessionsLogic {
     }
 
     public boolean isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes fsa, String userEmail) {
-        if (fsa.getRespondingStudentList().contains(userEmail)) {
+        if (isStudentRespondent(userEmail, fsa.getFeedbackSessionName(), fsa.getCourseId())) {
             return true;
         }
 
@@ -1093,7 +1187,7 @@ public final class FeedbackSessionsLogic {
 
     public boolean isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes fsa, String userEmail)
             throws EntityDoesNotExistException {
-        if (fsa.getRespondingInstructorList().contains(userEmail)) {
+        if (isInstructorRespondent(userEmail, fsa.getFeedbackSessionName(), fsa.getCourseId())) {
             return true;
         }
 
@@ -1178,133 +1272,133 @@ public final class FeedbackSessionsLogic {
     }
 
     /**
-     * Updates the instructor with {@code oldEmail} to {@code newEmail} in the instructor respondent list
-     * in all feedback session of course {@code courseId}.
+     * Updates the instructor with {@code oldEmail} to {@code newEmail} in the instructor respondents
+     * of all feedback sessions of course {@code courseId}.
      */
-    public void updateRespondentsForInstructor(String oldEmail, String newEmail, String courseId)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackSessionAttributes> feedbackSessions = getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            fsDb.updateFeedbackSession(
-                    FeedbackSessionAttributes.updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
-                            .withUpdatingInstructorRespondent(oldEmail, newEmail)
-                            .build());
-        }
+    public void updateRespondentsForInstructor(String oldEmail, String newEmail, String courseId) {
+        fsRespondentsDb.updateRespondentEmail(courseId, oldEmail, newEmail, true);
     }
 
     /**
-     * Updates the student with {@code oldEmail} to {@code newEmail} in the student respondent list
-     * in all feedback session of course {@code courseId}.
+     * Updates the student with {@code oldEmail} to {@code newEmail} in the student respondents
+     * of all feedback sessions of course {@code courseId}.
      */
-    public void updateRespondentsForStudent(String oldEmail, String newEmail, String courseId)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackSessionAttributes> feedbackSessions = getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            fsDb.updateFeedbackSession(
-                    FeedbackSessionAttributes.updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
-                            .withUpdatingStudentRespondent(oldEmail, newEmail)
-                            .build());
-        }
+    public void updateRespondentsForStudent(String oldEmail, String newEmail, String courseId) {
+        fsRespondentsDb.updateRespondentEmail(courseId, oldEmail, newEmail, false);
     }
 
     /**
-     * Deletes the instructor's email from the instructor respondents set of all feedback sessions
+     * Deletes the instructor's email from the instructor respondents of all feedback sessions
      * in the corresponding course.
      */
     public void deleteInstructorFromRespondentsList(String courseId, String email) {
-        List<FeedbackSessionAttributes> sessionsToUpdate =
-                fsDb.getFeedbackSessionsForCourse(courseId);
-
-        for (FeedbackSessionAttributes session : sessionsToUpdate) {
-            try {
-                deleteInstructorRespondent(email, session.getFeedbackSessionName(), session.getCourseId());
-            } catch (InvalidParametersException | EntityDoesNotExistException e) {
-                Assumption.fail(ASSUMPTION_FAIL_DELETE_INSTRUCTOR + session.getFeedbackSessionName());
-            }
-        }
+        fsRespondentsDb.removeRespondentFromCourse(courseId, email, true);
     }
 
     /**
-     * Deletes the student's email from the student respondents set of all feedback sessions
+     * Deletes the student's email from the student respondents of all feedback sessions
      * in the corresponding course.
      */
     public void deleteStudentFromRespondentsList(String courseId, String email) {
-        List<FeedbackSessionAttributes> sessionsToUpdate =
-                fsDb.getFeedbackSessionsForCourse(courseId);
-
-        for (FeedbackSessionAttributes session : sessionsToUpdate) {
-            try {
-                deleteStudentFromRespondentList(email, session.getFeedbackSessionName(), session.getCourseId());
-            } catch (InvalidParametersException | EntityDoesNotExistException e) {
-                Assumption.fail(ASSUMPTION_FAIL_DELETE_INSTRUCTOR + session.getFeedbackSessionName());
-            }
-        }
+        fsRespondentsDb.removeRespondentFromCourse(courseId, email, false);
     }
 
     /**
-     * Adds an instructor in the instructor respondent set of a feedback session.
+     * Adds an instructor to the instructor respondents of a feedback session.
+     *
+     * @throws EntityDoesNotExistException if the feedback session cannot be found
      */
     public void addInstructorRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
-
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
+            throws EntityDoesNotExistException {
+        verifyRespondentParams(email, feedbackSessionName, courseId);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withAddingInstructorRespondent(email)
-                        .build());
+        fsRespondentsDb.addRespondent(feedbackSessionName, courseId, email, true);
     }
 
     /**
-     * Adds a student in the instructor respondent set of a feedback session.
+     * Adds a student to the student respondents of a feedback session.
+     *
+     * @throws EntityDoesNotExistException if the feedback session cannot be found
      */
     public void addStudentRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
-
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
+            throws EntityDoesNotExistException {
+        verifyRespondentParams(email, feedbackSessionName, courseId);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withAddingStudentRespondent(email)
-                        .build());
+        fsRespondentsDb.addRespondent(feedbackSessionName, courseId, email, false);
     }
 
     /**
-     * Deletes an instructor in the instructor respondent set of a feedback session.
+     * Deletes an instructor from the instructor respondents of a feedback session.
+     *
+     * @throws EntityDoesNotExistException if the feedback session cannot be found
      */
     public void deleteInstructorRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
-
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
+            throws EntityDoesNotExistException {
+        verifyRespondentParams(email, feedbackSessionName, courseId);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withRemovingInstructorRespondent(email)
-                        .build());
+        fsRespondentsDb.removeRespondent(feedbackSessionName, courseId, email, true);
     }
 
     /**
-     * Deletes a student in the instructor respondent set of a feedback session.
+     * Deletes a student from the student respondents of a feedback session.
+     *
+     * @throws EntityDoesNotExistException if the feedback session cannot be found
      */
     public void deleteStudentFromRespondentList(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
+        verifyRespondentParams(email, feedbackSessionName, courseId);
+
+        fsRespondentsDb.removeRespondent(feedbackSessionName, courseId, email, false);
+    }
 
+    private void verifyRespondentParams(String email, String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withRemovingStudentRespondent(email)
-                        .build());
+        if (fsDb.getFeedbackSession(courseId, feedbackSessionName) == null
+                && fsDb.getSoftDeletedFeedbackSession(courseId, feedbackSessionName) == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
+        }
+    }
+
+    /**
+     * Checks whether the instructor {@code email} has responded to a feedback session.
+     */
+    public boolean isInstructorRespondent(String email, String feedbackSessionName, String courseId) {
+        return fsRespondentsDb.isRespondent(feedbackSessionName, courseId, email, true);
+    }
+
+    /**
+     * Checks whether the student {@code email} has responded to a feedback session.
+     */
+    public boolean isStudentRespondent(String email, String feedbackSessionName, String courseId) {
+        return fsRespondentsDb.isRespondent(feedbackSessionName, courseId, email, false);
+    }
+
+    /**
+     * Gets the emails of the instructors who have responded to a feedback session.
+     */
+    public Set<String> getInstructorRespondents(String feedbackSessionName, String courseId) {
+        return fsRespondentsDb.getRespondentEmails(feedbackSessionName, courseId, true);
+    }
+
+    /**
+     * Gets the emails of the students who have responded to a feedback session.
+     */
+    public Set<String> getStudentRespondents(String feedbackSessionName, String courseId) {
+        return fsRespondentsDb.getRespondentEmails(feedbackSessionName, courseId, false);
+    }
+
+    /**
+     * Gets the number of students and instructors who have responded to a feedback session.
+     *
+     * <p>The number is maintained as respondents are added and removed, so this does not scale with the size
+     * of the course.
+     */
+    public int getRespondentCount(String feedbackSessionName, String courseId) {
+        return fsRespondentsDb.getRespondentCount(feedbackSessionName, courseId);
     }
 
     /**
@@ -1461,14 +1555,14 @@ public final class FeedbackSessionsLogic {
         details.stats.expectedTotal = 0;
         details.stats.submittedTotal = 0;
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
         List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
         List<FeedbackQuestionAttributes> questions =
                 fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
         List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
 
         if (!studentQns.isEmpty()) {
-            details.stats.expectedTotal += students.size();
+            // only the number of students is needed, so avoid loading the whole roster
+            details.stats.expectedTotal += studentsLogic.getNumberOfStudentsForCourse(fsa.getCourseId());
         }
 
         for (InstructorAttributes instructor : instructors) {
@@ -1479,7 +1573,7 @@ public final class FeedbackSessionsLogic {
             }
         }
 
-        details.stats.submittedTotal += fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
+        details.stats.submittedTotal += getRespondentCount(fsa.getFeedbackSessionName(), fsa.getCourseId());
 
         return details;
     }
@@ -1492,18 +1586,27 @@ public final class FeedbackSessionsLogic {
         // Load details of students and instructors once and pass it to callee
         // methods
         // (rather than loading them many times).
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        ResultsSnapshot snapshot = section == null && isStudent(role)
+                ? resultsSnapshotsLogic.getSnapshot(feedbackSessionName, courseId)
+                : null;
+        CourseRoster roster = snapshot == null
+                ? new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                        instructorsLogic.getInstructorsForCourse(courseId))
+                : snapshot.getRoster();
 
         return getFeedbackSessionResultsForUserInSectionByQuestions(
-                feedbackSessionName, courseId, userEmail, role, section, roster);
+                feedbackSessionName, courseId, userEmail, role, section, roster, snapshot);
     }
 
-    /* Get the feedback results for user in a section iterated by questions */
+    /**
+     * Gets the feedback results for user in a section iterated by questions.
+     *
+     * @param snapshot snapshot of the session to filter the responses and comments from if the user is a student
+     *                 and the results are not limited to a section, otherwise null to load them from the Datastore
+     */
     private FeedbackSessionResultsBundle getFeedbackSessionResultsForUserInSectionByQuestions(
             String feedbackSessionName, String courseId, String userEmail,
-            UserRole role, String section, CourseRoster roster)
+            UserRole role, String section, CourseRoster roster, ResultsSnapshot snapshot)
             throws EntityDoesNotExistException {
 
         FeedbackSessionAttributes session = fsDb.getFeedbackSession(
@@ -1527,13 +1630,26 @@ public final class FeedbackSessionsLogic {
 
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(
                                                                     feedbackSessionName, courseId);
+        Map<String, List<FeedbackResponseAttributes>> viewableResponses = snapshot == null
+                ? frLogic.getViewableFeedbackResponsesForQuestionsInSection(allQuestions, userEmail, role, section, null)
+                : getViewableResponsesForStudentFromSnapshot(allQuestions, userEmail, roster, snapshot);
+        StudentAttributes student = null;
+        Set<String> studentsEmailInTeam = new HashSet<>();
+        if (isStudent(role)) {
+            student = studentsLogic.getStudentForEmail(courseId, userEmail);
+            List<StudentAttributes> studentsInTeam = studentsLogic
+                    .getStudentsForTeam(student.team, courseId);
+            for (StudentAttributes teammates : studentsInTeam) {
+                studentsEmailInTeam.add(teammates.email);
+            }
+        }
+        ResponseVisibilityEvaluator visibilityEvaluator =
+                new ResponseVisibilityEvaluator(userEmail, role, student, studentsEmailInTeam, null, roster);
+
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackQuestionAttributes question : allQuestions) {
 
-            List<FeedbackResponseAttributes> responsesForThisQn;
-
-            responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
-                    question, userEmail, role, section, null);
+            List<FeedbackResponseAttributes> responsesForThisQn = viewableResponses.get(question.getId());
 
             boolean hasResponses = !responsesForThisQn.isEmpty();
             if (hasResponses) {
@@ -1547,33 +1663,21 @@ public final class FeedbackSessionsLogic {
                             question, roster);
                     addEmailTeamNamePairsToTable(emailTeamNameTable, response,
                             question, roster);
-                    addVisibilityToTable(visibilityTable, question, response,
-                            userEmail, role, roster);
+                    visibilityTable.put(response.getId(), visibilityEvaluator.getNameVisibility(question, response));
                 }
             }
         }
 
-        StudentAttributes student = null;
-        Set<String> studentsEmailInTeam = new HashSet<>();
-        if (isStudent(role)) {
-            student = studentsLogic.getStudentForEmail(courseId, userEmail);
-            List<StudentAttributes> studentsInTeam = studentsLogic
-                    .getStudentsForTeam(student.team, courseId);
-            for (StudentAttributes teammates : studentsInTeam) {
-                studentsEmailInTeam.add(teammates.email);
-            }
-        }
-
-        List<FeedbackResponseCommentAttributes> allResponseComments =
-                frcLogic.getFeedbackResponseCommentForSession(courseId,
-                        feedbackSessionName);
+        List<FeedbackResponseCommentAttributes> allResponseComments = snapshot == null
+                ? frcLogic.getFeedbackResponseCommentForSession(courseId, feedbackSessionName)
+                : snapshot.copyComments();
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
-            boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(userEmail,
-                    role, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
+            boolean isVisibleResponseComment =
+                    visibilityEvaluator.isCommentVisible(relatedQuestion, relatedResponse, frc);
             if (isVisibleResponseComment) {
-                if (!frcLogic.isNameVisibleToUser(frc, relatedResponse, userEmail, roster)) {
+                if (!visibilityEvaluator.isCommentGiverNameVisible(relatedResponse, frc)) {
                     frc.commentGiver = Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT;
                 }
 
@@ -1595,6 +1699,20 @@ public final class FeedbackSessionsLogic {
                         visibilityTable, responseStatus, roster, responseComments);
     }
 
+    /**
+     * Gets copies of the responses of each question viewable by a student, filtered from the snapshot.
+     */
+    private Map<String, List<FeedbackResponseAttributes>> getViewableResponsesForStudentFromSnapshot(
+            List<FeedbackQuestionAttributes> questions, String studentEmail, CourseRoster roster,
+            ResultsSnapshot snapshot) {
+        Map<String, List<FeedbackResponseAttributes>> viewableResponses =
+                frLogic.getViewableFeedbackResponsesForStudentForQuestions(
+                        questions, studentEmail, roster, snapshot.getResponsesByQuestion());
+        viewableResponses.replaceAll((questionId, responses) ->
+                responses.stream().map(FeedbackResponseAttributes::new).collect(Collectors.toList()));
+        return viewableResponses;
+    }
+
     private Map<String, String> initializeParamsWithSelectedSectionDetail(SectionDetail sectionDetail) {
 
         Map<String, String> params = new HashMap<>();
@@ -1632,9 +1750,15 @@ public final class FeedbackSessionsLogic {
         return params;
     }
 
+    /**
+     * Gets the feedback results for user with the given parameters.
+     *
+     * @param snapshot snapshot of the session to take the responses and comments from if the results are
+     *                 neither limited to a section nor to a question, otherwise null to load them from the Datastore
+     */
     private FeedbackSessionResultsBundle getFeedbackSessionResultsForUserWithParams(
-            String feedbackSessionName, String courseId, String userEmail,
-            UserRole role, CourseRoster roster, Map<String, String> params, SectionDetail sectionDetail)
+            String feedbackSessionName, String courseId, String userEmail, UserRole role, CourseRoster roster,
+            Map<String, String> params, SectionDetail sectionDetail, ResultsSnapshot snapshot)
             throws EntityDoesNotExistException {
 
         FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
@@ -1662,9 +1786,12 @@ public final class FeedbackSessionsLogic {
         Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
         putQuestionsIntoMap(allQuestions, allQuestionsMap);
 
-        List<FeedbackResponseAttributes> allResponses = getAllResponses(feedbackSessionName, courseId, params, section);
-
         String rangeString = params.get(PARAM_RANGE);
+        // like the Datastore queries, load one response more than the range to tell whether there are more
+        List<FeedbackResponseAttributes> allResponses = snapshot == null
+                ? getAllResponses(feedbackSessionName, courseId, params, section)
+                : snapshot.copyResponses(rangeString == null ? -1 : Integer.parseInt(rangeString) + 1);
+
         boolean isComplete = rangeString == null || allResponses.size() <= Integer.parseInt(rangeString);
 
         if (!isComplete) {
@@ -1686,13 +1813,15 @@ public final class FeedbackSessionsLogic {
         Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
 
         InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        ResponseVisibilityEvaluator visibilityEvaluator = new ResponseVisibilityEvaluator(
+                userEmail, role, student, studentsEmailInTeam, instructor, roster);
 
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+        Set<String> questionIdsWithHiddenResponses = new HashSet<>();
         for (FeedbackResponseAttributes response : allResponses) {
             FeedbackQuestionAttributes relatedQuestion = allQuestionsMap.get(response.feedbackQuestionId);
             if (relatedQuestion != null) {
-                boolean isVisibleResponse = isResponseVisibleForUser(
-                        userEmail, role, student, studentsEmailInTeam, response, relatedQuestion, instructor);
+                boolean isVisibleResponse = visibilityEvaluator.isResponseVisible(relatedQuestion, response);
                 if (isVisibleResponse) {
                     responses.add(response);
                     relevantResponse.put(response.getId(), response);
@@ -1700,37 +1829,69 @@ public final class FeedbackSessionsLogic {
                     addEmailNamePairsToTable(emailNameTable, response, relatedQuestion, roster);
                     addEmailLastNamePairsToTable(emailLastNameTable, response, relatedQuestion, roster);
                     addEmailTeamNamePairsToTable(emailTeamNameTable, response, relatedQuestion, roster);
-                    addVisibilityToTable(visibilityTable, relatedQuestion, response, userEmail, role, roster);
+                    visibilityTable.put(response.getId(),
+                            visibilityEvaluator.getNameVisibility(relatedQuestion, response));
+                } else {
+                    questionIdsWithHiddenResponses.add(relatedQuestion.getId());
                 }
             }
         }
+        List<FeedbackResponseCommentAttributes> allResponseComments = snapshot == null
+                ? frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section)
+                : snapshot.copyComments();
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getResponseComments(
-                feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
-                studentsEmailInTeam, relevantResponse);
+                allResponseComments, visibilityEvaluator, relevantQuestions, relevantResponse);
 
         addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
-        return new FeedbackSessionResultsBundle(
+        FeedbackSessionResultsBundle bundle = new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
                 visibilityTable, responseStatus, roster, responseComments, isComplete);
+        if (isInstructor(role) && section == null && isComplete) {
+            bundle.setQuestionStatistics(getQuestionStatistics(relevantQuestions.values().stream()
+                    .filter(question -> !questionIdsWithHiddenResponses.contains(question.getId()))
+                    .collect(Collectors.toList()), responses));
+        }
+        return bundle;
+    }
+
+    /**
+     * Gets the stored statistics of the questions whose statistics are aggregated as responses are written.
+     *
+     * <p>Only questions with all their responses in {@code responses} should be given, so that the statistics
+     * can be checked against the responses. Questions with few responses are left out, as their statistics
+     * are cheaper to calculate from the responses.
+     */
+    private Map<String, FeedbackQuestionStatistics> getQuestionStatistics(
+            Collection<FeedbackQuestionAttributes> questions, List<FeedbackResponseAttributes> responses) {
+        Map<String, Integer> responseCounts = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responseCounts.merge(response.feedbackQuestionId, 1, Integer::sum);
+        }
+        List<String> questionIds = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            if (question.getQuestionDetails().isStatisticsAggregated()
+                    && responseCounts.getOrDefault(question.getId(), 0) >= MIN_RESPONSES_FOR_STORED_STATISTICS) {
+                questionIds.add(question.getId());
+            }
+        }
+        return questionIds.isEmpty() ? new HashMap<>() : frLogic.getFeedbackQuestionStatistics(questionIds);
     }
 
     private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
-            String feedbackSessionName, String courseId, String userEmail, UserRole role, CourseRoster roster,
-            Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
-            Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
+            List<FeedbackResponseCommentAttributes> allResponseComments, ResponseVisibilityEvaluator visibilityEvaluator,
+            Map<String, FeedbackQuestionAttributes> relevantQuestions,
+            Map<String, FeedbackResponseAttributes> relevantResponse) {
 
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
-        List<FeedbackResponseCommentAttributes> allResponseComments =
-                frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
-            boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(
-                    userEmail, role, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
+            boolean isVisibleResponseComment =
+                    visibilityEvaluator.isCommentVisible(relatedQuestion, relatedResponse, frc);
             if (isVisibleResponseComment) {
-                if (!frcLogic.isNameVisibleToUser(frc, relatedResponse, userEmail, roster)) {
+                if (!visibilityEvaluator.isCommentGiverNameVisible(relatedResponse, frc)) {
                     frc.commentGiver = Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT;
                 }
                 List<FeedbackResponseCommentAttributes> frcList = responseComments.get(frc.feedbackResponseId);
@@ -1799,6 +1960,7 @@ public final class FeedbackSessionsLogic {
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
         boolean isQueryingResponseRateStatus = questionId.equals(QUESTION_ID_FOR_RESPONSE_RATE);
+        List<FeedbackQuestionAttributes> questionsWithAllResponses = new ArrayList<>();
 
         if (isQueryingResponseRateStatus) {
             responseStatus = section == null && isIncludeResponseStatus
@@ -1813,15 +1975,19 @@ public final class FeedbackSessionsLogic {
 
                 responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
                                                 question, userEmail, UserRole.INSTRUCTOR, section, sectionDetail);
-                StudentAttributes student = getStudent(courseId, userEmail, role);
-                Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
+                if (question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)) {
+                    questionsWithAllResponses.add(question);
+                }
                 boolean hasResponses = !responsesForThisQn.isEmpty();
                 if (hasResponses) {
+                    StudentAttributes student = getStudent(courseId, userEmail, role);
+                    Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
+                    InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+                    ResponseVisibilityEvaluator visibilityEvaluator = new ResponseVisibilityEvaluator(
+                            userEmail, role, student, studentsEmailInTeam, instructor, roster);
                     Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
                     for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
-                        boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
-                                                                             question, instructor);
+                        boolean isVisibleResponse = visibilityEvaluator.isResponseVisible(question, response);
                         if (isVisibleResponse) {
                             relevantResponse.put(response.getId(), response);
                             relevantQuestions.put(question.getId(), question);
@@ -1829,22 +1995,30 @@ public final class FeedbackSessionsLogic {
                             addEmailNamePairsToTable(emailNameTable, response, question, roster);
                             addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
                             addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
-                            addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
+                            visibilityTable.put(response.getId(),
+                                    visibilityEvaluator.getNameVisibility(question, response));
+                        } else {
+                            questionsWithAllResponses.remove(question);
                         }
                     }
                     responseComments = getResponseComments(
-                            feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
-                            studentsEmailInTeam, relevantResponse);
+                            frcLogic.getFeedbackResponseCommentForSessionInSection(
+                                    courseId, feedbackSessionName, section),
+                            visibilityEvaluator, relevantQuestions, relevantResponse);
                 }
             }
         }
         addSectionTeamNamesToTable(
                 sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
-        return new FeedbackSessionResultsBundle(
+        FeedbackSessionResultsBundle bundle = new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
                 visibilityTable, responseStatus, roster, responseComments, true);
+        if (isInstructor(role) && section == null && !isQueryingResponseRateStatus) {
+            bundle.setQuestionStatistics(getQuestionStatistics(questionsWithAllResponses, responses));
+        }
+        return bundle;
     }
 
     private Map<String, FeedbackQuestionAttributes> getAllQuestions(
@@ -1928,74 +2102,10 @@ public final class FeedbackSessionsLogic {
         }
     }
 
-    private boolean isResponseVisibleForUser(String userEmail,
-            UserRole role, StudentAttributes student,
-            Set<String> studentsEmailInTeam,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.recipient.equals(userEmail)
-                        && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.giver.equals(userEmail)
-                || isStudent(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && isStudent(role)) {
-            if (relatedQuestion.recipientType == FeedbackParticipantType.TEAMS
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.recipient.equals(student.team)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.recipient)) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.giverSection,
-                                                      response.feedbackSessionName,
-                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.recipientType != FeedbackParticipantType.NONE
-                    && !instructor.isAllowedForPrivilege(response.recipientSection,
-                                                         response.feedbackSessionName,
-                                                         Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
-            }
-        }
-        return isVisibleResponse;
-    }
-
     private void sortByCreatedDate(List<FeedbackResponseCommentAttributes> responseCommentList) {
         responseCommentList.sort(Comparator.comparing(responseComment -> responseComment.createdAt));
     }
 
-    private void addVisibilityToTable(Map<String, boolean[]> visibilityTable,
-            FeedbackQuestionAttributes question,
-            FeedbackResponseAttributes response,
-            String userEmail,
-            UserRole role,
-            CourseRoster roster) {
-        boolean[] visibility = new boolean[2];
-        visibility[Const.VISIBILITY_TABLE_GIVER] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, true, roster);
-        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, false, roster);
-        visibilityTable.put(response.getId(), visibility);
-    }
-
     private void addEmailNamePairsToTable(Map<String, String> emailNameTable,
             FeedbackResponseAttributes response,
             FeedbackQuestionAttributes question, CourseRoster roster) {
@@ -2151,8 +2261,9 @@ public final class FeedbackSessionsLogic {
                 fqLogic.getFeedbackQuestionsForStudents(feedbackSessionName,
                         courseId);
 
+        FeedbackQuestionRecipientsResolver recipientsResolver = new FeedbackQuestionRecipientsResolver(courseId);
         for (FeedbackQuestionAttributes question : allQuestions) {
-            if (!fqLogic.isQuestionFullyAnsweredByUser(question, userEmail)) {
+            if (!fqLogic.isQuestionFullyAnsweredByUser(question, userEmail, recipientsResolver)) {
                 // If any question is not completely answered, session is not
                 // completed
                 return false;
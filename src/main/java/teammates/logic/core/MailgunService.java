@@ -1,10 +1,13 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import javax.ws.rs.core.MediaType;
 
 import org.apache.http.HttpStatus;
+import org.json.JSONObject;
 
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
@@ -28,11 +31,24 @@ public class MailgunService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of recipients allowed by Mailgun in a single batch sending request.
+     */
+    private static final int MAX_BATCH_RECIPIENTS = 1000;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public FormDataMultiPart parseToEmail(EmailWrapper wrapper) {
+        return parseToEmail(wrapper, Collections.singletonList(wrapper.getRecipient()));
+    }
+
+    /**
+     * Parses the {@code wrapper} email object to a Mailgun batch sending request,
+     * so that each of the {@code recipients} receives a separate copy of the email.
+     */
+    public FormDataMultiPart parseToEmail(EmailWrapper wrapper, List<String> recipients) {
         FormDataMultiPart formData = new FormDataMultiPart();
 
         String sender = wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
@@ -40,7 +56,17 @@ public class MailgunService extends EmailSenderService {
                         : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
         formData.field("from", sender);
 
-        formData.field("to", wrapper.getRecipient());
+        for (String recipient : recipients) {
+            formData.field("to", recipient);
+        }
+        if (recipients.size() > 1) {
+            // recipient variables make Mailgun send a separate copy to each recipient instead of a single group email
+            JSONObject recipientVariables = new JSONObject();
+            for (String recipient : recipients) {
+                recipientVariables.put(recipient, new JSONObject());
+            }
+            formData.field("recipient-variables", recipientVariables.toString());
+        }
 
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
             formData.field("bcc", wrapper.getBcc());
@@ -55,7 +81,21 @@ public class MailgunService extends EmailSenderService {
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) {
-        try (FormDataMultiPart email = parseToEmail(wrapper)) {
+        return send(parseToEmail(wrapper));
+    }
+
+    @Override
+    public int getMaxRecipientsPerRequest() {
+        return MAX_BATCH_RECIPIENTS;
+    }
+
+    @Override
+    public EmailSendingStatus sendEmailToRecipients(EmailWrapper wrapper, List<String> recipients) {
+        return send(parseToEmail(wrapper, recipients));
+    }
+
+    private EmailSendingStatus send(FormDataMultiPart formData) {
+        try (FormDataMultiPart email = formData) {
             Client client = Client.create();
             client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
             WebResource webResource =
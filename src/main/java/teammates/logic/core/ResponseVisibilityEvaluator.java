@@ -0,0 +1,331 @@
+package teammates.logic.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Evaluates the visibility of the responses of a feedback session and their comments to one user.
+ *
+ * <p>The visibility options of each question are compiled once into bitmasks of the relations the user can have
+ * to a response, e.g. being its giver or a team member of its recipient. The relations needed by the question
+ * are looked up once per response, after which each visibility check is a bitwise AND.
+ *
+ * <p>The checks give the same results as {@link FeedbackResponsesLogic#isNameVisibleToUser},
+ * {@link FeedbackResponseCommentsLogic#isResponseCommentVisibleForUser} and
+ * {@link FeedbackResponseCommentsLogic#isNameVisibleToUser}.
+ */
+public final class ResponseVisibilityEvaluator {
+
+    // relations of the user which do not depend on the response
+    private static final int INSTRUCTOR_ROLE = 1;
+    private static final int STUDENT_ROLE = 1 << 1;
+    private static final int INSTRUCTOR_IN_ROSTER = 1 << 2;
+    private static final int INSTRUCTOR_IN_ROSTER_WITH_ROLE = 1 << 3;
+    private static final int STUDENT_IN_ROSTER = 1 << 4;
+
+    // relations of the user to a response
+    private static final int GIVER = 1 << 5;
+    private static final int RECIPIENT = 1 << 6;
+    private static final int TEAMMATE_OF_GIVER = 1 << 7;
+    private static final int TEAMMATE_OF_RECIPIENT = 1 << 8;
+    private static final int IN_RECIPIENT_TEAM = 1 << 9;
+    private static final int SAME_ROSTER_TEAM_AS_GIVER = 1 << 10;
+    private static final int SAME_ROSTER_TEAM_AS_RECIPIENT = 1 << 11;
+    private static final int IN_RECIPIENT_ROSTER_TEAM = 1 << 12;
+
+    private final String userEmail;
+    private final StudentAttributes student;
+    private final Set<String> teammateEmails;
+    private final InstructorAttributes instructor;
+    private final CourseRoster roster;
+    private final String rosterTeam;
+    private final int userRelations;
+    private final Map<String, QuestionPlan> plans = new HashMap<>();
+
+    /**
+     * Creates an evaluator for the user viewing the results of a session.
+     *
+     * @param student the user if the user is a student, otherwise null
+     * @param teammateEmails emails of the students in the team of {@code student}, empty if there is no student
+     * @param instructor the user if the responses are restricted to the sections the user can view, otherwise null
+     */
+    public ResponseVisibilityEvaluator(String userEmail, UserRole role, StudentAttributes student,
+            Set<String> teammateEmails, InstructorAttributes instructor, CourseRoster roster) {
+        this.userEmail = userEmail;
+        this.student = student;
+        this.teammateEmails = teammateEmails == null ? Collections.emptySet() : teammateEmails;
+        this.instructor = instructor;
+        this.roster = roster;
+
+        StudentAttributes studentInRoster = roster.getStudentForEmail(userEmail);
+        this.rosterTeam = studentInRoster == null ? null : studentInRoster.team;
+
+        int relations = 0;
+        if (role == UserRole.INSTRUCTOR) {
+            relations |= INSTRUCTOR_ROLE;
+        }
+        if (role == UserRole.STUDENT) {
+            relations |= STUDENT_ROLE;
+        }
+        if (roster.getInstructorForEmail(userEmail) != null) {
+            relations |= role == UserRole.INSTRUCTOR
+                       ? INSTRUCTOR_IN_ROSTER | INSTRUCTOR_IN_ROSTER_WITH_ROLE
+                       : INSTRUCTOR_IN_ROSTER;
+        }
+        if (studentInRoster != null) {
+            relations |= STUDENT_IN_ROSTER;
+        }
+        this.userRelations = relations;
+    }
+
+    /**
+     * Returns true if the response is visible to the user.
+     */
+    public boolean isResponseVisible(FeedbackQuestionAttributes question, FeedbackResponseAttributes response) {
+        QuestionPlan plan = getPlan(question);
+        if ((getRelations(response, plan.responseMask) & plan.responseMask) == 0) {
+            return false;
+        }
+        if (instructor == null) {
+            return true;
+        }
+
+        boolean isGiverSectionRestricted =
+                !instructor.isAllowedForPrivilege(response.giverSection, response.feedbackSessionName,
+                        Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+        // If instructors are not restricted to view the giver's section,
+        // they are allowed to view responses to GENERAL, subject to visibility options
+        boolean isRecipientSectionRestricted =
+                question.recipientType != FeedbackParticipantType.NONE
+                && !instructor.isAllowedForPrivilege(response.recipientSection, response.feedbackSessionName,
+                        Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+        return !isGiverSectionRestricted && !isRecipientSectionRestricted;
+    }
+
+    /**
+     * Gets whether the names of the giver and the recipient of the response are visible to the user,
+     * at {@link Const#VISIBILITY_TABLE_GIVER} and {@link Const#VISIBILITY_TABLE_RECIPIENT} respectively.
+     */
+    public boolean[] getNameVisibility(FeedbackQuestionAttributes question, FeedbackResponseAttributes response) {
+        QuestionPlan plan = getPlan(question);
+        int relations = getRelations(response, plan.giverNameMask | plan.recipientNameMask);
+
+        boolean[] visibility = new boolean[2];
+        visibility[Const.VISIBILITY_TABLE_GIVER] = (relations & plan.giverNameMask) != 0;
+        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = (relations & plan.recipientNameMask) != 0;
+        return visibility;
+    }
+
+    /**
+     * Returns true if the comment on the response is visible to the user.
+     *
+     * @return false if either the response or the question is null
+     */
+    public boolean isCommentVisible(FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
+            FeedbackResponseCommentAttributes comment) {
+        if (response == null || question == null) {
+            return false;
+        }
+        if (comment.commentGiver.equals(userEmail)) {
+            return true;
+        }
+
+        int mask = comment.isVisibilityFollowingFeedbackQuestion
+                 ? getPlan(question).responseMask
+                 : compileVisibilityMask(question, comment.showCommentTo);
+        return (getRelations(response, mask) & mask) != 0;
+    }
+
+    /**
+     * Returns true if the name of the giver of the comment on the response is visible to the user.
+     */
+    public boolean isCommentGiverNameVisible(FeedbackResponseAttributes response,
+            FeedbackResponseCommentAttributes comment) {
+        List<FeedbackParticipantType> showNameTo = comment.showGiverNameTo;
+        // in the old version, the name is always visible
+        if (showNameTo == null || comment.isVisibilityFollowingFeedbackQuestion
+                || userEmail.equals(comment.commentGiver)) {
+            return true;
+        }
+
+        int mask = 0;
+        for (FeedbackParticipantType type : showNameTo) {
+            switch (type) {
+            case INSTRUCTORS:
+                mask |= INSTRUCTOR_IN_ROSTER;
+                break;
+            case OWN_TEAM_MEMBERS:
+                mask |= SAME_ROSTER_TEAM_AS_GIVER;
+                break;
+            case RECEIVER:
+                mask |= RECIPIENT;
+                break;
+            case RECEIVER_TEAM_MEMBERS:
+                mask |= SAME_ROSTER_TEAM_AS_RECIPIENT;
+                break;
+            case STUDENTS:
+                mask |= STUDENT_IN_ROSTER;
+                break;
+            case GIVER:
+                mask |= GIVER;
+                break;
+            default:
+                break;
+            }
+        }
+        return (getRelations(response, mask) & mask) != 0;
+    }
+
+    private QuestionPlan getPlan(FeedbackQuestionAttributes question) {
+        return plans.computeIfAbsent(question.getId(), id -> new QuestionPlan(question));
+    }
+
+    /**
+     * Gets the relations of the user to the response, looking up only those in {@code neededRelations}.
+     */
+    private int getRelations(FeedbackResponseAttributes response, int neededRelations) {
+        int relations = userRelations;
+        if ((neededRelations & GIVER) != 0 && response.giver.equals(userEmail)) {
+            relations |= GIVER;
+        }
+        if ((neededRelations & RECIPIENT) != 0 && response.recipient.equals(userEmail)) {
+            relations |= RECIPIENT;
+        }
+        if ((neededRelations & TEAMMATE_OF_GIVER) != 0 && teammateEmails.contains(response.giver)) {
+            relations |= TEAMMATE_OF_GIVER;
+        }
+        if ((neededRelations & TEAMMATE_OF_RECIPIENT) != 0 && teammateEmails.contains(response.recipient)) {
+            relations |= TEAMMATE_OF_RECIPIENT;
+        }
+        if ((neededRelations & IN_RECIPIENT_TEAM) != 0 && student != null
+                && response.recipient.equals(student.team)) {
+            relations |= IN_RECIPIENT_TEAM;
+        }
+        if (rosterTeam == null) {
+            return relations;
+        }
+        if ((neededRelations & SAME_ROSTER_TEAM_AS_GIVER) != 0 && isInRosterTeam(response.giver)) {
+            relations |= SAME_ROSTER_TEAM_AS_GIVER;
+        }
+        if ((neededRelations & SAME_ROSTER_TEAM_AS_RECIPIENT) != 0 && isInRosterTeam(response.recipient)) {
+            relations |= SAME_ROSTER_TEAM_AS_RECIPIENT;
+        }
+        if ((neededRelations & IN_RECIPIENT_ROSTER_TEAM) != 0 && rosterTeam.equals(response.recipient)) {
+            relations |= IN_RECIPIENT_ROSTER_TEAM;
+        }
+        return relations;
+    }
+
+    private boolean isInRosterTeam(String email) {
+        StudentAttributes otherStudent = roster.getStudentForEmail(email);
+        return otherStudent != null && rosterTeam.equals(otherStudent.team);
+    }
+
+    /**
+     * Compiles the relations which make a response or a comment visible, given the participants it is shown to.
+     */
+    private static int compileVisibilityMask(FeedbackQuestionAttributes question,
+            List<FeedbackParticipantType> showTo) {
+        // anyone in a giving team can see what their team gave
+        int mask = question.giverType == FeedbackParticipantType.TEAMS ? TEAMMATE_OF_GIVER : 0;
+        for (FeedbackParticipantType type : showTo) {
+            switch (type) {
+            case INSTRUCTORS:
+                mask |= INSTRUCTOR_ROLE;
+                break;
+            case STUDENTS:
+                mask |= STUDENT_ROLE;
+                break;
+            case GIVER:
+                mask |= GIVER;
+                break;
+            case RECEIVER:
+                mask |= question.recipientType == FeedbackParticipantType.TEAMS
+                      ? RECIPIENT | IN_RECIPIENT_TEAM
+                      : RECIPIENT;
+                break;
+            case OWN_TEAM_MEMBERS:
+                mask |= TEAMMATE_OF_GIVER;
+                break;
+            case RECEIVER_TEAM_MEMBERS:
+                mask |= TEAMMATE_OF_RECIPIENT;
+                break;
+            default:
+                break;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Compiles the relations which make the name of a participant of a response visible,
+     * given the participants the name is shown to.
+     */
+    private static int compileNameMask(FeedbackQuestionAttributes question, List<FeedbackParticipantType> showNameTo) {
+        // anyone who gave the response can see the names
+        int mask = question.giverType == FeedbackParticipantType.TEAMS ? SAME_ROSTER_TEAM_AS_GIVER : GIVER;
+        boolean isRecipientTeam = question.recipientType.isTeam();
+        for (FeedbackParticipantType type : showNameTo) {
+            switch (type) {
+            case INSTRUCTORS:
+                mask |= INSTRUCTOR_IN_ROSTER_WITH_ROLE;
+                break;
+            case OWN_TEAM_MEMBERS:
+            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+                // Refers to Giver's Team Members
+                mask |= SAME_ROSTER_TEAM_AS_GIVER;
+                break;
+            case RECEIVER:
+                mask |= isRecipientTeam ? IN_RECIPIENT_ROSTER_TEAM : RECIPIENT;
+                break;
+            case RECEIVER_TEAM_MEMBERS:
+                mask |= isRecipientTeam ? IN_RECIPIENT_ROSTER_TEAM : SAME_ROSTER_TEAM_AS_RECIPIENT;
+                break;
+            case STUDENTS:
+                mask |= STUDENT_IN_ROSTER;
+                break;
+            default:
+                Assumption.fail("Invalid FeedbackParticipantType for showNameTo in "
+                                + "ResponseVisibilityEvaluator.compileNameMask()");
+                break;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Visibility options of a question compiled into bitmasks of relations.
+     */
+    private static final class QuestionPlan {
+
+        /**
+         * Mask for the responses, and for the comments whose visibility follows the question.
+         */
+        final int responseMask;
+        final int giverNameMask;
+        final int recipientNameMask;
+
+        QuestionPlan(FeedbackQuestionAttributes question) {
+            // the giver can always see the response
+            this.responseMask = GIVER | compileVisibilityMask(question, question.showResponsesTo);
+            this.giverNameMask = compileNameMask(question, question.showGiverNameTo);
+            this.recipientNameMask = compileNameMask(question, question.showRecipientNameTo);
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+
+/**
+ * Snapshot of the responses, comments and course roster of a feedback session,
+ * from which the results of the session can be built for any viewer.
+ *
+ * <p>A snapshot is shared by all viewers of the session and must not be modified.
+ * Responses and comments must be copied before they are passed to code which modifies them,
+ * e.g. {@link teammates.common.datatransfer.FeedbackSessionResultsBundle}.
+ *
+ * @see ResultsSnapshotsLogic
+ */
+public final class ResultsSnapshot {
+
+    private final String version;
+    private final List<FeedbackResponseAttributes> responses;
+    private final Map<String, List<FeedbackResponseAttributes>> responsesByQuestion;
+    private final List<FeedbackResponseCommentAttributes> comments;
+    private final CourseRoster roster;
+    private final int weight;
+
+    ResultsSnapshot(String version, List<FeedbackResponseAttributes> responses,
+            List<FeedbackResponseCommentAttributes> comments, CourseRoster roster) {
+        this.version = version;
+        this.responses = Collections.unmodifiableList(new ArrayList<>(responses));
+        this.comments = Collections.unmodifiableList(new ArrayList<>(comments));
+        this.roster = roster;
+
+        Map<String, List<FeedbackResponseAttributes>> groupedResponses = new LinkedHashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            groupedResponses.computeIfAbsent(response.feedbackQuestionId, id -> new ArrayList<>()).add(response);
+        }
+        groupedResponses.replaceAll((questionId, responsesOfQuestion) -> Collections.unmodifiableList(responsesOfQuestion));
+        this.responsesByQuestion = Collections.unmodifiableMap(groupedResponses);
+
+        this.weight = responses.size() + comments.size()
+                + roster.getStudents().size() + roster.getInstructors().size();
+    }
+
+    /**
+     * Gets the version of the data the snapshot was built from.
+     *
+     * @return null if the snapshot is not cached
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    public CourseRoster getRoster() {
+        return roster;
+    }
+
+    /**
+     * Gets all responses of the session grouped by question ID, in the order they were loaded.
+     * The responses are shared and must not be modified.
+     */
+    public Map<String, List<FeedbackResponseAttributes>> getResponsesByQuestion() {
+        return responsesByQuestion;
+    }
+
+    /**
+     * Gets copies of the first {@code limit} responses of the session, or of all responses if {@code limit} is negative.
+     */
+    public List<FeedbackResponseAttributes> copyResponses(int limit) {
+        int size = limit < 0 ? responses.size() : Math.min(limit, responses.size());
+        List<FeedbackResponseAttributes> copies = new ArrayList<>(size);
+        for (FeedbackResponseAttributes response : responses.subList(0, size)) {
+            copies.add(new FeedbackResponseAttributes(response));
+        }
+        return copies;
+    }
+
+    /**
+     * Gets copies of all comments of the session.
+     */
+    public List<FeedbackResponseCommentAttributes> copyComments() {
+        List<FeedbackResponseCommentAttributes> copies = new ArrayList<>(comments.size());
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            copies.add(new FeedbackResponseCommentAttributes(comment));
+        }
+        return copies;
+    }
+
+    /**
+     * Gets the number of responses, comments, students and instructors held by the snapshot.
+     */
+    int getWeight() {
+        return weight;
+    }
+
+}
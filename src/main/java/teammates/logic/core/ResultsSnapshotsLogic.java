@@ -0,0 +1,136 @@
+package teammates.logic.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.util.Config;
+import teammates.storage.api.ResultsSnapshotVersions;
+
+/**
+ * Handles the in-process cache of {@link ResultsSnapshot}s of feedback sessions.
+ *
+ * <p>A cached snapshot is reused as long as the version of its course in {@link ResultsSnapshotVersions} is unchanged,
+ * i.e. no response, comment, student or instructor of the course has been written since it was built.
+ * Snapshots are evicted when the total number of entities they hold grows too large, and expire after a few minutes.
+ *
+ * <p>Snapshots are built from eventually consistent queries, which may miss the writes that changed the version.
+ * Snapshots built shortly after the version of their course changed are therefore not cached, so that the next
+ * request builds the snapshot again instead of reusing one which missed a write until it expires.
+ */
+public final class ResultsSnapshotsLogic {
+
+    /**
+     * Maximum number of responses, comments, students and instructors held by all cached snapshots together.
+     */
+    private static final long MAX_CACHED_ENTITIES = 200_000;
+
+    private static final long SNAPSHOT_EXPIRY_MINUTES = 10;
+
+    /**
+     * Period after a write during which queries may not reflect the write yet.
+     * The Datastore of the dev server is strongly consistent, so the period is not applied there.
+     */
+    private static final long CONSISTENCY_WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private static ResultsSnapshotsLogic instance = new ResultsSnapshotsLogic();
+
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private final Cache<List<String>, ResultsSnapshot> snapshots = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHED_ENTITIES)
+            .weigher((List<String> key, ResultsSnapshot snapshot) -> snapshot.getWeight())
+            .expireAfterWrite(SNAPSHOT_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * Times at which versions of courses were first seen by this instance, which are no earlier than the writes
+     * that produced the versions.
+     */
+    private final Cache<List<String>, Long> versionFirstSeenTimes = CacheBuilder.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(SNAPSHOT_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    private ResultsSnapshotsLogic() {
+        // prevent initialization
+    }
+
+    public static ResultsSnapshotsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Gets an up-to-date snapshot of the results of a feedback session, building it if necessary.
+     *
+     * <p>If the version of the course cannot be determined, a fresh snapshot is built and not cached.
+     */
+    public ResultsSnapshot getSnapshot(String feedbackSessionName, String courseId) {
+        String version = ResultsSnapshotVersions.getVersion(courseId);
+        if (version == null) {
+            return buildSnapshot(feedbackSessionName, courseId, null);
+        }
+
+        List<String> key = Arrays.asList(courseId, feedbackSessionName);
+        ResultsSnapshot snapshot = snapshots.getIfPresent(key);
+        if (snapshot != null && version.equals(snapshot.getVersion())) {
+            return snapshot;
+        }
+
+        boolean isConsistent = isConsistencyWindowPassed(courseId, version);
+        snapshot = buildSnapshot(feedbackSessionName, courseId, version);
+        if (isConsistent) {
+            snapshots.put(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets a tag which changes whenever the results of feedback sessions in the course may have changed,
+     * i.e. whenever a cached snapshot of the course would be outdated or expired.
+     *
+     * @return null if the version of the course cannot be determined or has changed too recently
+     *         for the results to be reliable
+     */
+    public String getResultsVersion(String courseId) {
+        String version = ResultsSnapshotVersions.getVersion(courseId);
+        if (version == null || !isConsistencyWindowPassed(courseId, version)) {
+            return null;
+        }
+        // results built from queries which missed recent writes are superseded once the snapshots expire
+        long expiryPeriod = System.currentTimeMillis() / TimeUnit.MINUTES.toMillis(SNAPSHOT_EXPIRY_MINUTES);
+        return version + ':' + expiryPeriod;
+    }
+
+    /**
+     * Checks whether queries of the course are guaranteed to reflect the writes which produced {@code version}.
+     */
+    private boolean isConsistencyWindowPassed(String courseId, String version) {
+        if (Config.isDevServer()) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        Long firstSeenTime = versionFirstSeenTimes.asMap().putIfAbsent(Arrays.asList(courseId, version), now);
+        return now - (firstSeenTime == null ? now : firstSeenTime) >= CONSISTENCY_WINDOW_MILLIS;
+    }
+
+    private ResultsSnapshot buildSnapshot(String feedbackSessionName, String courseId, String version) {
+        // the version is read before loading, so that writes during loading make the snapshot outdated
+        CourseRoster roster = new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+
+        return new ResultsSnapshot(version,
+                frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId),
+                frcLogic.getFeedbackResponseCommentForSession(courseId, feedbackSessionName),
+                roster);
+    }
+
+}
@@ -0,0 +1,49 @@
+package teammates.logic.core;
+
+import java.util.Set;
+
+import teammates.storage.api.SearchIndexOutboxDb;
+
+/**
+ * Handles the search documents which are out of date after writes to students, instructors and response comments.
+ *
+ * @see SearchIndexOutboxDb
+ */
+public final class SearchIndexOutboxLogic {
+
+    /**
+     * Maximum number of out of date documents looked at when finding the courses to update.
+     */
+    private static final int MAX_ENTRIES_TO_SCAN = 1000;
+
+    private static SearchIndexOutboxLogic instance = new SearchIndexOutboxLogic();
+
+    private static final SearchIndexOutboxDb searchIndexOutboxDb = new SearchIndexOutboxDb();
+
+    private SearchIndexOutboxLogic() {
+        // prevent initialization
+    }
+
+    public static SearchIndexOutboxLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the courses which have out of date search documents.
+     *
+     * <p>Courses beyond the first {@value #MAX_ENTRIES_TO_SCAN} out of date documents may be left out.
+     */
+    public Set<String> getCourseIdsWithOutdatedSearchDocuments() {
+        return searchIndexOutboxDb.getCourseIdsWithOutdatedDocuments(MAX_ENTRIES_TO_SCAN);
+    }
+
+    /**
+     * Rebuilds the out of date search documents of a course.
+     *
+     * @return the number of out of date documents handled
+     */
+    public int updateOutdatedSearchDocuments(String courseId) {
+        return searchIndexOutboxDb.updateOutdatedDocuments(courseId);
+    }
+
+}
@@ -1,6 +1,8 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import org.jsoup.Jsoup;
 
@@ -25,11 +27,24 @@ import teammates.common.util.EmailWrapper;
  */
 public class SendgridService extends EmailSenderService {
 
+    /**
+     * Maximum number of personalizations allowed by SendGrid in a single request.
+     */
+    private static final int MAX_PERSONALIZATIONS = 1000;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Mail parseToEmail(EmailWrapper wrapper) {
+        return parseToEmail(wrapper, Collections.singletonList(wrapper.getRecipient()));
+    }
+
+    /**
+     * Parses the {@code wrapper} email object to a SendGrid email with one personalization per recipient,
+     * so that each of the {@code recipients} receives a separate copy of the email.
+     */
+    public Mail parseToEmail(EmailWrapper wrapper, List<String> recipients) {
         Mail email = new Mail();
         Email sender;
         if (wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()) {
@@ -39,12 +54,14 @@ public class SendgridService extends EmailSenderService {
         }
         email.setFrom(sender);
         email.setReplyTo(new Email(wrapper.getReplyTo()));
-        Personalization personalization = new Personalization();
-        personalization.addTo(new Email(wrapper.getRecipient()));
-        if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
-            personalization.addBcc(new Email(wrapper.getBcc()));
+        for (String recipient : recipients) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(recipient));
+            if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+                personalization.addBcc(new Email(wrapper.getBcc()));
+            }
+            email.addPersonalization(personalization);
         }
-        email.addPersonalization(personalization);
         email.setSubject(wrapper.getSubject());
         email.addContent(new Content("text/plain", Jsoup.parse(wrapper.getContent()).text()));
         email.addContent(new Content("text/html", wrapper.getContent()));
@@ -53,7 +70,20 @@ public class SendgridService extends EmailSenderService {
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws IOException {
-        Mail email = parseToEmail(wrapper);
+        return send(parseToEmail(wrapper));
+    }
+
+    @Override
+    public int getMaxRecipientsPerRequest() {
+        return MAX_PERSONALIZATIONS;
+    }
+
+    @Override
+    public EmailSendingStatus sendEmailToRecipients(EmailWrapper wrapper, List<String> recipients) throws IOException {
+        return send(parseToEmail(wrapper, recipients));
+    }
+
+    private EmailSendingStatus send(Mail email) throws IOException {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
         Request request = new Request();
         request.setMethod(Method.POST);
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.StringJoiner;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentEnrollmentResult;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -53,6 +54,19 @@ public final class StudentsLogic {
         return studentsDb.createEntity(studentData);
     }
 
+    /**
+     * Creates the students who are not in the course and updates the students who are already in the course.
+     *
+     * <p>Responses of students who are moved to a different team or section are NOT updated;
+     * see {@link #updateStudentResponsesCascade(String, String, String, String)}.
+     *
+     * @return the successfully enrolled students, in the order they are given, and the original details
+     *         of the students who are moved to a different team or section
+     */
+    public StudentEnrollmentResult enrollStudents(String courseId, List<StudentAttributes> students) {
+        return studentsDb.enrollStudents(courseId, students);
+    }
+
     public StudentAttributes getStudentForEmail(String courseId, String email) {
         return studentsDb.getStudentForEmail(courseId, email);
     }
@@ -77,6 +91,13 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Gets the number of students in a course.
+     */
+    public int getNumberOfStudentsForCourse(String courseId) {
+        return studentsDb.getNumberOfStudentsForCourse(courseId);
+    }
+
     /**
      * Gets all students of a team.
      */
@@ -176,21 +197,43 @@ public final class StudentsLogic {
             fsLogic.updateRespondentsForStudent(originalStudent.email, updatedStudent.email, updatedStudent.course);
         }
 
+        updateStudentResponsesCascade(updatedStudent, originalStudent.team, originalStudent.section);
+
+        // TODO: check to delete comments for this section/team if the section/team is no longer existent in the course
+
+        return updatedStudent;
+    }
+
+    /**
+     * Updates the responses given and received by the student after the student is moved
+     * from the original team and section to the current ones.
+     *
+     * @throws EntityDoesNotExistException if the student cannot be found
+     */
+    public void updateStudentResponsesCascade(String courseId, String email, String originalTeam, String originalSection)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        StudentAttributes student = getStudentForEmail(courseId, email);
+        if (student == null) {
+            throw new EntityDoesNotExistException("Student does not exist: [" + courseId + "/" + email + "]");
+        }
+
+        updateStudentResponsesCascade(student, originalTeam, originalSection);
+    }
+
+    private void updateStudentResponsesCascade(StudentAttributes updatedStudent,
+            String originalTeam, String originalSection)
+            throws InvalidParametersException, EntityDoesNotExistException {
         // adjust submissions if moving to a different team
-        if (isTeamChanged(originalStudent.team, updatedStudent.team)) {
+        if (isTeamChanged(originalTeam, updatedStudent.team)) {
             frLogic.updateFeedbackResponsesForChangingTeam(updatedStudent.course, updatedStudent.email,
-                    originalStudent.team, updatedStudent.team);
+                    originalTeam, updatedStudent.team);
         }
 
         // update the new section name in responses
-        if (isSectionChanged(originalStudent.section, updatedStudent.section)) {
+        if (isSectionChanged(originalSection, updatedStudent.section)) {
             frLogic.updateFeedbackResponsesForChangingSection(updatedStudent.course, updatedStudent.email,
-                    originalStudent.section, updatedStudent.section);
+                    originalSection, updatedStudent.section);
         }
-
-        // TODO: check to delete comments for this section/team if the section/team is no longer existent in the course
-
-        return updatedStudent;
     }
 
     /**
@@ -0,0 +1,132 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.googlecode.objectify.Key;
+
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
+import teammates.common.datatransfer.CascadeDeletionJobStatus.EntityKind;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.CascadeDeletionJob;
+
+/**
+ * Handles the progress of the background deletion of the entities in deleted courses and feedback sessions.
+ *
+ * @see CascadeDeletionJob
+ * @see CascadeDeletionJobStatus
+ */
+public class CascadeDeletionJobsDb {
+
+    /**
+     * Starts the jobs deleting the given kinds of entities in a course, or in a session if its name is not null.
+     *
+     * <p>Unfinished jobs are kept as they are, so that starting them again continues from their last checkpoint.
+     * Finished jobs of an earlier deletion of the same course or session are started afresh.
+     *
+     * @return the statuses of the jobs, in the order of {@code entityKinds}
+     */
+    public List<CascadeDeletionJobStatus> startJobs(String courseId, String feedbackSessionName,
+            List<EntityKind> entityKinds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId, entityKinds);
+
+        List<Key<CascadeDeletionJob>> keys = makeKeys(courseId, feedbackSessionName, entityKinds);
+        Map<Key<CascadeDeletionJob>, CascadeDeletionJob> existingJobs = ofy().load().keys(keys);
+
+        List<CascadeDeletionJob> jobs = new ArrayList<>();
+        List<CascadeDeletionJob> jobsToSave = new ArrayList<>();
+        for (int i = 0; i < entityKinds.size(); i++) {
+            CascadeDeletionJob job = existingJobs.get(keys.get(i));
+            if (job == null || job.isDone()) {
+                job = new CascadeDeletionJob(courseId, feedbackSessionName, entityKinds.get(i).name());
+                jobsToSave.add(job);
+            }
+            jobs.add(job);
+        }
+        ofy().save().entities(jobsToSave).now();
+
+        return jobs.stream().map(this::makeStatus).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the status of a job.
+     *
+     * @return null if there is no such job
+     */
+    public CascadeDeletionJobStatus getJob(String jobId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, jobId);
+
+        CascadeDeletionJob job = ofy().load().key(makeKey(jobId)).now();
+        return job == null ? null : makeStatus(job);
+    }
+
+    /**
+     * Gets the statuses of the jobs deleting the given kinds of entities in a course,
+     * or in a session if its name is not null, leaving out those which do not exist.
+     */
+    public List<CascadeDeletionJobStatus> getJobs(String courseId, String feedbackSessionName,
+            List<EntityKind> entityKinds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId, entityKinds);
+
+        // the jobs are read with key lookups, which always see the latest checkpoints
+        return ofy().load().keys(makeKeys(courseId, feedbackSessionName, entityKinds))
+                .values()
+                .stream()
+                .map(this::makeStatus)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the most recently updated jobs.
+     */
+    public List<CascadeDeletionJobStatus> getRecentlyUpdatedJobs(int limit) {
+        return ofy().load().type(CascadeDeletionJob.class)
+                .order("-updatedAt")
+                .limit(limit)
+                .list()
+                .stream()
+                .map(this::makeStatus)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Records a deleted batch of a job.
+     *
+     * @param nextCursor the cursor from which the next batch is deleted, or null if the job is done
+     * @return the updated status of the job, or null if there is no such job
+     */
+    public CascadeDeletionJobStatus recordDeletedBatch(String jobId, int numberOfEntitiesInBatch, String nextCursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, jobId);
+
+        CascadeDeletionJob job = ofy().load().key(makeKey(jobId)).now();
+        if (job == null) {
+            return null;
+        }
+        job.recordDeletedBatch(numberOfEntitiesInBatch, nextCursor);
+        ofy().save().entity(job).now();
+        return makeStatus(job);
+    }
+
+    private Key<CascadeDeletionJob> makeKey(String jobId) {
+        return Key.create(CascadeDeletionJob.class, jobId);
+    }
+
+    private List<Key<CascadeDeletionJob>> makeKeys(String courseId, String feedbackSessionName,
+            List<EntityKind> entityKinds) {
+        return entityKinds.stream()
+                .map(kind -> makeKey(CascadeDeletionJob.generateId(courseId, feedbackSessionName, kind.name())))
+                .collect(Collectors.toList());
+    }
+
+    private CascadeDeletionJobStatus makeStatus(CascadeDeletionJob job) {
+        return new CascadeDeletionJobStatus(job.getJobId(), job.getCourseId(), job.getFeedbackSessionName(),
+                EntityKind.valueOf(job.getEntityKind()), job.getNumberOfDeletedEntities(), job.getCursor(),
+                job.isDone(), job.getCreatedAt(), job.getUpdatedAt());
+    }
+
+}
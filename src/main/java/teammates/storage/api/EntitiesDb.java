@@ -3,11 +3,21 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -15,13 +25,15 @@ import com.google.appengine.api.search.SearchQueryException;
 import com.google.common.base.Objects;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.DeletionCheckpoint;
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
-import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.search.SearchDocument;
@@ -52,6 +64,14 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     public static final String OPTIMIZED_SAVING_POLICY_APPLIED =
             "Saving request is not issued because entity %s does not change by the update (%s)";
 
+    /**
+     * The number of entities fetched from the Datastore per round trip when query results are streamed,
+     * which is also the number of entities deleted per batch.
+     *
+     * <p>The Datastore accepts at most 500 entities in a batch write.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
     protected static final Logger log = Logger.getLogger();
 
     /**
@@ -82,8 +102,9 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
         E entity = entityToAdd.toEntity();
 
-        ofy().save().entity(entity).now();
-        log.info("Entity created: " + JsonUtils.toJson(entityToAdd));
+        Key<E> key = ofy().save().entity(entity).now();
+        invalidateCache(Collections.singletonList(entity));
+        log.info(() -> "Entity created: " + describeKeys(Collections.singletonList(key)));
 
         return makeAttributes(entity);
     }
@@ -134,10 +155,9 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             entities.add(entity);
         }
 
-        for (A attributes : entitiesToAdd) {
-            log.info("Entity created: " + JsonUtils.toJson(attributes));
-        }
-        ofy().save().entities(entities).now();
+        Set<Key<E>> keys = ofy().save().entities(entities).now().keySet();
+        invalidateCache(entities);
+        log.info(() -> "Entities created: " + describeKeys(keys));
 
         return makeAttributes(entities);
     }
@@ -155,20 +175,18 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     protected void saveEntity(E entityToSave) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityToSave);
 
-        log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
-
-        ofy().save().entity(entityToSave).now();
+        Key<E> key = ofy().save().entity(entityToSave).now();
+        invalidateCache(Collections.singletonList(entityToSave));
+        log.info(() -> "Entity saved: " + describeKeys(Collections.singletonList(key)));
     }
 
     /**
      * Saves a collection of entities.
      */
     protected void saveEntities(Collection<E> entitiesToSave) {
-        for (E entityToSave : entitiesToSave) {
-            log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
-        }
-
-        ofy().save().entities(entitiesToSave).now();
+        Set<Key<E>> keys = ofy().save().entities(entitiesToSave).now().keySet();
+        invalidateCache(entitiesToSave);
+        log.info(() -> "Entities saved: " + describeKeys(keys));
     }
 
     /**
@@ -178,11 +196,204 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, (Object) keys);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, (Object[]) keys);
 
+        log.info(() -> "Delete entities: " + describeKeys(Arrays.asList(keys)));
+        ofy().delete().keys(keys).now();
+        Arrays.stream(keys).map(Key::getKind).distinct().forEach(RequestCache::invalidate);
+    }
+
+    /**
+     * Deletes all entities matched by a query in batches of {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * <p>Only one batch of keys is held in memory at a time, so any number of entities can be deleted.
+     *
+     * @return the number of entities deleted
+     */
+    protected int deleteEntitiesInBatches(Query<E> query) {
+        return deleteEntitiesInBatches(query, null);
+    }
+
+    /**
+     * Deletes all entities matched by a query in batches of {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @param beforeDeletion if not null, called with each batch of keys before the batch is deleted,
+     *                       e.g. to delete the search documents of the entities
+     * @return the number of entities deleted
+     */
+    protected int deleteEntitiesInBatches(Query<E> query, Consumer<List<Key<E>>> beforeDeletion) {
+        int[] numOfDeletedEntities = new int[1];
+        forEachBatch(streamKeys(query, DEFAULT_BATCH_SIZE), DEFAULT_BATCH_SIZE, keys -> {
+            if (beforeDeletion != null) {
+                beforeDeletion.accept(keys);
+            }
+            deleteEntity(keys.toArray(new Key<?>[0]));
+            numOfDeletedEntities[0] += keys.size();
+        });
+        return numOfDeletedEntities[0];
+    }
+
+    /**
+     * Deletes one batch of at most {@link #DEFAULT_BATCH_SIZE} entities matched by a query, continuing
+     * from the cursor of the previous batch.
+     *
+     * <p>Deleting a batch again from the same cursor is harmless, so a request which fails after deleting
+     * a batch but before its checkpoint is saved can simply be retried.
+     *
+     * @param cursor the cursor of the previous batch, or null to start from the first matched entity
+     * @param beforeDeletion if not null, called with the keys of the batch before the batch is deleted
+     * @return the checkpoint from which the next batch is deleted
+     */
+    protected DeletionCheckpoint deleteEntitiesBatch(Query<E> query, String cursor,
+            Consumer<List<Key<E>>> beforeDeletion) {
+        QueryResultIterator<Key<E>> iterator = startAt(query, cursor).limit(DEFAULT_BATCH_SIZE).keys().iterator();
+        return deleteBatch(iterator, key -> key, beforeDeletion);
+    }
+
+    /**
+     * Deletes one batch of at most {@link #DEFAULT_BATCH_SIZE} entities matched by a query, loading the entities
+     * rather than only their keys, e.g. when their search documents are keyed by one of their properties.
+     *
+     * @see #deleteEntitiesBatch(Query, String, Consumer)
+     */
+    protected DeletionCheckpoint deleteLoadedEntitiesBatch(Query<E> query, String cursor,
+            Consumer<List<E>> beforeDeletion) {
+        QueryResultIterator<E> iterator = startAt(query, cursor).limit(DEFAULT_BATCH_SIZE).iterator();
+        return deleteBatch(iterator, entity -> Key.create(entity), beforeDeletion);
+    }
+
+    private static <T> Query<T> startAt(Query<T> query, String cursor) {
+        return cursor == null ? query : query.startAt(Cursor.fromWebSafeString(cursor));
+    }
+
+    private <T> DeletionCheckpoint deleteBatch(QueryResultIterator<T> iterator, Function<T, Key<E>> keyOf,
+            Consumer<List<T>> beforeDeletion) {
+        List<T> batch = new ArrayList<>(DEFAULT_BATCH_SIZE);
+        iterator.forEachRemaining(batch::add);
+        if (batch.isEmpty()) {
+            return new DeletionCheckpoint(0, null);
+        }
+
+        if (beforeDeletion != null) {
+            beforeDeletion.accept(batch);
+        }
+        deleteEntity(batch.stream().map(keyOf).toArray(Key<?>[]::new));
+
+        // a batch smaller than the limit is the last one, which saves a query for an empty batch
+        String nextCursor = batch.size() < DEFAULT_BATCH_SIZE ? null : iterator.getCursor().toWebSafeString();
+        return new DeletionCheckpoint(batch.size(), nextCursor);
+    }
+
+    /**
+     * Streams the entities matched by a query, fetching {@code chunkSize} entities per round trip to the Datastore.
+     *
+     * <p>The query results are fetched lazily with Datastore cursors as the stream is consumed,
+     * so the memory used does not grow with the number of results. The stream must be consumed
+     * within the request which creates it, and the entities are not cached by {@link RequestCache}.
+     */
+    protected Stream<E> streamEntities(Query<E> query, int chunkSize) {
+        return StreamSupport.stream(query.chunk(chunkSize).iterable().spliterator(), false);
+    }
+
+    /**
+     * Streams the entities matched by a query with only the given properties loaded, using a projection query.
+     *
+     * <p>The other properties of the streamed entities are not available. The properties must all be indexed,
+     * and a composite index on the properties is needed if the query has filters.
+     *
+     * @see #streamEntities(Query, int)
+     */
+    protected Stream<E> streamProjections(Query<E> query, int chunkSize, String... properties) {
+        return streamEntities(query.project(properties), chunkSize);
+    }
+
+    /**
+     * Streams the keys of the entities matched by a query with a keys-only query,
+     * fetching {@code chunkSize} keys per round trip to the Datastore.
+     *
+     * @see #streamEntities(Query, int)
+     */
+    protected Stream<Key<E>> streamKeys(Query<E> query, int chunkSize) {
+        return StreamSupport.stream(query.chunk(chunkSize).keys().iterable().spliterator(), false);
+    }
+
+    /**
+     * Performs an action on consecutive batches of at most {@code batchSize} elements of a stream,
+     * holding only one batch in memory at a time.
+     */
+    protected static <T> void forEachBatch(Stream<T> elements, int batchSize, Consumer<List<T>> action) {
+        List<T> batch = new ArrayList<>(batchSize);
+        elements.forEachOrdered(element -> {
+            batch.add(element);
+            if (batch.size() == batchSize) {
+                action.accept(new ArrayList<>(batch));
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            action.accept(batch);
+        }
+    }
+
+    /**
+     * Describes entities by their keys only, as entities can be large, e.g. responses and session instructions.
+     */
+    private static String describeKeys(Collection<? extends Key<?>> keys) {
+        StringBuilder description = new StringBuilder();
         for (Key<?> key : keys) {
-            log.info(String.format("Delete entity %s of key (id: %d, name: %s)",
-                    key.getKind(), key.getId(), key.getName()));
+            description.append(description.length() == 0 ? "" : ", ")
+                    .append(key.getKind()).append('(').append(key.getName() == null ? key.getId() : key.getName())
+                    .append(')');
         }
-        ofy().delete().keys(keys).now();
+        return description.toString();
+    }
+
+    private void invalidateCache(Collection<E> entities) {
+        entities.stream().map(entity -> Key.getKind(entity.getClass())).distinct().forEach(RequestCache::invalidate);
+        entities.stream().map(this::getResultsSnapshotCourseId).filter(courseId -> courseId != null).distinct()
+                .forEach(ResultsSnapshotVersions::bumpVersion);
+    }
+
+    /**
+     * Gets the course whose cached results snapshots are outdated by a write to the entity.
+     *
+     * @return null if writes to the entity do not affect any results snapshot
+     * @see ResultsSnapshotVersions
+     */
+    protected String getResultsSnapshotCourseId(E entity) {
+        return null;
+    }
+
+    /**
+     * Marks the results snapshots affected by a deletion with {@code query} as outdated.
+     */
+    protected void bumpResultsSnapshotVersion(AttributesDeletionQuery query) {
+        if (query.isCourseIdPresent()) {
+            ResultsSnapshotVersions.bumpVersion(query.getCourseId());
+        } else {
+            ResultsSnapshotVersions.bumpGlobalVersion();
+        }
+    }
+
+    /**
+     * Loads a value through the request-scoped {@link RequestCache}.
+     *
+     * <p>The value is cached under the kind of {@code entityClass} and is discarded when any entity
+     * of that kind is written through this class. Callers must not modify the returned entities, as they are
+     * shared by all lookups in the request; an entity to be updated is modified as a copy made by {@link #copyEntity}.
+     *
+     * @param entityClass the class of the entities contained in the value
+     * @param loader loads the value from the Datastore on a cache miss
+     * @param cacheKey uniquely identifies the value, e.g. the query name followed by the query parameters
+     */
+    protected <T> T loadCached(Class<E> entityClass, Supplier<T> loader, Object... cacheKey) {
+        return RequestCache.get(Key.getKind(entityClass), Arrays.asList(cacheKey), loader);
+    }
+
+    /**
+     * Copies an entity, so that the copy can be modified without affecting the entity if saving the copy fails,
+     * e.g. when the entity is obtained through {@link #loadCached}.
+     */
+    protected E copyEntity(E entity) {
+        return ofy().load().fromEntity(ofy().save().toEntity(entity));
     }
 
     protected abstract LoadType<E> load();
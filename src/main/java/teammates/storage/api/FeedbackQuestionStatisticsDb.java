@@ -0,0 +1,165 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.storage.entity.FeedbackQuestionStatisticsShard;
+
+/**
+ * Handles the statistics aggregated over the responses to feedback questions.
+ *
+ * <p>The statistics of a question are kept in {@link FeedbackQuestionStatisticsShard}s, each of which is
+ * updated in its own transaction, so that the statistics can be read with a fixed number of key lookups
+ * regardless of the number of responses.
+ *
+ * @see FeedbackQuestionStatistics
+ * @see FeedbackQuestionStatisticsShard
+ */
+public class FeedbackQuestionStatisticsDb {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Adds {@code delta} to the statistics of a question.
+     */
+    public void addToStatistics(String feedbackQuestionId, String feedbackSessionName, String courseId,
+            FeedbackQuestionStatistics delta) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT,
+                feedbackQuestionId, feedbackSessionName, courseId, delta);
+
+        int shardNumber = ThreadLocalRandom.current().nextInt(FeedbackQuestionStatisticsShard.NUMBER_OF_SHARDS);
+        Key<FeedbackQuestionStatisticsShard> key = makeKey(feedbackQuestionId, shardNumber);
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                FeedbackQuestionStatisticsShard shard = ofy().load().key(key).now();
+                if (shard == null) {
+                    shard = new FeedbackQuestionStatisticsShard(
+                            feedbackQuestionId, feedbackSessionName, courseId, shardNumber);
+                }
+                FeedbackQuestionStatistics statistics = getStatistics(shard);
+                statistics.merge(delta);
+
+                if (statistics.isEmpty()) {
+                    ofy().delete().key(key).now();
+                } else {
+                    shard.setStatistics(JsonUtils.toCompactJson(statistics));
+                    ofy().save().entity(shard).now();
+                }
+            }
+        });
+    }
+
+    /**
+     * Replaces the statistics of a question, which are written to a single shard.
+     *
+     * <p>All shards are replaced in one transaction, so that an update to a shard made meanwhile
+     * either comes before the replacement or is retried after it.
+     */
+    public void putStatistics(String feedbackQuestionId, String feedbackSessionName, String courseId,
+            FeedbackQuestionStatistics statistics) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT,
+                feedbackQuestionId, feedbackSessionName, courseId, statistics);
+
+        FeedbackQuestionStatisticsShard shard =
+                new FeedbackQuestionStatisticsShard(feedbackQuestionId, feedbackSessionName, courseId, 0);
+        shard.setStatistics(JsonUtils.toCompactJson(statistics));
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                // shard 0 is overwritten, the other shards are cleared
+                List<Key<FeedbackQuestionStatisticsShard>> keys = makeKeys(feedbackQuestionId);
+                ofy().delete().keys(keys.subList(1, keys.size())).now();
+                ofy().save().entity(shard).now();
+            }
+        });
+
+        log.info(String.format("Put statistics of %d responses for question %s",
+                statistics.getResponseCount(), feedbackQuestionId));
+    }
+
+    /**
+     * Gets the statistics of the given questions, keyed by question ID.
+     *
+     * <p>Questions without any response counted in their statistics are mapped to empty statistics.
+     */
+    public Map<String, FeedbackQuestionStatistics> getStatistics(Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        Map<String, FeedbackQuestionStatistics> statisticsPerQuestion = new HashMap<>();
+        List<Key<FeedbackQuestionStatisticsShard>> keys = new ArrayList<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            statisticsPerQuestion.put(feedbackQuestionId, new FeedbackQuestionStatistics());
+            keys.addAll(makeKeys(feedbackQuestionId));
+        }
+
+        for (FeedbackQuestionStatisticsShard shard : ofy().load().keys(keys).values()) {
+            statisticsPerQuestion.get(shard.getFeedbackQuestionId()).merge(getStatistics(shard));
+        }
+        return statisticsPerQuestion;
+    }
+
+    /**
+     * Deletes the statistics of the questions matching {@link AttributesDeletionQuery}.
+     *
+     * <p>Queries for a single response match no statistics, as statistics are kept per question.
+     */
+    public void deleteStatistics(AttributesDeletionQuery query) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        if (query.isResponseIdPresent()) {
+            return;
+        }
+
+        Query<FeedbackQuestionStatisticsShard> shardsToDelete =
+                ofy().load().type(FeedbackQuestionStatisticsShard.class);
+        if (query.isCourseIdPresent()) {
+            shardsToDelete = shardsToDelete.filter("courseId =", query.getCourseId());
+        }
+        if (query.isFeedbackSessionNamePresent()) {
+            shardsToDelete = shardsToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
+        }
+        if (query.isQuestionIdPresent()) {
+            shardsToDelete = shardsToDelete.filter("feedbackQuestionId =", query.getQuestionId());
+        }
+
+        ofy().delete().keys(shardsToDelete.keys().list()).now();
+    }
+
+    private FeedbackQuestionStatistics getStatistics(FeedbackQuestionStatisticsShard shard) {
+        String statistics = shard.getStatistics();
+        return statistics == null
+                ? new FeedbackQuestionStatistics()
+                : JsonUtils.fromJson(statistics, FeedbackQuestionStatistics.class);
+    }
+
+    private List<Key<FeedbackQuestionStatisticsShard>> makeKeys(String feedbackQuestionId) {
+        List<Key<FeedbackQuestionStatisticsShard>> keys = new ArrayList<>();
+        for (int shard = 0; shard < FeedbackQuestionStatisticsShard.NUMBER_OF_SHARDS; shard++) {
+            keys.add(makeKey(feedbackQuestionId, shard));
+        }
+        return keys;
+    }
+
+    private Key<FeedbackQuestionStatisticsShard> makeKey(String feedbackQuestionId, int shard) {
+        return Key.create(FeedbackQuestionStatisticsShard.class,
+                FeedbackQuestionStatisticsShard.generateId(feedbackQuestionId, shard));
+    }
+
+}
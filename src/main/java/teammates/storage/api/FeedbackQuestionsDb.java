@@ -4,11 +4,11 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.List;
 
-import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.DeletionCheckpoint;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -145,6 +145,22 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
     public void deleteFeedbackQuestions(AttributesDeletionQuery query) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
 
+        deleteEntitiesInBatches(getFeedbackQuestionsForDeletionQuery(query));
+    }
+
+    /**
+     * Deletes one batch of the questions matched by {@link AttributesDeletionQuery},
+     * continuing from the cursor of the previous batch.
+     *
+     * @param cursor the cursor of the previous batch, or null for the first batch
+     */
+    public DeletionCheckpoint deleteFeedbackQuestionsBatch(AttributesDeletionQuery query, String cursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        return deleteEntitiesBatch(getFeedbackQuestionsForDeletionQuery(query), cursor, null);
+    }
+
+    private Query<FeedbackQuestion> getFeedbackQuestionsForDeletionQuery(AttributesDeletionQuery query) {
         Query<FeedbackQuestion> entitiesToDelete = load().project();
         if (query.isCourseIdPresent()) {
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
@@ -152,8 +168,7 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         if (query.isFeedbackSessionNamePresent()) {
             entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
         }
-
-        deleteEntity(entitiesToDelete.keys().list().toArray(new Key<?>[0]));
+        return entitiesToDelete;
     }
 
     /**
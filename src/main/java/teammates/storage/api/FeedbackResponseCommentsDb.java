@@ -5,9 +5,12 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -16,6 +19,7 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.DeletionCheckpoint;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -30,6 +34,7 @@ import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
 import teammates.storage.search.FeedbackResponseCommentSearchQuery;
 import teammates.storage.search.SearchDocument;
+import teammates.storage.search.SearchDocumentContext;
 
 /**
  * Handles CRUD operations for feedback response comments.
@@ -41,6 +46,8 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
     private static final Logger log = Logger.getLogger();
 
+    private static final SearchIndexOutboxDb searchIndexOutboxDb = new SearchIndexOutboxDb();
+
     /**
      * Creates a feedback response comment.
      *
@@ -52,7 +59,7 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
     public FeedbackResponseCommentAttributes createEntity(FeedbackResponseCommentAttributes entityToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
         FeedbackResponseCommentAttributes createdComment = super.createEntity(entityToAdd);
-        putDocument(createdComment);
+        markDocumentOutdated(createdComment.courseId, createdComment.getId());
 
         return createdComment;
     }
@@ -68,6 +75,16 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         deleteDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, String.valueOf(commentId));
     }
 
+    /**
+     * Records the search document of the given comment as out of date, to be updated later.
+     *
+     * @see SearchIndexOutboxDb
+     */
+    private void markDocumentOutdated(String courseId, long commentId) {
+        searchIndexOutboxDb.markOutdated(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, courseId,
+                Collections.singletonList(String.valueOf(commentId)));
+    }
+
     /**
      * Gets a feedback response comment.
      */
@@ -75,6 +92,16 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributesOrNull(getFeedbackResponseCommentEntity(feedbackResponseCommentId));
     }
 
+    /**
+     * Gets feedback response comments by their IDs in a single batch, omitting the non-existent ones.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseComments(
+            Collection<Long> feedbackResponseCommentIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseCommentIds);
+
+        return makeAttributes(load().ids(feedbackResponseCommentIds).values());
+    }
+
     /**
      * Gets a feedback response comment by "fake" unique constraint response-giver-createdAt.
      *
@@ -197,9 +224,9 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         frc.setReceiverSection(newAttributes.receiverSection);
 
         saveEntity(frc);
+        markDocumentOutdated(frc.getCourseId(), frc.getFeedbackResponseCommentId());
 
         newAttributes = makeAttributes(frc);
-        putDocument(newAttributes);
 
         return newAttributes;
     }
@@ -254,16 +281,30 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
      * Creates or updates search document for the given comment.
      */
     public void putDocument(FeedbackResponseCommentAttributes comment) {
-        putDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, new FeedbackResponseCommentSearchDocument(comment));
+        putDocuments(Collections.singletonList(comment));
     }
 
     /**
      * Batch creates or updates search documents for the given comments.
      */
     public void putDocuments(List<FeedbackResponseCommentAttributes> comments) {
+        comments.stream()
+                .collect(Collectors.groupingBy(comment -> comment.courseId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((courseId, commentsInCourse) ->
+                        putDocuments(commentsInCourse, new SearchDocumentContext(courseId)));
+    }
+
+    /**
+     * Batch creates or updates search documents for the given comments of the course of {@code context}.
+     */
+    public void putDocuments(List<FeedbackResponseCommentAttributes> comments, SearchDocumentContext context) {
+        context.loadFeedbackResponses(comments.stream()
+                .map(comment -> comment.feedbackResponseId)
+                .collect(Collectors.toList()));
+
         List<SearchDocument> frcSearchDocuments = new ArrayList<>();
         for (FeedbackResponseCommentAttributes comment : comments) {
-            frcSearchDocuments.add(new FeedbackResponseCommentSearchDocument(comment));
+            frcSearchDocuments.add(new FeedbackResponseCommentSearchDocument(comment, context));
         }
         putDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, frcSearchDocuments.toArray(new SearchDocument[0]));
     }
@@ -286,7 +327,11 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
      * Deletes a comment.
      */
     public void deleteFeedbackResponseComment(long commentId) {
+        FeedbackResponseComment commentToDelete = getFeedbackResponseCommentEntity(commentId);
         deleteEntity(Key.create(FeedbackResponseComment.class, commentId));
+        if (commentToDelete != null) {
+            ResultsSnapshotVersions.bumpVersion(commentToDelete.getCourseId());
+        }
         deleteDocumentByCommentId(commentId);
     }
 
@@ -296,6 +341,31 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
     public void deleteFeedbackResponseComments(AttributesDeletionQuery query) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
 
+        deleteEntitiesInBatches(getFeedbackResponseCommentsForDeletionQuery(query), this::deleteDocuments);
+        bumpResultsSnapshotVersion(query);
+    }
+
+    /**
+     * Deletes one batch of the comments matched by {@link AttributesDeletionQuery},
+     * continuing from the cursor of the previous batch.
+     *
+     * @param cursor the cursor of the previous batch, or null for the first batch
+     */
+    public DeletionCheckpoint deleteFeedbackResponseCommentsBatch(AttributesDeletionQuery query, String cursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        DeletionCheckpoint checkpoint =
+                deleteEntitiesBatch(getFeedbackResponseCommentsForDeletionQuery(query), cursor, this::deleteDocuments);
+        bumpResultsSnapshotVersion(query);
+        return checkpoint;
+    }
+
+    private void deleteDocuments(List<Key<FeedbackResponseComment>> keysToDelete) {
+        deleteDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                keysToDelete.stream().map(key -> String.valueOf(key.getId())).toArray(String[]::new));
+    }
+
+    private Query<FeedbackResponseComment> getFeedbackResponseCommentsForDeletionQuery(AttributesDeletionQuery query) {
         Query<FeedbackResponseComment> entitiesToDelete = load().project();
         if (query.isCourseIdPresent()) {
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
@@ -309,12 +379,7 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         if (query.isResponseIdPresent()) {
             entitiesToDelete = entitiesToDelete.filter("feedbackResponseId =", query.getResponseId());
         }
-
-        List<Key<FeedbackResponseComment>> keysToDelete = entitiesToDelete.keys().list();
-
-        deleteDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
-                keysToDelete.stream().map(key -> String.valueOf(key.getId())).toArray(String[]::new));
-        deleteEntity(keysToDelete.toArray(new Key<?>[0]));
+        return entitiesToDelete;
     }
 
     private FeedbackResponseComment getFeedbackResponseCommentEntity(String courseId, Instant createdAt, String giverEmail) {
@@ -417,4 +482,9 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
         return FeedbackResponseCommentAttributes.valueOf(entity);
     }
+
+    @Override
+    protected String getResultsSnapshotCourseId(FeedbackResponseComment entity) {
+        return entity.getCourseId();
+    }
 }
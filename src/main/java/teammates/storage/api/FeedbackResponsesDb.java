@@ -3,18 +3,23 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.DeletionCheckpoint;
 import teammates.common.datatransfer.SectionDetail;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -32,6 +37,11 @@ import teammates.storage.entity.FeedbackResponse;
  */
 public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackResponseAttributes> {
 
+    /**
+     * Info message logged after loading responses of several questions in one batch.
+     */
+    public static final String QUERY_STATISTICS = "Loaded responses with %d queries, %d entities for %d questions";
+
     /**
      * Gets a set of giver identifiers that has at least one response under a feedback session.
      */
@@ -39,21 +49,19 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
 
-        List<Key<FeedbackResponse>> keysOfResponses =
-                load().filter("courseId =", courseId)
-                        .filter("feedbackSessionName =", feedbackSessionName)
-                        .keys()
-                        .list();
+        Query<FeedbackResponse> responses = load()
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName);
 
         // the following process makes use of the key pattern of feedback response entity
         // see generateId() in FeedbackResponse.java
         Set<String> giverSet = new HashSet<>();
-        for (Key<FeedbackResponse> key : keysOfResponses) {
+        streamKeys(responses, DEFAULT_BATCH_SIZE).forEach(key -> {
             String[] tokens = key.getName().split("%");
             if (tokens.length >= 3) {
                 giverSet.add(tokens[1]);
             }
-        }
+        });
 
         return giverSet;
     }
@@ -84,6 +92,19 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributesOrNull(fr);
     }
 
+    /**
+     * Gets feedback responses by their IDs in a single batch.
+     *
+     * @return a map from the ID to the response, which omits the IDs of non-existent responses
+     */
+    public Map<String, FeedbackResponseAttributes> getFeedbackResponses(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+        load().ids(feedbackResponseIds).forEach((id, response) -> responses.put(id, makeAttributes(response)));
+        return responses;
+    }
+
     /**
      * Gets all feedback responses of a question in a specific section.
      *
@@ -98,6 +119,49 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForQuestionInSection(feedbackQuestionId, section, sectionDetail));
     }
 
+    /**
+     * Gets all feedback responses of the given questions in a specific section, grouped by question ID.
+     *
+     * <p>The queries of all questions are issued together and run in parallel.
+     * If {@code section} is null, all responses of the questions are returned.</p>
+     *
+     * <p>{@code sectionDetail} specifies the criteria of classifying a response in a section</p>
+     */
+    public Map<String, List<FeedbackResponseAttributes>> getFeedbackResponsesForQuestionsInSection(
+            Collection<String> feedbackQuestionIds, String section, SectionDetail sectionDetail) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+        if (section != null) {
+            Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, sectionDetail);
+        }
+
+        // Objectify only runs a query when its result is first accessed,
+        // hence all queries are issued before any of the results is read
+        Map<String, List<List<FeedbackResponse>>> pendingResults = new LinkedHashMap<>();
+        int numOfQueries = 0;
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            List<Query<FeedbackResponse>> queries =
+                    planQueriesForQuestionInSection(feedbackQuestionId, section, sectionDetail);
+            List<List<FeedbackResponse>> pendingResultsOfQuestion = new ArrayList<>();
+            for (Query<FeedbackResponse> query : queries) {
+                pendingResultsOfQuestion.add(query.list());
+            }
+            pendingResults.put(feedbackQuestionId, pendingResultsOfQuestion);
+            numOfQueries += pendingResultsOfQuestion.size();
+        }
+
+        Map<String, List<FeedbackResponseAttributes>> responsesByQuestion = new LinkedHashMap<>();
+        int numOfEntities = 0;
+        for (Map.Entry<String, List<List<FeedbackResponse>>> pendingResult : pendingResults.entrySet()) {
+            List<FeedbackResponse> entities = mergeResults(pendingResult.getValue());
+            numOfEntities += entities.size();
+            responsesByQuestion.put(pendingResult.getKey(),
+                    makeAttributes(filterBySection(entities, section, sectionDetail)));
+        }
+
+        log.info(String.format(QUERY_STATISTICS, numOfQueries, numOfEntities, feedbackQuestionIds.size()));
+        return responsesByQuestion;
+    }
+
     /**
      * Gets all feedback responses for a question.
      */
@@ -107,6 +171,24 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForQuestion(feedbackQuestionId));
     }
 
+    /**
+     * Gets the routing fields of all feedback responses for a question.
+     *
+     * <p>Only the session, question, giver and recipient of the responses are read, with a projection query
+     * fetched in batches, so the response details and sections of the returned responses are not available.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponseRoutingsForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return streamProjections(load().filter("feedbackQuestionId =", feedbackQuestionId), DEFAULT_BATCH_SIZE,
+                "courseId", "feedbackSessionName", "giverEmail", "receiver")
+                .map(response -> {
+                    response.setFeedbackQuestionId(feedbackQuestionId);
+                    return makeAttributes(response);
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * Checks whether there are responses for a question.
      */
@@ -268,6 +350,22 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForQuestion(feedbackQuestionId, giverEmail));
     }
 
+    /**
+     * Gets the responses given by a user for a question to any of the given recipients, which are loaded
+     * together by their IDs.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForQuestionToRecipients(
+            String feedbackQuestionId, String giverEmail, Collection<String> recipients) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, recipients);
+
+        List<String> ids = recipients.stream()
+                .map(recipient -> FeedbackResponse.generateId(feedbackQuestionId, giverEmail, recipient))
+                .collect(Collectors.toList());
+        return makeAttributes(load().ids(ids).values());
+    }
+
     /**
      * Gets all responses given by a user and given to a section for a question.
      */
@@ -305,6 +403,28 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForReceiverForCourse(courseId, receiver));
     }
 
+    /**
+     * Gets the routing fields of all responses given to a user in a course.
+     *
+     * @see #getFeedbackResponseRoutingsForQuestion(String)
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponseRoutingsForReceiverForCourse(
+            String courseId, String receiver) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, receiver);
+
+        Query<FeedbackResponse> responses = load()
+                .filter("courseId =", courseId)
+                .filter("receiver =", receiver);
+        return streamProjections(responses, DEFAULT_BATCH_SIZE, "feedbackSessionName", "feedbackQuestionId", "giverEmail")
+                .map(response -> {
+                    response.setCourseId(courseId);
+                    response.setRecipientEmail(receiver);
+                    return makeAttributes(response);
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets all responses given by a user in a course.
      */
@@ -316,6 +436,28 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForCourse(courseId, giverEmail));
     }
 
+    /**
+     * Gets the routing fields of all responses given by a user in a course.
+     *
+     * @see #getFeedbackResponseRoutingsForQuestion(String)
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponseRoutingsFromGiverForCourse(
+            String courseId, String giverEmail) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+
+        Query<FeedbackResponse> responses = load()
+                .filter("courseId =", courseId)
+                .filter("giverEmail =", giverEmail);
+        return streamProjections(responses, DEFAULT_BATCH_SIZE, "feedbackSessionName", "feedbackQuestionId", "receiver")
+                .map(response -> {
+                    response.setCourseId(courseId);
+                    response.setGiverEmail(giverEmail);
+                    return makeAttributes(response);
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * Updates a feedback response with {@link FeedbackResponseAttributes.UpdateOptions}.
      *
@@ -380,18 +522,81 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                     .build();
             newAttributes = createEntity(newAttributes);
             deleteEntity(Key.create(FeedbackResponse.class, oldResponse.getId()));
+            ResultsSnapshotVersions.bumpVersion(oldResponse.getCourseId());
 
             return newAttributes;
         }
     }
 
+    /**
+     * Creates or updates feedback responses with a single batched save.
+     *
+     * <p>Responses which exist already keep their creation timestamp, and are not saved again if they are unchanged.
+     *
+     * @return the responses after saving, in the same order
+     * @throws InvalidParametersException if any of the responses is not valid, in which case none of them is saved
+     */
+    public List<FeedbackResponseAttributes> putFeedbackResponses(List<FeedbackResponseAttributes> responsesToPut)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responsesToPut);
+
+        List<FeedbackResponse> responses = new ArrayList<>();
+        for (FeedbackResponseAttributes responseToPut : responsesToPut) {
+            responseToPut.sanitizeForSaving();
+            if (!responseToPut.isValid()) {
+                throw new InvalidParametersException(responseToPut.getInvalidityInfo());
+            }
+            responses.add(responseToPut.toEntity());
+        }
+
+        Map<String, FeedbackResponse> existingResponses =
+                load().ids(responses.stream().map(FeedbackResponse::getId).collect(Collectors.toList()));
+
+        List<FeedbackResponse> putResponses = new ArrayList<>();
+        List<FeedbackResponse> responsesToSave = new ArrayList<>();
+        for (FeedbackResponse response : responses) {
+            FeedbackResponse existingResponse = existingResponses.get(response.getId());
+            if (existingResponse == null) {
+                responsesToSave.add(response);
+                putResponses.add(response);
+                continue;
+            }
+
+            // update only if change
+            boolean hasSameAttributes =
+                    this.<String>hasSameValue(existingResponse.getGiverSection(), response.getGiverSection())
+                    && this.<String>hasSameValue(existingResponse.getRecipientSection(), response.getRecipientSection())
+                    && this.<String>hasSameValue(existingResponse.getResponseMetaData(), response.getResponseMetaData());
+            if (!hasSameAttributes) {
+                existingResponse.setGiverSection(response.getGiverSection());
+                existingResponse.setRecipientSection(response.getRecipientSection());
+                existingResponse.setAnswer(response.getResponseMetaData());
+                responsesToSave.add(existingResponse);
+            }
+            putResponses.add(existingResponse);
+        }
+
+        if (responsesToSave.isEmpty()) {
+            log.info(String.format(OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponse.class.getSimpleName(),
+                    responsesToPut.size() + " responses"));
+        } else {
+            saveEntities(responsesToSave);
+        }
+
+        return makeAttributes(putResponses);
+    }
+
     /**
      * Deletes a feedback response.
      */
     public void deleteFeedbackResponse(String responseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseId);
 
+        FeedbackResponse responseToDelete = getFeedbackResponseEntity(responseId);
         deleteEntity(Key.create(FeedbackResponse.class, responseId));
+        if (responseToDelete != null) {
+            ResultsSnapshotVersions.bumpVersion(responseToDelete.getCourseId());
+        }
     }
 
     /**
@@ -400,6 +605,25 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
     public void deleteFeedbackResponses(AttributesDeletionQuery query) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
 
+        deleteEntitiesInBatches(getFeedbackResponsesForDeletionQuery(query));
+        bumpResultsSnapshotVersion(query);
+    }
+
+    /**
+     * Deletes one batch of the responses matched by {@link AttributesDeletionQuery},
+     * continuing from the cursor of the previous batch.
+     *
+     * @param cursor the cursor of the previous batch, or null for the first batch
+     */
+    public DeletionCheckpoint deleteFeedbackResponsesBatch(AttributesDeletionQuery query, String cursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        DeletionCheckpoint checkpoint = deleteEntitiesBatch(getFeedbackResponsesForDeletionQuery(query), cursor, null);
+        bumpResultsSnapshotVersion(query);
+        return checkpoint;
+    }
+
+    private Query<FeedbackResponse> getFeedbackResponsesForDeletionQuery(AttributesDeletionQuery query) {
         Query<FeedbackResponse> entitiesToDelete = load().project();
         if (query.isCourseIdPresent()) {
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
@@ -410,8 +634,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         if (query.isQuestionIdPresent()) {
             entitiesToDelete = entitiesToDelete.filter("feedbackQuestionId =", query.getQuestionId());
         }
-
-        deleteEntity(entitiesToDelete.keys().list().toArray(new Key<?>[0]));
+        return entitiesToDelete;
     }
 
     /**
@@ -426,46 +649,100 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return load().id(feedbackResponseId).now();
     }
 
-    private Set<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
                 String feedbackQuestionId, String section, SectionDetail sectionDetail) {
-        Set<FeedbackResponse> feedbackResponses = new HashSet<>();
-        if (sectionDetail == SectionDetail.BOTH) {
-            // responses in section with giver or recipient as None are added to respective section selected
-            feedbackResponses.addAll(load()
-                    .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("giverSection =", section)
-                    .filter("receiverSection =", "None")
-                    .list());
-
-            feedbackResponses.addAll(load()
-                    .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("giverSection =", "None")
-                    .filter("receiverSection =", section)
-                    .list());
-
-            feedbackResponses.addAll(load()
-                    .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("giverSection =", section)
-                    .filter("receiverSection =", section)
-                    .list());
+        // all queries are issued before any of the results is read so that they run in parallel
+        List<Query<FeedbackResponse>> queries =
+                planQueriesForQuestionInSection(feedbackQuestionId, section, sectionDetail);
+        List<List<FeedbackResponse>> pendingResults = new ArrayList<>();
+        for (Query<FeedbackResponse> query : queries) {
+            pendingResults.add(query.list());
+        }
+        return filterBySection(mergeResults(pendingResults), section, sectionDetail);
+    }
 
+    /**
+     * Plans the queries which together fetch a superset of the responses of a question in a section.
+     *
+     * <p>Every query filters on the question and on one or both section fields by equality only, which the
+     * Datastore serves by merging the built-in single-property indexes. A condition spanning both section fields
+     * is split into one query per field, e.g. EITHER fetches the responses from the section and the responses
+     * to the section. The results are merged with {@link #mergeResults(List)}, and
+     * {@link #filterBySection(List, String, SectionDetail)} is expected to be applied to the merged result.
+     */
+    private List<Query<FeedbackResponse>> planQueriesForQuestionInSection(
+            String feedbackQuestionId, String section, SectionDetail sectionDetail) {
+        Query<FeedbackResponse> query = load().filter("feedbackQuestionId =", feedbackQuestionId);
+        if (section == null) {
+            return Collections.singletonList(query);
         }
-        if (sectionDetail == SectionDetail.GIVER || sectionDetail == SectionDetail.EITHER) {
-            feedbackResponses.addAll(load()
-                    .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("giverSection =", section)
-                    .list());
 
+        switch (sectionDetail) {
+        case GIVER:
+            return Collections.singletonList(query.filter("giverSection =", section));
+        case EVALUEE:
+            return Collections.singletonList(query.filter("receiverSection =", section));
+        case BOTH:
+            // from the section, or to the section from no section
+            return Arrays.asList(
+                    query.filter("giverSection =", section),
+                    query.filter("receiverSection =", section).filter("giverSection =", Const.DEFAULT_SECTION));
+        case EITHER:
+            return Arrays.asList(
+                    query.filter("giverSection =", section),
+                    query.filter("receiverSection =", section));
+        default:
+            // no response is in the section
+            return Collections.emptyList();
         }
-        if (sectionDetail == SectionDetail.EVALUEE || sectionDetail == SectionDetail.EITHER) {
-            feedbackResponses.addAll(load()
-                    .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("receiverSection =", section)
-                    .list());
+    }
 
+    /**
+     * Merges the results of several queries, dropping the responses fetched by more than one of the queries.
+     */
+    private List<FeedbackResponse> mergeResults(List<List<FeedbackResponse>> results) {
+        if (results.size() == 1) {
+            return results.get(0);
+        }
+
+        Map<String, FeedbackResponse> responses = new LinkedHashMap<>();
+        for (List<FeedbackResponse> result : results) {
+            for (FeedbackResponse response : result) {
+                responses.putIfAbsent(response.getId(), response);
+            }
         }
+        return new ArrayList<>(responses.values());
+    }
+
+    private List<FeedbackResponse> filterBySection(
+            List<FeedbackResponse> responses, String section, SectionDetail sectionDetail) {
+        if (section == null) {
+            return responses;
+        }
+        return responses.stream()
+                .filter(response -> isInSection(response, section, sectionDetail))
+                .collect(Collectors.toList());
+    }
 
-        return feedbackResponses;
+    private boolean isInSection(FeedbackResponse response, String section, SectionDetail sectionDetail) {
+        boolean isGiverInSection = section.equals(response.getGiverSection());
+        boolean isRecipientInSection = section.equals(response.getRecipientSection());
+
+        switch (sectionDetail) {
+        case BOTH:
+            // responses in section with giver or recipient as None are added to respective section selected
+            return (isGiverInSection
+                    && (isRecipientInSection || Const.DEFAULT_SECTION.equals(response.getRecipientSection())))
+                    || (isRecipientInSection && Const.DEFAULT_SECTION.equals(response.getGiverSection()));
+        case GIVER:
+            return isGiverInSection;
+        case EVALUEE:
+            return isRecipientInSection;
+        case EITHER:
+            return isGiverInSection || isRecipientInSection;
+        default:
+            return false;
+        }
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
@@ -488,41 +765,16 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesForSessionInSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInGiverAndRecipientSection(
             String feedbackSessionName, String courseId, String section) {
-        List<FeedbackResponse> feedbackResponses = new ArrayList<>();
-
-        feedbackResponses.addAll(load()
-                .filter("feedbackSessionName = ", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .filter("giverSection =", section)
-                .filter("receiverSection =", section)
-                .list());
-
         // also show responses in section with giver but without recipient
-        feedbackResponses.addAll(load()
-                .filter("feedbackSessionName = ", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .filter("giverSection =", section)
-                .filter("receiverSection =", "None")
-                .list());
-
-        return feedbackResponses;
+        return getFeedbackResponseEntitiesForSessionFromSection(feedbackSessionName, courseId, section).stream()
+                .filter(response -> section.equals(response.getRecipientSection())
+                        || Const.DEFAULT_SECTION.equals(response.getRecipientSection()))
+                .collect(Collectors.toList());
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSection(
@@ -537,15 +789,19 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
+        // both queries are issued before either result is read so that they run in parallel
+        List<FeedbackResponse> fromSection = getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
+                feedbackSessionName, courseId, section, range);
+        List<FeedbackResponse> toSection = getFeedbackResponseEntitiesForSessionToSectionWithinRange(
+                feedbackSessionName, courseId, section, range);
+
         Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
 
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
+        for (FeedbackResponse result : fromSection) {
             feedbackResponses.put(result.getId(), result);
         }
 
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
+        for (FeedbackResponse result : toSection) {
             feedbackResponses.put(result.getId(), result);
         }
 
@@ -686,4 +942,9 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
         return FeedbackResponseAttributes.valueOf(entity);
     }
+
+    @Override
+    protected String getResultsSnapshotCourseId(FeedbackResponse entity) {
+        return entity.getCourseId();
+    }
 }
@@ -0,0 +1,154 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.Const.SystemParams;
+import teammates.common.util.Logger;
+import teammates.common.util.TimeHelper;
+import teammates.storage.entity.FeedbackSessionNotification;
+
+/**
+ * Handles the automated emails of feedback sessions which have not been sent yet.
+ *
+ * <p>The notifications of a session are scheduled again by {@link FeedbackSessionsDb} whenever the session
+ * is written, so that the sessions needing an automated email can be found with a keys-only query over
+ * the notifications which are due, instead of loading every session which might need one.
+ *
+ * @see FeedbackSessionNotification
+ */
+public class FeedbackSessionNotificationsDb {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Schedules the notifications of the sessions which are still to be sent, and removes the others.
+     */
+    public void scheduleNotifications(Collection<FeedbackSessionAttributes> sessions) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, sessions);
+
+        List<FeedbackSessionNotification> notificationsToSave = new ArrayList<>();
+        List<Key<FeedbackSessionNotification>> keysToDelete = new ArrayList<>();
+        for (FeedbackSessionAttributes session : sessions) {
+            for (FeedbackSessionNotification.Type type : FeedbackSessionNotification.Type.values()) {
+                Instant dueTime = getDueTime(session, type);
+                if (dueTime == null) {
+                    keysToDelete.add(makeKey(type, session.getFeedbackSessionName(), session.getCourseId()));
+                } else {
+                    notificationsToSave.add(new FeedbackSessionNotification(
+                            type, session.getFeedbackSessionName(), session.getCourseId(), dueTime));
+                }
+            }
+        }
+
+        ofy().save().entities(notificationsToSave).now();
+        ofy().delete().keys(keysToDelete).now();
+    }
+
+    /**
+     * Gets the IDs of the feedback sessions whose notification of the given type is due, earliest first.
+     *
+     * <p>Notifications which became due at or before {@code staleTime} are deleted instead,
+     * as it is too late to send them.
+     *
+     * @param staleTime null if notifications are kept until they are sent
+     */
+    public List<String> getFeedbackSessionIdsWithDueNotification(FeedbackSessionNotification.Type type,
+            Instant staleTime) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, type);
+
+        Query<FeedbackSessionNotification> query = load().filter("type =", type.name());
+        if (staleTime != null) {
+            List<Key<FeedbackSessionNotification>> staleKeys = query.filter("dueTime <=", staleTime).keys().list();
+            if (!staleKeys.isEmpty()) {
+                log.info(String.format("Deleting %d %s notifications which were not sent in time",
+                        staleKeys.size(), type));
+                ofy().delete().keys(staleKeys).now();
+            }
+            query = query.filter("dueTime >", staleTime);
+        }
+
+        return query.filter("dueTime <=", Instant.now())
+                .order("dueTime")
+                .keys()
+                .list()
+                .stream()
+                .map(key -> FeedbackSessionNotification.getFeedbackSessionId(key.getName()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Deletes the notifications of a feedback session.
+     */
+    public void deleteNotificationsForSession(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName, courseId);
+
+        List<Key<FeedbackSessionNotification>> keys = new ArrayList<>();
+        for (FeedbackSessionNotification.Type type : FeedbackSessionNotification.Type.values()) {
+            keys.add(makeKey(type, feedbackSessionName, courseId));
+        }
+        ofy().delete().keys(keys).now();
+    }
+
+    /**
+     * Deletes the notifications of all feedback sessions in a course, or of all sessions if {@code courseId} is null.
+     */
+    public void deleteNotificationsForCourse(String courseId) {
+        Query<FeedbackSessionNotification> query = load();
+        if (courseId != null) {
+            query = query.filter("courseId =", courseId);
+        }
+        ofy().delete().keys(query.keys().list()).now();
+    }
+
+    private static Instant getDueTime(FeedbackSessionAttributes session, FeedbackSessionNotification.Type type) {
+        if (session.isSessionDeleted()) {
+            return null;
+        }
+
+        switch (type) {
+        case OPENING:
+            return session.isSentOpenEmail() ? null : session.getStartTime();
+        case CLOSING:
+            return session.isSentClosingEmail() || !session.isClosingEmailEnabled()
+                    ? null
+                    : session.getEndTime().minus(Duration.ofHours(SystemParams.NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT));
+        case CLOSED:
+            return session.isSentClosedEmail() || !session.isClosingEmailEnabled()
+                    ? null
+                    : session.getEndTime().plus(Duration.ofMinutes(session.getGracePeriodMinutes()));
+        case PUBLISHED:
+            // automated published emails are only sent for custom publish times
+            return session.isSentPublishedEmail() || !session.isPublishedEmailEnabled()
+                    || TimeHelper.isSpecialTime(session.getResultsVisibleFromTime())
+                    ? null
+                    : session.getResultsVisibleFromTime();
+        default:
+            Assumption.fail("Unknown notification type: " + type);
+            return null;
+        }
+    }
+
+    private static Key<FeedbackSessionNotification> makeKey(
+            FeedbackSessionNotification.Type type, String feedbackSessionName, String courseId) {
+        return Key.create(FeedbackSessionNotification.class,
+                FeedbackSessionNotification.generateId(type, feedbackSessionName, courseId));
+    }
+
+    private static Query<FeedbackSessionNotification> load() {
+        return ofy().load().type(FeedbackSessionNotification.class);
+    }
+
+}
@@ -0,0 +1,259 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.Work;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.Logger;
+import teammates.storage.entity.BaseEntity;
+import teammates.storage.entity.FeedbackSessionRespondent;
+import teammates.storage.entity.FeedbackSessionRespondentCounter;
+
+/**
+ * Handles operations on the respondents of feedback sessions.
+ *
+ * <p>Every respondent is stored as a separate {@link FeedbackSessionRespondent} and the number of respondents
+ * of a session is kept in {@link FeedbackSessionRespondentCounter} shards which are updated together with
+ * the respondent in the same transaction.
+ *
+ * @see FeedbackSessionRespondent
+ * @see FeedbackSessionRespondentCounter
+ */
+public class FeedbackSessionRespondentsDb {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Adds a respondent to a feedback session.
+     *
+     * @return true if the respondent was added, false if it was already a respondent of the session
+     */
+    public boolean addRespondent(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName, courseId, email);
+
+        Key<FeedbackSessionRespondent> key = makeRespondentKey(feedbackSessionName, courseId, email, isInstructor);
+        boolean isAdded = ofy().transact(new Work<Boolean>() {
+            @Override
+            public Boolean run() {
+                if (ofy().load().key(key).now() != null) {
+                    return false;
+                }
+                FeedbackSessionRespondentCounter counter = loadRandomShard(feedbackSessionName, courseId);
+                counter.increment(isInstructor, 1);
+                ofy().save().entities(
+                        new FeedbackSessionRespondent(feedbackSessionName, courseId, email, isInstructor), counter).now();
+                return true;
+            }
+        });
+
+        if (isAdded) {
+            log.info("Respondent added: " + key.getName());
+        }
+        return isAdded;
+    }
+
+    /**
+     * Removes a respondent from a feedback session.
+     *
+     * @return true if the respondent was removed, false if it was not a respondent of the session
+     */
+    public boolean removeRespondent(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName, courseId, email);
+
+        Key<FeedbackSessionRespondent> key = makeRespondentKey(feedbackSessionName, courseId, email, isInstructor);
+        boolean isRemoved = ofy().transact(new Work<Boolean>() {
+            @Override
+            public Boolean run() {
+                if (ofy().load().key(key).now() == null) {
+                    return false;
+                }
+                FeedbackSessionRespondentCounter counter = loadRandomShard(feedbackSessionName, courseId);
+                counter.increment(isInstructor, -1);
+                ofy().delete().key(key).now();
+                ofy().save().entity(counter).now();
+                return true;
+            }
+        });
+
+        if (isRemoved) {
+            log.info("Respondent removed: " + key.getName());
+        }
+        return isRemoved;
+    }
+
+    /**
+     * Replaces all respondents of a feedback session with the given students and instructors.
+     *
+     * <p>The respondents are written in a single batch and counted in a single counter shard.
+     */
+    public void putRespondents(String feedbackSessionName, String courseId,
+            Collection<String> studentEmails, Collection<String> instructorEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT,
+                feedbackSessionName, courseId, studentEmails, instructorEmails);
+
+        deleteRespondentsForSession(feedbackSessionName, courseId);
+
+        List<BaseEntity> entities = new ArrayList<>();
+        FeedbackSessionRespondentCounter counter = new FeedbackSessionRespondentCounter(feedbackSessionName, courseId, 0);
+        for (String email : studentEmails) {
+            entities.add(new FeedbackSessionRespondent(feedbackSessionName, courseId, email, false));
+            counter.increment(false, 1);
+        }
+        for (String email : instructorEmails) {
+            entities.add(new FeedbackSessionRespondent(feedbackSessionName, courseId, email, true));
+            counter.increment(true, 1);
+        }
+        entities.add(counter);
+
+        log.info(String.format("Put %d student and %d instructor respondents for %s/%s",
+                studentEmails.size(), instructorEmails.size(), courseId, feedbackSessionName));
+        ofy().save().entities(entities).now();
+    }
+
+    /**
+     * Checks whether {@code email} is a respondent of a feedback session.
+     */
+    public boolean isRespondent(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName, courseId, email);
+
+        return ofy().load().key(makeRespondentKey(feedbackSessionName, courseId, email, isInstructor)).now() != null;
+    }
+
+    /**
+     * Gets the emails of all student or instructor respondents of a feedback session.
+     */
+    public Set<String> getRespondentEmails(String feedbackSessionName, String courseId, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName, courseId);
+
+        return loadRespondents(feedbackSessionName, courseId)
+                .filter("isInstructor =", isInstructor)
+                .list()
+                .stream()
+                .map(FeedbackSessionRespondent::getEmail)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Gets the number of respondents of a feedback session, including both students and instructors.
+     *
+     * <p>The count is read from a fixed number of counter shards regardless of the number of respondents.
+     */
+    public int getRespondentCount(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName, courseId);
+
+        List<Key<FeedbackSessionRespondentCounter>> keys = new ArrayList<>();
+        for (int shard = 0; shard < FeedbackSessionRespondentCounter.NUMBER_OF_SHARDS; shard++) {
+            keys.add(makeCounterKey(feedbackSessionName, courseId, shard));
+        }
+        Map<Key<FeedbackSessionRespondentCounter>, FeedbackSessionRespondentCounter> counters =
+                ofy().load().keys(keys);
+
+        long count = 0;
+        for (FeedbackSessionRespondentCounter counter : counters.values()) {
+            count += counter.getStudentCount() + counter.getInstructorCount();
+        }
+        return (int) count;
+    }
+
+    /**
+     * Replaces the respondent {@code oldEmail} with {@code newEmail} in all feedback sessions of a course.
+     */
+    public void updateRespondentEmail(String courseId, String oldEmail, String newEmail, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId, oldEmail, newEmail);
+
+        for (FeedbackSessionRespondent respondent : getRespondentsInCourse(courseId, oldEmail, isInstructor)) {
+            removeRespondent(respondent.getFeedbackSessionName(), courseId, oldEmail, isInstructor);
+            addRespondent(respondent.getFeedbackSessionName(), courseId, newEmail, isInstructor);
+        }
+    }
+
+    /**
+     * Removes the respondent {@code email} from all feedback sessions of a course.
+     */
+    public void removeRespondentFromCourse(String courseId, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId, email);
+
+        for (FeedbackSessionRespondent respondent : getRespondentsInCourse(courseId, email, isInstructor)) {
+            removeRespondent(respondent.getFeedbackSessionName(), courseId, email, isInstructor);
+        }
+    }
+
+    /**
+     * Deletes all respondents and respondent counters of a feedback session.
+     */
+    public void deleteRespondentsForSession(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName, courseId);
+
+        deleteKeys(loadRespondents(feedbackSessionName, courseId).keys().list(),
+                ofy().load().type(FeedbackSessionRespondentCounter.class)
+                        .filter("courseId =", courseId)
+                        .filter("feedbackSessionName =", feedbackSessionName)
+                        .keys().list());
+    }
+
+    /**
+     * Deletes all respondents and respondent counters of all feedback sessions in a course.
+     */
+    public void deleteRespondentsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        deleteKeys(ofy().load().type(FeedbackSessionRespondent.class).filter("courseId =", courseId).keys().list(),
+                ofy().load().type(FeedbackSessionRespondentCounter.class).filter("courseId =", courseId).keys().list());
+    }
+
+    private void deleteKeys(List<Key<FeedbackSessionRespondent>> respondentKeys,
+            List<Key<FeedbackSessionRespondentCounter>> counterKeys) {
+        log.info(String.format("Delete %d respondents and %d respondent counters",
+                respondentKeys.size(), counterKeys.size()));
+        ofy().delete().keys(respondentKeys).now();
+        ofy().delete().keys(counterKeys).now();
+    }
+
+    private List<FeedbackSessionRespondent> getRespondentsInCourse(String courseId, String email, boolean isInstructor) {
+        return ofy().load().type(FeedbackSessionRespondent.class)
+                .filter("courseId =", courseId)
+                .filter("email =", email)
+                .filter("isInstructor =", isInstructor)
+                .list();
+    }
+
+    private Query<FeedbackSessionRespondent> loadRespondents(String feedbackSessionName, String courseId) {
+        return ofy().load().type(FeedbackSessionRespondent.class)
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName);
+    }
+
+    /**
+     * Loads a random shard of the respondent counter of a session, creating it if it does not exist.
+     */
+    private FeedbackSessionRespondentCounter loadRandomShard(String feedbackSessionName, String courseId) {
+        int shard = ThreadLocalRandom.current().nextInt(FeedbackSessionRespondentCounter.NUMBER_OF_SHARDS);
+        FeedbackSessionRespondentCounter counter =
+                ofy().load().key(makeCounterKey(feedbackSessionName, courseId, shard)).now();
+        return counter == null ? new FeedbackSessionRespondentCounter(feedbackSessionName, courseId, shard) : counter;
+    }
+
+    private Key<FeedbackSessionRespondent> makeRespondentKey(
+            String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        return Key.create(FeedbackSessionRespondent.class,
+                FeedbackSessionRespondent.generateId(feedbackSessionName, courseId, email, isInstructor));
+    }
+
+    private Key<FeedbackSessionRespondentCounter> makeCounterKey(String feedbackSessionName, String courseId, int shard) {
+        return Key.create(FeedbackSessionRespondentCounter.class,
+                FeedbackSessionRespondentCounter.generateId(feedbackSessionName, courseId, shard));
+    }
+
+}
@@ -3,10 +3,11 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
@@ -15,22 +16,55 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.DeletionCheckpoint;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.TimeHelper;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionNotification;
 
 /**
  * Handles CRUD operations for feedback sessions.
  *
+ * <p>The automated emails which each session still needs are kept up to date in
+ * {@link FeedbackSessionNotificationsDb} on every write to the session.
+ *
  * @see FeedbackSession
  * @see FeedbackSessionAttributes
  */
 public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSessionAttributes> {
 
+    private static final FeedbackSessionRespondentsDb respondentsDb = new FeedbackSessionRespondentsDb();
+    private static final FeedbackSessionNotificationsDb notificationsDb = new FeedbackSessionNotificationsDb();
+
+    @Override
+    public FeedbackSessionAttributes createEntity(FeedbackSessionAttributes entityToCreate)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        FeedbackSessionAttributes createdSession = super.createEntity(entityToCreate);
+        notificationsDb.scheduleNotifications(Collections.singletonList(createdSession));
+        return createdSession;
+    }
+
+    @Override
+    public FeedbackSessionAttributes putEntity(FeedbackSessionAttributes entityToAdd)
+            throws InvalidParametersException {
+        FeedbackSessionAttributes session = super.putEntity(entityToAdd);
+        notificationsDb.scheduleNotifications(Collections.singletonList(session));
+        return session;
+    }
+
+    @Override
+    public List<FeedbackSessionAttributes> putEntities(Collection<FeedbackSessionAttributes> entitiesToAdd)
+            throws InvalidParametersException {
+        List<FeedbackSessionAttributes> sessions = super.putEntities(entitiesToAdd);
+        notificationsDb.scheduleNotifications(sessions);
+        return sessions;
+    }
+
     /**
      * Gets a list of feedback sessions that is ongoing, i.e. starting before {@code rangeEnd}
      * and ending after {@code rangeStart}.
@@ -155,43 +189,38 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
     }
 
     /**
-     * Gets a list of undeleted feedback sessions which start within the last 2 hours
+     * Gets a list of undeleted feedback sessions which started within the last 2 days
      * and possibly need an open email to be sent.
      */
     public List<FeedbackSessionAttributes> getFeedbackSessionsPossiblyNeedingOpenEmail() {
-        return makeAttributes(getFeedbackSessionEntitiesPossiblyNeedingOpenEmail()).stream()
-                .filter(session -> !session.isSessionDeleted())
-                .collect(Collectors.toList());
+        return getFeedbackSessionsWithDueNotification(FeedbackSessionNotification.Type.OPENING,
+                TimeHelper.getInstantDaysOffsetFromNow(-2));
     }
 
     /**
-     * Gets a list of undeleted feedback sessions which end in the future (2 hour ago onward)
+     * Gets a list of undeleted feedback sessions which reached the closing reminder time within the last 2 days
      * and possibly need a closing email to be sent.
      */
     public List<FeedbackSessionAttributes> getFeedbackSessionsPossiblyNeedingClosingEmail() {
-        return makeAttributes(getFeedbackSessionEntitiesPossiblyNeedingClosingEmail()).stream()
-                .filter(session -> !session.isSessionDeleted())
-                .collect(Collectors.toList());
+        return getFeedbackSessionsWithDueNotification(FeedbackSessionNotification.Type.CLOSING,
+                TimeHelper.getInstantDaysOffsetFromNow(-2));
     }
 
     /**
-     * Gets a list of undeleted feedback sessions which end in the future (2 hour ago onward)
+     * Gets a list of undeleted feedback sessions which closed within the last 2 days
      * and possibly need a closed email to be sent.
      */
     public List<FeedbackSessionAttributes> getFeedbackSessionsPossiblyNeedingClosedEmail() {
-        return makeAttributes(getFeedbackSessionEntitiesPossiblyNeedingClosedEmail()).stream()
-                .filter(session -> !session.isSessionDeleted())
-                .collect(Collectors.toList());
+        return getFeedbackSessionsWithDueNotification(FeedbackSessionNotification.Type.CLOSED,
+                TimeHelper.getInstantDaysOffsetFromNow(-2));
     }
 
     /**
-     * Gets a list of undeleted published feedback sessions which possibly need a published email
-     * to be sent.
+     * Gets a list of undeleted feedback sessions with custom publish times which are published
+     * and possibly need a published email to be sent.
      */
     public List<FeedbackSessionAttributes> getFeedbackSessionsPossiblyNeedingPublishedEmail() {
-        return makeAttributes(getFeedbackSessionEntitiesPossiblyNeedingPublishedEmail()).stream()
-                .filter(session -> !session.isSessionDeleted())
-                .collect(Collectors.toList());
+        return getFeedbackSessionsWithDueNotification(FeedbackSessionNotification.Type.PUBLISHED, null);
     }
 
     /**
@@ -210,6 +239,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, updateOptions);
 
         FeedbackSessionAttributes[] newAttributesFinal = new FeedbackSessionAttributes[] { null };
+        FeedbackSessionAttributes[] updatedSessionFinal = new FeedbackSessionAttributes[] { null };
         try {
             FeedbackSessionsDb thisDb = this;
             ofy().transact(new VoidWork() {
@@ -256,12 +286,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                             && thisDb.<Boolean>hasSameValue(
                                     feedbackSession.isClosingEmailEnabled(), newAttributes.isClosingEmailEnabled())
                             && thisDb.<Boolean>hasSameValue(
-                                    feedbackSession.isPublishedEmailEnabled(), newAttributes.isPublishedEmailEnabled())
-                            && thisDb.<Set<String>>hasSameValue(
-                                    feedbackSession.getRespondingStudentList(), newAttributes.getRespondingStudentList())
-                            && thisDb.<Set<String>>hasSameValue(
-                                    feedbackSession.getRespondingInstructorList(),
-                                    newAttributes.getRespondingInstructorList());
+                                    feedbackSession.isPublishedEmailEnabled(), newAttributes.isPublishedEmailEnabled());
                     if (hasSameAttributes) {
                         log.info(String.format(
                                 OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackSession.class.getSimpleName(), updateOptions));
@@ -283,12 +308,10 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                     feedbackSession.setSendClosingEmail(newAttributes.isClosingEmailEnabled());
                     feedbackSession.setSendPublishedEmail(newAttributes.isPublishedEmailEnabled());
 
-                    feedbackSession.setRespondingStudentList(newAttributes.getRespondingStudentList());
-                    feedbackSession.setRespondingInstructorList(newAttributes.getRespondingInstructorList());
-
                     saveEntity(feedbackSession);
 
                     newAttributesFinal[0] = makeAttributes(feedbackSession);
+                    updatedSessionFinal[0] = newAttributesFinal[0];
                 }
             });
         } catch (RuntimeException e) {
@@ -300,6 +323,10 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 throw e;
             }
         }
+
+        if (updatedSessionFinal[0] != null) {
+            notificationsDb.scheduleNotifications(Collections.singletonList(updatedSessionFinal[0]));
+        }
         return newAttributesFinal[0];
     }
 
@@ -319,10 +346,12 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT);
         }
 
-        sessionEntity.setDeletedTime(Instant.now());
-        saveEntity(sessionEntity);
+        FeedbackSession updatedSession = copyEntity(sessionEntity);
+        updatedSession.setDeletedTime(Instant.now());
+        saveEntity(updatedSession);
+        notificationsDb.scheduleNotifications(Collections.singletonList(makeAttributes(updatedSession)));
 
-        return sessionEntity.getDeletedTime();
+        return updatedSession.getDeletedTime();
     }
 
     /**
@@ -339,22 +368,26 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT);
         }
 
-        sessionEntity.setDeletedTime(null);
-        saveEntity(sessionEntity);
+        FeedbackSession updatedSession = copyEntity(sessionEntity);
+        updatedSession.setDeletedTime(null);
+        saveEntity(updatedSession);
+        notificationsDb.scheduleNotifications(Collections.singletonList(makeAttributes(updatedSession)));
     }
 
     /**
-     * Deletes a feedback session.
+     * Deletes a feedback session together with its respondents.
      */
     public void deleteFeedbackSession(String feedbackSessionName, String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
+        respondentsDb.deleteRespondentsForSession(feedbackSessionName, courseId);
+        notificationsDb.deleteNotificationsForSession(feedbackSessionName, courseId);
         deleteEntity(Key.create(FeedbackSession.class, FeedbackSession.generateId(feedbackSessionName, courseId)));
     }
 
     /**
-     * Deletes sessions using {@link AttributesDeletionQuery}.
+     * Deletes sessions together with their respondents using {@link AttributesDeletionQuery}.
      */
     public void deleteFeedbackSessions(AttributesDeletionQuery query) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
@@ -362,47 +395,42 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         Query<FeedbackSession> entitiesToDelete = load().project();
         if (query.isCourseIdPresent()) {
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
+            respondentsDb.deleteRespondentsForCourse(query.getCourseId());
         }
+        notificationsDb.deleteNotificationsForCourse(query.isCourseIdPresent() ? query.getCourseId() : null);
 
-        deleteEntity(entitiesToDelete.keys().list().toArray(new Key<?>[0]));
-    }
-
-    private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
-        return load().filter("courseId =", courseId).list();
+        deleteEntitiesInBatches(entitiesToDelete);
     }
 
-    private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingOpenEmail() {
-        return load()
-                .filter("startTime >", TimeHelper.getInstantDaysOffsetFromNow(-2))
-                .filter("sentOpenEmail =", false)
-                .list();
-    }
+    /**
+     * Deletes one batch of the sessions in a course, continuing from the cursor of the previous batch.
+     *
+     * <p>Unlike {@link #deleteFeedbackSessions(AttributesDeletionQuery)}, the respondents and notifications
+     * of the sessions are not deleted.
+     *
+     * @param cursor the cursor of the previous batch, or null for the first batch
+     */
+    public DeletionCheckpoint deleteFeedbackSessionsBatch(String courseId, String cursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-    private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingClosingEmail() {
-        return load()
-                .filter("endTime >", TimeHelper.getInstantDaysOffsetFromNow(-2))
-                .filter("sentClosingEmail =", false)
-                .filter("isClosingEmailEnabled =", true)
-                .list();
+        return deleteEntitiesBatch(load().project().filter("courseId =", courseId), cursor, null);
     }
 
-    private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingClosedEmail() {
-        return load()
-                .filter("endTime >", TimeHelper.getInstantDaysOffsetFromNow(-2))
-                .filter("sentClosedEmail =", false)
-                .filter("isClosingEmailEnabled =", true)
-                .list();
+    private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
+        return load().filter("courseId =", courseId).list();
     }
 
-    private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingPublishedEmail() {
-        return load()
-                .filter("sentPublishedEmail =", false)
-                .filter("isPublishedEmailEnabled =", true)
-                .list();
+    private List<FeedbackSessionAttributes> getFeedbackSessionsWithDueNotification(
+            FeedbackSessionNotification.Type type, Instant staleTime) {
+        List<String> ids = notificationsDb.getFeedbackSessionIdsWithDueNotification(type, staleTime);
+        return makeAttributes(load().ids(ids).values()).stream()
+                .filter(session -> !session.isSessionDeleted())
+                .collect(Collectors.toList());
     }
 
     private FeedbackSession getFeedbackSessionEntity(String feedbackSessionName, String courseId) {
-        return load().id(FeedbackSession.generateId(feedbackSessionName, courseId)).now();
+        String id = FeedbackSession.generateId(feedbackSessionName, courseId);
+        return loadCached(FeedbackSession.class, () -> load().id(id).now(), "id", id);
     }
 
     @Override
@@ -3,7 +3,12 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -11,6 +16,7 @@ import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.DeletionCheckpoint;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -23,6 +29,7 @@ import teammates.storage.entity.Instructor;
 import teammates.storage.search.InstructorSearchDocument;
 import teammates.storage.search.InstructorSearchQuery;
 import teammates.storage.search.SearchDocument;
+import teammates.storage.search.SearchDocumentContext;
 
 /**
  * Handles CRUD operations for instructors.
@@ -32,32 +39,41 @@ import teammates.storage.search.SearchDocument;
  */
 public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes> {
 
+    private static final SearchIndexOutboxDb searchIndexOutboxDb = new SearchIndexOutboxDb();
+
     /**
      * Creates or updates search document for the given instructor.
      */
-    public void putDocument(InstructorAttributes instructorParam) {
-        InstructorAttributes instructor = instructorParam;
-        if (instructor.key == null) {
-            instructor = this.getInstructorForEmail(instructor.courseId, instructor.email);
-        }
-        // defensive coding for legacy data
-        if (instructor.key != null) {
-            putDocument(Const.SearchIndex.INSTRUCTOR, new InstructorSearchDocument(instructor));
-        }
+    public void putDocument(InstructorAttributes instructor) {
+        putDocuments(Collections.singletonList(instructor));
     }
 
     /**
      * Batch creates or updates search documents for the given instructors.
      */
     public void putDocuments(List<InstructorAttributes> instructorParams) {
-        List<SearchDocument> instructorDocuments = new ArrayList<>();
+        Map<String, List<InstructorAttributes>> instructorsByCourse = new LinkedHashMap<>();
         for (InstructorAttributes instructor : instructorParams) {
             InstructorAttributes inst = instructor.key == null
                     ? getInstructorForEmail(instructor.courseId, instructor.email)
                     : instructor;
+            if (inst != null) {
+                instructorsByCourse.computeIfAbsent(inst.courseId, courseId -> new ArrayList<>()).add(inst);
+            }
+        }
+        instructorsByCourse.forEach((courseId, instructors) ->
+                putDocuments(instructors, new SearchDocumentContext(courseId)));
+    }
+
+    /**
+     * Batch creates or updates search documents for the given instructors of the course of {@code context}.
+     */
+    public void putDocuments(List<InstructorAttributes> instructors, SearchDocumentContext context) {
+        List<SearchDocument> instructorDocuments = new ArrayList<>();
+        for (InstructorAttributes instructor : instructors) {
             // defensive coding for legacy data
-            if (inst.key != null) {
-                instructorDocuments.add(new InstructorSearchDocument(inst));
+            if (instructor.key != null) {
+                instructorDocuments.add(new InstructorSearchDocument(instructor, context));
             }
         }
         putDocument(Const.SearchIndex.INSTRUCTOR, instructorDocuments.toArray(new SearchDocument[0]));
@@ -72,6 +88,15 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         deleteDocument(Const.SearchIndex.INSTRUCTOR, encryptedRegistrationKey);
     }
 
+    /**
+     * Records the search document of the given instructor as out of date, to be updated later.
+     *
+     * @see SearchIndexOutboxDb
+     */
+    private void markDocumentOutdated(String courseId, String email) {
+        searchIndexOutboxDb.markOutdated(Const.SearchIndex.INSTRUCTOR, courseId, Collections.singletonList(email));
+    }
+
     /**
      * Searches all instructors in the system.
      *
@@ -102,7 +127,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     public InstructorAttributes createEntity(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
         InstructorAttributes createdInstructor = super.createEntity(instructorToAdd);
-        putDocument(createdInstructor);
+        markDocumentOutdated(createdInstructor.courseId, createdInstructor.email);
 
         return createdInstructor;
     }
@@ -127,6 +152,20 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         return makeAttributesOrNull(getInstructorEntityById(courseId, email));
     }
 
+    /**
+     * Gets the instructors of a course with the given emails by their unique IDs, which are loaded together.
+     * Emails without an instructor in the course are skipped.
+     */
+    public List<InstructorAttributes> getInstructorsByIds(String courseId, Collection<String> emails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        List<Key<Instructor>> keys = emails.stream()
+                .map(email -> Key.create(Instructor.class, Instructor.generateId(email, courseId)))
+                .collect(Collectors.toList());
+        return makeAttributes(ofy().load().keys(keys).values());
+    }
+
     /**
      * Gets an instructor by unique constraint courseId-googleId.
      */
@@ -231,9 +270,9 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         instructor.setInstructorPrivilegeAsText(newAttributes.getTextFromInstructorPrivileges());
 
         saveEntity(instructor);
+        markDocumentOutdated(instructor.getCourseId(), instructor.getEmail());
 
         newAttributes = makeAttributes(instructor);
-        putDocument(newAttributes);
 
         return newAttributes;
     }
@@ -277,18 +316,19 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
             return newAttributes;
         }
 
-        instructor.setGoogleId(newAttributes.googleId);
-        instructor.setName(newAttributes.name);
-        instructor.setIsArchived(newAttributes.isArchived);
-        instructor.setRole(newAttributes.role);
-        instructor.setIsDisplayedToStudents(newAttributes.isDisplayedToStudents);
-        instructor.setDisplayedName(newAttributes.displayedName);
-        instructor.setInstructorPrivilegeAsText(newAttributes.getTextFromInstructorPrivileges());
+        Instructor updatedInstructor = copyEntity(instructor);
+        updatedInstructor.setGoogleId(newAttributes.googleId);
+        updatedInstructor.setName(newAttributes.name);
+        updatedInstructor.setIsArchived(newAttributes.isArchived);
+        updatedInstructor.setRole(newAttributes.role);
+        updatedInstructor.setIsDisplayedToStudents(newAttributes.isDisplayedToStudents);
+        updatedInstructor.setDisplayedName(newAttributes.displayedName);
+        updatedInstructor.setInstructorPrivilegeAsText(newAttributes.getTextFromInstructorPrivileges());
 
-        saveEntity(instructor);
+        saveEntity(updatedInstructor);
+        markDocumentOutdated(updatedInstructor.getCourseId(), updatedInstructor.getEmail());
 
-        newAttributes = makeAttributes(instructor);
-        putDocument(newAttributes);
+        newAttributes = makeAttributes(updatedInstructor);
 
         return newAttributes;
     }
@@ -311,6 +351,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         deleteDocumentByEncryptedInstructorKey(StringHelper.encrypt(instructorToDelete.getRegistrationKey()));
 
         deleteEntity(Key.create(Instructor.class, instructorToDelete.getUniqueId()));
+        ResultsSnapshotVersions.bumpVersion(courseId);
     }
 
     /**
@@ -320,18 +361,39 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
 
         if (query.isCourseIdPresent()) {
-            List<Instructor> instructorsToDelete = load().filter("courseId =", query.getCourseId()).list();
-            deleteDocument(Const.SearchIndex.INSTRUCTOR,
-                    instructorsToDelete.stream()
-                            .map(i -> StringHelper.encrypt(i.getRegistrationKey()))
-                            .toArray(String[]::new));
-
-            deleteEntity(instructorsToDelete.stream()
-                    .map(s -> Key.create(Instructor.class, s.getUniqueId()))
-                    .toArray(Key[]::new));
+            forEachBatch(streamEntities(load().filter("courseId =", query.getCourseId()), DEFAULT_BATCH_SIZE),
+                    DEFAULT_BATCH_SIZE, instructorsToDelete -> {
+                        deleteDocuments(instructorsToDelete);
+
+                        deleteEntity(instructorsToDelete.stream()
+                                .map(s -> Key.create(Instructor.class, s.getUniqueId()))
+                                .toArray(Key[]::new));
+                    });
+            ResultsSnapshotVersions.bumpVersion(query.getCourseId());
         }
     }
 
+    /**
+     * Deletes one batch of the instructors in a course, continuing from the cursor of the previous batch.
+     *
+     * @param cursor the cursor of the previous batch, or null for the first batch
+     */
+    public DeletionCheckpoint deleteInstructorsBatch(String courseId, String cursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        DeletionCheckpoint checkpoint =
+                deleteLoadedEntitiesBatch(load().filter("courseId =", courseId), cursor, this::deleteDocuments);
+        ResultsSnapshotVersions.bumpVersion(courseId);
+        return checkpoint;
+    }
+
+    private void deleteDocuments(List<Instructor> instructorsToDelete) {
+        deleteDocument(Const.SearchIndex.INSTRUCTOR,
+                instructorsToDelete.stream()
+                        .map(i -> StringHelper.encrypt(i.getRegistrationKey()))
+                        .toArray(String[]::new));
+    }
+
     private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
         return load()
                 .filter("courseId =", courseId)
@@ -340,10 +402,10 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     }
 
     private Instructor getInstructorEntityForEmail(String courseId, String email) {
-        return load()
+        return loadCached(Instructor.class, () -> load()
                 .filter("courseId =", courseId)
                 .filter("email =", email)
-                .first().now();
+                .first().now(), "courseId-email", courseId, email);
     }
 
     private Instructor getInstructorEntityById(String courseId, String email) {
@@ -380,7 +442,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     }
 
     private List<Instructor> getInstructorEntitiesForCourse(String courseId) {
-        return load().filter("courseId =", courseId).list();
+        return loadCached(Instructor.class, () -> load().filter("courseId =", courseId).list(), "courseId", courseId);
     }
 
     @Override
@@ -406,4 +468,9 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         return InstructorAttributes.valueOf(entity);
     }
 
+    @Override
+    protected String getResultsSnapshotCourseId(Instructor entity) {
+        return entity.getCourseId();
+    }
+
 }
@@ -7,13 +7,19 @@ import com.googlecode.objectify.ObjectifyService;
 
 import teammates.storage.entity.Account;
 import teammates.storage.entity.BaseEntity;
+import teammates.storage.entity.CascadeDeletionJob;
 import teammates.storage.entity.Course;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.entity.FeedbackQuestion;
+import teammates.storage.entity.FeedbackQuestionStatisticsShard;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionNotification;
+import teammates.storage.entity.FeedbackSessionRespondent;
+import teammates.storage.entity.FeedbackSessionRespondentCounter;
 import teammates.storage.entity.Instructor;
+import teammates.storage.entity.SearchIndexOutboxEntry;
 import teammates.storage.entity.StudentProfile;
 
 /**
@@ -26,13 +32,19 @@ public class OfyHelper implements ServletContextListener {
      */
     public static void registerEntityClasses() {
         ObjectifyService.register(Account.class);
+        ObjectifyService.register(CascadeDeletionJob.class);
         ObjectifyService.register(Course.class);
         ObjectifyService.register(CourseStudent.class);
         ObjectifyService.register(FeedbackQuestion.class);
+        ObjectifyService.register(FeedbackQuestionStatisticsShard.class);
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
+        ObjectifyService.register(FeedbackSessionNotification.class);
+        ObjectifyService.register(FeedbackSessionRespondent.class);
+        ObjectifyService.register(FeedbackSessionRespondentCounter.class);
         ObjectifyService.register(Instructor.class);
+        ObjectifyService.register(SearchIndexOutboxEntry.class);
         ObjectifyService.register(StudentProfile.class);
         // enable the ability to use java.time.Instant to issue query
         ObjectifyService.factory().getTranslators().add(new BaseEntity.InstantTranslatorFactory());
@@ -0,0 +1,134 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import teammates.common.util.Logger;
+
+/**
+ * Read-through cache of entities and query results which lives as long as a single request.
+ *
+ * <p>Values are grouped by entity kind and keyed by the entity key or by the parameters of the query
+ * (e.g. courseId and team name). Any write to an entity kind through {@link EntitiesDb} invalidates all cached
+ * values of that kind.
+ *
+ * <p>The cache is only active between {@link #begin()} and {@link #end()}, which are invoked by
+ * {@link RequestCacheFilter} for every incoming request. Outside of that scope, and inside transactions,
+ * every lookup goes straight to the Datastore.
+ */
+public final class RequestCache {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final ThreadLocal<RequestCache> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Placeholder for a cached {@code null}, e.g. an entity that does not exist.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    private final Map<String, Map<List<Object>, Object>> valuesByKind = new HashMap<>();
+    private final Map<String, Statistics> statisticsByKind = new TreeMap<>();
+
+    private RequestCache() {
+        // use begin() to start a new cache
+    }
+
+    /**
+     * Starts a new cache for the current thread, discarding any previous one.
+     */
+    public static void begin() {
+        CURRENT.set(new RequestCache());
+    }
+
+    /**
+     * Discards the cache of the current thread and logs its hit/miss statistics.
+     */
+    public static void end() {
+        RequestCache cache = CURRENT.get();
+        CURRENT.remove();
+        if (cache != null && !cache.statisticsByKind.isEmpty()) {
+            log.info("Request cache statistics: " + cache.getStatisticsAsString());
+        }
+    }
+
+    /**
+     * Returns true if a cache is active for the current thread.
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Gets the number of cache hits of the given entity kind in the current request.
+     */
+    public static int getHitCount(String kind) {
+        RequestCache cache = CURRENT.get();
+        return cache == null || !cache.statisticsByKind.containsKey(kind) ? 0 : cache.statisticsByKind.get(kind).hits;
+    }
+
+    /**
+     * Gets the number of cache misses of the given entity kind in the current request.
+     */
+    public static int getMissCount(String kind) {
+        RequestCache cache = CURRENT.get();
+        return cache == null || !cache.statisticsByKind.containsKey(kind) ? 0 : cache.statisticsByKind.get(kind).misses;
+    }
+
+    /**
+     * Gets the value cached for {@code cacheKey} of the entity kind, loading it with {@code loader} on a miss.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T get(String kind, List<Object> cacheKey, Supplier<T> loader) {
+        RequestCache cache = CURRENT.get();
+        if (cache == null || ofy().getTransaction() != null) {
+            return loader.get();
+        }
+
+        Map<List<Object>, Object> values = cache.valuesByKind.computeIfAbsent(kind, k -> new HashMap<>());
+        Statistics statistics = cache.statisticsByKind.computeIfAbsent(kind, k -> new Statistics());
+
+        Object value = values.get(cacheKey);
+        if (value != null) {
+            statistics.hits++;
+            return value == NULL_VALUE ? null : (T) value;
+        }
+
+        statistics.misses++;
+        T loaded = loader.get();
+        values.put(new ArrayList<>(cacheKey), loaded == null ? NULL_VALUE : loaded);
+        return loaded;
+    }
+
+    /**
+     * Discards all values cached for the entity kind.
+     */
+    static void invalidate(String kind) {
+        RequestCache cache = CURRENT.get();
+        if (cache != null) {
+            cache.valuesByKind.remove(kind);
+        }
+    }
+
+    private String getStatisticsAsString() {
+        List<String> entries = new ArrayList<>();
+        statisticsByKind.forEach((kind, statistics) ->
+                entries.add(kind + "(hits: " + statistics.hits + ", misses: " + statistics.misses + ")"));
+        return String.join(", ", entries);
+    }
+
+    /**
+     * Hit/miss counters of an entity kind.
+     */
+    private static class Statistics {
+        int hits;
+        int misses;
+    }
+
+}
@@ -0,0 +1,37 @@
+package teammates.storage.api;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+/**
+ * Setup in web.xml to scope a {@link RequestCache} to every request.
+ */
+public class RequestCacheFilter implements Filter {
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        // nothing to do
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        RequestCache.begin();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            RequestCache.end();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // nothing to do
+    }
+
+}
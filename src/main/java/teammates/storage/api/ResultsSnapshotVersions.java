@@ -0,0 +1,102 @@
+package teammates.storage.api;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.util.Logger;
+
+/**
+ * Tracks the versions of the cached results snapshots of feedback sessions.
+ *
+ * <p>Every course has a version counter, which is bumped by {@link EntitiesDb} whenever a response, comment,
+ * student or instructor of the course is written. Writes whose course is not known, e.g. deleting all responses
+ * of a question, bump a global counter instead. A snapshot of a session is up to date as long as neither counter
+ * of its course has changed since the snapshot was built.
+ *
+ * <p>The counters are kept in memcache so that they are shared by all instances of the application.
+ * A counter which is evicted from memcache restarts at a value derived from the current time,
+ * so that it does not go back to a version seen before.
+ */
+public final class ResultsSnapshotVersions {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Kind under which versions are cached in the {@link RequestCache}.
+     */
+    private static final String CACHE_KIND = "ResultsSnapshotVersion";
+
+    private static final String GLOBAL_VERSION_KEY = "resultsSnapshotVersion";
+    private static final String COURSE_VERSION_KEY_PREFIX = "resultsSnapshotVersion:";
+
+    private ResultsSnapshotVersions() {
+        // utility class
+    }
+
+    /**
+     * Gets the current version of the results snapshots of sessions in the course.
+     *
+     * @return null if the version cannot be determined, in which case no cached snapshot should be used
+     */
+    public static String getVersion(String courseId) {
+        return RequestCache.get(CACHE_KIND, Arrays.<Object>asList(courseId), () -> loadVersion(courseId));
+    }
+
+    /**
+     * Marks all results snapshots of sessions in the course as outdated.
+     */
+    static void bumpVersion(String courseId) {
+        increment(COURSE_VERSION_KEY_PREFIX + courseId);
+    }
+
+    /**
+     * Marks all results snapshots as outdated.
+     */
+    static void bumpGlobalVersion() {
+        increment(GLOBAL_VERSION_KEY);
+    }
+
+    private static String loadVersion(String courseId) {
+        String courseVersionKey = COURSE_VERSION_KEY_PREFIX + courseId;
+        try {
+            Map<String, Long> versions = getMemcache().incrementAll(
+                    Arrays.asList(GLOBAL_VERSION_KEY, courseVersionKey), 0L, getInitialVersion());
+            Long globalVersion = versions.get(GLOBAL_VERSION_KEY);
+            Long courseVersion = versions.get(courseVersionKey);
+            if (globalVersion == null || courseVersion == null) {
+                return null;
+            }
+            return globalVersion + ":" + courseVersion;
+        } catch (Exception e) {
+            log.warning("Failed to get results snapshot version of course " + courseId + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void increment(String key) {
+        RequestCache.invalidate(CACHE_KIND);
+        try {
+            if (getMemcache().increment(key, 1L, getInitialVersion()) == null) {
+                log.severe("Failed to bump results snapshot version " + key);
+            }
+        } catch (Exception e) {
+            log.severe("Failed to bump results snapshot version " + key + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the value a counter starts at, which exceeds any value it could have reached before
+     * unless it was bumped more than a thousand times per millisecond.
+     */
+    private static long getInitialVersion() {
+        return System.currentTimeMillis() * 1000;
+    }
+
+    private static MemcacheService getMemcache() {
+        return MemcacheServiceFactory.getMemcacheService();
+    }
+
+}
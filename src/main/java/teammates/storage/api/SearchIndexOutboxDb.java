@@ -0,0 +1,173 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.Lists;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.Logger;
+import teammates.storage.entity.SearchIndexOutboxEntry;
+import teammates.storage.search.SearchDocumentContext;
+
+/**
+ * Handles the search documents of students, instructors and response comments which are out of date.
+ *
+ * <p>Writes to these entities do not update the search index themselves. Instead, they record the document
+ * as out of date in a {@link SearchIndexOutboxEntry}, and the documents of a course are later rebuilt
+ * together by {@link #updateOutdatedDocuments(String)}.
+ *
+ * <p>When an entity is written, its entry is saved after the entity itself, so that a document rebuilt from
+ * the entity as it was before the write still has its entry recorded again, and is rebuilt once more.
+ * Documents are rebuilt from the entities as they are at that time, and documents of entities which no longer
+ * exist are skipped, as their deletion removes the document directly.
+ *
+ * @see SearchIndexOutboxEntry
+ */
+public class SearchIndexOutboxDb {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * The maximum number of entries checked in one transaction, which is limited by the number of
+     * entity groups a cross-group transaction may touch.
+     */
+    private static final int MAX_ENTRIES_PER_TRANSACTION = 25;
+
+    private static final StudentsDb studentsDb = new StudentsDb();
+    private static final InstructorsDb instructorsDb = new InstructorsDb();
+    private static final FeedbackResponseCommentsDb frcDb = new FeedbackResponseCommentsDb();
+
+    /**
+     * Records the search documents of the given students, instructors or comments of a course as out of date.
+     *
+     * @param indexName one of the indexes in {@link Const.SearchIndex}
+     * @param documentKeys the emails of the students or instructors, or the IDs of the comments
+     */
+    public void markOutdated(String indexName, String courseId, Collection<String> documentKeys) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, indexName, courseId, documentKeys);
+
+        if (documentKeys.isEmpty()) {
+            return;
+        }
+        ofy().save().entities(documentKeys.stream()
+                .map(documentKey -> new SearchIndexOutboxEntry(indexName, courseId, documentKey))
+                .collect(Collectors.toList())).now();
+    }
+
+    /**
+     * Gets the courses which have out of date search documents.
+     *
+     * @param limit the maximum number of entries to look at
+     */
+    public Set<String> getCourseIdsWithOutdatedDocuments(int limit) {
+        return ofy().load().type(SearchIndexOutboxEntry.class)
+                .limit(limit)
+                .list()
+                .stream()
+                .map(SearchIndexOutboxEntry::getCourseId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Rebuilds all out of date search documents of a course.
+     *
+     * <p>The entities are loaded by key, so that entities which have just been written are not missed,
+     * and their documents are put into the search index in batches. Entries recorded again while the documents
+     * are being rebuilt are kept for the next update.
+     *
+     * @return the number of out of date documents handled
+     */
+    public int updateOutdatedDocuments(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<SearchIndexOutboxEntry> entries = ofy().load().type(SearchIndexOutboxEntry.class)
+                .filter("courseId =", courseId)
+                .list();
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Set<String>> documentKeysByIndex = new HashMap<>();
+        for (SearchIndexOutboxEntry entry : entries) {
+            documentKeysByIndex.computeIfAbsent(entry.getIndexName(), index -> new LinkedHashSet<>())
+                    .add(entry.getDocumentKey());
+        }
+
+        SearchDocumentContext context = new SearchDocumentContext(courseId);
+        documentKeysByIndex.forEach((indexName, documentKeys) -> {
+            switch (indexName) {
+            case Const.SearchIndex.STUDENT:
+                studentsDb.putDocuments(studentsDb.getStudentsForEmails(courseId, documentKeys), context);
+                break;
+            case Const.SearchIndex.INSTRUCTOR:
+                instructorsDb.putDocuments(instructorsDb.getInstructorsByIds(courseId, documentKeys), context);
+                break;
+            case Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT:
+                frcDb.putDocuments(getComments(documentKeys), context);
+                break;
+            default:
+                log.severe("Unknown search index of out of date documents: " + indexName);
+                break;
+            }
+        });
+
+        deleteUnchangedEntries(entries);
+        log.info(String.format("Updated %d out of date search documents of course %s", entries.size(), courseId));
+        return entries.size();
+    }
+
+    private List<FeedbackResponseCommentAttributes> getComments(Collection<String> commentIds) {
+        List<Long> ids = new ArrayList<>();
+        for (String commentId : commentIds) {
+            try {
+                ids.add(Long.parseLong(commentId));
+            } catch (NumberFormatException e) {
+                log.severe("Invalid response comment ID of out of date document: " + commentId);
+            }
+        }
+        return frcDb.getFeedbackResponseComments(ids);
+    }
+
+    /**
+     * Deletes the entries which have not been recorded again since they were loaded.
+     *
+     * <p>Each entry is read again and deleted in the same transaction, so that an entry recorded again
+     * in the meantime is never lost.
+     */
+    private void deleteUnchangedEntries(List<SearchIndexOutboxEntry> entries) {
+        for (List<SearchIndexOutboxEntry> batch : Lists.partition(entries, MAX_ENTRIES_PER_TRANSACTION)) {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    List<Key<SearchIndexOutboxEntry>> keys = batch.stream()
+                            .map(entry -> Key.create(entry))
+                            .collect(Collectors.toList());
+                    Map<Key<SearchIndexOutboxEntry>, SearchIndexOutboxEntry> currentEntries = ofy().load().keys(keys);
+
+                    List<Key<SearchIndexOutboxEntry>> keysToDelete = new ArrayList<>();
+                    for (int i = 0; i < batch.size(); i++) {
+                        SearchIndexOutboxEntry currentEntry = currentEntries.get(keys.get(i));
+                        if (currentEntry != null && currentEntry.getUpdatedAt().equals(batch.get(i).getUpdatedAt())) {
+                            keysToDelete.add(keys.get(i));
+                        }
+                    }
+                    ofy().delete().keys(keysToDelete).now();
+                }
+            });
+        }
+    }
+
+}
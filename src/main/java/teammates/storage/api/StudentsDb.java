@@ -3,7 +3,12 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
@@ -13,6 +18,8 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.DeletionCheckpoint;
+import teammates.common.datatransfer.StudentEnrollmentResult;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -25,6 +32,7 @@ import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.search.SearchDocument;
+import teammates.storage.search.SearchDocumentContext;
 import teammates.storage.search.StudentSearchDocument;
 import teammates.storage.search.StudentSearchQuery;
 
@@ -38,20 +46,32 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final SearchIndexOutboxDb searchIndexOutboxDb = new SearchIndexOutboxDb();
+
     /**
      * Creates or updates search document for the given student.
      */
     public void putDocument(StudentAttributes student) {
-        putDocument(Const.SearchIndex.STUDENT, new StudentSearchDocument(student));
+        putDocuments(Collections.singletonList(student));
     }
 
     /**
      * Batch creates or updates search documents for the given students.
      */
     public void putDocuments(List<StudentAttributes> students) {
+        students.stream()
+                .collect(Collectors.groupingBy(student -> student.course, LinkedHashMap::new, Collectors.toList()))
+                .forEach((courseId, studentsInCourse) ->
+                        putDocuments(studentsInCourse, new SearchDocumentContext(courseId)));
+    }
+
+    /**
+     * Batch creates or updates search documents for the given students of the course of {@code context}.
+     */
+    public void putDocuments(List<StudentAttributes> students, SearchDocumentContext context) {
         List<SearchDocument> studentDocuments = new ArrayList<>();
         for (StudentAttributes student : students) {
-            studentDocuments.add(new StudentSearchDocument(student));
+            studentDocuments.add(new StudentSearchDocument(student, context));
         }
         putDocument(Const.SearchIndex.STUDENT, studentDocuments.toArray(new SearchDocument[0]));
     }
@@ -99,6 +119,15 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         deleteDocument(Const.SearchIndex.STUDENT, unencryptedRegistrationKey);
     }
 
+    /**
+     * Records the search documents of the given students as out of date, to be updated later.
+     *
+     * @see SearchIndexOutboxDb
+     */
+    private void markDocumentsOutdated(String courseId, Collection<String> emails) {
+        searchIndexOutboxDb.markOutdated(Const.SearchIndex.STUDENT, courseId, emails);
+    }
+
     /**
      * Creates a student.
      *
@@ -111,11 +140,114 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             throws InvalidParametersException, EntityAlreadyExistsException {
 
         StudentAttributes createdStudent = super.createEntity(student);
-        putDocument(createdStudent);
+        markDocumentsOutdated(createdStudent.course, Collections.singletonList(createdStudent.email));
 
         return createdStudent;
     }
 
+    /**
+     * Creates the students who are not in the course and updates the name, section, team and comments
+     * of the students who are already in the course.
+     *
+     * <p>The students are compared against the existing students with the same emails, loaded by key in a
+     * single batch, so that only new or changed students are saved, all in a single batch. Their search documents
+     * are updated later in batches.
+     *
+     * <p>Students who are not valid are skipped. If an email appears more than once, the last student wins.
+     *
+     * @return the enrolled students, in the order they are given, and the students moved to a different team
+     *         or section as they were loaded before the enrollment
+     */
+    public StudentEnrollmentResult enrollStudents(String courseId, List<StudentAttributes> students) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, students);
+
+        // load the existing students by key, as a query of the course may miss students that were just enrolled
+        List<Key<CourseStudent>> keys = students.stream()
+                .map(student -> Key.create(CourseStudent.class, CourseStudent.generateId(student.getEmail(), courseId)))
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, CourseStudent> originalStudents = new HashMap<>();
+        for (CourseStudent student : ofy().load().keys(keys).values()) {
+            originalStudents.put(student.getEmail(), student);
+        }
+        Map<String, CourseStudent> studentsInCourse = new HashMap<>(originalStudents);
+
+        Map<String, CourseStudent> studentsToSave = new LinkedHashMap<>();
+        List<StudentAttributes> enrolledStudents = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            CourseStudent existingStudent = studentsInCourse.get(student.getEmail());
+
+            StudentAttributes newAttributes;
+            if (existingStudent == null) {
+                newAttributes = student.getCopy();
+            } else {
+                newAttributes = makeAttributes(existingStudent);
+                newAttributes.update(StudentAttributes.updateOptionsBuilder(courseId, student.getEmail())
+                        .withName(student.getName())
+                        .withSectionName(student.getSection())
+                        .withTeamName(student.getTeam())
+                        .withComment(student.getComments())
+                        .build());
+            }
+
+            newAttributes.sanitizeForSaving();
+            if (!newAttributes.isValid()) {
+                log.info("Student not enrolled: " + newAttributes.getInvalidityInfo());
+                continue;
+            }
+
+            CourseStudent entity;
+            if (existingStudent == null) {
+                entity = newAttributes.toEntity();
+            } else {
+                boolean hasSameAttributes =
+                        this.<String>hasSameValue(existingStudent.getName(), newAttributes.getName())
+                        && this.<String>hasSameValue(existingStudent.getLastName(), newAttributes.getLastName())
+                        && this.<String>hasSameValue(existingStudent.getComments(), newAttributes.getComments())
+                        && this.<String>hasSameValue(existingStudent.getTeamName(), newAttributes.getTeam())
+                        && this.<String>hasSameValue(existingStudent.getSectionName(), newAttributes.getSection());
+                if (hasSameAttributes) {
+                    log.info(String.format(OPTIMIZED_SAVING_POLICY_APPLIED,
+                            CourseStudent.class.getSimpleName(), newAttributes.getEmail()));
+                    enrolledStudents.add(newAttributes);
+                    continue;
+                }
+
+                entity = copyEntity(existingStudent);
+                entity.setName(newAttributes.name);
+                entity.setLastName(newAttributes.lastName);
+                entity.setComments(newAttributes.comments);
+                entity.setTeamName(newAttributes.team);
+                entity.setSectionName(newAttributes.section);
+            }
+
+            // later occurrences of the same email are treated as updates of this student
+            studentsInCourse.put(entity.getEmail(), entity);
+            studentsToSave.put(entity.getEmail(), entity);
+            enrolledStudents.add(makeAttributes(entity));
+        }
+
+        if (studentsToSave.isEmpty()) {
+            return new StudentEnrollmentResult(enrolledStudents, new ArrayList<>());
+        }
+
+        saveEntities(studentsToSave.values());
+        markDocumentsOutdated(courseId, studentsToSave.keySet());
+
+        List<StudentAttributes> movedStudents = new ArrayList<>();
+        for (CourseStudent savedStudent : studentsToSave.values()) {
+            CourseStudent originalStudent = originalStudents.get(savedStudent.getEmail());
+            if (originalStudent != null
+                    && (!this.<String>hasSameValue(originalStudent.getTeamName(), savedStudent.getTeamName())
+                    || !this.<String>hasSameValue(originalStudent.getSectionName(), savedStudent.getSectionName()))) {
+                movedStudents.add(makeAttributes(originalStudent));
+            }
+        }
+
+        return new StudentEnrollmentResult(enrolledStudents, movedStudents);
+    }
+
     /**
      * Gets a student by unique ID courseId-email.
      */
@@ -126,6 +258,20 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributesOrNull(getCourseStudentEntityForEmail(courseId, email));
     }
 
+    /**
+     * Gets the students of a course with the given emails by their unique IDs, which are loaded together.
+     * Emails without a student in the course are skipped.
+     */
+    public List<StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        List<Key<CourseStudent>> keys = emails.stream()
+                .map(email -> Key.create(CourseStudent.class, CourseStudent.generateId(email, courseId)))
+                .collect(Collectors.toList());
+        return makeAttributes(ofy().load().keys(keys).values());
+    }
+
     /**
      * Gets list of students by email.
      */
@@ -183,6 +329,17 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributes(getCourseStudentEntitiesForCourse(courseId));
     }
 
+    /**
+     * Gets the number of students of a course.
+     *
+     * <p>Only the keys of the students are read, so this is cheaper than loading the students of the course.
+     */
+    public int getNumberOfStudentsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return getCourseStudentsForCourseQuery(courseId).count();
+    }
+
     /**
      * Gets all students of a team of a course.
      */
@@ -256,7 +413,6 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             // delete the old student
             deleteStudent(student.getCourseId(), student.getEmail());
 
-            putDocument(newAttributes);
             return newAttributes;
         } else {
             // update only if change
@@ -272,19 +428,18 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
                 return newAttributes;
             }
 
-            student.setName(newAttributes.name);
-            student.setLastName(newAttributes.lastName);
-            student.setComments(newAttributes.comments);
-            student.setGoogleId(newAttributes.googleId);
-            student.setTeamName(newAttributes.team);
-            student.setSectionName(newAttributes.section);
-
-            putDocument(newAttributes);
+            CourseStudent updatedStudent = copyEntity(student);
+            updatedStudent.setName(newAttributes.name);
+            updatedStudent.setLastName(newAttributes.lastName);
+            updatedStudent.setComments(newAttributes.comments);
+            updatedStudent.setGoogleId(newAttributes.googleId);
+            updatedStudent.setTeamName(newAttributes.team);
+            updatedStudent.setSectionName(newAttributes.section);
 
-            saveEntity(student);
+            saveEntity(updatedStudent);
+            markDocumentsOutdated(updatedStudent.getCourseId(), Collections.singletonList(updatedStudent.getEmail()));
 
-            newAttributes = makeAttributes(student);
-            putDocument(newAttributes);
+            newAttributes = makeAttributes(updatedStudent);
 
             return newAttributes;
         }
@@ -303,6 +458,7 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         if (courseStudentToDelete != null) {
             deleteDocumentByStudentKey(courseStudentToDelete.getRegistrationKey());
             deleteEntity(Key.create(CourseStudent.class, courseStudentToDelete.getUniqueId()));
+            ResultsSnapshotVersions.bumpVersion(courseId);
         }
     }
 
@@ -311,18 +467,41 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
      */
     public void deleteStudents(AttributesDeletionQuery query) {
         if (query.isCourseIdPresent()) {
-            List<CourseStudent> studentsToDelete = getCourseStudentsForCourseQuery(query.getCourseId()).list();
-            deleteDocument(Const.SearchIndex.STUDENT,
-                    studentsToDelete.stream().map(CourseStudent::getRegistrationKey).toArray(String[]::new));
-
-            deleteEntity(studentsToDelete.stream()
-                    .map(s -> Key.create(CourseStudent.class, s.getUniqueId()))
-                    .toArray(Key[]::new));
+            forEachBatch(streamEntities(getCourseStudentsForCourseQuery(query.getCourseId()), DEFAULT_BATCH_SIZE),
+                    DEFAULT_BATCH_SIZE, studentsToDelete -> {
+                        deleteDocuments(studentsToDelete);
+
+                        deleteEntity(studentsToDelete.stream()
+                                .map(s -> Key.create(CourseStudent.class, s.getUniqueId()))
+                                .toArray(Key[]::new));
+                    });
+            ResultsSnapshotVersions.bumpVersion(query.getCourseId());
         }
     }
 
+    /**
+     * Deletes one batch of the students in a course, continuing from the cursor of the previous batch.
+     *
+     * @param cursor the cursor of the previous batch, or null for the first batch
+     */
+    public DeletionCheckpoint deleteStudentsBatch(String courseId, String cursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        DeletionCheckpoint checkpoint =
+                deleteLoadedEntitiesBatch(getCourseStudentsForCourseQuery(courseId), cursor, this::deleteDocuments);
+        ResultsSnapshotVersions.bumpVersion(courseId);
+        return checkpoint;
+    }
+
+    private void deleteDocuments(List<CourseStudent> studentsToDelete) {
+        // the search documents are keyed by registration key, which is not part of the entity key
+        deleteDocument(Const.SearchIndex.STUDENT,
+                studentsToDelete.stream().map(CourseStudent::getRegistrationKey).toArray(String[]::new));
+    }
+
     private CourseStudent getCourseStudentEntityForEmail(String courseId, String email) {
-        return load().id(CourseStudent.generateId(email, courseId)).now();
+        String id = CourseStudent.generateId(email, courseId);
+        return loadCached(CourseStudent.class, () -> load().id(id).now(), "id", id);
     }
 
     private List<CourseStudent> getAllCourseStudentEntitiesForEmail(String email) {
@@ -353,7 +532,8 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     }
 
     private List<CourseStudent> getCourseStudentEntitiesForCourse(String courseId) {
-        return getCourseStudentsForCourseQuery(courseId).list();
+        return loadCached(CourseStudent.class, () -> getCourseStudentsForCourseQuery(courseId).list(),
+                "courseId", courseId);
     }
 
     private Query<CourseStudent> getCourseStudentsForGoogleIdQuery(String googleId) {
@@ -365,17 +545,17 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     }
 
     private List<CourseStudent> getCourseStudentEntitiesForTeam(String teamName, String courseId) {
-        return load()
+        return loadCached(CourseStudent.class, () -> load()
                 .filter("teamName =", teamName)
                 .filter("courseId =", courseId)
-                .list();
+                .list(), "courseId-teamName", courseId, teamName);
     }
 
     private List<CourseStudent> getCourseStudentEntitiesForSection(String sectionName, String courseId) {
-        return load()
+        return loadCached(CourseStudent.class, () -> load()
                 .filter("sectionName =", sectionName)
                 .filter("courseId =", courseId)
-                .list();
+                .list(), "courseId-sectionName", courseId, sectionName);
     }
 
     @Override
@@ -398,4 +578,9 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
         return StudentAttributes.valueOf(entity);
     }
+
+    @Override
+    protected String getResultsSnapshotCourseId(CourseStudent entity) {
+        return entity.getCourseId();
+    }
 }
@@ -0,0 +1,132 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Records the progress of deleting the entities of one kind in a course or a feedback session in the background.
+ *
+ * <p>The entities are deleted in batches, one batch per task. The cursor after each batch is saved here,
+ * so that the next task, or a retry of a failed task, continues from the last completed batch.
+ */
+@Entity
+@Index
+public class CascadeDeletionJob extends BaseEntity {
+
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, String, String)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private String jobId;
+
+    private String courseId;
+
+    /**
+     * The name of the deleted session, or null if the whole course is deleted.
+     */
+    private String feedbackSessionName;
+
+    /**
+     * One of {@link teammates.common.datatransfer.CascadeDeletionJobStatus.EntityKind}.
+     */
+    private String entityKind;
+
+    @Unindex
+    private long numberOfDeletedEntities;
+
+    /**
+     * The web-safe Datastore cursor from which the next batch is deleted, or null before the first batch.
+     */
+    @Unindex
+    private String cursor;
+
+    private boolean isDone;
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant createdAt;
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private CascadeDeletionJob() {
+        // required by Objectify
+    }
+
+    public CascadeDeletionJob(String courseId, String feedbackSessionName, String entityKind) {
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.entityKind = entityKind;
+        this.createdAt = Instant.now();
+        this.updatedAt = this.createdAt;
+        this.jobId = generateId(courseId, feedbackSessionName, entityKind);
+    }
+
+    /**
+     * Generates an unique ID for the job deleting the entities of a kind in a course or a session.
+     */
+    public static String generateId(String courseId, String feedbackSessionName, String entityKind) {
+        // Format is courseId%feedbackSessionName%entityKind, with an empty session name for the whole course
+        return courseId + '%' + (feedbackSessionName == null ? "" : feedbackSessionName) + '%' + entityKind;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getEntityKind() {
+        return entityKind;
+    }
+
+    public long getNumberOfDeletedEntities() {
+        return numberOfDeletedEntities;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isDone() {
+        return isDone;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Records a deleted batch and the cursor from which the next batch is deleted.
+     *
+     * @param nextCursor null if all entities have been deleted
+     */
+    public void recordDeletedBatch(int numberOfEntitiesInBatch, String nextCursor) {
+        this.numberOfDeletedEntities += numberOfEntitiesInBatch;
+        this.isDone = nextCursor == null;
+        if (nextCursor != null) {
+            this.cursor = nextCursor;
+        }
+        this.updatedAt = Instant.now();
+    }
+
+}
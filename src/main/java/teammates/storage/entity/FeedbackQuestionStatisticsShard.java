@@ -0,0 +1,87 @@
+package teammates.storage.entity;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents one shard of the statistics aggregated over the responses to a feedback question.
+ *
+ * <p>The statistics of a question are the merge of its {@link #NUMBER_OF_SHARDS} shards.
+ * Concurrent responses update different shards, so they do not contend on a single entity.
+ */
+@Entity
+@Index
+public class FeedbackQuestionStatisticsShard extends BaseEntity {
+
+    /**
+     * The number of shards the statistics of each question are split into.
+     */
+    public static final int NUMBER_OF_SHARDS = 10;
+
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, int)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private String shardId;
+
+    private String feedbackQuestionId;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    /**
+     * Serialized {@link teammates.common.datatransfer.FeedbackQuestionStatistics} of the responses counted
+     * in this shard.
+     */
+    @Unindex
+    private Text statistics;
+
+    @SuppressWarnings("unused")
+    private FeedbackQuestionStatisticsShard() {
+        // required by Objectify
+    }
+
+    public FeedbackQuestionStatisticsShard(String feedbackQuestionId, String feedbackSessionName, String courseId,
+            int shard) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.shardId = generateId(feedbackQuestionId, shard);
+    }
+
+    /**
+     * Generates an unique ID for a shard of the statistics of a question.
+     */
+    public static String generateId(String feedbackQuestionId, int shard) {
+        // Format is feedbackQuestionId%shard
+        return feedbackQuestionId + '%' + shard;
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getStatistics() {
+        return statistics == null ? null : statistics.getValue();
+    }
+
+    public void setStatistics(String statistics) {
+        this.statistics = statistics == null ? null : new Text(statistics);
+    }
+
+}
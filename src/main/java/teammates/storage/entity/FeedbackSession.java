@@ -35,9 +35,17 @@ public class FeedbackSession extends BaseEntity {
 
     private String creatorEmail;
 
+    /**
+     * Legacy set of instructor respondents, superseded by {@link FeedbackSessionRespondent}.
+     * It is only kept so that the respondents of existing sessions can be migrated.
+     */
     @Unindex
     private Set<String> respondingInstructorList = new HashSet<>();
 
+    /**
+     * Legacy set of student respondents, superseded by {@link FeedbackSessionRespondent}.
+     * It is only kept so that the respondents of existing sessions can be migrated.
+     */
     @Unindex
     private Set<String> respondingStudentList = new HashSet<>();
 
@@ -94,8 +102,7 @@ public class FeedbackSession extends BaseEntity {
             Instant sessionVisibleFromTime, Instant resultsVisibleFromTime, String timeZone, long gracePeriod,
             boolean sentOpenEmail, boolean sentClosingEmail,
             boolean sentClosedEmail, boolean sentPublishedEmail,
-            boolean isOpeningEmailEnabled, boolean isClosingEmailEnabled, boolean isPublishedEmailEnabled,
-            Set<String> instructorList, Set<String> studentList) {
+            boolean isOpeningEmailEnabled, boolean isClosingEmailEnabled, boolean isPublishedEmailEnabled) {
         this.feedbackSessionName = feedbackSessionName;
         this.courseId = courseId;
         this.creatorEmail = creatorEmail;
@@ -116,8 +123,6 @@ public class FeedbackSession extends BaseEntity {
         this.isClosingEmailEnabled = isClosingEmailEnabled;
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
         this.feedbackSessionId = generateId(this.feedbackSessionName, this.courseId);
-        this.respondingInstructorList = instructorList == null ? new HashSet<>() : instructorList;
-        this.respondingStudentList = studentList == null ? new HashSet<>() : studentList;
     }
 
     /**
@@ -0,0 +1,94 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents an automated email of a feedback session which has not been sent yet, and the time it becomes due.
+ *
+ * <p>There is at most one entry per session and notification type, so that the reminder cron jobs only need
+ * to look at the notifications which are due instead of at all sessions.
+ */
+@Entity
+@Index
+public class FeedbackSessionNotification extends BaseEntity {
+
+    /**
+     * The automated emails of a feedback session.
+     */
+    public enum Type {
+        OPENING,
+        CLOSING,
+        CLOSED,
+        PUBLISHED
+    }
+
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(Type, String, String)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private String notificationId;
+
+    private Type type;
+
+    private String courseId;
+
+    @Unindex
+    private String feedbackSessionName;
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant dueTime;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionNotification() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionNotification(Type type, String feedbackSessionName, String courseId, Instant dueTime) {
+        this.type = type;
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.dueTime = dueTime;
+        this.notificationId = generateId(type, feedbackSessionName, courseId);
+    }
+
+    /**
+     * Generates an unique ID for the notification of a feedback session.
+     */
+    public static String generateId(Type type, String feedbackSessionName, String courseId) {
+        // Format is type%feedbackSessionId
+        return type.name() + '%' + FeedbackSession.generateId(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Gets the ID of the feedback session from the ID of one of its notifications.
+     */
+    public static String getFeedbackSessionId(String notificationId) {
+        return notificationId.substring(notificationId.indexOf('%') + 1);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public Instant getDueTime() {
+        return dueTime;
+    }
+
+}
@@ -0,0 +1,92 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Records that a student or an instructor has responded to a feedback session.
+ *
+ * <p>Each respondent is stored as its own small entity so that a submission only writes to an entity
+ * of its own, and membership can be checked with a single lookup by key.
+ */
+@Entity
+@Index
+public class FeedbackSessionRespondent extends BaseEntity {
+
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, String, String, boolean)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private String respondentId;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    private String email;
+
+    private boolean isInstructor;
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant createdAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionRespondent() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionRespondent(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.email = email;
+        this.isInstructor = isInstructor;
+        this.createdAt = Instant.now();
+        this.respondentId = generateId(feedbackSessionName, courseId, email, isInstructor);
+    }
+
+    /**
+     * Generates an unique ID for the respondent.
+     */
+    public static String generateId(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        // Format is feedbackSessionName%courseId%role%email
+        return FeedbackSession.generateId(feedbackSessionName, courseId) + '%'
+                + (isInstructor ? "instructor" : "student") + '%' + email;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isInstructor() {
+        return isInstructor;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackSessionRespondent [feedbackSessionName=" + feedbackSessionName
+                + ", courseId=" + courseId + ", email=" + email + ", isInstructor=" + isInstructor
+                + ", createdAt=" + createdAt + "]";
+    }
+
+}
@@ -0,0 +1,88 @@
+package teammates.storage.entity;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents one shard of the number of respondents of a feedback session.
+ *
+ * <p>The number of respondents of a session is the sum over its {@link #NUMBER_OF_SHARDS} shards.
+ * Concurrent submissions update different shards, so they do not contend on a single entity.
+ */
+@Entity
+@Index
+public class FeedbackSessionRespondentCounter extends BaseEntity {
+
+    /**
+     * The number of shards the respondent count of each session is split into.
+     */
+    public static final int NUMBER_OF_SHARDS = 10;
+
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, String, int)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private String counterId;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    @Unindex
+    private long studentCount;
+
+    @Unindex
+    private long instructorCount;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionRespondentCounter() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionRespondentCounter(String feedbackSessionName, String courseId, int shard) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.counterId = generateId(feedbackSessionName, courseId, shard);
+    }
+
+    /**
+     * Generates an unique ID for a shard of the respondent counter.
+     */
+    public static String generateId(String feedbackSessionName, String courseId, int shard) {
+        // Format is feedbackSessionName%courseId%shard
+        return FeedbackSession.generateId(feedbackSessionName, courseId) + '%' + shard;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public long getStudentCount() {
+        return studentCount;
+    }
+
+    public long getInstructorCount() {
+        return instructorCount;
+    }
+
+    /**
+     * Adds {@code delta} to the student or instructor count of this shard.
+     */
+    public void increment(boolean isInstructor, long delta) {
+        if (isInstructor) {
+            instructorCount += delta;
+        } else {
+            studentCount += delta;
+        }
+    }
+
+}
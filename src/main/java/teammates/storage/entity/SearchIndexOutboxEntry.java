@@ -0,0 +1,81 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Records that the search document of a student, an instructor or a response comment is out of date.
+ *
+ * <p>There is at most one entry per document, so repeated writes to the same entity before the document
+ * is rebuilt collapse into a single update of the search index.
+ */
+@Entity
+@Index
+public class SearchIndexOutboxEntry extends BaseEntity {
+
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, String, String)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private String entryId;
+
+    private String indexName;
+
+    private String courseId;
+
+    /**
+     * The email of the student or instructor, or the ID of the response comment, whose document is out of date.
+     */
+    @Unindex
+    private String documentKey;
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private SearchIndexOutboxEntry() {
+        // required by Objectify
+    }
+
+    public SearchIndexOutboxEntry(String indexName, String courseId, String documentKey) {
+        this.indexName = indexName;
+        this.courseId = courseId;
+        this.documentKey = documentKey;
+        this.updatedAt = Instant.now();
+        this.entryId = generateId(indexName, courseId, documentKey);
+    }
+
+    /**
+     * Generates an unique ID for the entry of a document.
+     */
+    public static String generateId(String indexName, String courseId, String documentKey) {
+        // Format is indexName%courseId%documentKey
+        return indexName + '%' + courseId + '%' + documentKey;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getDocumentKey() {
+        return documentKey;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+}
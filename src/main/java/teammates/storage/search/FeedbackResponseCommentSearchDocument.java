@@ -32,6 +32,7 @@ import teammates.common.util.StringHelper;
 public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
     private FeedbackResponseCommentAttributes comment;
+    private SearchDocumentContext context;
     private FeedbackResponseAttributes relatedResponse;
     private String responseGiverName;
     private String responseRecipientName;
@@ -43,8 +44,10 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     private List<InstructorAttributes> relatedInstructors;
     private List<StudentAttributes> relatedStudents;
 
-    public FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment) {
+    public FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment,
+                                                 SearchDocumentContext context) {
         this.comment = comment;
+        this.context = context;
     }
 
     @Override
@@ -53,10 +56,10 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             return;
         }
 
-        relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
-        relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
-        relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
-        course = coursesDb.getCourse(comment.courseId);
+        relatedSession = context.getFeedbackSession(comment.feedbackSessionName);
+        relatedQuestion = context.getFeedbackQuestion(comment.feedbackQuestionId);
+        relatedResponse = context.getFeedbackResponse(comment.feedbackResponseId);
+        course = context.getCourse();
         relatedInstructors = new ArrayList<>();
         relatedStudents = new ArrayList<>();
         setCommentGiverNameAndDisplayedName();
@@ -65,7 +68,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         Set<String> addedEmailSet = new HashSet<>();
         if (relatedQuestion.giverType == FeedbackParticipantType.INSTRUCTORS
                 || relatedQuestion.giverType == FeedbackParticipantType.SELF) {
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.giver);
+            InstructorAttributes ins = context.getRoster().getInstructorForEmail(relatedResponse.giver);
             if (ins == null || addedEmailSet.contains(ins.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -76,7 +79,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS) {
             responseGiverName = relatedResponse.giver;
         } else {
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.giver);
+            StudentAttributes stu = context.getRoster().getStudentForEmail(relatedResponse.giver);
             if (stu == null || addedEmailSet.contains(stu.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -88,7 +91,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
         switch (relatedQuestion.recipientType) {
         case INSTRUCTORS:
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.recipient);
+            InstructorAttributes ins = context.getRoster().getInstructorForEmail(relatedResponse.recipient);
             if (ins != null && !addedEmailSet.contains(ins.email)) {
                 relatedInstructors.add(ins);
                 addedEmailSet.add(ins.email);
@@ -105,7 +108,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             responseRecipientName = relatedResponse.recipient;
             break;
         default:
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.recipient);
+            StudentAttributes stu = context.getRoster().getStudentForEmail(relatedResponse.recipient);
 
             if (stu != null && !addedEmailSet.contains(stu.email)) {
                 relatedStudents.add(stu);
@@ -113,7 +116,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 responseRecipientName = stu.name + " (" + stu.team + ")";
             }
 
-            List<StudentAttributes> team = studentsDb.getStudentsForTeam(relatedResponse.recipient, comment.courseId);
+            List<StudentAttributes> team = context.getStudentsForTeam(relatedResponse.recipient);
             if (team != null) {
                 responseRecipientName = relatedResponse.recipient; // it's actually a team name here
                 for (StudentAttributes studentInTeam : team) {
@@ -319,8 +322,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     private void setCommentGiverNameAndDisplayedName() {
         switch (comment.commentGiverType) {
         case INSTRUCTORS:
-            InstructorAttributes instructor =
-                    instructorsDb.getInstructorForEmail(comment.courseId, comment.commentGiver);
+            InstructorAttributes instructor = context.getRoster().getInstructorForEmail(comment.commentGiver);
             if (instructor == null) {
                 commentGiverDisplayedName = comment.commentGiver;
                 commentGiverName = comment.commentGiver;
@@ -330,7 +332,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             commentGiverName = instructor.name;
             break;
         case STUDENTS:
-            StudentAttributes student = studentsDb.getStudentForEmail(comment.courseId, comment.commentGiver);
+            StudentAttributes student = context.getRoster().getStudentForEmail(comment.commentGiver);
             if (student == null) {
                 commentGiverDisplayedName = comment.commentGiver;
                 commentGiverName = comment.commentGiver;
@@ -21,10 +21,12 @@ import teammates.common.util.StringHelper;
 public class InstructorSearchDocument extends SearchDocument {
 
     private InstructorAttributes instructor;
+    private SearchDocumentContext context;
     private CourseAttributes course;
 
-    public InstructorSearchDocument(InstructorAttributes instructor) {
+    public InstructorSearchDocument(InstructorAttributes instructor, SearchDocumentContext context) {
         this.instructor = instructor;
+        this.context = context;
     }
 
     @Override
@@ -33,7 +35,7 @@ public class InstructorSearchDocument extends SearchDocument {
             return;
         }
 
-        course = coursesDb.getCourse(instructor.courseId);
+        course = context.getCourse();
     }
 
     @Override
@@ -0,0 +1,115 @@
+package teammates.storage.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * Holds the data of a course needed to build the {@link SearchDocument}s of the course.
+ *
+ * <p>Documents of the same course built with the same context share the data, so that e.g. the roster
+ * of the course is loaded once for all documents instead of once per document.
+ * The data is loaded when it is first needed and is not refreshed afterwards.
+ */
+public class SearchDocumentContext {
+
+    private final String courseId;
+
+    private boolean isCourseLoaded;
+    private CourseAttributes course;
+    private CourseRoster roster;
+    private Map<String, List<StudentAttributes>> studentsByTeam;
+
+    private final Map<String, FeedbackSessionAttributes> sessions = new HashMap<>();
+    private final Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+    private final Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+
+    public SearchDocumentContext(String courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Gets the course, or null if it does not exist.
+     */
+    public CourseAttributes getCourse() {
+        if (!isCourseLoaded) {
+            course = SearchDocument.coursesDb.getCourse(courseId);
+            isCourseLoaded = true;
+        }
+        return course;
+    }
+
+    /**
+     * Gets the students and instructors of the course.
+     */
+    public CourseRoster getRoster() {
+        if (roster == null) {
+            roster = new CourseRoster(SearchDocument.studentsDb.getStudentsForCourse(courseId),
+                    SearchDocument.instructorsDb.getInstructorsForCourse(courseId));
+        }
+        return roster;
+    }
+
+    /**
+     * Gets the students in a team of the course, or an empty list if there is no such team.
+     */
+    public List<StudentAttributes> getStudentsForTeam(String teamName) {
+        if (studentsByTeam == null) {
+            studentsByTeam = new HashMap<>();
+            for (StudentAttributes student : getRoster().getStudents()) {
+                studentsByTeam.computeIfAbsent(student.team, team -> new ArrayList<>()).add(student);
+            }
+        }
+        return studentsByTeam.getOrDefault(teamName, new ArrayList<>());
+    }
+
+    /**
+     * Gets a feedback session of the course, or null if it does not exist.
+     */
+    public FeedbackSessionAttributes getFeedbackSession(String feedbackSessionName) {
+        return sessions.computeIfAbsent(feedbackSessionName,
+                name -> SearchDocument.fsDb.getFeedbackSession(courseId, name));
+    }
+
+    /**
+     * Gets a feedback question, or null if it does not exist.
+     */
+    public FeedbackQuestionAttributes getFeedbackQuestion(String feedbackQuestionId) {
+        return questions.computeIfAbsent(feedbackQuestionId, SearchDocument.fqDb::getFeedbackQuestion);
+    }
+
+    /**
+     * Gets a feedback response, or null if it does not exist.
+     */
+    public FeedbackResponseAttributes getFeedbackResponse(String feedbackResponseId) {
+        return responses.computeIfAbsent(feedbackResponseId, SearchDocument.frDb::getFeedbackResponse);
+    }
+
+    /**
+     * Loads the given feedback responses in a single batch, ahead of the documents which need them.
+     */
+    public void loadFeedbackResponses(Collection<String> feedbackResponseIds) {
+        List<String> idsToLoad = feedbackResponseIds.stream()
+                .filter(id -> !responses.containsKey(id))
+                .distinct()
+                .collect(Collectors.toList());
+        if (!idsToLoad.isEmpty()) {
+            responses.putAll(SearchDocument.frDb.getFeedbackResponses(idsToLoad));
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package teammates.storage.search;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +17,7 @@ import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchServiceFactory;
 import com.google.appengine.api.search.StatusCode;
+import com.google.common.collect.Lists;
 
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Logger;
@@ -39,6 +41,16 @@ public final class SearchManager {
 
     private static final RetryManager RM = new RetryManager(8);
 
+    /**
+     * Maximum number of documents that the Search API accepts in a single put.
+     */
+    private static final int MAX_DOCUMENTS_PER_PUT = 200;
+
+    /**
+     * Maximum number of documents that the Search API accepts in a single delete.
+     */
+    private static final int MAX_DOCUMENTS_PER_DELETE = 200;
+
     private SearchManager() {
         // utility class
     }
@@ -112,8 +124,16 @@ public final class SearchManager {
 
     /**
      * Batch creates or updates the search documents for the given documents and index.
+     *
+     * <p>The documents are put in batches of at most {@value #MAX_DOCUMENTS_PER_PUT}.
      */
     public static void putDocuments(String indexName, List<Document> documents) {
+        for (List<Document> batch : Lists.partition(documents, MAX_DOCUMENTS_PER_PUT)) {
+            putDocumentsBatch(indexName, batch);
+        }
+    }
+
+    private static void putDocumentsBatch(String indexName, List<Document> documents) {
         try {
             putDocumentsWithRetry(indexName, documents);
         } catch (PutException e) {
@@ -208,9 +228,13 @@ public final class SearchManager {
 
     /**
      * Deletes document by documentId.
+     *
+     * <p>The documents are deleted in batches of at most {@value #MAX_DOCUMENTS_PER_DELETE}.
      */
     public static void deleteDocument(String indexName, String... documentIds) {
-        getIndex(indexName).deleteAsync(documentIds);
+        for (List<String> batch : Lists.partition(Arrays.asList(documentIds), MAX_DOCUMENTS_PER_DELETE)) {
+            getIndex(indexName).deleteAsync(batch);
+        }
     }
 
     private static Index getIndex(String indexName) {
@@ -21,10 +21,12 @@ import teammates.common.util.StringHelper;
 public class StudentSearchDocument extends SearchDocument {
 
     private StudentAttributes student;
+    private SearchDocumentContext context;
     private CourseAttributes course;
 
-    public StudentSearchDocument(StudentAttributes student) {
+    public StudentSearchDocument(StudentAttributes student, SearchDocumentContext context) {
         this.student = student;
+        this.context = context;
     }
 
     @Override
@@ -33,7 +35,7 @@ public class StudentSearchDocument extends SearchDocument {
             return;
         }
 
-        course = coursesDb.getCourse(student.course);
+        course = context.getCourse();
     }
 
     @Override
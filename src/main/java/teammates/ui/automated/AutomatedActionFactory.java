@@ -31,8 +31,11 @@ public class AutomatedActionFactory {
         map(CronJobURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, FeedbackSessionClosedRemindersAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, FeedbackSessionClosingRemindersAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction.class);
+        map(CronJobURIs.AUTOMATED_SEARCH_INDEX_UPDATES, SearchIndexUpdatesAction.class);
 
         // Task queue workers
+        map(TaskQueue.CASCADE_DELETION_WORKER_URL, CascadeDeletionWorkerAction.class);
+        map(TaskQueue.FEEDBACK_QUESTION_STATISTICS_REBUILD_WORKER_URL, FeedbackQuestionStatisticsRebuildWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, FeedbackSessionPublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_WORKER_URL,
                 FeedbackSessionResendPublishedEmailWorkerAction.class);
@@ -42,8 +45,10 @@ public class AutomatedActionFactory {
         map(TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL, FeedbackSessionUnpublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, FeedbackSessionUpdateRespondentWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, InstructorCourseJoinEmailWorkerAction.class);
+        map(TaskQueue.SEARCH_INDEX_UPDATE_WORKER_URL, SearchIndexUpdateWorkerAction.class);
         map(TaskQueue.SEND_EMAIL_WORKER_URL, SendEmailWorkerAction.class);
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, StudentCourseJoinEmailWorkerAction.class);
+        map(TaskQueue.STUDENT_UPDATE_CASCADE_WORKER_URL, StudentUpdateCascadeWorkerAction.class);
     }
 
     private static void map(String actionUri, Class<? extends AutomatedAction> actionClass) {
@@ -32,7 +32,7 @@ abstract class AutomatedServlet extends HttpServlet {
         String url = HttpRequestHelper.getRequestedUrl(req);
         // Do not log task queue worker actions to prevent excessive logging
         if (!url.startsWith("/worker/")) {
-            log.info("Automated request received: [" + req.getMethod() + "] " + req.getRequestURL().toString()
+            log.info(() -> "Automated request received: [" + req.getMethod() + "] " + req.getRequestURL().toString()
                     + ", Params: " + HttpRequestHelper.getRequestParametersAsString(req)
                     + ", Headers: " + HttpRequestHelper.getRequestHeadersAsString(req));
         }
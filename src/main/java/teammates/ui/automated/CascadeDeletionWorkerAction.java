@@ -0,0 +1,25 @@
+package teammates.ui.automated;
+
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: deletes the next batch of entities of a cascade deletion job,
+ * and schedules the batch after it until the job is done.
+ *
+ * <p>The checkpoint of the job is saved after every batch, so a task which fails, e.g. because its request
+ * runs out of time, is simply retried from the last saved checkpoint.
+ */
+public class CascadeDeletionWorkerAction extends AutomatedAction {
+
+    @Override
+    public void execute() {
+        String jobId = getNonNullRequestParamValue(ParamsNames.CASCADE_DELETION_JOB_ID);
+
+        CascadeDeletionJobStatus job = logic.runCascadeDeletionJobStep(jobId);
+        if (job != null && !job.isDone()) {
+            taskQueuer.scheduleCascadeDeletionJobStep(jobId);
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package teammates.ui.automated;
+
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: aggregates the statistics of a feedback question again from all its responses.
+ */
+public class FeedbackQuestionStatisticsRebuildWorkerAction extends AutomatedAction {
+
+    @Override
+    public void execute() {
+        String feedbackQuestionId = getNonNullRequestParamValue(ParamsNames.FEEDBACK_QUESTION_ID);
+
+        logic.rebuildFeedbackQuestionStatistics(feedbackQuestionId);
+    }
+}
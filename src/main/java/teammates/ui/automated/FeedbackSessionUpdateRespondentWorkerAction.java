@@ -1,7 +1,6 @@
 package teammates.ui.automated;
 
 import teammates.common.exception.EntityDoesNotExistException;
-import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Logger;
@@ -35,7 +34,7 @@ public class FeedbackSessionUpdateRespondentWorkerAction extends AutomatedAction
                     logic.addStudentRespondent(email, feedbackSessionName, courseId);
                 }
             }
-        } catch (InvalidParametersException | EntityDoesNotExistException e) {
+        } catch (EntityDoesNotExistException e) {
             log.severe("Failed to " + (isToBeRemoved ? "remove" : "append") + " "
                     + (isInstructor ? "instructor" : "student") + " respondent: "
                     + TeammatesException.toStringWithStackTrace(e));
@@ -42,7 +42,9 @@ public class InstructorCourseJoinEmailWorkerAction extends AutomatedAction {
             email = emailGenerator.generateInstructorCourseJoinEmail(inviter, instructor, course);
         }
 
-        emailSender.sendEmail(email);
+        if (emailSender.sendEmail(email).isRateLimited()) {
+            setForRetry();
+        }
     }
 
 }
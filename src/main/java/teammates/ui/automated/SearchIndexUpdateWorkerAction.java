@@ -0,0 +1,17 @@
+package teammates.ui.automated;
+
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: rebuilds the out of date search documents of a course.
+ */
+public class SearchIndexUpdateWorkerAction extends AutomatedAction {
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+
+        logic.updateOutdatedSearchDocuments(courseId);
+    }
+
+}
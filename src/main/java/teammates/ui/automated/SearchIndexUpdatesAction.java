@@ -0,0 +1,15 @@
+package teammates.ui.automated;
+
+/**
+ * Cron job: schedules the out of date search documents of courses to be rebuilt, one task per course.
+ */
+public class SearchIndexUpdatesAction extends AutomatedAction {
+
+    @Override
+    public void execute() {
+        for (String courseId : logic.getCourseIdsWithOutdatedSearchDocuments()) {
+            taskQueuer.scheduleSearchIndexUpdate(courseId);
+        }
+    }
+
+}
@@ -1,37 +1,88 @@
 package teammates.ui.automated;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
 
 /**
- * Task queue worker action: sends queued email.
+ * Task queue worker action: sends a batch of queued emails.
  */
 public class SendEmailWorkerAction extends AutomatedAction {
 
+    /**
+     * Time to wait before emails which could not be sent with the rest of their batch are sent again.
+     */
+    private static final long UNSENT_EMAILS_DELAY_MILLIS = 30 * 1000;
+
     @Override
     public void execute() {
-        String emailSubject = getNonNullRequestParamValue(ParamsNames.EMAIL_SUBJECT);
-        String emailContent = getNonNullRequestParamValue(ParamsNames.EMAIL_CONTENT);
-        String emailSenderEmail = getNonNullRequestParamValue(ParamsNames.EMAIL_SENDER);
-        String emailSenderName = getRequestParamValue(ParamsNames.EMAIL_SENDERNAME);
-        String emailReceiver = getNonNullRequestParamValue(ParamsNames.EMAIL_RECEIVER);
-        String emailReply = getNonNullRequestParamValue(ParamsNames.EMAIL_REPLY_TO_ADDRESS);
-
-        EmailWrapper message = new EmailWrapper();
-        message.setRecipient(emailReceiver);
-        message.setSenderEmail(emailSenderEmail);
-        if (emailSenderName != null) {
-            message.setSenderName(emailSenderName);
+        List<EmailWrapper> emails = getEmails();
+
+        List<EmailSendingStatus> statuses = emailSender.sendEmails(emails);
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        List<EmailWrapper> rateLimitedEmails = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            if (statuses.get(i).isRateLimited()) {
+                rateLimitedEmails.add(emails.get(i));
+            } else if (!statuses.get(i).isSuccess()) {
+                failedEmails.add(emails.get(i));
+            }
         }
-        message.setContent(emailContent);
-        message.setSubject(emailSubject);
-        message.setReplyTo(emailReply);
 
-        EmailSendingStatus status = emailSender.sendEmail(message);
-        if (!status.isSuccess()) {
+        if (failedEmails.size() == emails.size()) {
             setForRetry();
+            return;
+        }
+
+        // the emails already sent must not be sent again by retrying the whole task
+        if (!rateLimitedEmails.isEmpty()) {
+            // queued again rather than waiting for the rate limit, so that the worker is not blocked
+            taskQueuer.scheduleEmailsForSending(rateLimitedEmails,
+                    emailSender.getRateLimitDelayMillis(rateLimitedEmails.size()));
+        }
+        if (!failedEmails.isEmpty()) {
+            taskQueuer.scheduleEmailsForSending(failedEmails, UNSENT_EMAILS_DELAY_MILLIS);
         }
     }
 
+    private List<EmailWrapper> getEmails() {
+        String[] emailSubjects = getNonNullRequestParamValues(ParamsNames.EMAIL_SUBJECT);
+        String[] emailContents = getNonNullRequestParamValues(ParamsNames.EMAIL_CONTENT);
+        String[] emailSenderEmails = getNonNullRequestParamValues(ParamsNames.EMAIL_SENDER);
+        String[] emailReceivers = getNonNullRequestParamValues(ParamsNames.EMAIL_RECEIVER);
+        String[] emailReplies = getNonNullRequestParamValues(ParamsNames.EMAIL_REPLY_TO_ADDRESS);
+        // content indexes and sender names are absent in tasks queued for a single email
+        String[] emailContentIndexes = getOptionalRequestParamValues(ParamsNames.EMAIL_CONTENT_INDEX);
+        String[] emailSenderNames = getOptionalRequestParamValues(ParamsNames.EMAIL_SENDERNAME);
+        Assumption.assertEquals(emailReceivers.length, emailSubjects.length);
+        Assumption.assertEquals(emailReceivers.length, emailSenderEmails.length);
+        Assumption.assertEquals(emailReceivers.length, emailReplies.length);
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < emailReceivers.length; i++) {
+            EmailWrapper message = new EmailWrapper();
+            message.setRecipient(emailReceivers[i]);
+            message.setSenderEmail(emailSenderEmails[i]);
+            if (emailSenderNames.length > 0 && !emailSenderNames[i].isEmpty()) {
+                message.setSenderName(emailSenderNames[i]);
+            }
+            message.setContent(emailContentIndexes.length > 0
+                    ? emailContents[Integer.parseInt(emailContentIndexes[i])]
+                    : emailContents[i]);
+            message.setSubject(emailSubjects[i]);
+            message.setReplyTo(emailReplies[i]);
+            emails.add(message);
+        }
+        return emails;
+    }
+
+    private String[] getOptionalRequestParamValues(String paramName) {
+        String[] values = getRequestParamValues(paramName);
+        return values == null ? new String[0] : values;
+    }
+
 }
@@ -26,7 +26,9 @@ public class StudentCourseJoinEmailWorkerAction extends AutomatedAction {
         EmailWrapper email = isRejoin
                 ? emailGenerator.generateStudentCourseRejoinEmailAfterGoogleIdReset(course, student)
                 : emailGenerator.generateStudentCourseJoinEmail(course, student);
-        emailSender.sendEmail(email);
+        if (emailSender.sendEmail(email).isRateLimited()) {
+            setForRetry();
+        }
     }
 
 }
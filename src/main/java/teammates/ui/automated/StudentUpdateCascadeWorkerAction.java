@@ -0,0 +1,43 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: updates the responses of a batch of students who are moved
+ * to a different team or section.
+ */
+public class StudentUpdateCascadeWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String[] emails = getNonNullRequestParamValues(ParamsNames.STUDENT_EMAIL);
+        String[] originalTeams = getNonNullRequestParamValues(ParamsNames.STUDENT_ORIGINAL_TEAM);
+        String[] originalSections = getNonNullRequestParamValues(ParamsNames.STUDENT_ORIGINAL_SECTION);
+        Assumption.assertEquals(emails.length, originalTeams.length);
+        Assumption.assertEquals(emails.length, originalSections.length);
+
+        boolean isAnyUpdateFailed = false;
+        for (int i = 0; i < emails.length; i++) {
+            try {
+                logic.updateStudentResponsesCascade(courseId, emails[i], originalTeams[i], originalSections[i]);
+            } catch (InvalidParametersException | EntityDoesNotExistException e) {
+                log.severe("Failed to update responses of student " + emails[i] + " in course " + courseId + ": "
+                        + TeammatesException.toStringWithStackTrace(e));
+                isAnyUpdateFailed = true;
+            }
+        }
+
+        // updating the responses again is harmless for the students whose responses are already updated
+        if (isAnyUpdateFailed) {
+            setForRetry();
+        }
+    }
+}
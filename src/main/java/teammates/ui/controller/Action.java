@@ -561,6 +561,18 @@ public abstract class Action {
                                       fileContent);
     }
 
+    /**
+     * Generates a {@link FileDownloadResult} whose content is streamed to the response by {@code fileContentWriter}.
+     */
+    public FileDownloadResult createFileDownloadResult(
+            String fileName, FileDownloadResult.FileContentWriter fileContentWriter) {
+        return new FileDownloadResult("filedownload",
+                                      account,
+                                      statusToUser,
+                                      fileName,
+                                      fileContentWriter);
+    }
+
     protected ActionResult createPleaseJoinCourseResponse(String courseId) {
         String errorMessage = "You are not registered in the course " + SanitizationHelper.sanitizeForHtml(courseId);
         statusToUser.add(new StatusMessage(errorMessage, StatusMessageColor.DANGER));
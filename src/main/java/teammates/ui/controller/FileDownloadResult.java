@@ -2,6 +2,9 @@ package teammates.ui.controller;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
@@ -16,6 +19,7 @@ public class FileDownloadResult extends ActionResult {
 
     private String fileContent = "";
     private String fileName = "";
+    private FileContentWriter fileContentWriter;
 
     public FileDownloadResult(String destination, AccountAttributes account,
             List<StatusMessage> status) {
@@ -31,6 +35,19 @@ public class FileDownloadResult extends ActionResult {
         this.fileContent = fileContent;
     }
 
+    /**
+     * Creates a result whose content is written directly to the response by {@code fileContentWriter}
+     * instead of being held in memory.
+     */
+    public FileDownloadResult(
+            String destination, AccountAttributes account,
+            List<StatusMessage> status,
+            String fileName, FileContentWriter fileContentWriter) {
+        super(destination, account, status);
+        this.fileName = fileName;
+        this.fileContentWriter = fileContentWriter;
+    }
+
     @Override
     public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         /*
@@ -43,7 +60,11 @@ public class FileDownloadResult extends ActionResult {
         resp.setHeader("Content-Disposition", getContentDispositionHeader());
         PrintWriter writer = resp.getWriter();
         writer.write("\uFEFF");
-        writer.append(fileContent);
+        if (fileContentWriter == null) {
+            writer.append(fileContent);
+        } else {
+            fileContentWriter.writeTo(writer);
+        }
     }
 
     /**
@@ -67,8 +88,33 @@ public class FileDownloadResult extends ActionResult {
         return this.fileName;
     }
 
+    /**
+     * Gets the content of the file, writing it into memory first if the content is streamed.
+     */
     public String getFileContent() {
-        return this.fileContent;
+        if (fileContentWriter == null) {
+            return this.fileContent;
+        }
+        StringWriter writer = new StringWriter();
+        try {
+            fileContentWriter.writeTo(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes the content of a file to the response as it is generated.
+     */
+    @FunctionalInterface
+    public interface FileContentWriter {
+
+        /**
+         * Writes the content of the file to {@code writer}.
+         */
+        void writeTo(Writer writer) throws IOException;
+
     }
 
 }
@@ -116,6 +116,13 @@ public class InstructorFeedbackResultsPageAction extends Action {
                                                   + " does not exist in " + courseId + ".");
         }
 
+        // statistics which differ from the responses are rebuilt in the background, the page recomputes them meanwhile
+        for (String outdatedQuestionId : data.getBundle().getQuestionIdsWithOutdatedStatistics()) {
+            taskQueuer.scheduleFeedbackQuestionStatisticsRebuild(outdatedQuestionId);
+        }
+
+        data.setNumRespondents(logic.getFeedbackSessionRespondentCount(feedbackSessionName, courseId));
+
         // Warning for section wise viewing in case of many responses.
         boolean isShowSectionWarningForQuestionView = data.isLargeNumberOfRespondents()
                                                    && Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType);
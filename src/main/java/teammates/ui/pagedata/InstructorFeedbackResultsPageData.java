@@ -57,6 +57,8 @@ public class InstructorFeedbackResultsPageData extends PageData {
     // isLargeNumberOfRespondents is an attribute used for testing the ui, for ViewType.Question
     private boolean isLargeNumberOfRespondents;
 
+    private int numRespondents;
+
     private FeedbackSessionResultsBundle bundle;
     private InstructorAttributes instructor;
     private List<String> sections;
@@ -1754,8 +1756,6 @@ public class InstructorFeedbackResultsPageData extends PageData {
     }
 
     public boolean isLargeNumberOfRespondents() {
-        int numRespondents = bundle.feedbackSession.getRespondingInstructorList().size()
-                           + bundle.feedbackSession.getRespondingStudentList().size();
         return isLargeNumberOfRespondents
             || numRespondents > RESPONDENTS_LIMIT_FOR_AUTOLOADING;
     }
@@ -1765,6 +1765,10 @@ public class InstructorFeedbackResultsPageData extends PageData {
         this.isLargeNumberOfRespondents = needAjax;
     }
 
+    public void setNumRespondents(int numRespondents) {
+        this.numRespondents = numRespondents;
+    }
+
     /**
      * Checks if there are entities in No Specific Section.
      *
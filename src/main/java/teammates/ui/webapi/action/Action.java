@@ -1,10 +1,13 @@
 package teammates.ui.webapi.action;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
 
+import org.apache.http.HttpStatus;
+
 import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.InvalidHttpParameterException;
@@ -12,6 +15,8 @@ import teammates.common.exception.NullHttpParameterException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.StringHelper;
@@ -210,6 +215,21 @@ public abstract class Action {
         return Optional.empty();
     }
 
+    /**
+     * Sends the given {@code email}, or schedules it to be sent once the rate limit of the email service allows
+     * if the limit is exceeded, so that the email is not lost.
+     *
+     * @return the status of the email request, which is successful if the email is scheduled
+     */
+    protected EmailSendingStatus sendEmail(EmailWrapper email) {
+        EmailSendingStatus status = emailSender.sendEmail(email);
+        if (!status.isRateLimited()) {
+            return status;
+        }
+        taskQueuer.scheduleEmailsForSending(Collections.singletonList(email), emailSender.getRateLimitDelayMillis(1));
+        return new EmailSendingStatus(HttpStatus.SC_ACCEPTED, "Email scheduled for sending");
+    }
+
     /**
      * Gets the minimum access control level required to access the resource.
      */
@@ -220,6 +240,29 @@ public abstract class Action {
      */
     public abstract void checkSpecificAccessControl();
 
+    /**
+     * Gets how browsers may cache the response to a GET request for the resource.
+     *
+     * <p>This is called after access control is checked. Only successful responses are cached.
+     */
+    public CachePolicy getCachePolicy() {
+        return CachePolicy.NO_STORE;
+    }
+
+    /**
+     * Gets a tag identifying the current version of the resource, which has to change whenever
+     * the response to the same request by the same user changes.
+     *
+     * <p>This is called after access control is checked, for resources which may be cached only.
+     * If the request carries a matching entity tag, the action is not executed and the browser is told to reuse
+     * its cached response instead, so the tag should be much cheaper to compute than the response.
+     *
+     * @return null if the version of the resource cannot be determined
+     */
+    public String getEntityTag() {
+        return null;
+    }
+
     /**
      * Executes the action.
      */
@@ -0,0 +1,45 @@
+package teammates.ui.webapi.action;
+
+/**
+ * Represents how browsers may cache the response to a GET request handled by an {@link Action}.
+ *
+ * <p>Responses are never cached by shared caches, as most responses depend on the requesting user.
+ *
+ * @see Action#getCachePolicy()
+ */
+public enum CachePolicy {
+
+    /**
+     * The response must not be stored. This is the policy of all actions which do not declare otherwise.
+     */
+    NO_STORE("no-store"),
+
+    /**
+     * The response may be stored, but has to be revalidated with its entity tag every time before it is reused.
+     */
+    REVALIDATE("private, no-cache"),
+
+    /**
+     * The response may be reused for an hour without revalidation.
+     */
+    MAX_AGE_ONE_HOUR("private, max-age=3600"),
+
+    /**
+     * The response may be reused for a day without revalidation.
+     */
+    MAX_AGE_ONE_DAY("private, max-age=86400");
+
+    private final String cacheControl;
+
+    CachePolicy(String cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * Gets the value of the {@code Cache-Control} header of responses under the policy.
+     */
+    public String getCacheControl() {
+        return cacheControl;
+    }
+
+}
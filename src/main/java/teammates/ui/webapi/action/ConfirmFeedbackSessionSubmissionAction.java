@@ -94,7 +94,7 @@ public class ConfirmFeedbackSessionSubmissionAction extends BasicFeedbackSubmiss
         }
 
         if (email != null) {
-            EmailSendingStatus status = emailSender.sendEmail(email);
+            EmailSendingStatus status = sendEmail(email);
             if (!status.isSuccess()) {
                 return new JsonResult(new ConfirmationResponse(ConfirmationResult.SUCCESS_BUT_EMAIL_FAIL_TO_SEND,
                         "Submission confirmation email failed to send"));
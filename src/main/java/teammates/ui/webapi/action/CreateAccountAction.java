@@ -61,7 +61,7 @@ public class CreateAccountAction extends Action {
                 .toAbsoluteString();
         EmailWrapper email = emailGenerator.generateNewInstructorAccountJoinEmail(
                 instructorList.get(0).email, instructorName, joinLink);
-        emailSender.sendEmail(email);
+        sendEmail(email);
 
         JoinLinkData output = new JoinLinkData(joinLink);
         return new JsonResult(output);
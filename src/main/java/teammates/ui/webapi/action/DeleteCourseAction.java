@@ -1,11 +1,14 @@
 package teammates.ui.webapi.action;
 
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.ui.webapi.output.MessageOutput;
 
 /**
  * Delete a course.
+ *
+ * <p>The course is moved to the recycle bin, and its entities are deleted in the background.
  */
 public class DeleteCourseAction extends Action {
 
@@ -29,7 +32,9 @@ public class DeleteCourseAction extends Action {
     public ActionResult execute() {
         String idOfCourseToDelete = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
 
-        logic.deleteCourseCascade(idOfCourseToDelete);
+        for (CascadeDeletionJobStatus job : logic.startCourseDeletionCascade(idOfCourseToDelete)) {
+            taskQueuer.scheduleCascadeDeletionJobStep(job.getJobId());
+        }
 
         return new JsonResult(new MessageOutput("OK"));
     }
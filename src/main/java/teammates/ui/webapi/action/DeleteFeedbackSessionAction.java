@@ -1,10 +1,14 @@
 package teammates.ui.webapi.action;
 
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 
 /**
  * Delete a feedback session.
+ *
+ * <p>The session is moved to the recycle bin, and its questions, responses and comments are deleted
+ * in the background.
  */
 public class DeleteFeedbackSessionAction extends Action {
 
@@ -29,7 +33,9 @@ public class DeleteFeedbackSessionAction extends Action {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
         String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
 
-        logic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
+        for (CascadeDeletionJobStatus job : logic.startFeedbackSessionDeletionCascade(feedbackSessionName, courseId)) {
+            taskQueuer.scheduleCascadeDeletionJobStep(job.getJobId());
+        }
 
         return new JsonResult("The feedback session is deleted.");
     }
@@ -2,16 +2,12 @@ package teammates.ui.webapi.action;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.StudentEnrollmentResult;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
-import teammates.common.exception.EntityAlreadyExistsException;
-import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidHttpRequestBodyException;
-import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.ui.webapi.output.StudentsData;
@@ -22,7 +18,8 @@ import teammates.ui.webapi.request.StudentsEnrollRequest;
  *
  * <p>Create the students who are not in the course.
  *
- * <p>Update the students who are already existed.
+ * <p>Update the students who are already existed. The responses of students who are moved
+ * to a different team or section are updated in the task queue.
  *
  * <p>Return all students who are successfully enrolled.
  */
@@ -66,40 +63,15 @@ public class EnrollStudentsAction extends Action {
             throw new InvalidHttpRequestBodyException(e.getMessage(), e);
         }
 
-        List<StudentAttributes> existingStudents = logic.getStudentsForCourse(courseId);
+        // Unsuccessfully enrolled students will not be returned.
+        StudentEnrollmentResult enrollmentResult = logic.enrollStudents(courseId, studentsToEnroll);
 
-        Set<String> existingStudentsEmail =
-                existingStudents.stream().map(StudentAttributes::getEmail).collect(Collectors.toSet());
-        List<StudentAttributes> enrolledStudents = new ArrayList<>();
-        studentsToEnroll.forEach(student -> {
-            if (existingStudentsEmail.contains(student.email)) {
-                // The student has been enrolled in the course.
-                StudentAttributes.UpdateOptions updateOptions =
-                        StudentAttributes.updateOptionsBuilder(student.getCourse(), student.getEmail())
-                                .withName(student.getName())
-                                .withSectionName(student.getSection())
-                                .withTeamName(student.getTeam())
-                                .withComment(student.getComments())
-                                .build();
-                try {
-                    StudentAttributes updatedStudent = logic.updateStudentCascade(updateOptions);
-                    enrolledStudents.add(updatedStudent);
-                } catch (InvalidParametersException | EntityDoesNotExistException
-                        | EntityAlreadyExistsException exception) {
-                    // Unsuccessfully enrolled students will not be returned.
-                    return;
-                }
-            } else {
-                // The student is new.
-                try {
-                    StudentAttributes newStudent = logic.createStudent(student);
-                    enrolledStudents.add(newStudent);
-                } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
-                    // Unsuccessfully enrolled students will not be returned.
-                    return;
-                }
-            }
-        });
-        return new JsonResult(new StudentsData(enrolledStudents));
+        // The responses of students moved to a different team or section are updated in the background.
+        List<StudentAttributes> movedStudents = enrollmentResult.getMovedStudents();
+        if (!movedStudents.isEmpty()) {
+            taskQueuer.scheduleStudentsUpdateCascade(courseId, movedStudents);
+        }
+
+        return new JsonResult(new StudentsData(enrollmentResult.getEnrolledStudents()));
     }
 }
@@ -0,0 +1,31 @@
+package teammates.ui.webapi.action;
+
+import teammates.common.exception.UnauthorizedAccessException;
+import teammates.ui.webapi.output.CascadeDeletionJobsData;
+
+/**
+ * Gets the progress of the most recently updated cascade deletion jobs.
+ */
+public class GetCascadeDeletionJobsAction extends Action {
+
+    private static final int MAX_JOBS_TO_SHOW = 100;
+
+    @Override
+    protected AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    public void checkSpecificAccessControl() {
+        // Only admins can view the progress of the deletion of courses and sessions
+        if (!userInfo.isAdmin) {
+            throw new UnauthorizedAccessException("Admin privilege is required to access this resource.");
+        }
+    }
+
+    @Override
+    public ActionResult execute() {
+        return new JsonResult(new CascadeDeletionJobsData(logic.getRecentCascadeDeletionJobs(MAX_JOBS_TO_SHOW)));
+    }
+
+}
@@ -0,0 +1,97 @@
+package teammates.ui.webapi.action;
+
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.EntityNotFoundException;
+import teammates.common.exception.InvalidHttpParameterException;
+import teammates.common.util.Const;
+import teammates.common.util.StringHelper;
+import teammates.ui.webapi.output.FeedbackSessionRecipientsData;
+
+/**
+ * Get the recipients of all the feedback questions of a feedback session which are to be answered by the giver,
+ * i.e. the recipients given by {@link GetFeedbackQuestionRecipientsAction} for each of those questions.
+ *
+ * @see FeedbackSessionRecipientsData for output format
+ */
+public class GetFeedbackSessionRecipientsAction extends BasicFeedbackSubmissionAction {
+
+    @Override
+    protected AuthType getMinAuthLevel() {
+        return AuthType.PUBLIC;
+    }
+
+    @Override
+    public void checkSpecificAccessControl() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        FeedbackSessionAttributes feedbackSession = logic.getFeedbackSession(feedbackSessionName, courseId);
+        if (feedbackSession == null) {
+            throw new EntityNotFoundException(new EntityDoesNotExistException("The feedback session does not exist."));
+        }
+
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            StudentAttributes studentAttributes = getStudentOfCourseFromRequest(courseId);
+            checkAccessControlForStudentFeedbackSubmission(studentAttributes, feedbackSession);
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(courseId);
+            checkAccessControlForInstructorFeedbackSubmission(instructorAttributes, feedbackSession);
+            break;
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+    }
+
+    @Override
+    public ActionResult execute() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        boolean isModeration =
+                !StringHelper.isEmpty(getRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_MODERATED_PERSON));
+
+        List<FeedbackQuestionAttributes> questions;
+        Map<String, Map<String, String>> recipients;
+        try {
+            switch (intent) {
+            case STUDENT_SUBMISSION:
+                StudentAttributes studentAttributes = getStudentOfCourseFromRequest(courseId);
+                questions = logic.getFeedbackQuestionsForStudents(feedbackSessionName, courseId);
+                if (isModeration) {
+                    // filter out unmodifiable questions
+                    questions.removeIf(question -> !canInstructorSeeQuestion(question));
+                }
+                recipients = logic.getRecipientsOfQuestionsForStudent(courseId, questions,
+                        studentAttributes.getEmail(), studentAttributes.getTeam());
+                break;
+            case INSTRUCTOR_SUBMISSION:
+                InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(courseId);
+                questions = logic.getFeedbackQuestionsForInstructors(
+                        feedbackSessionName, courseId, instructorAttributes.getEmail());
+                if (isModeration) {
+                    // filter out unmodifiable questions
+                    questions.removeIf(question -> !canInstructorSeeQuestion(question));
+                }
+                recipients = logic.getRecipientsOfQuestionsForInstructor(courseId, questions,
+                        instructorAttributes.getEmail());
+                break;
+            default:
+                throw new InvalidHttpParameterException("Unknown intent " + intent);
+            }
+        } catch (EntityDoesNotExistException e) {
+            throw new EntityNotFoundException(e);
+        }
+
+        return new JsonResult(new FeedbackSessionRecipientsData(recipients));
+    }
+
+}
@@ -17,6 +17,17 @@ public class GetNationalitiesAction extends Action {
         // Anyone can fetch the nationality data
     }
 
+    @Override
+    public CachePolicy getCachePolicy() {
+        return CachePolicy.MAX_AGE_ONE_DAY;
+    }
+
+    @Override
+    public String getEntityTag() {
+        // the list of nationalities only changes across versions of the application
+        return "nationalities";
+    }
+
     @Override
     public ActionResult execute() {
         NationalitiesData nationalities = new NationalitiesData(NationalityHelper.getNationalities());
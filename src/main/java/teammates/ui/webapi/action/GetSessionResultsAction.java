@@ -2,6 +2,7 @@ package teammates.ui.webapi.action;
 
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.SectionDetail;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -10,6 +11,7 @@ import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.InvalidHttpParameterException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.ui.webapi.output.SessionResultsData;
 
 /**
@@ -64,6 +66,32 @@ public class GetSessionResultsAction extends Action {
         return logic.getStudentForGoogleId(courseId, userInfo.id);
     }
 
+    @Override
+    public CachePolicy getCachePolicy() {
+        return CachePolicy.REVALIDATE;
+    }
+
+    @Override
+    public String getEntityTag() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        // covers the responses, comments, students and instructors of the course
+        String resultsVersion = logic.getFeedbackSessionResultsVersion(courseId);
+        if (resultsVersion == null) {
+            return null;
+        }
+
+        // the same URL gives different results to different users
+        StringBuilder tag = new StringBuilder(resultsVersion)
+                .append('|').append(userInfo == null ? "" : userInfo.id)
+                .append('|').append(JsonUtils.toCompactJson(logic.getFeedbackSession(feedbackSessionName, courseId)));
+        for (FeedbackQuestionAttributes question : logic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            tag.append('|').append(question.getId()).append('@').append(question.getUpdatedAt());
+        }
+        return tag.toString();
+    }
+
     @Override
     public ActionResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
@@ -6,6 +6,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
+import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.StringHelper;
 
 /**
@@ -19,6 +20,10 @@ public class GetStudentProfilePictureAction extends Action {
     /** Indicates profile picture not found. */
     public static final String PROFILE_PIC_NOT_FOUND = "Student has no profile picture";
 
+    /** The profile of the student whose picture is requested, which is shared by the entity tag and the result. */
+    private StudentProfileAttributes studentProfile;
+    private boolean isStudentProfileLoaded;
+
     @Override
     protected AuthType getMinAuthLevel() {
         return AuthType.LOGGED_IN;
@@ -46,13 +51,45 @@ public class GetStudentProfilePictureAction extends Action {
         }
     }
 
+    @Override
+    public CachePolicy getCachePolicy() {
+        return CachePolicy.REVALIDATE;
+    }
+
+    @Override
+    public String getEntityTag() {
+        StudentProfileAttributes profile = getStudentProfile();
+        if (profile == null || profile.pictureKey.equals("")) {
+            return null;
+        }
+        if (!profile.pictureKey.equals(GoogleCloudStorageHelper.createBlobKey(profile.googleId))) {
+            // pictures not stored under the Google ID of the student are not replaced under the same key
+            return profile.pictureKey;
+        }
+        // pictures stored under the Google ID of the student keep their key when replaced
+        String imageVersion = GoogleCloudStorageHelper.getImageVersion(profile.googleId);
+        return imageVersion == null ? null : profile.pictureKey + '|' + imageVersion;
+    }
+
     @Override
     public ActionResult execute() {
+        StudentProfileAttributes profile = getStudentProfile();
+
+        if (profile == null || profile.pictureKey.equals("")) {
+            return new JsonResult(PROFILE_PIC_NOT_FOUND, HttpStatus.SC_NOT_FOUND);
+        }
+
+        return new ImageResult(profile.pictureKey);
+    }
+
+    private StudentProfileAttributes getStudentProfile() {
+        if (isStudentProfileLoaded) {
+            return studentProfile;
+        }
+
         String courseId = getRequestParamValue(Const.ParamsNames.COURSE_ID);
         String studentEmail = getRequestParamValue(Const.ParamsNames.STUDENT_EMAIL);
 
-        StudentProfileAttributes studentProfile = null;
-
         if (studentEmail == null || courseId == null) {
             studentProfile = logic.getStudentProfile(userInfo.id);
         } else {
@@ -62,11 +99,7 @@ public class GetStudentProfilePictureAction extends Action {
                 studentProfile = logic.getStudentProfile(student.googleId);
             }
         }
-
-        if (studentProfile == null || studentProfile.pictureKey.equals("")) {
-            return new JsonResult(PROFILE_PIC_NOT_FOUND, HttpStatus.SC_NOT_FOUND);
-        }
-
-        return new ImageResult(studentProfile.pictureKey);
+        isStudentProfileLoaded = true;
+        return studentProfile;
     }
 }
@@ -26,6 +26,12 @@ public class GetTimeZonesAction extends Action {
         }
     }
 
+    @Override
+    public CachePolicy getCachePolicy() {
+        // offsets change with daylight saving time, so they are not reused for long and have no entity tag
+        return CachePolicy.MAX_AGE_ONE_HOUR;
+    }
+
     @Override
     public JsonResult execute() {
         String tzVersion = ZoneRulesProvider.getVersions("UTC").firstKey();
@@ -81,7 +81,7 @@ public class JoinCourseAction extends Action {
         CourseAttributes course = logic.getCourse(courseId);
         EmailWrapper email = emailGenerator.generateUserCourseRegisteredEmail(
                 userName, userEmail, userInfo.id, isInstructor, course);
-        emailSender.sendEmail(email);
+        sendEmail(email);
     }
 
 }
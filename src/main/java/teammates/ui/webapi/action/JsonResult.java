@@ -59,7 +59,7 @@ public class JsonResult extends ActionResult {
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
         PrintWriter pw = resp.getWriter();
-        pw.print(JsonUtils.toJson(output));
+        JsonUtils.writeCompactJson(output, pw);
     }
 
     public List<Cookie> getCookies() {
@@ -164,7 +164,7 @@ public class OriginCheckFilter implements Filter {
     private void denyAccess(String message, HttpServletRequest request, HttpServletResponse response) throws IOException {
         response.setHeader("Strict-Transport-Security", "max-age=31536000");
 
-        log.info("Request failed origin check: [" + request.getMethod() + "] " + request.getRequestURL().toString()
+        log.info(() -> "Request failed origin check: [" + request.getMethod() + "] " + request.getRequestURL().toString()
                 + ", Params: " + HttpRequestHelper.getRequestParametersAsString(request)
                 + ", Headers: " + HttpRequestHelper.getRequestHeadersAsString(request)
                 + ", Request ID: " + Config.getRequestId());
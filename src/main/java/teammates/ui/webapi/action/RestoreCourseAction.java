@@ -33,6 +33,11 @@ public class RestoreCourseAction extends Action {
         String idOfCourseToRestore = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
         String statusMessage;
 
+        if (logic.isCourseDeletionCascadeRunning(idOfCourseToRestore)) {
+            return new JsonResult("The course " + idOfCourseToRestore
+                    + " is being deleted permanently and cannot be restored.", HttpStatus.SC_CONFLICT);
+        }
+
         try {
             logic.restoreCourseFromRecycleBin(idOfCourseToRestore);
 
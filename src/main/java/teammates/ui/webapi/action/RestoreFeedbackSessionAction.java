@@ -41,6 +41,10 @@ public class RestoreFeedbackSessionAction extends Action {
         if (feedbackSession == null) {
             throw new EntityNotFoundException(new EntityDoesNotExistException("Feedback session is not in recycle bin"));
         }
+        if (logic.isFeedbackSessionDeletionCascadeRunning(feedbackSessionName, courseId)) {
+            return new JsonResult("The feedback session is being deleted permanently and cannot be restored.",
+                    HttpStatus.SC_CONFLICT);
+        }
 
         try {
             logic.restoreFeedbackSessionFromRecycleBin(feedbackSessionName, courseId);
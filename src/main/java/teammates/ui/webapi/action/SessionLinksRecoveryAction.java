@@ -42,7 +42,7 @@ public class SessionLinksRecoveryAction extends Action {
         }
 
         EmailWrapper email = emailGenerator.generateSessionLinksRecoveryEmailForStudent(recoveryEmailAddress);
-        EmailSendingStatus status = emailSender.sendEmail(email);
+        EmailSendingStatus status = sendEmail(email);
 
         if (status.isSuccess()) {
             return new JsonResult(new SessionLinksRecoveryResponseData(true,
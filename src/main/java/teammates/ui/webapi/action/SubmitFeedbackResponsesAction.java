@@ -0,0 +1,172 @@
+package teammates.ui.webapi.action;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.EntityNotFoundException;
+import teammates.common.exception.InvalidHttpParameterException;
+import teammates.common.exception.InvalidHttpRequestBodyException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.Const;
+import teammates.ui.webapi.output.FeedbackResponsesData;
+import teammates.ui.webapi.request.FeedbackResponseBasicRequest;
+import teammates.ui.webapi.request.FeedbackResponsesRequest;
+
+/**
+ * Submit all feedback responses of a giver to a feedback question.
+ *
+ * <p>The submitted responses replace all existing responses of the giver to the question.
+ */
+public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
+
+    /** The recipients of the giver for the question, which are resolved once for the request. */
+    private Map<String, String> recipientsOfTheQuestion;
+
+    @Override
+    protected AuthType getMinAuthLevel() {
+        return AuthType.PUBLIC;
+    }
+
+    @Override
+    public void checkSpecificAccessControl() {
+        String feedbackQuestionId = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+        FeedbackQuestionAttributes feedbackQuestion = logic.getFeedbackQuestion(feedbackQuestionId);
+        if (feedbackQuestion == null) {
+            throw new EntityNotFoundException(new EntityDoesNotExistException("The feedback question does not exist."));
+        }
+        FeedbackSessionAttributes feedbackSession =
+                logic.getFeedbackSession(feedbackQuestion.getFeedbackSessionName(), feedbackQuestion.getCourseId());
+
+        verifyInstructorCanSeeQuestionIfInModeration(feedbackQuestion);
+        verifySessionOpenExceptForModeration(feedbackSession);
+        verifyNotPreview();
+
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            gateKeeper.verifyAnswerableForStudent(feedbackQuestion);
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            gateKeeper.verifyAnswerableForInstructor(feedbackQuestion);
+            break;
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+        Map<String, String> recipientsOfTheQuestion = getRecipientsOfQuestion(feedbackQuestion, intent);
+
+        FeedbackResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackResponsesRequest.class);
+        for (FeedbackResponseBasicRequest responseRequest : submitRequest.getResponses()) {
+            if (!recipientsOfTheQuestion.containsKey(responseRequest.getRecipientIdentifier())) {
+                throw new UnauthorizedAccessException("The recipient is not a valid recipient of the question");
+            }
+        }
+    }
+
+    @Override
+    public ActionResult execute() {
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        String feedbackQuestionId = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+        FeedbackQuestionAttributes feedbackQuestion = logic.getFeedbackQuestion(feedbackQuestionId);
+
+        String giverEmail;
+        String giverIdentifier;
+        String giverSection;
+        boolean isInstructor;
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            StudentAttributes studentAttributes = getStudentOfCourseFromRequest(feedbackQuestion.getCourseId());
+            giverEmail = studentAttributes.getEmail();
+            giverIdentifier = feedbackQuestion.getGiverType() == FeedbackParticipantType.TEAMS
+                            ? studentAttributes.getTeam() : studentAttributes.getEmail();
+            giverSection = studentAttributes.getSection();
+            isInstructor = false;
+            logic.populateFieldsToGenerateInQuestion(feedbackQuestion,
+                    studentAttributes.getEmail(), studentAttributes.getTeam());
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(feedbackQuestion.getCourseId());
+            giverEmail = instructorAttributes.getEmail();
+            giverIdentifier = instructorAttributes.getEmail();
+            giverSection = Const.DEFAULT_SECTION;
+            isInstructor = true;
+            logic.populateFieldsToGenerateInQuestion(feedbackQuestion,
+                    instructorAttributes.getEmail(), null);
+            break;
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+
+        FeedbackResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackResponsesRequest.class);
+        List<FeedbackResponseAttributes> feedbackResponses = new ArrayList<>();
+        for (FeedbackResponseBasicRequest responseRequest : submitRequest.getResponses()) {
+            FeedbackResponseAttributes feedbackResponse =
+                    FeedbackResponseAttributes
+                            .builder(feedbackQuestion.getId(), giverIdentifier, responseRequest.getRecipientIdentifier())
+                    .withGiverSection(giverSection)
+                    .withRecipientSection(getRecipientSection(feedbackQuestion.getCourseId(),
+                            feedbackQuestion.getRecipientType(), responseRequest.getRecipientIdentifier()))
+                    .withCourseId(feedbackQuestion.getCourseId())
+                    .withFeedbackSessionName(feedbackQuestion.getFeedbackSessionName())
+                    .withResponseDetails(responseRequest.getResponseDetails())
+                    .build();
+            validResponseOfQuestion(feedbackQuestion, feedbackResponse);
+            feedbackResponses.add(feedbackResponse);
+        }
+
+        // all responses of the giver to the question are in the request, so they can be validated together
+        Map<String, String> recipientsOfTheQuestion = getRecipientsOfQuestion(feedbackQuestion, intent);
+        int numRecipients = recipientsOfTheQuestion.size();
+        List<String> questionErrors =
+                feedbackQuestion.getQuestionDetails().validateResponseAttributes(feedbackResponses, numRecipients);
+        if (!questionErrors.isEmpty()) {
+            throw new InvalidHttpRequestBodyException(questionErrors.toString());
+        }
+
+        List<FeedbackResponseAttributes> submittedResponses;
+        try {
+            submittedResponses =
+                    logic.putFeedbackResponsesFromGiverForQuestion(feedbackQuestion.getId(), giverIdentifier,
+                            recipientsOfTheQuestion.keySet(), feedbackResponses);
+        } catch (InvalidParametersException e) {
+            throw new InvalidHttpRequestBodyException(e.getMessage(), e);
+        }
+
+        boolean hasGiverRespondedForSession = logic.hasGiverRespondedForSession(
+                giverEmail, feedbackQuestion.getFeedbackSessionName(), feedbackQuestion.getCourseId());
+        taskQueuer.scheduleUpdateRespondentForSession(feedbackQuestion.getCourseId(),
+                feedbackQuestion.getFeedbackSessionName(), giverEmail, isInstructor, !hasGiverRespondedForSession);
+
+        return new JsonResult(new FeedbackResponsesData(submittedResponses));
+    }
+
+    private Map<String, String> getRecipientsOfQuestion(FeedbackQuestionAttributes feedbackQuestion, Intent intent) {
+        if (recipientsOfTheQuestion != null) {
+            return recipientsOfTheQuestion;
+        }
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            StudentAttributes studentAttributes = getStudentOfCourseFromRequest(feedbackQuestion.getCourseId());
+            recipientsOfTheQuestion = logic.getRecipientsOfQuestionForStudent(
+                    feedbackQuestion, studentAttributes.getEmail(), studentAttributes.getTeam());
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(feedbackQuestion.getCourseId());
+            recipientsOfTheQuestion =
+                    logic.getRecipientsOfQuestionForInstructor(feedbackQuestion, instructorAttributes.getEmail());
+            break;
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+        return recipientsOfTheQuestion;
+    }
+
+}
@@ -110,7 +110,7 @@ public class UpdateFeedbackResponseAction extends BasicFeedbackSubmissionAction
         feedbackResponse.recipientSection =
                 getRecipientSection(feedbackQuestion.getCourseId(),
                         feedbackQuestion.getRecipientType(), updateRequest.getRecipientIdentifier());
-        feedbackResponse.responseDetails = updateRequest.getResponseDetails();
+        feedbackResponse.setResponseDetails(updateRequest.getResponseDetails());
 
         validResponseOfQuestion(feedbackQuestion, feedbackResponse);
 
@@ -112,7 +112,6 @@ public class UpdateFeedbackResponseCommentAction extends Action {
         FeedbackResponseCommentAttributes updatedComment = null;
         try {
             updatedComment = logic.updateFeedbackResponseComment(commentUpdateOptions.build());
-            logic.putDocument(updatedComment);
         } catch (EntityDoesNotExistException e) {
             return new JsonResult(e.getMessage(), HttpStatus.SC_NOT_FOUND);
         } catch (InvalidParametersException e) {
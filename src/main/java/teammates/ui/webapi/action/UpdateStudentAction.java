@@ -103,7 +103,7 @@ public class UpdateStudentAction extends Action {
     private boolean sendEmail(String courseId, String studentEmail) {
         EmailWrapper email =
                 new EmailGenerator().generateFeedbackSessionSummaryOfCourse(courseId, studentEmail);
-        EmailSendingStatus status = emailSender.sendEmail(email);
+        EmailSendingStatus status = sendEmail(email);
         return status.isSuccess();
     }
 }
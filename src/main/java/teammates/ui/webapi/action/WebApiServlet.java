@@ -1,6 +1,7 @@
 package teammates.ui.webapi.action;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import javax.servlet.annotation.MultipartConfig;
 import javax.servlet.http.HttpServlet;
@@ -8,9 +9,11 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
 
 import com.google.appengine.api.datastore.DatastoreTimeoutException;
 import com.google.apphosting.api.DeadlineExceededException;
+import com.google.common.hash.Hashing;
 
 import teammates.common.exception.ActionMappingException;
 import teammates.common.exception.EntityNotFoundException;
@@ -60,10 +63,8 @@ public class WebApiServlet extends HttpServlet {
     @SuppressWarnings("PMD.AvoidCatchingThrowable") // used as fallback
     private void invokeServlet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         resp.setHeader("Strict-Transport-Security", "max-age=31536000");
-        resp.setHeader("Cache-Control", "no-store");
-        resp.setHeader("Pragma", "no-cache");
 
-        log.info("Request received: [" + req.getMethod() + "] " + req.getRequestURL().toString()
+        log.info(() -> "Request received: [" + req.getMethod() + "] " + req.getRequestURL().toString()
                 + ", Params: " + HttpRequestHelper.getRequestParametersAsString(req)
                 + ", Headers: " + HttpRequestHelper.getRequestHeadersAsString(req)
                 + ", Request ID: " + Config.getRequestId());
@@ -72,7 +73,22 @@ public class WebApiServlet extends HttpServlet {
             Action action = new ActionFactory().getAction(req, req.getMethod());
             action.checkAccessControl();
 
+            CachePolicy cachePolicy = HttpGet.METHOD_NAME.equals(req.getMethod())
+                    ? action.getCachePolicy()
+                    : CachePolicy.NO_STORE;
+            String entityTag = cachePolicy == CachePolicy.NO_STORE ? null : toEntityTag(action.getEntityTag());
+            if (entityTag != null && isEntityTagMatched(req.getHeader("If-None-Match"), entityTag)) {
+                setCacheHeaders(resp, cachePolicy, entityTag);
+                resp.setStatus(HttpStatus.SC_NOT_MODIFIED);
+                return;
+            }
+
             ActionResult result = action.execute();
+            if (result.getStatusCode() == HttpStatus.SC_OK) {
+                setCacheHeaders(resp, cachePolicy, entityTag);
+            } else {
+                setCacheHeaders(resp, CachePolicy.NO_STORE, null);
+            }
             result.send(resp);
         } catch (ActionMappingException e) {
             throwError(resp, e.getStatusCode(), e.getMessage());
@@ -104,7 +120,50 @@ public class WebApiServlet extends HttpServlet {
         }
     }
 
+    /**
+     * Turns the tag given by an action into a strong entity tag, which also changes with the version of the application
+     * as the format of responses may change across versions.
+     */
+    private static String toEntityTag(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        return '"' + Hashing.sha256().hashString(Config.APP_VERSION + '|' + tag, StandardCharsets.UTF_8).toString() + '"';
+    }
+
+    /**
+     * Returns true if the value of an {@code If-None-Match} header matches the entity tag.
+     *
+     * <p>Tags are compared weakly as required for {@code If-None-Match}, i.e. ignoring the weak indicator.
+     */
+    private static boolean isEntityTagMatched(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmedTag = tag.trim();
+            if (trimmedTag.startsWith("W/")) {
+                trimmedTag = trimmedTag.substring(2);
+            }
+            if ("*".equals(trimmedTag) || entityTag.equals(trimmedTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void setCacheHeaders(HttpServletResponse resp, CachePolicy cachePolicy, String entityTag) {
+        resp.setHeader("Cache-Control", cachePolicy.getCacheControl());
+        if (cachePolicy == CachePolicy.NO_STORE) {
+            resp.setHeader("Pragma", "no-cache");
+        }
+        if (entityTag != null) {
+            resp.setHeader("ETag", entityTag);
+        }
+    }
+
     private void throwError(HttpServletResponse resp, int statusCode, String message) throws IOException {
+        setCacheHeaders(resp, CachePolicy.NO_STORE, null);
         JsonResult result = new JsonResult(message, statusCode);
         result.send(resp);
     }
@@ -0,0 +1,61 @@
+package teammates.ui.webapi.output;
+
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
+
+/**
+ * The API output format of the progress of a cascade deletion job.
+ */
+public class CascadeDeletionJobData extends ApiOutput {
+
+    private final String jobId;
+    private final String courseId;
+    private final String feedbackSessionName;
+    private final String entityKind;
+    private final long numberOfDeletedEntities;
+    private final boolean isDone;
+    private final long createdAtTimestamp;
+    private final long updatedAtTimestamp;
+
+    public CascadeDeletionJobData(CascadeDeletionJobStatus job) {
+        this.jobId = job.getJobId();
+        this.courseId = job.getCourseId();
+        this.feedbackSessionName = job.getFeedbackSessionName();
+        this.entityKind = job.getEntityKind().name();
+        this.numberOfDeletedEntities = job.getNumberOfDeletedEntities();
+        this.isDone = job.isDone();
+        this.createdAtTimestamp = job.getCreatedAt().toEpochMilli();
+        this.updatedAtTimestamp = job.getUpdatedAt().toEpochMilli();
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getEntityKind() {
+        return entityKind;
+    }
+
+    public long getNumberOfDeletedEntities() {
+        return numberOfDeletedEntities;
+    }
+
+    public boolean isDone() {
+        return isDone;
+    }
+
+    public long getCreatedAtTimestamp() {
+        return createdAtTimestamp;
+    }
+
+    public long getUpdatedAtTimestamp() {
+        return updatedAtTimestamp;
+    }
+}
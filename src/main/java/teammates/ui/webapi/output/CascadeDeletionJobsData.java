@@ -0,0 +1,22 @@
+package teammates.ui.webapi.output;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
+
+/**
+ * The API output format of a list of {@link CascadeDeletionJobStatus}.
+ */
+public class CascadeDeletionJobsData extends ApiOutput {
+
+    private final List<CascadeDeletionJobData> jobs;
+
+    public CascadeDeletionJobsData(List<CascadeDeletionJobStatus> jobs) {
+        this.jobs = jobs.stream().map(CascadeDeletionJobData::new).collect(Collectors.toList());
+    }
+
+    public List<CascadeDeletionJobData> getJobs() {
+        return jobs;
+    }
+}
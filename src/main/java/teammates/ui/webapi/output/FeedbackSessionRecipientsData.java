@@ -0,0 +1,24 @@
+package teammates.ui.webapi.output;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * API output for the recipients of the questions of a feedback session,
+ * which is a {@link FeedbackQuestionRecipientsData} for each question keyed by the ID of the question.
+ */
+public class FeedbackSessionRecipientsData extends ApiOutput {
+    private Map<String, FeedbackQuestionRecipientsData> recipients;
+
+    public FeedbackSessionRecipientsData(Map<String, Map<String, String>> recipientsByQuestion) {
+        this.recipients = new LinkedHashMap<>();
+
+        recipientsByQuestion.forEach((questionId, questionRecipients) -> {
+            this.recipients.put(questionId, new FeedbackQuestionRecipientsData(questionRecipients));
+        });
+    }
+
+    public Map<String, FeedbackQuestionRecipientsData> getRecipients() {
+        return recipients;
+    }
+}
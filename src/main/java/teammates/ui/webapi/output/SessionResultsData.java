@@ -130,7 +130,8 @@ public class SessionResultsData extends ApiOutput {
 
                 // Student does not need to know the teams for giver and/or recipient
                 output.add(new ResponseOutput(displayedGiverName, null, null, response.giverSection,
-                        recipientName, null, response.recipientSection, response.responseDetails));
+                        recipientName, null, response.recipientSection,
+                        response.getDeserializedResponseDetails()));
             }
 
         });
@@ -162,7 +163,8 @@ public class SessionResultsData extends ApiOutput {
                 // TODO fetch feedback response comments
 
                 output.add(new ResponseOutput(giverName, giverTeam, relatedGiverEmail, response.giverSection,
-                        recipientName, recipientTeam, response.recipientSection, response.responseDetails));
+                        recipientName, recipientTeam, response.recipientSection,
+                        response.getDeserializedResponseDetails()));
             }
 
         });
@@ -0,0 +1,44 @@
+package teammates.ui.webapi.request;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The request of submitting all feedback responses of a giver to a feedback question.
+ *
+ * <p>The responses replace all existing responses of the giver to the question,
+ * so an empty list of responses deletes all of them.
+ */
+public class FeedbackResponsesRequest extends BasicRequest {
+
+    private static final String ERROR_MESSAGE_DUPLICATE_RECIPIENT =
+            "Error, duplicated recipients detected in the responses: %s";
+
+    // Initialize to handle users make a http request with empty body.
+    private List<FeedbackResponseBasicRequest> responses = new ArrayList<>();
+
+    public List<FeedbackResponseBasicRequest> getResponses() {
+        return responses;
+    }
+
+    public void setResponses(List<FeedbackResponseBasicRequest> responses) {
+        this.responses = responses;
+    }
+
+    @Override
+    public void validate() {
+        assertTrue(responses != null, "responses cannot be null");
+        for (FeedbackResponseBasicRequest response : responses) {
+            assertTrue(response != null, "response cannot be null");
+            response.validate();
+        }
+
+        Set<String> recipients = new HashSet<>();
+        for (FeedbackResponseBasicRequest response : responses) {
+            assertTrue(recipients.add(response.getRecipientIdentifier()),
+                    String.format(ERROR_MESSAGE_DUPLICATE_RECIPIENT, response.getRecipientIdentifier()));
+        }
+    }
+}
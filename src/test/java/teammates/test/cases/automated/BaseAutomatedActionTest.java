@@ -1,12 +1,16 @@
 package teammates.test.cases.automated;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.ui.automated.AutomatedAction;
 
@@ -51,6 +55,36 @@ public abstract class BaseAutomatedActionTest<T extends AutomatedAction> extends
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Gets the emails in the tasks added to the send email queue.
+     */
+    protected List<EmailWrapper> getEmailsScheduled(AutomatedAction action) {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            if (!Const.TaskQueue.SEND_EMAIL_QUEUE_NAME.equals(task.getQueueName())) {
+                continue;
+            }
+            Map<String, String[]> paramMap = task.getParamMap();
+            String[] recipients = paramMap.get(ParamsNames.EMAIL_RECEIVER);
+            for (int i = 0; i < recipients.length; i++) {
+                EmailWrapper email = new EmailWrapper();
+                email.setRecipient(recipients[i]);
+                email.setSubject(paramMap.get(ParamsNames.EMAIL_SUBJECT)[i]);
+                int contentIndex = Integer.parseInt(paramMap.get(ParamsNames.EMAIL_CONTENT_INDEX)[i]);
+                email.setContent(paramMap.get(ParamsNames.EMAIL_CONTENT)[contentIndex]);
+                email.setSenderEmail(paramMap.get(ParamsNames.EMAIL_SENDER)[i]);
+                email.setSenderName(paramMap.get(ParamsNames.EMAIL_SENDERNAME)[i]);
+                email.setReplyTo(paramMap.get(ParamsNames.EMAIL_REPLY_TO_ADDRESS)[i]);
+                emails.add(email);
+            }
+        }
+        return emails;
+    }
+
+    protected void verifyNumberOfEmailsScheduled(AutomatedAction action, int emailCount) {
+        assertEquals(emailCount, getEmailsScheduled(action).size());
+    }
+
     protected void verifyNoEmailsSent(AutomatedAction action) {
         assertTrue(getEmailsSent(action).isEmpty());
     }
@@ -0,0 +1,102 @@
+package teammates.test.cases.automated;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.storage.api.FeedbackResponseCommentsDb;
+import teammates.storage.api.FeedbackResponsesDb;
+import teammates.ui.automated.CascadeDeletionWorkerAction;
+
+/**
+ * SUT: {@link CascadeDeletionWorkerAction}.
+ */
+public class CascadeDeletionWorkerActionTest extends BaseAutomatedActionTest<CascadeDeletionWorkerAction> {
+
+    private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
+    private static final FeedbackResponseCommentsDb frcDb = new FeedbackResponseCommentsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.CASCADE_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        ______TS("typical case: session is kept in the recycle bin until all its jobs are done");
+
+        assertFalse(frDb.getFeedbackResponsesForSession(sessionName, courseId).isEmpty());
+        assertFalse(frcDb.getFeedbackResponseCommentsForSession(courseId, sessionName).isEmpty());
+
+        List<CascadeDeletionJobStatus> jobs = logic.startFeedbackSessionDeletionCascade(sessionName, courseId);
+        assertEquals(3, jobs.size());
+        assertNull(logic.getFeedbackSession(sessionName, courseId));
+        assertNotNull(logic.getFeedbackSessionFromRecycleBin(sessionName, courseId));
+
+        // the typical data bundle has fewer entities of each kind than a batch, so every job is done in one step
+        runJobStep(jobs.get(0).getJobId());
+        runJobStep(jobs.get(1).getJobId());
+        assertNotNull(logic.getFeedbackSessionFromRecycleBin(sessionName, courseId));
+        assertTrue(frDb.getFeedbackResponsesForSession(sessionName, courseId).isEmpty());
+        assertTrue(frcDb.getFeedbackResponseCommentsForSession(courseId, sessionName).isEmpty());
+
+        runJobStep(jobs.get(2).getJobId());
+        assertNull(logic.getFeedbackSessionFromRecycleBin(sessionName, courseId));
+        assertTrue(logic.getFeedbackQuestionsForSession(sessionName, courseId).isEmpty());
+
+        ______TS("retried step of a done job: nothing more is deleted");
+
+        CascadeDeletionJobStatus job = runJobStep(jobs.get(0).getJobId());
+        assertTrue(job.isDone());
+        assertTrue(job.getNumberOfDeletedEntities() > 0);
+
+        ______TS("typical case: course is deleted with all its entities after all its jobs are done");
+
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+        jobs = logic.startCourseDeletionCascade(course.getId());
+        assertEquals(CascadeDeletionJobStatus.EntityKind.values().length, jobs.size());
+        assertTrue(logic.getCourse(course.getId()).isCourseDeleted());
+
+        for (int i = 0; i < jobs.size() - 1; i++) {
+            runJobStep(jobs.get(i).getJobId());
+        }
+        assertNotNull(logic.getCourse(course.getId()));
+
+        runJobStep(jobs.get(jobs.size() - 1).getJobId());
+        assertNull(logic.getCourse(course.getId()));
+        assertTrue(logic.getStudentsForCourse(course.getId()).isEmpty());
+        assertTrue(logic.getInstructorsForCourse(course.getId()).isEmpty());
+        assertTrue(logic.getFeedbackSessionsForCourse(course.getId()).isEmpty());
+        assertTrue(logic.getRecentCascadeDeletionJobs(20).stream()
+                .filter(jobOfCourse -> jobOfCourse.getCourseId().equals(course.getId()))
+                .allMatch(CascadeDeletionJobStatus::isDone));
+
+        ______TS("non-existent job: nothing is scheduled");
+
+        CascadeDeletionWorkerAction action = getAction(ParamsNames.CASCADE_DELETION_JOB_ID, "non-existent-job");
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+    private CascadeDeletionJobStatus runJobStep(String jobId) {
+        CascadeDeletionWorkerAction action = getAction(ParamsNames.CASCADE_DELETION_JOB_ID, jobId);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        return logic.getRecentCascadeDeletionJobs(20).stream()
+                .filter(job -> job.getJobId().equals(jobId))
+                .findFirst()
+                .orElse(null);
+    }
+
+}
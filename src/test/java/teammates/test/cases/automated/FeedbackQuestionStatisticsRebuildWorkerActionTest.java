@@ -0,0 +1,83 @@
+package teammates.test.cases.automated;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
+import teammates.ui.automated.FeedbackQuestionStatisticsRebuildWorkerAction;
+
+/**
+ * SUT: {@link FeedbackQuestionStatisticsRebuildWorkerAction}.
+ */
+public class FeedbackQuestionStatisticsRebuildWorkerActionTest
+        extends BaseAutomatedActionTest<FeedbackQuestionStatisticsRebuildWorkerAction> {
+
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackQuestionStatisticsDb fqStatisticsDb = new FeedbackQuestionStatisticsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_QUESTION_STATISTICS_REBUILD_WORKER_URL;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        dataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(dataBundle);
+    }
+
+    @Test
+    public void allTests() {
+        FeedbackQuestionAttributes question = dataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        question = fqLogic.getFeedbackQuestion(question.feedbackSessionName, question.courseId, question.questionNumber);
+        List<FeedbackResponseAttributes> responses = frLogic.getFeedbackResponsesForQuestion(question.getId());
+        assertFalse(responses.isEmpty());
+
+        ______TS("typical case: statistics lost");
+
+        fqStatisticsDb.deleteStatistics(AttributesDeletionQuery.builder()
+                .withQuestionId(question.getId())
+                .build());
+        assertTrue(getStatistics(question.getId()).isEmpty());
+
+        String[] submissionParams = new String[] {
+                ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+        };
+
+        FeedbackQuestionStatisticsRebuildWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        FeedbackQuestionStatistics expected = FeedbackQuestionStatistics.of(responses);
+        FeedbackQuestionStatistics actual = getStatistics(question.getId());
+        assertEquals(expected.getResponseCount(), actual.getResponseCount());
+        assertEquals(expected.getCounts(), actual.getCounts());
+        assertEquals(expected.getResponseCountsPerRecipient(), actual.getResponseCountsPerRecipient());
+
+        ______TS("question does not exist: statistics are deleted");
+
+        submissionParams = new String[] {
+                ParamsNames.FEEDBACK_QUESTION_ID, "non-existent-question-id",
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        assertTrue(getStatistics("non-existent-question-id").isEmpty());
+    }
+
+    private FeedbackQuestionStatistics getStatistics(String feedbackQuestionId) {
+        return fqStatisticsDb.getStatistics(Arrays.asList(feedbackQuestionId)).get(feedbackQuestionId);
+    }
+
+}
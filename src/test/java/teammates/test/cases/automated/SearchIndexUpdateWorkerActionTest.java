@@ -0,0 +1,60 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.StudentSearchResultBundle;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.storage.api.StudentsDb;
+import teammates.ui.automated.SearchIndexUpdateWorkerAction;
+
+/**
+ * SUT: {@link SearchIndexUpdateWorkerAction}.
+ */
+public class SearchIndexUpdateWorkerActionTest extends BaseAutomatedActionTest<SearchIndexUpdateWorkerAction> {
+
+    private static final StudentsDb studentsDb = new StudentsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEARCH_INDEX_UPDATE_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        ______TS("typical case: repeated updates to a student are indexed once");
+
+        studentsDb.updateStudent(StudentAttributes.updateOptionsBuilder(student.course, student.email)
+                .withName("Intermediate Name")
+                .build());
+        studentsDb.updateStudent(StudentAttributes.updateOptionsBuilder(student.course, student.email)
+                .withName("Searchable Name")
+                .build());
+
+        StudentSearchResultBundle bundle = studentsDb.searchStudentsInWholeSystem("\"Searchable Name\"");
+        assertEquals(0, bundle.numberOfResults);
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+        };
+
+        SearchIndexUpdateWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        bundle = studentsDb.searchStudentsInWholeSystem("\"Searchable Name\"");
+        assertEquals(1, bundle.numberOfResults);
+        assertEquals(student.email, bundle.studentList.get(0).email);
+        assertEquals(0, studentsDb.searchStudentsInWholeSystem("\"Intermediate Name\"").numberOfResults);
+
+        ______TS("no out of date search documents: nothing to update");
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        assertEquals(0, logic.updateOutdatedSearchDocuments(student.course));
+    }
+
+}
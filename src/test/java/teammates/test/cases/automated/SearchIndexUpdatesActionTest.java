@@ -0,0 +1,59 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.ui.automated.SearchIndexUpdatesAction;
+
+/**
+ * SUT: {@link SearchIndexUpdatesAction}.
+ */
+public class SearchIndexUpdatesActionTest extends BaseAutomatedActionTest<SearchIndexUpdatesAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_SEARCH_INDEX_UPDATES;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+
+        ______TS("no out of date search documents");
+
+        for (String courseId : logic.getCourseIdsWithOutdatedSearchDocuments()) {
+            logic.updateOutdatedSearchDocuments(courseId);
+        }
+
+        SearchIndexUpdatesAction action = getAction();
+        action.execute();
+
+        verifyNoTasksAdded(action);
+
+        ______TS("out of date search documents in 2 courses: 1 task per course");
+
+        StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
+        logic.updateStudentCascade(
+                StudentAttributes.updateOptionsBuilder(student1InCourse1.course, student1InCourse1.email)
+                        .withName("New name")
+                        .build());
+        InstructorAttributes instructor1OfCourse1 = dataBundle.instructors.get("instructor1OfCourse1");
+        logic.updateInstructor(
+                InstructorAttributes.updateOptionsWithEmailBuilder(
+                        instructor1OfCourse1.courseId, instructor1OfCourse1.email)
+                        .withName("New name")
+                        .build());
+        StudentAttributes student1InCourse2 = dataBundle.students.get("student1InCourse2");
+        logic.updateStudentCascade(
+                StudentAttributes.updateOptionsBuilder(student1InCourse2.course, student1InCourse2.email)
+                        .withName("New name")
+                        .build());
+
+        action = getAction();
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEARCH_INDEX_UPDATE_QUEUE_NAME, 2);
+    }
+
+}
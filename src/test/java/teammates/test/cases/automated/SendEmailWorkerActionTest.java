@@ -0,0 +1,135 @@
+package teammates.test.cases.automated;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.test.driver.MockEmailSender;
+import teammates.ui.automated.SendEmailWorkerAction;
+
+/**
+ * SUT: {@link SendEmailWorkerAction}.
+ */
+public class SendEmailWorkerActionTest extends BaseAutomatedActionTest<SendEmailWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_WORKER_URL;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("batch of emails sharing content");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.EMAIL_RECEIVER, "recipient1@email.tmt",
+                ParamsNames.EMAIL_RECEIVER, "recipient2@email.tmt",
+                ParamsNames.EMAIL_RECEIVER, "recipient3@email.tmt",
+                ParamsNames.EMAIL_SUBJECT, "Subject 1",
+                ParamsNames.EMAIL_SUBJECT, "Subject 2",
+                ParamsNames.EMAIL_SUBJECT, "Subject 1",
+                ParamsNames.EMAIL_CONTENT, "<p>Content 1</p>",
+                ParamsNames.EMAIL_CONTENT, "<p>Content 2</p>",
+                ParamsNames.EMAIL_CONTENT_INDEX, "0",
+                ParamsNames.EMAIL_CONTENT_INDEX, "1",
+                ParamsNames.EMAIL_CONTENT_INDEX, "0",
+                ParamsNames.EMAIL_SENDER, "sender@email.tmt",
+                ParamsNames.EMAIL_SENDER, "sender@email.tmt",
+                ParamsNames.EMAIL_SENDER, "sender@email.tmt",
+                ParamsNames.EMAIL_SENDERNAME, "Sender",
+                ParamsNames.EMAIL_SENDERNAME, "",
+                ParamsNames.EMAIL_SENDERNAME, "Sender",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@email.tmt",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@email.tmt",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@email.tmt",
+        };
+
+        SendEmailWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 3);
+        verifyNoTasksAdded(action);
+
+        List<EmailWrapper> emailsSent = getEmailsSent(action);
+        assertEquals("recipient1@email.tmt", emailsSent.get(0).getRecipient());
+        assertEquals("Subject 1", emailsSent.get(0).getSubject());
+        assertEquals("<p>Content 1</p>", emailsSent.get(0).getContent());
+        assertEquals("Sender", emailsSent.get(0).getSenderName());
+        assertEquals("recipient2@email.tmt", emailsSent.get(1).getRecipient());
+        assertEquals("Subject 2", emailsSent.get(1).getSubject());
+        assertEquals("<p>Content 2</p>", emailsSent.get(1).getContent());
+        assertNull(emailsSent.get(1).getSenderName());
+        assertEquals("recipient3@email.tmt", emailsSent.get(2).getRecipient());
+        assertEquals("<p>Content 1</p>", emailsSent.get(2).getContent());
+        assertEquals("reply@email.tmt", emailsSent.get(2).getReplyTo());
+
+        ______TS("single email queued without content index");
+
+        submissionParams = new String[] {
+                ParamsNames.EMAIL_RECEIVER, "recipient@email.tmt",
+                ParamsNames.EMAIL_SUBJECT, "Subject",
+                ParamsNames.EMAIL_CONTENT, "<p>Content</p>",
+                ParamsNames.EMAIL_SENDER, "sender@email.tmt",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@email.tmt",
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+
+        EmailWrapper email = getEmailsSent(action).get(0);
+        assertEquals("recipient@email.tmt", email.getRecipient());
+        assertEquals("<p>Content</p>", email.getContent());
+        assertNull(email.getSenderName());
+
+        ______TS("emails over the rate limit are queued again instead of being waited for");
+
+        submissionParams = new String[] {
+                ParamsNames.EMAIL_RECEIVER, "recipient1@email.tmt",
+                ParamsNames.EMAIL_RECEIVER, "recipient2@email.tmt",
+                ParamsNames.EMAIL_SUBJECT, "Subject",
+                ParamsNames.EMAIL_SUBJECT, "Subject",
+                ParamsNames.EMAIL_CONTENT, "<p>Content</p>",
+                ParamsNames.EMAIL_CONTENT_INDEX, "0",
+                ParamsNames.EMAIL_CONTENT_INDEX, "0",
+                ParamsNames.EMAIL_SENDER, "sender@email.tmt",
+                ParamsNames.EMAIL_SENDER, "sender@email.tmt",
+                ParamsNames.EMAIL_SENDERNAME, "Sender",
+                ParamsNames.EMAIL_SENDERNAME, "Sender",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@email.tmt",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@email.tmt",
+        };
+
+        action = getAction(submissionParams);
+        action.setEmailSender(new MockEmailSender() {
+            @Override
+            public EmailSendingStatus sendEmail(EmailWrapper email) {
+                if ("recipient2@email.tmt".equals(email.getRecipient())) {
+                    return new EmailSendingStatus(EmailSendingStatus.RATE_LIMITED_STATUS_CODE, null);
+                }
+                return super.sendEmail(email);
+            }
+        });
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+        assertEquals("recipient1@email.tmt", getEmailsSent(action).get(0).getRecipient());
+
+        List<EmailWrapper> emailsScheduled = getEmailsScheduled(action);
+        assertEquals(1, emailsScheduled.size());
+        assertEquals("recipient2@email.tmt", emailsScheduled.get(0).getRecipient());
+        assertEquals("<p>Content</p>", emailsScheduled.get(0).getContent());
+    }
+
+}
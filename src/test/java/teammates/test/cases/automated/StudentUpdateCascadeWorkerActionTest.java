@@ -0,0 +1,71 @@
+package teammates.test.cases.automated;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.storage.api.StudentsDb;
+import teammates.ui.automated.StudentUpdateCascadeWorkerAction;
+
+/**
+ * SUT: {@link StudentUpdateCascadeWorkerAction}.
+ */
+public class StudentUpdateCascadeWorkerActionTest extends BaseAutomatedActionTest<StudentUpdateCascadeWorkerAction> {
+
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final StudentsDb studentsDb = new StudentsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.STUDENT_UPDATE_CASCADE_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        ______TS("typical case: student moved to a different section");
+
+        List<FeedbackResponseAttributes> responses =
+                frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email);
+        assertFalse(responses.isEmpty());
+        responses.forEach(response -> assertEquals(student.section, response.giverSection));
+
+        // the student is moved without updating the responses, as is done during enrollment
+        studentsDb.updateStudent(StudentAttributes.updateOptionsBuilder(student.course, student.email)
+                .withSectionName("New Section")
+                .build());
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.STUDENT_EMAIL, student.email,
+                ParamsNames.STUDENT_ORIGINAL_TEAM, student.team,
+                ParamsNames.STUDENT_ORIGINAL_SECTION, student.section,
+        };
+
+        StudentUpdateCascadeWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        responses = frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email);
+        assertFalse(responses.isEmpty());
+        responses.forEach(response -> assertEquals("New Section", response.giverSection));
+
+        ______TS("failure case: student no longer in course should not stop the batch, which is then retried");
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.STUDENT_EMAIL, "non-existent@email.tmt",
+                ParamsNames.STUDENT_ORIGINAL_TEAM, student.team,
+                ParamsNames.STUDENT_ORIGINAL_SECTION, student.section,
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+    }
+
+}
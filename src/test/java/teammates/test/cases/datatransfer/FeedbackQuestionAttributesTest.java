@@ -186,15 +186,15 @@ public class FeedbackQuestionAttributesTest extends BaseAttributesTest {
         qn.setFeedbackQuestionId(1L);
 
         FeedbackQuestionAttributes fqa = FeedbackQuestionAttributes.valueOf(qn);
-        assertEquals("singleWord", fqa.questionDetails.getQuestionText());
-        assertEquals(0, ((FeedbackTextQuestionDetails) fqa.questionDetails).getRecommendedLength());
+        assertEquals("singleWord", fqa.getQuestionDetails().getQuestionText());
+        assertEquals(0, ((FeedbackTextQuestionDetails) fqa.getQuestionDetails()).getRecommendedLength());
 
         ______TS("legacy data: plain text: multiple words, should deserialize correctly");
         qn.setQuestionText("multiple words text");
 
         FeedbackQuestionAttributes fqaMulti = FeedbackQuestionAttributes.valueOf(qn);
-        assertEquals("multiple words text", fqaMulti.questionDetails.getQuestionText());
-        assertEquals(0, ((FeedbackTextQuestionDetails) fqaMulti.questionDetails).getRecommendedLength());
+        assertEquals("multiple words text", fqaMulti.getQuestionDetails().getQuestionText());
+        assertEquals(0, ((FeedbackTextQuestionDetails) fqaMulti.getQuestionDetails()).getRecommendedLength());
 
         ______TS("json text: should deserialize as json");
         String jsonQuestionText = "{\n"
@@ -204,8 +204,8 @@ public class FeedbackQuestionAttributesTest extends BaseAttributesTest {
                 + "}";
         qn.setQuestionText(jsonQuestionText);
         FeedbackQuestionAttributes fqaJson = FeedbackQuestionAttributes.valueOf(qn);
-        assertEquals("normal question", fqaJson.questionDetails.getQuestionText());
-        assertEquals(70, ((FeedbackTextQuestionDetails) fqaJson.questionDetails).getRecommendedLength());
+        assertEquals("normal question", fqaJson.getQuestionDetails().getQuestionText());
+        assertEquals(70, ((FeedbackTextQuestionDetails) fqaJson.getQuestionDetails()).getRecommendedLength());
     }
 
     @Test
@@ -352,7 +352,7 @@ public class FeedbackQuestionAttributesTest extends BaseAttributesTest {
         assertEquals(new ArrayList<>(), observedFeedbackQuestionAttributes.getShowGiverNameTo());
         assertEquals(new ArrayList<>(), observedFeedbackQuestionAttributes.getShowRecipientNameTo());
         assertNull(observedFeedbackQuestionAttributes.getQuestionDescription());
-        assertNull(observedFeedbackQuestionAttributes.questionDetails);
+        assertNull(observedFeedbackQuestionAttributes.getDeserializedQuestionDetails());
         assertEquals(0, observedFeedbackQuestionAttributes.getNumberOfEntitiesToGiveFeedbackTo());
         assertNull(observedFeedbackQuestionAttributes.getCreatedAt());
         assertNull(observedFeedbackQuestionAttributes.getUpdatedAt());
@@ -649,10 +649,10 @@ public class FeedbackQuestionAttributesTest extends BaseAttributesTest {
     public void testGetQuestionDetails_shouldDoDeepCopy() {
         FeedbackQuestionAttributes fqa = getNewFeedbackQuestionAttributes();
         FeedbackQuestionDetails details = fqa.getQuestionDetails();
-        fqa.questionDetails.setQuestionText("updated question");
+        fqa.getDeserializedQuestionDetails().setQuestionText("updated question");
 
         assertEquals("Question text.", details.getQuestionText());
-        assertEquals("updated question", fqa.questionDetails.getQuestionText());
+        assertEquals("updated question", fqa.getQuestionDetails().getQuestionText());
     }
 
     @Test
@@ -663,7 +663,7 @@ public class FeedbackQuestionAttributesTest extends BaseAttributesTest {
         details.setQuestionText("updated question");
 
         assertEquals("updated question", details.getQuestionText());
-        assertEquals("my question", fqa.questionDetails.getQuestionText());
+        assertEquals("my question", fqa.getQuestionDetails().getQuestionText());
     }
 
     private FeedbackQuestionAttributes getNewFeedbackQuestionAttributes() {
@@ -0,0 +1,155 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackMsqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.JsonUtils;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackQuestionStatistics}.
+ */
+public class FeedbackQuestionStatisticsTest extends BaseTestCase {
+
+    @Test
+    public void testOf_mcqResponses_shouldCountAnswersOverallAndPerRecipient() {
+        FeedbackQuestionStatistics statistics = FeedbackQuestionStatistics.of(Arrays.asList(
+                getMcqResponse("giver1", "recipient1", "A"),
+                getMcqResponse("giver2", "recipient1", "B"),
+                getMcqResponse("giver3", "recipient2", "A")));
+
+        assertEquals(3, statistics.getResponseCount());
+        assertEquals(getCounts("A", 2, "B", 1), statistics.getCounts());
+        assertEquals(getCounts("recipient1", 2, "recipient2", 1), statistics.getResponseCountsPerRecipient());
+        assertEquals(getCounts("A", 1, "B", 1), statistics.getCountsForRecipient("recipient1"));
+        assertEquals(getCounts("A", 1), statistics.getCountsForRecipient("recipient2"));
+        assertTrue(statistics.getCountsForRecipient("recipient3").isEmpty());
+    }
+
+    @Test
+    public void testOf_msqResponses_shouldCountEachChosenOption() {
+        FeedbackMsqResponseDetails details = new FeedbackMsqResponseDetails();
+        details.answers = Arrays.asList("A", "C");
+        FeedbackResponseAttributes response = FeedbackResponseAttributes.builder("question", "giver", "recipient")
+                .withResponseDetails(details)
+                .build();
+
+        FeedbackQuestionStatistics statistics = FeedbackQuestionStatistics.of(Arrays.asList(response));
+
+        assertEquals(1, statistics.getResponseCount());
+        assertEquals(getCounts("A", 1, "C", 1), statistics.getCounts());
+    }
+
+    @Test
+    public void testOf_responsesNotAggregated_shouldOnlyCountResponses() {
+        FeedbackResponseAttributes response = FeedbackResponseAttributes.builder("question", "giver", "recipient")
+                .withResponseDetails(new FeedbackTextResponseDetails("text"))
+                .build();
+
+        FeedbackQuestionStatistics statistics = FeedbackQuestionStatistics.of(Arrays.asList(response));
+
+        assertEquals(1, statistics.getResponseCount());
+        assertTrue(statistics.getCounts().isEmpty());
+        assertEquals(getCounts("recipient", 1), statistics.getResponseCountsPerRecipient());
+    }
+
+    @Test
+    public void testMerge_shouldBeSameAsAggregatingAllResponses() {
+        FeedbackResponseAttributes response1 = getMcqResponse("giver1", "recipient1", "A");
+        FeedbackResponseAttributes response2 = getMcqResponse("giver2", "recipient2", "A");
+        FeedbackResponseAttributes response3 = getMcqResponse("giver3", "recipient1", "B");
+
+        FeedbackQuestionStatistics statistics = FeedbackQuestionStatistics.of(Arrays.asList(response1, response2));
+        statistics.merge(FeedbackQuestionStatistics.of(Arrays.asList(response3)));
+
+        FeedbackQuestionStatistics expected = FeedbackQuestionStatistics.of(Arrays.asList(response1, response2, response3));
+        assertEquals(expected.getResponseCount(), statistics.getResponseCount());
+        assertEquals(expected.getCounts(), statistics.getCounts());
+        assertEquals(expected.getResponseCountsPerRecipient(), statistics.getResponseCountsPerRecipient());
+        assertEquals(expected.getCountsForRecipient("recipient1"), statistics.getCountsForRecipient("recipient1"));
+    }
+
+    @Test
+    public void testEquals() {
+        FeedbackResponseAttributes response1 = getMcqResponse("giver1", "recipient1", "A");
+        FeedbackResponseAttributes response2 = getMcqResponse("giver2", "recipient2", "A");
+        FeedbackResponseAttributes response3 = getMcqResponse("giver3", "recipient1", "B");
+
+        FeedbackQuestionStatistics statistics = FeedbackQuestionStatistics.of(Arrays.asList(response1, response2));
+        statistics.merge(FeedbackQuestionStatistics.of(Arrays.asList(response3)));
+
+        assertEquals(FeedbackQuestionStatistics.of(Arrays.asList(response1, response2, response3)), statistics);
+        assertEquals(FeedbackQuestionStatistics.of(Arrays.asList(response1, response2, response3)).hashCode(),
+                statistics.hashCode());
+
+        ______TS("same number of responses with a different answer");
+        assertNotEquals(FeedbackQuestionStatistics.of(Arrays.asList(response1, response2, response1)), statistics);
+
+        ______TS("same answers for a different recipient");
+        FeedbackResponseAttributes response4 = getMcqResponse("giver3", "recipient2", "B");
+        assertNotEquals(FeedbackQuestionStatistics.of(Arrays.asList(response1, response2, response4)), statistics);
+
+        ______TS("statistics read from JSON");
+        assertEquals(statistics, JsonUtils.fromJson(JsonUtils.toCompactJson(statistics), FeedbackQuestionStatistics.class));
+    }
+
+    @Test
+    public void testRemoveResponse_shouldUndoAddingResponse() {
+        FeedbackResponseAttributes response1 = getMcqResponse("giver1", "recipient1", "A");
+        FeedbackResponseAttributes response2 = getMcqResponse("giver2", "recipient2", "B");
+
+        FeedbackQuestionStatistics statistics = FeedbackQuestionStatistics.of(Arrays.asList(response1, response2));
+        statistics.removeResponse(response2);
+
+        assertEquals(1, statistics.getResponseCount());
+        assertEquals(getCounts("A", 1), statistics.getCounts());
+        assertEquals(getCounts("recipient1", 1), statistics.getResponseCountsPerRecipient());
+        assertTrue(statistics.getCountsForRecipient("recipient2").isEmpty());
+        assertFalse(statistics.isEmpty());
+
+        statistics.removeResponse(response1);
+
+        assertTrue(statistics.isEmpty());
+    }
+
+    @Test
+    public void testRemoveResponse_responseNotAdded_shouldKeepNegativeCountsToMergeLater() {
+        FeedbackResponseAttributes response = getMcqResponse("giver1", "recipient1", "A");
+
+        FeedbackQuestionStatistics delta = new FeedbackQuestionStatistics();
+        delta.removeResponse(response);
+
+        assertFalse(delta.isEmpty());
+        assertEquals(-1, delta.getResponseCount());
+
+        FeedbackQuestionStatistics statistics = FeedbackQuestionStatistics.of(Arrays.asList(response));
+        statistics.merge(delta);
+
+        assertTrue(statistics.isEmpty());
+    }
+
+    private FeedbackResponseAttributes getMcqResponse(String giver, String recipient, String answer) {
+        FeedbackMcqResponseDetails details = new FeedbackMcqResponseDetails();
+        details.setAnswer(answer);
+        return FeedbackResponseAttributes.builder("question", giver, recipient)
+                .withResponseDetails(details)
+                .build();
+    }
+
+    private Map<String, Integer> getCounts(Object... keysAndCounts) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < keysAndCounts.length; i += 2) {
+            counts.put((String) keysAndCounts[i], (Integer) keysAndCounts[i + 1]);
+        }
+        return counts;
+    }
+
+}
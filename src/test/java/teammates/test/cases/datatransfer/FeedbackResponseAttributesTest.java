@@ -3,10 +3,12 @@ package teammates.test.cases.datatransfer;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.test.cases.BaseTestCase;
 
@@ -167,12 +169,32 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
                 .build();
         FeedbackResponseAttributes fra2 = new FeedbackResponseAttributes(fra1);
 
-        ((FeedbackTextResponseDetails) fra2.responseDetails).answer = "My second answer";
-        assertEquals(fra1.responseDetails.getAnswerString(), "My original answer");
-        assertEquals(fra2.responseDetails.getAnswerString(), "My second answer");
+        ((FeedbackTextResponseDetails) fra2.getDeserializedResponseDetails()).answer = "My second answer";
+        assertEquals(fra1.getResponseDetails().getAnswerString(), "My original answer");
+        assertEquals(fra2.getResponseDetails().getAnswerString(), "My second answer");
 
     }
 
+    @Test
+    public void testValueOf_detailsNotYetDeserialized_shouldBehaveAsDeserialized() {
+        FeedbackMcqResponseDetails details = new FeedbackMcqResponseDetails();
+        details.setAnswer("Option 1");
+        FeedbackResponse response = new FeedbackResponse("session", "course", "id",
+                FeedbackQuestionType.MCQ, "giver@email.com", "section1",
+                "recipient@email.com", "section2", details.getJsonString());
+
+        FeedbackResponseAttributes fra = FeedbackResponseAttributes.valueOf(response);
+        FeedbackResponseAttributes copy = new FeedbackResponseAttributes(fra);
+
+        assertFalse(fra.isMissingResponse());
+        assertEquals(FeedbackQuestionType.MCQ, fra.getFeedbackQuestionType());
+        assertEquals(FeedbackQuestionType.MCQ, copy.getFeedbackQuestionType());
+        assertEquals(JsonUtils.toJson(FeedbackResponseAttributes.valueOf(response)), JsonUtils.toJson(copy));
+        assertTrue(JsonUtils.toJson(copy).contains("Option 1"));
+        assertEquals("Option 1", fra.getResponseDetails().getAnswerString());
+        assertEquals(details.getJsonString(), copy.getSerializedFeedbackResponseDetail());
+    }
+
     @Test
     public void testGetResponseDetails_shouldDoDeepCopy() {
         FeedbackResponseAttributes fra =
@@ -182,7 +204,7 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
                 .build();
         FeedbackResponseDetails frdDeep = fra.getResponseDetails();
 
-        ((FeedbackTextResponseDetails) fra.responseDetails).answer = "My second answer";
+        ((FeedbackTextResponseDetails) fra.getDeserializedResponseDetails()).answer = "My second answer";
         assertEquals(frdDeep.getAnswerString(), "My original answer");
     }
 
@@ -198,7 +220,7 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         updatedDetails.answer = "Modified deep copy answer";
 
         assertEquals(updatedDetails.getAnswerString(), "Modified deep copy answer");
-        assertEquals(fra.responseDetails.getAnswerString(), "Updated answer");
+        assertEquals(fra.getResponseDetails().getAnswerString(), "Updated answer");
 
     }
 
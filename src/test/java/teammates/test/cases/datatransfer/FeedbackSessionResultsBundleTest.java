@@ -1,6 +1,8 @@
 package teammates.test.cases.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +11,7 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -64,6 +67,66 @@ public class FeedbackSessionResultsBundleTest extends BaseTestCase {
         fqa = responseBundle.feedbackQuestions.get("qn3InSession1InCourse1");
         allResponses = bundle.getActualUnsortedResponses(fqa);
         assertEquals(0, allResponses.size());
+
+        ______TS("Test single response with hidden giver and recipient");
+        FeedbackResponseAttributes hiddenResponse = responseBundle.feedbackResponses.get("response1ForQ2S1C1");
+        String actualGiver = bundle.getActualGiver(hiddenResponse);
+        assertFalse(bundle.isGiverVisible(hiddenResponse));
+        assertNotEquals(actualGiver, hiddenResponse.giver);
+        assertEquals("student2InCourse1@gmail.tmt", actualGiver);
+
+        ______TS("Test responses with the same hidden recipient");
+        FeedbackResponseAttributes response2 = responseBundle.feedbackResponses.get("response2ForQ2S1C1");
+        FeedbackResponseAttributes response3 = responseBundle.feedbackResponses.get("response3ForQ2S1C1");
+        assertEquals("student2InCourse1@gmail.tmt", bundle.getActualRecipient(response2));
+        assertEquals("student2InCourse1@gmail.tmt", bundle.getActualRecipient(response3));
+        assertEquals(response2.recipient, response3.recipient);
+    }
+
+    @Test
+    public void testGetQuestionStatistics() {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackResponseAttributes response1 = responseBundle.feedbackResponses.get("response1ForQ1S1C1");
+        FeedbackResponseAttributes response2 = responseBundle.feedbackResponses.get("response2ForQ1S1C1");
+        List<FeedbackResponseAttributes> responses = Arrays.asList(response1, response2);
+        String questionId = response1.feedbackQuestionId;
+
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        visibilityTable.put(response1.getId(), new boolean[] { true, true });
+        visibilityTable.put(response2.getId(), new boolean[] { true, true });
+
+        FeedbackSessionResultsBundle bundle =
+                new FeedbackSessionResultsBundle(session, new ArrayList<>(responses),
+                        responseBundle.feedbackQuestions, new HashMap<>(), new HashMap<>(),
+                        new HashMap<>(), null, visibilityTable, null,
+                        new CourseRoster(new ArrayList<>(responseBundle.students.values()),
+                        new ArrayList<>(responseBundle.instructors.values())), null);
+
+        ______TS("stored statistics matching the responses are used");
+        FeedbackQuestionStatistics stored = FeedbackQuestionStatistics.of(responses);
+        bundle.setQuestionStatistics(Collections.singletonMap(questionId, stored));
+        assertSame(stored, bundle.getQuestionStatistics(questionId, responses));
+        assertTrue(bundle.getQuestionIdsWithOutdatedStatistics().isEmpty());
+
+        ______TS("stored statistics with the same count are trusted without recalculating them");
+        stored = FeedbackQuestionStatistics.of(Arrays.asList(response1, response1));
+        bundle.setQuestionStatistics(Collections.singletonMap(questionId, stored));
+        assertSame(stored, bundle.getQuestionStatistics(questionId, responses));
+        assertTrue(bundle.getQuestionIdsWithOutdatedStatistics().isEmpty());
+
+        ______TS("stored statistics counting more responses are outdated");
+        stored = FeedbackQuestionStatistics.of(Arrays.asList(response1, response2, response2));
+        bundle.setQuestionStatistics(Collections.singletonMap(questionId, stored));
+        assertEquals(FeedbackQuestionStatistics.of(responses), bundle.getQuestionStatistics(questionId, responses));
+        assertEquals(Collections.singletonList(questionId), bundle.getQuestionIdsWithOutdatedStatistics());
+
+        ______TS("stored statistics counting fewer responses are outdated");
+        stored = FeedbackQuestionStatistics.of(Collections.singletonList(response1));
+        bundle.setQuestionStatistics(Collections.singletonMap(questionId, stored));
+        assertEquals(FeedbackQuestionStatistics.of(responses), bundle.getQuestionStatistics(questionId, responses));
+        assertEquals(Collections.singletonList(questionId), bundle.getQuestionIdsWithOutdatedStatistics());
     }
 
     @Test
@@ -7,6 +7,7 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -379,6 +380,72 @@ public class InstructorPrivilegesTest extends BaseTestCase {
                 sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
     }
 
+    @Test
+    public void testIsAllowedForPrivilege_privilegesRemovedAfterLookup_shouldFallBack() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        String sectionId = "sectionId";
+        String sessionId = "sessionId";
+
+        privileges.updatePrivilege(sectionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS, false);
+        privileges.updatePrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS, true);
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS));
+        assertTrue(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS));
+        // course-level only privileges are not allowed in sections with special settings
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE));
+
+        privileges.removeSessionPrivileges(sectionId, sessionId);
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS));
+
+        privileges.removeSectionLevelPrivileges(sectionId);
+        assertTrue(privileges.isAllowedForPrivilege(
+                sectionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS));
+        assertTrue(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+    }
+
+    @Test
+    public void testIsAllowedForPrivilegeAnySection() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        String sectionId = "sectionId";
+        String sectionId2 = "sectionId2";
+        String sessionId = "sessionId";
+
+        ______TS("no section with special settings");
+
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+
+        ______TS("allowed in the session of one section only");
+
+        privileges.updatePrivilege(sectionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, false);
+        privileges.updatePrivilege(
+                sectionId2, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, false);
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+
+        privileges.updatePrivilege(
+                sectionId2, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, true);
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                "otherSessionId", Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+
+        ______TS("serialized privileges give the same results");
+
+        InstructorPrivileges deserializedPrivileges =
+                JsonUtils.fromJson(JsonUtils.toJson(privileges), InstructorPrivileges.class);
+        assertEquals(privileges, deserializedPrivileges);
+        assertTrue(deserializedPrivileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+    }
+
     @Test
     public void testValidatePrivileges() {
         InstructorPrivileges privileges =
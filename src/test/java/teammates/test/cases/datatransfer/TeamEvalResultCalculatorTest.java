@@ -0,0 +1,112 @@
+package teammates.test.cases.datatransfer;
+
+import static teammates.common.datatransfer.TeamEvalResult.NSB;
+import static teammates.common.datatransfer.TeamEvalResult.NSU;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.TeamEvalResultCalculator;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link TeamEvalResultCalculator}.
+ */
+public class TeamEvalResultCalculatorTest extends BaseTestCase {
+
+    // CHECKSTYLE.OFF:SingleSpaceSeparator vertical alignment of values for readability
+    @Test
+    public void testCalculate_specialValues_shouldBeSameAsTeamEvalResult() {
+        TeamEvalResultCalculator calculator = new TeamEvalResultCalculator();
+
+        verifySameAsTeamEvalResult(calculator, new int[][] {
+                { 100, 100, 100, 100 },
+                { 110, 110, 110, 110 },
+                {  90,  90,  90,  90 },
+                {  70,  80, 110, 120 },
+        });
+        verifySameAsTeamEvalResult(calculator, new int[][] {
+                { NSB, NSB, NSB, NSB },
+                { NSU, NSU, NSU, NSU },
+                { NSU, NSU, NSU, NSU },
+                { NSB, NSB, NSB, NSB },
+        });
+        verifySameAsTeamEvalResult(calculator, new int[][] {
+                {   0,   0,   0, NSU },
+                {   0,   0,   0, NSU },
+                { NSB, NSB, NSB, NSB },
+                {   0,   0, NSU, NSU },
+        });
+        verifySameAsTeamEvalResult(calculator, new int[][] {
+                {  25,  25,  75 },
+                { NSB, NSB, NSB },
+                { NSB, NSB, NSB },
+        });
+        verifySameAsTeamEvalResult(calculator, new int[][] {
+                { 100 },
+        });
+    }
+    // CHECKSTYLE.ON:SingleSpaceSeparator
+
+    @Test
+    public void testCalculate_teamsOfDifferentSizes_shouldBeSameAsTeamEvalResult() {
+        TeamEvalResultCalculator calculator = new TeamEvalResultCalculator();
+        Random random = new Random(0);
+
+        // the buffers of the calculator are reused across teams which grow and shrink
+        for (int i = 0; i < 1000; i++) {
+            verifySameAsTeamEvalResult(calculator, generateSubmissionValues(random, 1 + random.nextInt(12)));
+        }
+    }
+
+    @Test
+    public void testCalculateAll_manyTeams_shouldBeSameAsTeamEvalResultInSameOrder() {
+        Random random = new Random(0);
+        List<int[][]> teamSubmissionValues = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            teamSubmissionValues.add(generateSubmissionValues(random, 2 + random.nextInt(8)));
+        }
+
+        List<TeamEvalResult> results = TeamEvalResultCalculator.calculateAll(teamSubmissionValues);
+
+        assertEquals(teamSubmissionValues.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            verifySameResult(new TeamEvalResult(teamSubmissionValues.get(i)), results.get(i));
+        }
+
+        assertTrue(TeamEvalResultCalculator.calculateAll(new ArrayList<>()).isEmpty());
+    }
+
+    private int[][] generateSubmissionValues(Random random, int teamSize) {
+        int[][] submissionValues = new int[teamSize][teamSize];
+        for (int[] giverSubmissions : submissionValues) {
+            // some students do not submit and some are not sure of the contribution of a team member
+            boolean isSubmitted = random.nextInt(6) > 0;
+            for (int recipient = 0; recipient < teamSize; recipient++) {
+                int points = random.nextInt(8) == 0 ? NSU : random.nextInt(31) * 10;
+                giverSubmissions[recipient] = isSubmitted ? points : NSB;
+            }
+        }
+        return submissionValues;
+    }
+
+    private void verifySameAsTeamEvalResult(TeamEvalResultCalculator calculator, int[][] submissionValues) {
+        verifySameResult(new TeamEvalResult(submissionValues), calculator.calculate(submissionValues));
+    }
+
+    private void verifySameResult(TeamEvalResult expected, TeamEvalResult actual) {
+        String message = TeamEvalResult.pointsToString(expected.claimed);
+        assertTrue(message, Arrays.deepEquals(expected.claimed, actual.claimed));
+        assertTrue(message, Arrays.deepEquals(expected.normalizedClaimed, actual.normalizedClaimed));
+        assertTrue(message, Arrays.equals(expected.normalizedAveragePerceived, actual.normalizedAveragePerceived));
+        assertTrue(message, Arrays.deepEquals(expected.denormalizedAveragePerceived, actual.denormalizedAveragePerceived));
+        assertTrue(message,
+                Arrays.deepEquals(expected.normalizedPeerContributionRatio, actual.normalizedPeerContributionRatio));
+    }
+
+}
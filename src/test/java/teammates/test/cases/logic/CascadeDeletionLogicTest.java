@@ -0,0 +1,149 @@
+package teammates.test.cases.logic;
+
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
+import teammates.common.datatransfer.CascadeDeletionJobStatus.EntityKind;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.logic.core.CascadeDeletionLogic;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.EntitiesDb;
+import teammates.storage.api.StudentsDb;
+
+/**
+ * SUT: {@link CascadeDeletionLogic}.
+ */
+public class CascadeDeletionLogicTest extends BaseLogicTest {
+
+    private static final CascadeDeletionLogic cascadeDeletionLogic = CascadeDeletionLogic.inst();
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final StudentsDb studentsDb = new StudentsDb();
+
+    @Override
+    protected void prepareTestData() {
+        // test data is refreshed before each test case
+    }
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreTypicalDataBundle();
+    }
+
+    @Test
+    public void testFeedbackSessionDeletionCascade_allJobsDone_shouldDeleteSession() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session2InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        ______TS("session is being deleted until all its jobs are done");
+
+        assertFalse(cascadeDeletionLogic.isFeedbackSessionDeletionCascadeRunning(sessionName, courseId));
+
+        List<CascadeDeletionJobStatus> jobs =
+                cascadeDeletionLogic.startFeedbackSessionDeletionCascade(sessionName, courseId);
+        assertEquals(3, jobs.size());
+        assertTrue(cascadeDeletionLogic.isFeedbackSessionDeletionCascadeRunning(sessionName, courseId));
+        assertFalse(cascadeDeletionLogic.isCourseDeletionCascadeRunning(courseId));
+
+        for (CascadeDeletionJobStatus job : jobs) {
+            assertTrue(cascadeDeletionLogic.isFeedbackSessionDeletionCascadeRunning(sessionName, courseId));
+            assertTrue(cascadeDeletionLogic.runCascadeDeletionJobStep(job.getJobId()).isDone());
+        }
+
+        assertFalse(cascadeDeletionLogic.isFeedbackSessionDeletionCascadeRunning(sessionName, courseId));
+        assertNull(fsLogic.getFeedbackSessionFromRecycleBin(sessionName, courseId));
+
+        ______TS("non-existent session: no jobs are started");
+
+        assertTrue(cascadeDeletionLogic.startFeedbackSessionDeletionCascade(sessionName, courseId).isEmpty());
+        assertNull(cascadeDeletionLogic.runCascadeDeletionJobStep("non-existent-job"));
+    }
+
+    @Test
+    public void testCourseDeletionCascade_allJobsDone_shouldDeleteCourse() {
+        CourseAttributes course = dataBundle.courses.get("typicalCourse2");
+
+        List<CascadeDeletionJobStatus> jobs = cascadeDeletionLogic.startCourseDeletionCascade(course.getId());
+        assertEquals(EntityKind.values().length, jobs.size());
+        assertTrue(cascadeDeletionLogic.isCourseDeletionCascadeRunning(course.getId()));
+        assertTrue(coursesLogic.getCourse(course.getId()).isCourseDeleted());
+
+        for (CascadeDeletionJobStatus job : jobs) {
+            assertTrue(cascadeDeletionLogic.runCascadeDeletionJobStep(job.getJobId()).isDone());
+        }
+
+        assertFalse(cascadeDeletionLogic.isCourseDeletionCascadeRunning(course.getId()));
+        assertNull(coursesLogic.getCourse(course.getId()));
+        assertTrue(studentsLogic.getStudentsForCourse(course.getId()).isEmpty());
+    }
+
+    @Test
+    public void testCourseDeletionCascade_failedStep_shouldResumeFromLastCheckpoint() throws Exception {
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+        int numberOfStudents = studentsLogic.getStudentsForCourse(course.getId()).size();
+        for (int i = numberOfStudents; i <= EntitiesDb.DEFAULT_BATCH_SIZE; i++) {
+            studentsLogic.createStudent(StudentAttributes.builder(course.getId(), "extra.student" + i + "@gmail.tmt")
+                    .withName("Extra Student " + i)
+                    .withTeamName("Extra Team")
+                    .withSectionName("Extra Section")
+                    .withComment("")
+                    .build());
+        }
+
+        List<CascadeDeletionJobStatus> jobs = cascadeDeletionLogic.startCourseDeletionCascade(course.getId());
+        CascadeDeletionJobStatus studentsJob = getJob(jobs, EntityKind.STUDENTS);
+
+        ______TS("first step deletes a full batch and saves its checkpoint");
+
+        studentsJob = cascadeDeletionLogic.runCascadeDeletionJobStep(studentsJob.getJobId());
+        assertFalse(studentsJob.isDone());
+        assertNotNull(studentsJob.getCursor());
+        assertEquals(EntitiesDb.DEFAULT_BATCH_SIZE, studentsJob.getNumberOfDeletedEntities());
+        assertEquals(1, studentsLogic.getStudentsForCourse(course.getId()).size());
+
+        ______TS("failed step: the batch is deleted but its checkpoint is not saved");
+
+        studentsDb.deleteStudentsBatch(course.getId(), studentsJob.getCursor());
+        assertTrue(studentsLogic.getStudentsForCourse(course.getId()).isEmpty());
+
+        ______TS("deletion started again: unfinished jobs continue from their last checkpoint");
+
+        List<CascadeDeletionJobStatus> resumedJobs = cascadeDeletionLogic.startCourseDeletionCascade(course.getId());
+        CascadeDeletionJobStatus resumedStudentsJob = getJob(resumedJobs, EntityKind.STUDENTS);
+        assertEquals(studentsJob.getJobId(), resumedStudentsJob.getJobId());
+        assertEquals(studentsJob.getCursor(), resumedStudentsJob.getCursor());
+        assertEquals(EntitiesDb.DEFAULT_BATCH_SIZE, resumedStudentsJob.getNumberOfDeletedEntities());
+        assertTrue(cascadeDeletionLogic.isCourseDeletionCascadeRunning(course.getId()));
+
+        ______TS("retried step finds nothing more to delete and is done");
+
+        resumedStudentsJob = cascadeDeletionLogic.runCascadeDeletionJobStep(resumedStudentsJob.getJobId());
+        assertTrue(resumedStudentsJob.isDone());
+        assertNotNull(coursesLogic.getCourse(course.getId()));
+
+        for (CascadeDeletionJobStatus job : resumedJobs) {
+            cascadeDeletionLogic.runCascadeDeletionJobStep(job.getJobId());
+        }
+
+        assertFalse(cascadeDeletionLogic.isCourseDeletionCascadeRunning(course.getId()));
+        assertNull(coursesLogic.getCourse(course.getId()));
+    }
+
+    private CascadeDeletionJobStatus getJob(List<CascadeDeletionJobStatus> jobs, EntityKind entityKind) {
+        return jobs.stream()
+                .filter(job -> job.getEntityKind() == entityKind)
+                .findFirst()
+                .orElse(null);
+    }
+
+}
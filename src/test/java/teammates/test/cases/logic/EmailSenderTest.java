@@ -1,5 +1,8 @@
 package teammates.test.cases.logic;
 
+import java.util.Arrays;
+import java.util.List;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -12,6 +15,7 @@ import org.testng.annotations.Test;
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Email;
 import com.sendgrid.Mail;
+import com.sun.jersey.multipart.FormDataBodyPart;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
 import teammates.common.util.EmailWrapper;
@@ -83,6 +87,22 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.getContent().get(1).getValue());
     }
 
+    @Test
+    public void testConvertToSendgrid_multipleRecipients_shouldAddPersonalizationPerRecipient() {
+        EmailWrapper wrapper = getTypicalEmailWrapper();
+        wrapper.setBcc(null);
+        List<String> recipients = Arrays.asList("recipient1@email.com", "recipient2@email.com");
+        Mail email = new SendgridService().parseToEmail(wrapper, recipients);
+
+        assertEquals(2, email.personalization.size());
+        for (int i = 0; i < recipients.size(); i++) {
+            assertEquals(1, email.personalization.get(i).getTos().size());
+            assertEquals(recipients.get(i), email.personalization.get(i).getTos().get(0).getEmail());
+        }
+        assertEquals(wrapper.getSubject(), email.getSubject());
+        assertEquals(wrapper.getContent(), email.getContent().get(1).getValue());
+    }
+
     @Test
     public void testConvertToMailgun() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -98,6 +118,26 @@ public class EmailSenderTest extends BaseLogicTest {
         }
     }
 
+    @Test
+    public void testConvertToMailgun_multipleRecipients_shouldAddRecipientVariables() throws Exception {
+        EmailWrapper wrapper = getTypicalEmailWrapper();
+        wrapper.setBcc(null);
+        List<String> recipients = Arrays.asList("recipient1@email.com", "recipient2@email.com");
+        try (FormDataMultiPart formData = new MailgunService().parseToEmail(wrapper, recipients)) {
+
+            List<FormDataBodyPart> toFields = formData.getFields("to");
+            assertEquals(2, toFields.size());
+            assertEquals(recipients.get(0), toFields.get(0).getValue());
+            assertEquals(recipients.get(1), toFields.get(1).getValue());
+
+            JSONObject recipientVariables = new JSONObject(formData.getField("recipient-variables").getValue());
+            assertEquals(2, recipientVariables.length());
+            assertTrue(recipientVariables.has(recipients.get(0)));
+            assertTrue(recipientVariables.has(recipients.get(1)));
+            assertNull(formData.getField("bcc"));
+        }
+    }
+
     @Test
     public void testConvertToMailjet() {
         EmailWrapper wrapper = getTypicalEmailWrapper();
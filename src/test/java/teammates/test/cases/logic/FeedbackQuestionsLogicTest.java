@@ -5,11 +5,13 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -25,10 +27,13 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.FeedbackQuestionRecipientsResolver;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 
 /**
  * SUT: {@link FeedbackQuestionsLogic}.
@@ -75,6 +80,67 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
 
     }
 
+    @Test
+    public void testGetRecipientsOfQuestions_shouldBeSameAsRecipientsOfEachQuestion() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        for (String sessionKey : Arrays.asList("session1InCourse1", "session2InCourse1", "gracePeriodSession")) {
+            FeedbackSessionAttributes session = dataBundle.feedbackSessions.get(sessionKey);
+
+            ______TS("student giver in " + session.getFeedbackSessionName());
+            List<FeedbackQuestionAttributes> questions =
+                    fqLogic.getFeedbackQuestionsForStudents(session.getFeedbackSessionName(), session.getCourseId());
+            Map<String, Map<String, String>> recipients = fqLogic.getRecipientsOfQuestionsForStudent(
+                    session.getCourseId(), questions, student.email, student.team);
+
+            assertEquals(questions.size(), recipients.size());
+            for (FeedbackQuestionAttributes question : questions) {
+                assertEquals(fqLogic.getRecipientsOfQuestionForStudent(question, student.email, student.team),
+                        recipients.get(question.getId()));
+            }
+
+            ______TS("instructor giver in " + session.getFeedbackSessionName());
+            questions = fqLogic.getFeedbackQuestionsForInstructor(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+            recipients = fqLogic.getRecipientsOfQuestionsForInstructor(session.getCourseId(), questions, instructor.email);
+
+            assertEquals(questions.size(), recipients.size());
+            for (FeedbackQuestionAttributes question : questions) {
+                assertEquals(fqLogic.getRecipientsOfQuestionForInstructor(question, instructor.email),
+                        recipients.get(question.getId()));
+            }
+        }
+    }
+
+    @Test
+    public void testGetRecipientsForQuestion_giverMissingFromRoster_shouldLookUpGiver() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        FeedbackQuestionAttributes question = getQuestionFromDatastore("team.feedback");
+        List<StudentAttributes> studentsWithoutGiver = new ArrayList<>(StudentsLogic.inst()
+                .getStudentsForCourse(student.course));
+        studentsWithoutGiver.removeIf(s -> s.email.equals(student.email));
+        CourseRoster rosterWithoutGiver = new CourseRoster(studentsWithoutGiver,
+                InstructorsLogic.inst().getInstructorsForCourse(student.course));
+
+        Map<String, String> recipients = fqLogic.getRecipientsForQuestion(question, student.email,
+                new FeedbackQuestionRecipientsResolver(student.course, rosterWithoutGiver));
+
+        assertEquals(fqLogic.getRecipientsForQuestion(question, student.email), recipients);
+        assertFalse(recipients.containsKey(student.team));
+
+        ______TS("instructor giver missing from roster");
+
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        question = getQuestionFromDatastore("qn2InSession1InCourse1");
+        CourseRoster rosterWithoutInstructors = new CourseRoster(studentsWithoutGiver, new ArrayList<>());
+
+        recipients = new FeedbackQuestionRecipientsResolver(instructor.courseId, rosterWithoutInstructors)
+                .getRecipientsForInstructor(question, instructor);
+
+        assertEquals(studentsWithoutGiver.size(), recipients.size());
+    }
+
     @Test
     public void allTests() throws Exception {
         testGetRecipientsForQuestion();
@@ -485,19 +551,20 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
                 .count());
         // suppose he is in the respondents list
         fsLogic.addStudentRespondent(responseInDb.giver, responseInDb.feedbackSessionName, responseInDb.courseId);
-        FeedbackSessionAttributes correspondingSession =
-                fsLogic.getFeedbackSession(responseInDb.feedbackSessionName, responseInDb.courseId);
-        assertTrue(correspondingSession.getRespondingStudentList().contains(responseInDb.giver));
+        Set<String> instructorRespondents =
+                fsLogic.getInstructorRespondents(responseInDb.feedbackSessionName, responseInDb.courseId);
+        assertTrue(fsLogic.isStudentRespondent(
+                responseInDb.giver, responseInDb.feedbackSessionName, responseInDb.courseId));
 
         // after deletion the question
         fqLogic.deleteFeedbackQuestionCascade(responseInDb.feedbackQuestionId);
 
-        FeedbackSessionAttributes sessionAfter =
-                fsLogic.getFeedbackSession(responseInDb.feedbackSessionName, responseInDb.courseId);
         // instructor respondents will not change
-        assertEquals(correspondingSession.getRespondingInstructorList(), sessionAfter.getRespondingInstructorList());
+        assertEquals(instructorRespondents,
+                fsLogic.getInstructorRespondents(responseInDb.feedbackSessionName, responseInDb.courseId));
         // the student should not in the respondents
-        assertFalse(sessionAfter.getRespondingStudentList().contains(responseInDb.giver));
+        assertFalse(fsLogic.isStudentRespondent(
+                responseInDb.giver, responseInDb.feedbackSessionName, responseInDb.courseId));
     }
 
     @Test
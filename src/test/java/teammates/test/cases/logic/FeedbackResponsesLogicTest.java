@@ -1,8 +1,10 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -13,6 +15,7 @@ import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
 import teammates.common.datatransfer.SectionDetail;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -21,6 +24,7 @@ import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttribute
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -157,7 +161,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 .withCourseId(responseToUpdate.courseId)
                 .withGiverSection(responseToUpdate.giverSection)
                 .withRecipientSection(responseToUpdate.recipientSection)
-                .withResponseDetails(responseToUpdate.responseDetails)
+                .withResponseDetails(responseToUpdate.getResponseDetails())
                 .build();
 
         frLogic.createFeedbackResponse(existingResponse);
@@ -368,9 +372,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     }
 
     private int getResponseRate(String sessionName, String courseId) {
-        FeedbackSessionAttributes sessionFromDataStore = fsLogic.getFeedbackSession(sessionName, courseId);
-        return sessionFromDataStore.getRespondingInstructorList().size()
-                + sessionFromDataStore.getRespondingStudentList().size();
+        return fsLogic.getRespondentCount(sessionName, courseId);
     }
 
     @Test
@@ -510,7 +512,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 .withCourseId("nullCourse")
                 .withGiverSection("Section 1")
                 .withRecipientSection("Section 1")
-                .withResponseDetails(existingResponse.responseDetails)
+                .withResponseDetails(existingResponse.getResponseDetails())
                 .build();
 
         frLogic.createFeedbackResponse(newResponse);
@@ -528,6 +530,38 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals("The role of the requesting use has to be Student or Instructor", ae.getMessage());
     }
 
+    @Test
+    public void testGetViewableFeedbackResponsesForStudentForQuestions_shouldMatchDatastoreQueries() {
+        for (FeedbackSessionAttributes session : dataBundle.feedbackSessions.values()) {
+            List<FeedbackQuestionAttributes> questions =
+                    fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+            CourseRoster roster = new CourseRoster(
+                    new StudentsDb().getStudentsForCourse(session.getCourseId()),
+                    new InstructorsDb().getInstructorsForCourse(session.getCourseId()));
+            Map<String, List<FeedbackResponseAttributes>> responsesOfQuestions = frLogic
+                    .getFeedbackResponsesForSession(session.getFeedbackSessionName(), session.getCourseId()).stream()
+                    .collect(Collectors.groupingBy(FeedbackResponseAttributes::getFeedbackQuestionId));
+
+            for (StudentAttributes student : roster.getStudents()) {
+                Map<String, List<FeedbackResponseAttributes>> expected =
+                        frLogic.getViewableFeedbackResponsesForQuestionsInSection(
+                                questions, student.email, UserRole.STUDENT, null, null);
+                Map<String, List<FeedbackResponseAttributes>> actual =
+                        frLogic.getViewableFeedbackResponsesForStudentForQuestions(
+                                questions, student.email, roster, responsesOfQuestions);
+
+                assertEquals(expected.keySet(), actual.keySet());
+                for (String questionId : expected.keySet()) {
+                    assertEquals(getResponseIds(expected.get(questionId)), getResponseIds(actual.get(questionId)));
+                }
+            }
+        }
+    }
+
+    private Set<String> getResponseIds(List<FeedbackResponseAttributes> responses) {
+        return responses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toSet());
+    }
+
     @Test
     public void testIsNameVisibleTo() {
 
@@ -605,10 +639,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         FeedbackSessionAttributes session1InCourse1 = dataBundle.feedbackSessions.get("session1InCourse1");
         fsLogic.addStudentRespondent(studentToDelete.getEmail(),
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
-        assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
-                        .contains(studentToDelete.getEmail()));
+        assertTrue(fsLogic.isStudentRespondent(studentToDelete.getEmail(),
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
         // the responses also have some associated comments
         List<FeedbackResponseAttributes> remainingResponses = new ArrayList<>();
         remainingResponses.addAll(
@@ -644,10 +676,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(0, remainingComments.size());
 
         // the student is no longer in the respondents list
-        assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
-                        .contains(studentToDelete.getEmail()));
+        assertFalse(fsLogic.isStudentRespondent(studentToDelete.getEmail(),
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
     }
 
     @Test
@@ -671,6 +701,65 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(frcLogic.getFeedbackResponseCommentForResponse(fra.getId()).isEmpty());
     }
 
+    @Test
+    public void testQuestionStatistics_responsesWritten_shouldBeSameAsRebuilt() throws Exception {
+        FeedbackQuestionAttributes question = getQuestionFromDatastore(questionTypeBundle, "qn1InSession1InCourse1");
+        assertTrue(question.getQuestionDetails().isStatisticsAggregated());
+
+        ______TS("statistics of persisted data");
+
+        verifyQuestionStatisticsSameAsRebuilt(question.getId());
+
+        ______TS("update response");
+
+        FeedbackResponseAttributes response1 = getResponseFromDatastore(questionTypeBundle, "response1ForQ1S1C1");
+        FeedbackMcqResponseDetails details = (FeedbackMcqResponseDetails) response1.getResponseDetails();
+        details.setAnswer("It's perfect".equals(details.getAnswerString()) ? "It's good" : "It's perfect");
+        frLogic.updateFeedbackResponseCascade(
+                FeedbackResponseAttributes.updateOptionsBuilder(response1.getId())
+                        .withResponseDetails(details)
+                        .build());
+
+        verifyQuestionStatisticsSameAsRebuilt(question.getId());
+
+        ______TS("delete response");
+
+        FeedbackResponseAttributes response2 = getResponseFromDatastore(questionTypeBundle, "response2ForQ1S1C1");
+        frLogic.deleteFeedbackResponseCascade(response2.getId());
+
+        verifyQuestionStatisticsSameAsRebuilt(question.getId());
+
+        ______TS("create response");
+
+        frLogic.createFeedbackResponse(response2);
+
+        verifyQuestionStatisticsSameAsRebuilt(question.getId());
+
+        ______TS("delete responses involving a student");
+
+        frLogic.deleteFeedbackResponsesInvolvedStudentOfCourseCascade(response2.courseId, response2.giver);
+
+        assertNull(frLogic.getFeedbackResponse(response2.getId()));
+        verifyQuestionStatisticsSameAsRebuilt(question.getId());
+
+        ______TS("delete question responses");
+
+        frLogic.deleteFeedbackResponses(AttributesDeletionQuery.builder()
+                .withQuestionId(question.getId())
+                .build());
+
+        assertTrue(frLogic.getFeedbackQuestionStatistics(Arrays.asList(question.getId())).get(question.getId()).isEmpty());
+    }
+
+    private void verifyQuestionStatisticsSameAsRebuilt(String feedbackQuestionId) {
+        FeedbackQuestionStatistics expected =
+                FeedbackQuestionStatistics.of(frLogic.getFeedbackResponsesForQuestion(feedbackQuestionId));
+        FeedbackQuestionStatistics actual =
+                frLogic.getFeedbackQuestionStatistics(Arrays.asList(feedbackQuestionId)).get(feedbackQuestionId);
+
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testDeleteFeedbackResponses_byCourseId() {
         ______TS("standard delete");
@@ -705,19 +794,17 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 .count());
         // suppose the student is in the respondent list
         fsLogic.addStudentRespondent(fra.giver, fra.feedbackSessionName, fra.courseId);
-        assertTrue(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingStudentList().contains(fra.giver));
+        assertTrue(fsLogic.isStudentRespondent(fra.giver, fra.feedbackSessionName, fra.courseId));
 
         Set<String> instructorRespondentsBefore =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                fsLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
 
         frLogic.deleteFeedbackResponsesForQuestionCascade(fra.feedbackQuestionId);
 
         Set<String> studentRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                fsLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
         Set<String> instructorRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                fsLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
         // instructor respondents not change
         assertEquals(instructorRespondentsBefore, instructorRespondentsAfter);
         // there is no student X in student respondents
@@ -735,19 +822,17 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 .count());
         // suppose the instructor is in the respondent list
         fsLogic.addInstructorRespondent(fra.giver, fra.feedbackSessionName, fra.courseId);
-        assertTrue(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingInstructorList().contains(fra.giver));
+        assertTrue(fsLogic.isInstructorRespondent(fra.giver, fra.feedbackSessionName, fra.courseId));
 
         Set<String> studentRespondentsBefore =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                fsLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
 
         frLogic.deleteFeedbackResponsesForQuestionCascade(fra.feedbackQuestionId);
 
         Set<String> studentRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                fsLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
         Set<String> instructorRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                fsLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
         // student respondents not change
         assertEquals(studentRespondentsBefore, studentRespondentsAfter);
         // there is not instructor X in instructor respondents
@@ -770,21 +855,19 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 .count());
         // suppose the student is in the respondent list
         fsLogic.addStudentRespondent(fra.giver, fra.feedbackSessionName, fra.courseId);
-        assertTrue(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingStudentList().contains(fra.giver));
+        assertTrue(fsLogic.isStudentRespondent(fra.giver, fra.feedbackSessionName, fra.courseId));
 
         Set<String> instructorRespondentsBefore =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                fsLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
 
         // after the recipient is moved from the course
         frLogic.deleteFeedbackResponsesInvolvedStudentOfCourseCascade(
                 student2InCourse1.getCourse(), student2InCourse1.getEmail());
 
         Set<String> studentRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                fsLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
         Set<String> instructorRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                fsLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
         // instructor respondents not change
         assertEquals(instructorRespondentsBefore, instructorRespondentsAfter);
         // there is no student X in student respondents
@@ -808,21 +891,19 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 .count());
         // suppose the instructor is in the respondent list
         fsLogic.addInstructorRespondent(fra.giver, fra.feedbackSessionName, fra.courseId);
-        assertTrue(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingInstructorList().contains(fra.giver));
+        assertTrue(fsLogic.isInstructorRespondent(fra.giver, fra.feedbackSessionName, fra.courseId));
 
         Set<String> studentRespondentsBefore =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                fsLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
 
         // after the recipient is moved from the course
         frLogic.deleteFeedbackResponsesInvolvedStudentOfCourseCascade(
                 student1InCourse2.getCourse(), student1InCourse2.getEmail());
 
         Set<String> studentRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                fsLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
         Set<String> instructorRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                fsLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
         // student respondents not change
         assertEquals(studentRespondentsBefore, studentRespondentsAfter);
         // there is not instructor X in instructor respondents
@@ -974,20 +1055,18 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 .count());
         // suppose the instructor is in the respondent list
         fsLogic.addInstructorRespondent(fra.getGiver(), fra.getFeedbackSessionName(), fra.getCourseId());
-        assertTrue(
-                fsLogic.getFeedbackSession(fra.getFeedbackSessionName(), fra.getCourseId())
-                        .getRespondingInstructorList().contains(fra.getGiver()));
+        assertTrue(fsLogic.isInstructorRespondent(fra.getGiver(), fra.getFeedbackSessionName(), fra.getCourseId()));
 
         Set<String> studentRespondentsBefore =
-                fsLogic.getFeedbackSession(fra.getFeedbackSessionName(), fra.getCourseId()).getRespondingStudentList();
+                fsLogic.getStudentRespondents(fra.getFeedbackSessionName(), fra.getCourseId());
 
         // after the team's responses are deleted
         frLogic.deleteFeedbackResponsesInvolvedTeamOfCourseCascade(instructor1OfCourse2.getCourseId(), teamName);
 
         Set<String> studentRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.getFeedbackSessionName(), fra.getCourseId()).getRespondingStudentList();
+                fsLogic.getStudentRespondents(fra.getFeedbackSessionName(), fra.getCourseId());
         Set<String> instructorRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.getFeedbackSessionName(), fra.getCourseId()).getRespondingInstructorList();
+                fsLogic.getInstructorRespondents(fra.getFeedbackSessionName(), fra.getCourseId());
         // student respondents not change
         assertEquals(studentRespondentsBefore, studentRespondentsAfter);
         // there is no instructor1OfCourse2 in instructor respondents
@@ -1003,11 +1082,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         FeedbackSessionAttributes session1InCourse1 = dataBundle.feedbackSessions.get("session1InCourse1");
         fsLogic.addInstructorRespondent(instructor1OfCourse1.getEmail(),
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
-        assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
-
-                        .contains(instructor1OfCourse1.getEmail()));
+        assertTrue(fsLogic.isInstructorRespondent(instructor1OfCourse1.getEmail(),
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
 
         // the instructor has some responses
         List<FeedbackResponseAttributes> responsesForInstructors1 =
@@ -1046,10 +1122,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(0, remainingComments.size());
 
         // it should no longer be in the session respondents list
-        assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
-                        .contains(instructor1OfCourse1.getEmail()));
+        assertFalse(fsLogic.isInstructorRespondent(instructor1OfCourse1.getEmail(),
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
     }
 
     private FeedbackQuestionAttributes getQuestionFromDatastore(DataBundle dataBundle, String jsonId) {
@@ -1,5 +1,6 @@
 package teammates.test.cases.logic;
 
+import java.io.StringWriter;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -160,27 +161,19 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                 session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId());
         // they are in the same course
         assertEquals(session1InCourse1.getCourseId(), session2InCourse1.getCourseId());
-        assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
-                        .contains("test@email.com"));
-        assertTrue(
-                fsLogic.getFeedbackSession(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
-                        .getRespondingInstructorList()
-                        .contains("test@email.com"));
+        assertTrue(fsLogic.isInstructorRespondent("test@email.com",
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
+        assertTrue(fsLogic.isInstructorRespondent("test@email.com",
+                session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId()));
 
         // remove email from all respondents list
         fsLogic.deleteInstructorFromRespondentsList(session1InCourse1.getCourseId(), "test@email.com");
 
         // the email should not appear
-        assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
-                        .contains("test@email.com"));
-        assertFalse(
-                fsLogic.getFeedbackSession(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
-                        .getRespondingInstructorList()
-                        .contains("test@email.com"));
+        assertFalse(fsLogic.isInstructorRespondent("test@email.com",
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
+        assertFalse(fsLogic.isInstructorRespondent("test@email.com",
+                session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId()));
     }
 
     @Test
@@ -193,27 +186,19 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                 session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId());
         // they are in the same course
         assertEquals(session1InCourse1.getCourseId(), session2InCourse1.getCourseId());
-        assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
-                        .contains("test@email.com"));
-        assertTrue(
-                fsLogic.getFeedbackSession(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
-                        .getRespondingStudentList()
-                        .contains("test@email.com"));
+        assertTrue(fsLogic.isStudentRespondent("test@email.com",
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
+        assertTrue(fsLogic.isStudentRespondent("test@email.com",
+                session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId()));
 
         // remove email from all respondents list
         fsLogic.deleteStudentFromRespondentsList(session1InCourse1.getCourseId(), "test@email.com");
 
         // the email should not appear
-        assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
-                        .contains("test@email.com"));
-        assertFalse(
-                fsLogic.getFeedbackSession(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
-                        .getRespondingStudentList()
-                        .contains("test@email.com"));
+        assertFalse(fsLogic.isStudentRespondent("test@email.com",
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
+        assertFalse(fsLogic.isStudentRespondent("test@email.com",
+                session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId()));
     }
 
     @Test
@@ -221,19 +206,15 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         FeedbackSessionAttributes session1InCourse1 = dataBundle.feedbackSessions.get("session1InCourse1");
         fsLogic.addInstructorRespondent("test@email.com",
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
-        assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
-                        .contains("test@email.com"));
+        assertTrue(fsLogic.isInstructorRespondent("test@email.com",
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
 
         // delete the instructor from the list
         fsLogic.deleteInstructorRespondent("test@email.com",
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
 
-        assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
-                        .contains("test@email.com"));
+        assertFalse(fsLogic.isInstructorRespondent("test@email.com",
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
     }
 
     @Test
@@ -241,19 +222,15 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         FeedbackSessionAttributes session1InCourse1 = dataBundle.feedbackSessions.get("session1InCourse1");
         fsLogic.addStudentRespondent("test@email.com",
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
-        assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
-                        .contains("test@email.com"));
+        assertTrue(fsLogic.isStudentRespondent("test@email.com",
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
 
         // delete the student from the list
         fsLogic.deleteStudentFromRespondentList("test@email.com",
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
 
-        assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
-                        .contains("test@email.com"));
+        assertFalse(fsLogic.isStudentRespondent("test@email.com",
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()));
     }
 
     @Test
@@ -275,6 +252,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testGetFeedbackSessionQuestionsForStudent();
         testGetFeedbackSessionQuestionsForInstructor();
         testGetFeedbackSessionResultsForUser();
+        testWriteFeedbackSessionResultsSummaryAsCsv();
         testGetFeedbackSessionResultsSummaryAsCsv();
         testIsFeedbackSessionViewableToStudents();
 
@@ -925,6 +903,13 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                         "invalid session", "idOfTypicalCourse1", "instructor1@course1.tmt"));
         assertEquals("Trying to get a non-existent feedback session: idOfTypicalCourse1/invalid session",
                 ednee.getMessage());
+
+        ______TS("failure: non-existent instructor");
+
+        ednee = assertThrows(EntityDoesNotExistException.class,
+                () -> fsLogic.getFeedbackSessionQuestionsForInstructor(
+                        "Instructor feedback session", "idOfTypicalCourse2", "non-existent@course2.tmt"));
+        assertEquals("Error getting feedback session(s): Instructor does not exist.", ednee.getMessage());
     }
 
     private void testGetFeedbackSessionResultsForUser() throws Exception {
@@ -1266,6 +1251,58 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         //TODO: check for cases where a person is both a student and an instructor
     }
 
+    private void testWriteFeedbackSessionResultsSummaryAsCsv() throws Exception {
+
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        ______TS("typical case: write all results");
+
+        StringWriter writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, null,
+                SectionDetail.NOT_APPLICABLE, null, true, true, writer);
+
+        CsvChecker.verifyCsvContent(writer.toString(), "/feedbackSessionResultsAllResults.csv");
+
+        ______TS("typical case: write results for single question");
+
+        int questionNum = dataBundle.feedbackQuestions.get("qn2InSession1InCourse1").getQuestionNumber();
+        String questionId = fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(),
+                session.getCourseId(), questionNum).getId();
+
+        writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, null,
+                SectionDetail.NOT_APPLICABLE, questionId, true, true, writer);
+
+        CsvChecker.verifyCsvContent(writer.toString(), "/feedbackSessionResultsSingleQuestion.csv");
+
+        ______TS("typical case: written results in each section view match the in-memory export");
+
+        for (SectionDetail sectionDetail : new SectionDetail[] {
+                SectionDetail.EITHER, SectionDetail.GIVER, SectionDetail.EVALUEE, SectionDetail.BOTH }) {
+            writer = new StringWriter();
+            fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email, "Section 1",
+                    sectionDetail, null, true, true, writer);
+
+            String export = fsLogic.getFeedbackSessionResultsSummaryInSectionAsCsv(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email, "Section 1",
+                    sectionDetail, null, true, true);
+            assertEquals(export, writer.toString());
+        }
+
+        ______TS("Non-existent Course/Session");
+
+        EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
+                () -> fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                        "non.existent", "no course", instructor.email, null,
+                        SectionDetail.NOT_APPLICABLE, null, true, true, new StringWriter()));
+        assertEquals("Trying to view a non-existent feedback session: no course/non.existent",
+                ednee.getMessage());
+    }
+
     private void testGetFeedbackSessionResultsSummaryAsCsv() throws Exception {
 
         ______TS("typical case: get all results");
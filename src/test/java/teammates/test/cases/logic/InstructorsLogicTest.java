@@ -500,9 +500,11 @@ public class InstructorsLogicTest extends BaseLogicTest {
         List<FeedbackSessionAttributes> sessionsInCourse =
                 fsLogic.getFeedbackSessionsForCourse(instructorToBeUpdated.getCourseId());
         assertTrue(sessionsInCourse.stream()
-                .anyMatch(s -> s.getRespondingInstructorList().contains("new@email.tmt")));
+                .anyMatch(s -> fsLogic.isInstructorRespondent(
+                        "new@email.tmt", s.getFeedbackSessionName(), s.getCourseId())));
         assertFalse(sessionsInCourse.stream()
-                .anyMatch(s -> s.getRespondingInstructorList().contains(instructorToBeUpdated.getEmail())));
+                .anyMatch(s -> fsLogic.isInstructorRespondent(
+                        instructorToBeUpdated.getEmail(), s.getFeedbackSessionName(), s.getCourseId())));
     }
 
     private void testUpdateInstructorByGoogleIdCascade() throws Exception {
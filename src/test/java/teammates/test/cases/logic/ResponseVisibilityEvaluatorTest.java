@@ -0,0 +1,183 @@
+package teammates.test.cases.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponseCommentsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.ResponseVisibilityEvaluator;
+import teammates.logic.core.StudentsLogic;
+
+/**
+ * SUT: {@link ResponseVisibilityEvaluator}.
+ */
+public class ResponseVisibilityEvaluatorTest extends BaseLogicTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+
+    @Test
+    public void testVisibility_sameAsVisibilityOptionsOfQuestionsAndComments() {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+        CourseRoster roster = new CourseRoster(students, instructors);
+
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+        List<FeedbackResponseCommentAttributes> comments = new ArrayList<>();
+        for (FeedbackSessionAttributes session : fsLogic.getFeedbackSessionsForCourse(courseId)) {
+            for (FeedbackQuestionAttributes question
+                    : fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), courseId)) {
+                questions.put(question.getId(), question);
+            }
+            for (FeedbackResponseAttributes response
+                    : frLogic.getFeedbackResponsesForSession(session.getFeedbackSessionName(), courseId)) {
+                responses.put(response.getId(), response);
+            }
+            comments.addAll(frcLogic.getFeedbackResponseCommentForSession(courseId, session.getFeedbackSessionName()));
+        }
+        assertFalse(responses.isEmpty());
+        assertFalse(comments.isEmpty());
+
+        ______TS("names in responses");
+
+        for (StudentAttributes student : students) {
+            ResponseVisibilityEvaluator evaluator = new ResponseVisibilityEvaluator(student.email, UserRole.STUDENT,
+                    student, getTeammateEmails(student, students), null, roster);
+            verifyNameVisibility(evaluator, student.email, UserRole.STUDENT, roster, questions, responses);
+        }
+        for (InstructorAttributes instructor : instructors) {
+            ResponseVisibilityEvaluator evaluator = new ResponseVisibilityEvaluator(instructor.email, UserRole.INSTRUCTOR,
+                    null, new HashSet<>(), null, roster);
+            verifyNameVisibility(evaluator, instructor.email, UserRole.INSTRUCTOR, roster, questions, responses);
+        }
+
+        ______TS("comments with various visibility options");
+
+        List<List<FeedbackParticipantType>> visibilityOptions = Arrays.asList(
+                Arrays.asList(FeedbackParticipantType.GIVER, FeedbackParticipantType.RECEIVER),
+                Arrays.asList(FeedbackParticipantType.OWN_TEAM_MEMBERS, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS),
+                Arrays.asList(FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.STUDENTS),
+                new ArrayList<>());
+        List<FeedbackResponseCommentAttributes> commentsToCheck = new ArrayList<>(comments);
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            FeedbackResponseCommentAttributes followingQuestion = new FeedbackResponseCommentAttributes(comment);
+            followingQuestion.isVisibilityFollowingFeedbackQuestion = true;
+            commentsToCheck.add(followingQuestion);
+            for (List<FeedbackParticipantType> showTo : visibilityOptions) {
+                FeedbackResponseCommentAttributes withOptions = new FeedbackResponseCommentAttributes(comment);
+                withOptions.isVisibilityFollowingFeedbackQuestion = false;
+                withOptions.showCommentTo = new ArrayList<>(showTo);
+                withOptions.showGiverNameTo = new ArrayList<>(showTo);
+                commentsToCheck.add(withOptions);
+            }
+        }
+
+        for (StudentAttributes student : students) {
+            Set<String> teammateEmails = getTeammateEmails(student, students);
+            ResponseVisibilityEvaluator evaluator = new ResponseVisibilityEvaluator(student.email, UserRole.STUDENT,
+                    student, teammateEmails, null, roster);
+            verifyCommentVisibility(evaluator, student.email, UserRole.STUDENT, student, teammateEmails, roster,
+                    questions, responses, commentsToCheck);
+        }
+        for (InstructorAttributes instructor : instructors) {
+            ResponseVisibilityEvaluator evaluator = new ResponseVisibilityEvaluator(instructor.email, UserRole.INSTRUCTOR,
+                    null, new HashSet<>(), null, roster);
+            verifyCommentVisibility(evaluator, instructor.email, UserRole.INSTRUCTOR, null, new HashSet<>(), roster,
+                    questions, responses, commentsToCheck);
+        }
+    }
+
+    @Test
+    public void testIsResponseVisible() {
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(
+                "First feedback session", "idOfTypicalCourse1", 1);
+        FeedbackResponseAttributes response = frLogic.getFeedbackResponsesForQuestion(question.getId()).get(0);
+        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(question.courseId),
+                instructorsLogic.getInstructorsForCourse(question.courseId));
+
+        ______TS("giver can always see the response");
+
+        StudentAttributes giver = studentsLogic.getStudentForEmail(question.courseId, response.giver);
+        ResponseVisibilityEvaluator evaluator = new ResponseVisibilityEvaluator(giver.email, UserRole.STUDENT,
+                giver, getTeammateEmails(giver, roster.getStudents()), null, roster);
+        assertTrue(evaluator.isResponseVisible(question, response));
+
+        ______TS("instructors see the response only if it is shown to instructors");
+
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        evaluator = new ResponseVisibilityEvaluator(instructor.email, UserRole.INSTRUCTOR,
+                null, new HashSet<>(), instructor, roster);
+        assertEquals(question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS),
+                evaluator.isResponseVisible(question, response));
+
+        question.showResponsesTo = new ArrayList<>();
+        evaluator = new ResponseVisibilityEvaluator(instructor.email, UserRole.INSTRUCTOR,
+                null, new HashSet<>(), instructor, roster);
+        assertFalse(evaluator.isResponseVisible(question, response));
+    }
+
+    private void verifyNameVisibility(ResponseVisibilityEvaluator evaluator, String userEmail, UserRole role,
+            CourseRoster roster, Map<String, FeedbackQuestionAttributes> questions,
+            Map<String, FeedbackResponseAttributes> responses) {
+        for (FeedbackResponseAttributes response : responses.values()) {
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
+            boolean[] visibility = evaluator.getNameVisibility(question, response);
+            assertEquals(frLogic.isNameVisibleToUser(question, response, userEmail, role, true, roster),
+                    visibility[Const.VISIBILITY_TABLE_GIVER]);
+            assertEquals(frLogic.isNameVisibleToUser(question, response, userEmail, role, false, roster),
+                    visibility[Const.VISIBILITY_TABLE_RECIPIENT]);
+        }
+    }
+
+    private void verifyCommentVisibility(ResponseVisibilityEvaluator evaluator, String userEmail, UserRole role,
+            StudentAttributes student, Set<String> teammateEmails, CourseRoster roster,
+            Map<String, FeedbackQuestionAttributes> questions, Map<String, FeedbackResponseAttributes> responses,
+            List<FeedbackResponseCommentAttributes> comments) {
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            FeedbackQuestionAttributes question = questions.get(comment.feedbackQuestionId);
+            FeedbackResponseAttributes response = responses.get(comment.feedbackResponseId);
+            assertEquals(frcLogic.isResponseCommentVisibleForUser(
+                    userEmail, role, student, teammateEmails, response, question, comment),
+                    evaluator.isCommentVisible(question, response, comment));
+            assertEquals(frcLogic.isNameVisibleToUser(comment, response, userEmail, roster),
+                    evaluator.isCommentGiverNameVisible(response, comment));
+        }
+    }
+
+    private Set<String> getTeammateEmails(StudentAttributes student, List<StudentAttributes> students) {
+        Set<String> teammateEmails = new HashSet<>();
+        for (StudentAttributes otherStudent : students) {
+            if (otherStudent.team.equals(student.team)) {
+                teammateEmails.add(otherStudent.email);
+            }
+        }
+        return teammateEmails;
+    }
+
+}
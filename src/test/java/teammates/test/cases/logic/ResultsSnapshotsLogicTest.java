@@ -0,0 +1,172 @@
+package teammates.test.cases.logic;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponseCommentsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.ResultsSnapshot;
+import teammates.logic.core.ResultsSnapshotsLogic;
+import teammates.logic.core.StudentsLogic;
+
+/**
+ * SUT: {@link ResultsSnapshotsLogic}.
+ */
+public class ResultsSnapshotsLogicTest extends BaseLogicTest {
+
+    private static final ResultsSnapshotsLogic resultsSnapshotsLogic = ResultsSnapshotsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private FeedbackSessionAttributes session;
+
+    @Override
+    protected void prepareTestData() {
+        // test data is refreshed before each test case
+    }
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreTypicalDataBundle();
+        session = dataBundle.feedbackSessions.get("session1InCourse1");
+    }
+
+    @Test
+    public void testGetSnapshot_noWrites_shouldReuseSnapshot() {
+        ResultsSnapshot snapshot = getSnapshot();
+
+        assertEquals(getResponseIdsFromDatastore(), getResponseIds(snapshot));
+        assertEquals(frcLogic.getFeedbackResponseCommentForSession(session.getCourseId(),
+                session.getFeedbackSessionName()).size(), snapshot.copyComments().size());
+        assertEquals(studentsLogic.getStudentsForCourse(session.getCourseId()).size(),
+                snapshot.getRoster().getStudents().size());
+
+        assertEquals(snapshot, getSnapshot());
+    }
+
+    @Test
+    public void testGetSnapshot_writesToOtherCourse_shouldReuseSnapshot() throws Exception {
+        ResultsSnapshot snapshot = getSnapshot();
+
+        StudentAttributes student = dataBundle.students.get("student1InCourse2");
+        studentsLogic.updateStudentCascade(
+                StudentAttributes.updateOptionsBuilder(student.course, student.email)
+                        .withName("New name")
+                        .build());
+
+        assertEquals(snapshot, getSnapshot());
+    }
+
+    @Test
+    public void testGetSnapshot_responseUpdated_shouldRebuildSnapshot() throws Exception {
+        ResultsSnapshot snapshot = getSnapshot();
+
+        FeedbackResponseAttributes response = getResponseFromDatastore("response1ForQ1S1C1");
+        frLogic.updateFeedbackResponseCascade(
+                FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
+                        .withResponseDetails(new FeedbackTextResponseDetails("New answer"))
+                        .build());
+
+        ResultsSnapshot rebuiltSnapshot = getSnapshot();
+        assertNotSame(snapshot, rebuiltSnapshot);
+        FeedbackResponseAttributes rebuiltResponse = rebuiltSnapshot.getResponsesByQuestion()
+                .get(response.getFeedbackQuestionId()).stream()
+                .filter(r -> r.getId().equals(response.getId()))
+                .findFirst().get();
+        assertEquals("New answer", rebuiltResponse.getResponseDetails().getAnswerString());
+    }
+
+    @Test
+    public void testGetSnapshot_responseDeleted_shouldRebuildSnapshot() {
+        ResultsSnapshot snapshot = getSnapshot();
+
+        FeedbackResponseAttributes response = getResponseFromDatastore("response1ForQ1S1C1");
+        frLogic.deleteFeedbackResponseCascade(response.getId());
+
+        ResultsSnapshot rebuiltSnapshot = getSnapshot();
+        assertNotSame(snapshot, rebuiltSnapshot);
+        assertEquals(getResponseIdsFromDatastore(), getResponseIds(rebuiltSnapshot));
+        assertFalse(getResponseIds(rebuiltSnapshot).contains(response.getId()));
+    }
+
+    @Test
+    public void testGetSnapshot_commentDeleted_shouldRebuildSnapshot() {
+        ResultsSnapshot snapshot = getSnapshot();
+
+        List<FeedbackResponseCommentAttributes> comments = snapshot.copyComments();
+        frcLogic.deleteFeedbackResponseComment(comments.get(0).getId());
+
+        ResultsSnapshot rebuiltSnapshot = getSnapshot();
+        assertNotSame(snapshot, rebuiltSnapshot);
+        assertEquals(comments.size() - 1, rebuiltSnapshot.copyComments().size());
+    }
+
+    @Test
+    public void testGetSnapshot_studentUpdated_shouldRebuildSnapshot() throws Exception {
+        ResultsSnapshot snapshot = getSnapshot();
+
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        studentsLogic.updateStudentCascade(
+                StudentAttributes.updateOptionsBuilder(student.course, student.email)
+                        .withName("New name")
+                        .build());
+
+        ResultsSnapshot rebuiltSnapshot = getSnapshot();
+        assertNotSame(snapshot, rebuiltSnapshot);
+        assertEquals("New name", rebuiltSnapshot.getRoster().getStudentForEmail(student.email).name);
+    }
+
+    @Test
+    public void testCopyResponses_modifyCopies_shouldNotAffectSnapshot() {
+        ResultsSnapshot snapshot = getSnapshot();
+
+        List<FeedbackResponseAttributes> copies = snapshot.copyResponses(-1);
+        copies.forEach(response -> response.giver = "modified@email.tmt");
+
+        assertEquals(getResponseIdsFromDatastore(), getResponseIds(snapshot));
+        assertTrue(snapshot.getResponsesByQuestion().values().stream()
+                .flatMap(List::stream)
+                .noneMatch(response -> "modified@email.tmt".equals(response.giver)));
+
+        assertEquals(1, snapshot.copyResponses(1).size());
+    }
+
+    private ResultsSnapshot getSnapshot() {
+        return resultsSnapshotsLogic.getSnapshot(session.getFeedbackSessionName(), session.getCourseId());
+    }
+
+    private List<String> getResponseIds(ResultsSnapshot snapshot) {
+        return snapshot.getResponsesByQuestion().values().stream()
+                .flatMap(List::stream)
+                .map(FeedbackResponseAttributes::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private List<String> getResponseIdsFromDatastore() {
+        return frLogic.getFeedbackResponsesForSession(session.getFeedbackSessionName(), session.getCourseId()).stream()
+                .map(FeedbackResponseAttributes::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private FeedbackResponseAttributes getResponseFromDatastore(String jsonId) {
+        FeedbackResponseAttributes response = dataBundle.feedbackResponses.get(jsonId);
+        String questionId = fqLogic.getFeedbackQuestion(response.feedbackSessionName, response.courseId,
+                Integer.parseInt(response.feedbackQuestionId)).getId();
+        return frLogic.getFeedbackResponse(questionId, response.giver, response.recipient);
+    }
+
+}
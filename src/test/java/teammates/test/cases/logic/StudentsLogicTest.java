@@ -578,9 +578,7 @@ public class StudentsLogicTest extends BaseLogicTest {
                 .count());
         // suppose the instructor is in the respondent list
         fsLogic.addInstructorRespondent(fra.giver, fra.feedbackSessionName, fra.courseId);
-        assertTrue(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingInstructorList().contains(fra.giver));
+        assertTrue(fsLogic.isInstructorRespondent(fra.giver, fra.feedbackSessionName, fra.courseId));
 
         // after the student is moved from the course
         // team response will also be removed
@@ -589,9 +587,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         // this will delete the response to the team
         assertNull(frLogic.getFeedbackResponse(fra.getId()));
         // the instructor will be removed from the respondents list
-        assertFalse(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingInstructorList().contains(fra.giver));
+        assertFalse(fsLogic.isInstructorRespondent(fra.giver, fra.feedbackSessionName, fra.courseId));
     }
 
     @Test
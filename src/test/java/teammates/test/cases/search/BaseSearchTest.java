@@ -3,6 +3,7 @@ package teammates.test.cases.search;
 import org.testng.annotations.BeforeMethod;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.storage.api.SearchIndexOutboxDb;
 import teammates.test.cases.BaseComponentTestCase;
 
 /**
@@ -23,4 +24,11 @@ public abstract class BaseSearchTest extends BaseComponentTestCase {
         putDocuments(dataBundle);
     }
 
+    /**
+     * Rebuilds the search documents of a course which are out of date after writes in the test.
+     */
+    protected void updateOutdatedSearchDocuments(String courseId) {
+        new SearchIndexOutboxDb().updateOutdatedDocuments(courseId);
+    }
+
 }
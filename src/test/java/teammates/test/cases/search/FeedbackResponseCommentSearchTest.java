@@ -180,6 +180,12 @@ public class FeedbackResponseCommentSearchTest extends BaseSearchTest {
                         .withVisibilityFollowingFeedbackQuestion(true)
                         .build());
 
+        // the newly created comment is not searchable until the out of date documents of the course are updated
+        bundle = feedbackResponseCommentsDb.search("commentABCDE", Arrays.asList(instructor3OfCourse1));
+        assertEquals(0, bundle.numberOfResults);
+
+        updateOutdatedSearchDocuments(response1ForQ1S1C1.getCourseId());
+
         // the newly created comment is searchable
         bundle = feedbackResponseCommentsDb.search("commentABCDE", Arrays.asList(instructor3OfCourse1));
         assertEquals(1, bundle.numberOfResults);
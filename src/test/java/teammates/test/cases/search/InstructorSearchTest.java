@@ -110,6 +110,7 @@ public class InstructorSearchTest extends BaseSearchTest {
                 InstructorAttributes.updateOptionsWithEmailBuilder(assistantProf.getCourseId(), assistantProf.getEmail())
                         .withDisplayedName(assistantProf.getDisplayedName())
                         .build());
+        updateOutdatedSearchDocuments(assistantProf.getCourseId());
         results = instructorsDb.searchInstructorsInWholeSystem(displayedName);
         verifySearchResults(results, assistantProf);
 
@@ -152,6 +153,12 @@ public class InstructorSearchTest extends BaseSearchTest {
                         .withRole(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER)
                         .build());
 
+        // the newly created instructor is not searchable until the out of date documents of the course are updated
+        bundle = instructorsDb.searchInstructorsInWholeSystem("instructorABCDE");
+        assertEquals(0, bundle.numberOfResults);
+
+        updateOutdatedSearchDocuments(courseAttributes.getId());
+
         // the newly created instructor is searchable
         bundle = instructorsDb.searchInstructorsInWholeSystem("instructorABCDE");
         assertEquals(1, bundle.numberOfResults);
@@ -108,6 +108,12 @@ public class StudentSearchTest extends BaseSearchTest {
                         .withComment("")
                         .build());
 
+        // the newly created student is not searchable until the out of date documents of the course are updated
+        bundle = studentsDb.searchStudentsInWholeSystem("studentABCDE");
+        assertEquals(0, bundle.numberOfResults);
+
+        updateOutdatedSearchDocuments(courseAttributes.getId());
+
         // the newly created student is searchable
         bundle = studentsDb.searchStudentsInWholeSystem("studentABCDE");
         assertEquals(1, bundle.numberOfResults);
@@ -4,9 +4,20 @@ import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.testng.annotations.Test;
 
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.DeletionCheckpoint;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
@@ -14,6 +25,7 @@ import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.EntitiesDb;
+import teammates.storage.entity.Course;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
@@ -70,4 +82,122 @@ public class EntitiesDbTest extends BaseComponentTestCase {
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
     }
 
+    @Test
+    public void testForEachBatch() {
+        BatchingCoursesDb coursesDb = new BatchingCoursesDb();
+
+        ______TS("last batch is partial");
+        assertEquals(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6), Arrays.asList(7)),
+                coursesDb.collectBatches(IntStream.rangeClosed(1, 7).boxed(), 3));
+
+        ______TS("elements fill the batches exactly");
+        assertEquals(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6)),
+                coursesDb.collectBatches(IntStream.rangeClosed(1, 6).boxed(), 3));
+
+        ______TS("no elements");
+        assertTrue(coursesDb.collectBatches(Stream.empty(), 3).isEmpty());
+    }
+
+    @Test
+    public void testStreamEntitiesAndKeys_acrossChunks() {
+        BatchingCoursesDb coursesDb = new BatchingCoursesDb();
+        List<String> courseIds = coursesDb.createCourses("Streamed Course", 5);
+
+        ______TS("entities are fetched across chunk boundaries");
+        assertEquals(courseIds, coursesDb.streamCourseIds("Streamed Course", 2));
+
+        ______TS("keys are fetched across chunk boundaries");
+        assertEquals(courseIds, coursesDb.streamCourseKeyIds("Streamed Course", 2));
+
+        ______TS("projections are fetched across chunk boundaries, without the other properties");
+        List<Course> projections = coursesDb.streamCourseProjections("Streamed Course", 2, "timeZone");
+        assertEquals(courseIds, projections.stream().map(Course::getUniqueId).collect(Collectors.toList()));
+        projections.forEach(course -> assertNull(course.getName()));
+
+        ______TS("chunk larger than the results");
+        assertEquals(courseIds, coursesDb.streamCourseIds("Streamed Course", 10));
+
+        coursesDb.deleteCourses("Streamed Course", null);
+    }
+
+    @Test
+    public void testDeleteEntitiesInBatches_moreThanOneBatch_shouldDeleteAll() {
+        BatchingCoursesDb coursesDb = new BatchingCoursesDb();
+        coursesDb.createCourses("Batch Deleted Course", EntitiesDb.DEFAULT_BATCH_SIZE + 1);
+        List<Integer> batchSizes = new ArrayList<>();
+
+        assertEquals(EntitiesDb.DEFAULT_BATCH_SIZE + 1,
+                coursesDb.deleteCourses("Batch Deleted Course", keys -> batchSizes.add(keys.size())));
+        assertEquals(Arrays.asList(EntitiesDb.DEFAULT_BATCH_SIZE, 1), batchSizes);
+        assertTrue(coursesDb.streamCourseIds("Batch Deleted Course", 10).isEmpty());
+    }
+
+    @Test
+    public void testDeleteEntitiesBatch_moreThanOneBatch_shouldContinueFromCursor() {
+        BatchingCoursesDb coursesDb = new BatchingCoursesDb();
+        coursesDb.createCourses("Checkpointed Course", EntitiesDb.DEFAULT_BATCH_SIZE + 1);
+
+        ______TS("first batch is full and has a cursor");
+        DeletionCheckpoint checkpoint = coursesDb.deleteCoursesBatch("Checkpointed Course", null);
+        assertEquals(EntitiesDb.DEFAULT_BATCH_SIZE, checkpoint.getNumberOfDeletedEntities());
+        assertFalse(checkpoint.isDone());
+        assertEquals(1, coursesDb.streamCourseIds("Checkpointed Course", 10).size());
+
+        ______TS("last batch is partial and is done");
+        checkpoint = coursesDb.deleteCoursesBatch("Checkpointed Course", checkpoint.getCursor());
+        assertEquals(1, checkpoint.getNumberOfDeletedEntities());
+        assertTrue(checkpoint.isDone());
+        assertTrue(coursesDb.streamCourseIds("Checkpointed Course", 10).isEmpty());
+
+        ______TS("no entities left");
+        checkpoint = coursesDb.deleteCoursesBatch("Checkpointed Course", null);
+        assertEquals(0, checkpoint.getNumberOfDeletedEntities());
+        assertTrue(checkpoint.isDone());
+    }
+
+    /**
+     * Exposes the batching helpers of {@link EntitiesDb} for courses with the same name.
+     */
+    private static class BatchingCoursesDb extends CoursesDb {
+
+        List<String> createCourses(String name, int numberOfCourses) {
+            List<Course> courses = IntStream.range(0, numberOfCourses)
+                    .mapToObj(i -> new Course(String.format("%s-%04d", name.replace(' ', '-'), i), name, null, null, null))
+                    .collect(Collectors.toList());
+            saveEntities(courses);
+            return courses.stream().map(Course::getUniqueId).collect(Collectors.toList());
+        }
+
+        List<String> streamCourseIds(String name, int chunkSize) {
+            return streamEntities(queryByName(name), chunkSize).map(Course::getUniqueId).collect(Collectors.toList());
+        }
+
+        List<Course> streamCourseProjections(String name, int chunkSize, String... properties) {
+            return streamProjections(queryByName(name), chunkSize, properties).collect(Collectors.toList());
+        }
+
+        List<String> streamCourseKeyIds(String name, int chunkSize) {
+            return streamKeys(queryByName(name), chunkSize).map(Key::getName).collect(Collectors.toList());
+        }
+
+        int deleteCourses(String name, Consumer<List<Key<Course>>> beforeDeletion) {
+            return deleteEntitiesInBatches(queryByName(name), beforeDeletion);
+        }
+
+        DeletionCheckpoint deleteCoursesBatch(String name, String cursor) {
+            return deleteEntitiesBatch(queryByName(name), cursor, null);
+        }
+
+        <T> List<List<T>> collectBatches(Stream<T> elements, int batchSize) {
+            List<List<T>> batches = new ArrayList<>();
+            forEachBatch(elements, batchSize, batches::add);
+            return batches;
+        }
+
+        private Query<Course> queryByName(String name) {
+            return load().filter("name =", name);
+        }
+
+    }
+
 }
@@ -0,0 +1,116 @@
+package teammates.test.cases.storage;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.FeedbackQuestionStatistics;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link FeedbackQuestionStatisticsDb}.
+ */
+public class FeedbackQuestionStatisticsDbTest extends BaseComponentTestCase {
+
+    private static final String QUESTION_ID = "statisticsTestQuestion";
+    private static final String OTHER_QUESTION_ID = "statisticsTestOtherQuestion";
+    private static final String SESSION_NAME = "statisticsTestSession";
+    private static final String COURSE_ID = "statisticsTestCourse";
+
+    private final FeedbackQuestionStatisticsDb statisticsDb = new FeedbackQuestionStatisticsDb();
+
+    @AfterMethod
+    public void deleteStatisticsFromDb() {
+        statisticsDb.deleteStatistics(AttributesDeletionQuery.builder()
+                .withCourseId(COURSE_ID)
+                .build());
+    }
+
+    @Test
+    public void testAddToStatistics_multipleDeltas_shouldBeMerged() {
+        FeedbackResponseAttributes response1 = getMcqResponse("giver1", "A");
+        FeedbackResponseAttributes response2 = getMcqResponse("giver2", "B");
+
+        for (FeedbackResponseAttributes response : Arrays.asList(response1, response2, response1)) {
+            statisticsDb.addToStatistics(QUESTION_ID, SESSION_NAME, COURSE_ID,
+                    FeedbackQuestionStatistics.of(Arrays.asList(response)));
+        }
+        FeedbackQuestionStatistics delta = new FeedbackQuestionStatistics();
+        delta.removeResponse(response1);
+        statisticsDb.addToStatistics(QUESTION_ID, SESSION_NAME, COURSE_ID, delta);
+
+        FeedbackQuestionStatistics statistics = getStatistics(QUESTION_ID);
+        assertEquals(2, statistics.getResponseCount());
+        assertEquals(1, statistics.getCounts().get("A").intValue());
+        assertEquals(1, statistics.getCounts().get("B").intValue());
+    }
+
+    @Test
+    public void testGetStatistics_noStatistics_shouldReturnEmptyStatistics() {
+        Map<String, FeedbackQuestionStatistics> statisticsPerQuestion =
+                statisticsDb.getStatistics(Arrays.asList(QUESTION_ID, OTHER_QUESTION_ID));
+
+        assertEquals(2, statisticsPerQuestion.size());
+        assertTrue(statisticsPerQuestion.get(QUESTION_ID).isEmpty());
+        assertTrue(statisticsPerQuestion.get(OTHER_QUESTION_ID).isEmpty());
+    }
+
+    @Test
+    public void testPutStatistics_existingStatistics_shouldBeReplaced() {
+        statisticsDb.addToStatistics(QUESTION_ID, SESSION_NAME, COURSE_ID,
+                FeedbackQuestionStatistics.of(Arrays.asList(getMcqResponse("giver1", "A"))));
+
+        statisticsDb.putStatistics(QUESTION_ID, SESSION_NAME, COURSE_ID,
+                FeedbackQuestionStatistics.of(Arrays.asList(getMcqResponse("giver2", "B"))));
+
+        FeedbackQuestionStatistics statistics = getStatistics(QUESTION_ID);
+        assertEquals(1, statistics.getResponseCount());
+        assertNull(statistics.getCounts().get("A"));
+        assertEquals(1, statistics.getCounts().get("B").intValue());
+    }
+
+    @Test
+    public void testDeleteStatistics_byQuestionId_shouldOnlyDeleteStatisticsOfQuestion() {
+        statisticsDb.putStatistics(QUESTION_ID, SESSION_NAME, COURSE_ID,
+                FeedbackQuestionStatistics.of(Arrays.asList(getMcqResponse("giver1", "A"))));
+        statisticsDb.putStatistics(OTHER_QUESTION_ID, SESSION_NAME, COURSE_ID,
+                FeedbackQuestionStatistics.of(Arrays.asList(getMcqResponse("giver1", "A"))));
+
+        ______TS("query for a response should not delete any statistics");
+
+        statisticsDb.deleteStatistics(AttributesDeletionQuery.builder()
+                .withResponseId("responseId")
+                .build());
+
+        assertFalse(getStatistics(QUESTION_ID).isEmpty());
+        assertFalse(getStatistics(OTHER_QUESTION_ID).isEmpty());
+
+        ______TS("query for a question");
+
+        statisticsDb.deleteStatistics(AttributesDeletionQuery.builder()
+                .withQuestionId(QUESTION_ID)
+                .build());
+
+        assertTrue(getStatistics(QUESTION_ID).isEmpty());
+        assertFalse(getStatistics(OTHER_QUESTION_ID).isEmpty());
+    }
+
+    private FeedbackQuestionStatistics getStatistics(String feedbackQuestionId) {
+        return statisticsDb.getStatistics(Arrays.asList(feedbackQuestionId)).get(feedbackQuestionId);
+    }
+
+    private FeedbackResponseAttributes getMcqResponse(String giver, String answer) {
+        FeedbackMcqResponseDetails details = new FeedbackMcqResponseDetails();
+        details.setAnswer(answer);
+        return FeedbackResponseAttributes.builder(QUESTION_ID, giver, "recipient")
+                .withResponseDetails(details)
+                .build();
+    }
+
+}
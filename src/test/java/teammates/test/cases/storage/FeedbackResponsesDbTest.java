@@ -1,5 +1,7 @@
 package teammates.test.cases.storage;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -434,6 +436,47 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 SectionDetail.EITHER).isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForQuestionsInSection() {
+
+        ______TS("standard success case");
+
+        String questionId1 = fras.get("response1ForQ1S1C1").feedbackQuestionId;
+        String questionId2 = fras.get("response1ForQ2S1C1").feedbackQuestionId;
+
+        Map<String, List<FeedbackResponseAttributes>> responses = frDb.getFeedbackResponsesForQuestionsInSection(
+                Arrays.asList(questionId1, questionId2, "non-existent fq id"), "Section 1", SectionDetail.EITHER);
+        assertEquals(3, responses.size());
+        assertEquals(frDb.getFeedbackResponsesForQuestionInSection(questionId1, "Section 1", SectionDetail.EITHER).size(),
+                responses.get(questionId1).size());
+        assertEquals(3, responses.get(questionId2).size());
+        assertTrue(responses.get("non-existent fq id").isEmpty());
+
+        ______TS("same results as querying question by question");
+
+        for (SectionDetail sectionDetail : SectionDetail.values()) {
+            responses = frDb.getFeedbackResponsesForQuestionsInSection(
+                    Arrays.asList(questionId2), "Section 2", sectionDetail);
+            assertEquals(frDb.getFeedbackResponsesForQuestionInSection(questionId2, "Section 2", sectionDetail).size(),
+                    responses.get(questionId2).size());
+        }
+
+        ______TS("null section returns all responses");
+
+        responses = frDb.getFeedbackResponsesForQuestionsInSection(Arrays.asList(questionId2), null, null);
+        assertEquals(frDb.getFeedbackResponsesForQuestion(questionId2).size(), responses.get(questionId2).size());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesForQuestionsInSection(null, "Section 1", SectionDetail.EITHER));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesForQuestionsInSection(Arrays.asList(questionId2), "Section 1", null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
     @Test
     public void testGetFeedbackResponsesForSession() {
 
@@ -615,6 +658,37 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 questionId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesFromGiverForQuestionToRecipients() {
+
+        ______TS("standard success case");
+
+        FeedbackResponseAttributes response = fras.get("response1ForQ1S1C1");
+        String questionId = response.feedbackQuestionId;
+
+        List<FeedbackResponseAttributes> responses = frDb.getFeedbackResponsesFromGiverForQuestionToRecipients(
+                questionId, response.giver, Arrays.asList(response.recipient, "non-existent recipient"));
+
+        assertEquals(1, responses.size());
+        assertEquals(response.recipient, responses.get(0).recipient);
+
+        ______TS("no recipients");
+
+        assertTrue(frDb.getFeedbackResponsesFromGiverForQuestionToRecipients(
+                questionId, response.giver, new ArrayList<>()).isEmpty());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesFromGiverForQuestionToRecipients(questionId, response.giver, null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ______TS("non-existent feedback question");
+
+        assertTrue(frDb.getFeedbackResponsesFromGiverForQuestionToRecipients(
+                "non-existent fq id", response.giver, Arrays.asList(response.recipient)).isEmpty());
+    }
+
     @Test
     public void testGetFeedbackResponsesFromGiverForQuestionInSection() {
 
@@ -696,6 +770,62 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 courseId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponseRoutings() {
+
+        ______TS("routing fields should match the full responses");
+
+        FeedbackResponseAttributes existingResponse = fras.get("response1ForQ1S1C1");
+        String courseId = existingResponse.courseId;
+
+        verifySameRoutings(frDb.getFeedbackResponsesFromGiverForCourse(courseId, existingResponse.giver),
+                frDb.getFeedbackResponseRoutingsFromGiverForCourse(courseId, existingResponse.giver));
+        verifySameRoutings(frDb.getFeedbackResponsesForReceiverForCourse(courseId, existingResponse.recipient),
+                frDb.getFeedbackResponseRoutingsForReceiverForCourse(courseId, existingResponse.recipient));
+        verifySameRoutings(frDb.getFeedbackResponsesForQuestion(existingResponse.feedbackQuestionId),
+                frDb.getFeedbackResponseRoutingsForQuestion(existingResponse.feedbackQuestionId));
+
+        ______TS("responses loaded after their routing fields should still be complete");
+
+        FeedbackResponseAttributes response = frDb.getFeedbackResponse(
+                existingResponse.feedbackQuestionId, existingResponse.giver, existingResponse.recipient);
+        assertFalse(response.isMissingResponse());
+        assertEquals(existingResponse.getResponseDetails().getAnswerString(),
+                response.getResponseDetails().getAnswerString());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponseRoutingsFromGiverForCourse(null, existingResponse.giver));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponseRoutingsForReceiverForCourse(courseId, null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class, () -> frDb.getFeedbackResponseRoutingsForQuestion(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
+    private void verifySameRoutings(List<FeedbackResponseAttributes> expectedResponses,
+                                    List<FeedbackResponseAttributes> actualRoutings) {
+        assertFalse(expectedResponses.isEmpty());
+        assertEquals(expectedResponses.size(), actualRoutings.size());
+        FeedbackResponseAttributes.sortFeedbackResponses(expectedResponses);
+        FeedbackResponseAttributes.sortFeedbackResponses(actualRoutings);
+        for (int i = 0; i < expectedResponses.size(); i++) {
+            FeedbackResponseAttributes expected = expectedResponses.get(i);
+            FeedbackResponseAttributes actual = actualRoutings.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.courseId, actual.courseId);
+            assertEquals(expected.feedbackSessionName, actual.feedbackSessionName);
+            assertEquals(expected.feedbackQuestionId, actual.feedbackQuestionId);
+            assertEquals(expected.giver, actual.giver);
+            assertEquals(expected.recipient, actual.recipient);
+            assertTrue(actual.isMissingResponse());
+        }
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionWithinRange() {
 
@@ -869,6 +999,55 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         assertEquals(typicalResponse.getUpdatedAt(), updatedResponse.getUpdatedAt());
     }
 
+    @Test
+    public void testPutFeedbackResponses() throws Exception {
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> frDb.putFeedbackResponses(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ______TS("any invalid response, should save none of them");
+
+        FeedbackResponseAttributes existingResponse = getResponseAttributes("response3ForQ2S1C1");
+        existingResponse = frDb.getFeedbackResponse(existingResponse.feedbackQuestionId,
+                existingResponse.giver, existingResponse.recipient);
+        FeedbackResponseAttributes updatedResponse = getResponseAttributes("response3ForQ2S1C1");
+        updatedResponse.setResponseDetails(new FeedbackTextResponseDetails("Put answer text!"));
+        FeedbackResponseAttributes newResponse = getNewFeedbackResponseAttributes();
+        deleteResponse(newResponse);
+        newResponse.courseId = "invalid course id!";
+
+        List<FeedbackResponseAttributes> invalidResponses = Arrays.asList(updatedResponse, newResponse);
+        assertThrows(InvalidParametersException.class, () -> frDb.putFeedbackResponses(invalidResponses));
+        verifyAbsentInDatastore(newResponse);
+        assertEquals(existingResponse.getResponseDetails().getAnswerString(),
+                frDb.getFeedbackResponse(existingResponse.getId()).getResponseDetails().getAnswerString());
+
+        ______TS("typical case, should create new responses and update existing ones");
+
+        newResponse = getNewFeedbackResponseAttributes();
+        List<FeedbackResponseAttributes> putResponses =
+                frDb.putFeedbackResponses(Arrays.asList(updatedResponse, newResponse));
+
+        assertEquals(2, putResponses.size());
+        assertEquals(existingResponse.getId(), putResponses.get(0).getId());
+        assertEquals(existingResponse.getCreatedAt(), putResponses.get(0).getCreatedAt());
+        assertEquals("Put answer text!",
+                frDb.getFeedbackResponse(existingResponse.getId()).getResponseDetails().getAnswerString());
+        verifyPresentInDatastore(newResponse);
+
+        ______TS("unchanged responses, should not issue save request");
+
+        FeedbackResponseAttributes savedResponse = frDb.getFeedbackResponse(existingResponse.getId());
+        putResponses = frDb.putFeedbackResponses(Arrays.asList(updatedResponse));
+
+        assertEquals(JsonUtils.toJson(savedResponse), JsonUtils.toJson(putResponses.get(0)));
+        assertEquals(savedResponse.getUpdatedAt(), putResponses.get(0).getUpdatedAt());
+
+        deleteResponse(newResponse);
+    }
+
     @Test
     public void testUpdateFeedbackResponse() throws Exception {
 
@@ -983,7 +1162,7 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 .withFeedbackSessionName(result.feedbackSessionName)
                 .withGiverSection(result.giverSection)
                 .withRecipientSection(result.recipientSection)
-                .withResponseDetails(result.responseDetails)
+                .withResponseDetails(result.getResponseDetails())
                 .build();
     }
 
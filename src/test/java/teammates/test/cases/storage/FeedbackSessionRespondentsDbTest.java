@@ -0,0 +1,97 @@
+package teammates.test.cases.storage;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Sets;
+
+import teammates.storage.api.FeedbackSessionRespondentsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link FeedbackSessionRespondentsDb}.
+ */
+public class FeedbackSessionRespondentsDbTest extends BaseComponentTestCase {
+
+    private static final String SESSION_NAME = "respondentsTestSession";
+    private static final String COURSE_ID = "respondentsTestCourse";
+
+    private final FeedbackSessionRespondentsDb respondentsDb = new FeedbackSessionRespondentsDb();
+
+    @AfterMethod
+    public void deleteRespondentsFromDb() {
+        respondentsDb.deleteRespondentsForCourse(COURSE_ID);
+    }
+
+    @Test
+    public void testAddRespondent_addTwice_shouldOnlyCountOnce() {
+        assertTrue(respondentsDb.addRespondent(SESSION_NAME, COURSE_ID, "student@email.com", false));
+        assertFalse(respondentsDb.addRespondent(SESSION_NAME, COURSE_ID, "student@email.com", false));
+        assertTrue(respondentsDb.addRespondent(SESSION_NAME, COURSE_ID, "instructor@email.com", true));
+
+        assertTrue(respondentsDb.isRespondent(SESSION_NAME, COURSE_ID, "student@email.com", false));
+        assertFalse(respondentsDb.isRespondent(SESSION_NAME, COURSE_ID, "student@email.com", true));
+        assertEquals(Sets.newHashSet("student@email.com"),
+                respondentsDb.getRespondentEmails(SESSION_NAME, COURSE_ID, false));
+        assertEquals(Sets.newHashSet("instructor@email.com"),
+                respondentsDb.getRespondentEmails(SESSION_NAME, COURSE_ID, true));
+        assertEquals(2, respondentsDb.getRespondentCount(SESSION_NAME, COURSE_ID));
+    }
+
+    @Test
+    public void testRemoveRespondent_notRespondent_shouldNotChangeCount() {
+        respondentsDb.addRespondent(SESSION_NAME, COURSE_ID, "student@email.com", false);
+
+        assertFalse(respondentsDb.removeRespondent(SESSION_NAME, COURSE_ID, "other@email.com", false));
+        assertEquals(1, respondentsDb.getRespondentCount(SESSION_NAME, COURSE_ID));
+
+        assertTrue(respondentsDb.removeRespondent(SESSION_NAME, COURSE_ID, "student@email.com", false));
+        assertFalse(respondentsDb.isRespondent(SESSION_NAME, COURSE_ID, "student@email.com", false));
+        assertEquals(0, respondentsDb.getRespondentCount(SESSION_NAME, COURSE_ID));
+    }
+
+    @Test
+    public void testPutRespondents_existingRespondents_shouldBeReplaced() {
+        respondentsDb.addRespondent(SESSION_NAME, COURSE_ID, "old@email.com", false);
+
+        respondentsDb.putRespondents(SESSION_NAME, COURSE_ID,
+                Arrays.asList("student1@email.com", "student2@email.com"), Collections.singletonList("i@email.com"));
+
+        assertFalse(respondentsDb.isRespondent(SESSION_NAME, COURSE_ID, "old@email.com", false));
+        assertEquals(Sets.newHashSet("student1@email.com", "student2@email.com"),
+                respondentsDb.getRespondentEmails(SESSION_NAME, COURSE_ID, false));
+        assertEquals(3, respondentsDb.getRespondentCount(SESSION_NAME, COURSE_ID));
+    }
+
+    @Test
+    public void testUpdateRespondentEmail_respondentInCourse_shouldUpdateAllSessions() {
+        respondentsDb.addRespondent(SESSION_NAME, COURSE_ID, "old@email.com", false);
+        respondentsDb.addRespondent("otherSession", COURSE_ID, "old@email.com", false);
+
+        respondentsDb.updateRespondentEmail(COURSE_ID, "old@email.com", "new@email.com", false);
+
+        assertFalse(respondentsDb.isRespondent(SESSION_NAME, COURSE_ID, "old@email.com", false));
+        assertTrue(respondentsDb.isRespondent(SESSION_NAME, COURSE_ID, "new@email.com", false));
+        assertTrue(respondentsDb.isRespondent("otherSession", COURSE_ID, "new@email.com", false));
+        assertEquals(1, respondentsDb.getRespondentCount(SESSION_NAME, COURSE_ID));
+
+        respondentsDb.removeRespondentFromCourse(COURSE_ID, "new@email.com", false);
+
+        assertEquals(0, respondentsDb.getRespondentCount(SESSION_NAME, COURSE_ID));
+        assertEquals(0, respondentsDb.getRespondentCount("otherSession", COURSE_ID));
+    }
+
+    @Test
+    public void testDeleteRespondentsForSession_shouldResetCount() {
+        respondentsDb.addRespondent(SESSION_NAME, COURSE_ID, "student@email.com", false);
+
+        respondentsDb.deleteRespondentsForSession(SESSION_NAME, COURSE_ID);
+
+        assertTrue(respondentsDb.getRespondentEmails(SESSION_NAME, COURSE_ID, false).isEmpty());
+        assertEquals(0, respondentsDb.getRespondentCount(SESSION_NAME, COURSE_ID));
+    }
+
+}
@@ -14,8 +14,6 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
-import com.google.common.collect.Sets;
-
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -24,6 +22,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.TimeHelper;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
@@ -315,104 +314,222 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
 
     @Test
     public void testGetFeedbackSessionsPossiblyNeedingOpenEmail() throws Exception {
+        FeedbackSessionAttributes fs = getNewFeedbackSession();
+        fsDb.createEntity(fs);
 
-        ______TS("standard success case");
+        ______TS("standard success case: session opened an hour ago");
 
         List<FeedbackSessionAttributes> fsaList = fsDb.getFeedbackSessionsPossiblyNeedingOpenEmail();
 
-        assertEquals(1, fsaList.size());
+        assertTrue(isSessionInList(fs, fsaList));
         for (FeedbackSessionAttributes fsa : fsaList) {
             assertFalse(fsa.isSentOpenEmail());
             assertFalse(fsa.isSessionDeleted());
         }
 
+        ______TS("session with open email sent should not appear");
+
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withSentOpenEmail(true)
+                        .build());
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingOpenEmail()));
+
+        ______TS("session which has not opened should not appear");
+
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withSentOpenEmail(false)
+                        .withStartTime(TimeHelperExtension.getInstantHoursOffsetFromNow(1))
+                        .withEndTime(TimeHelperExtension.getInstantHoursOffsetFromNow(2))
+                        .build());
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingOpenEmail()));
+
+        ______TS("session which opened more than 2 days ago should not appear");
+
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withSessionVisibleFromTime(TimeHelper.getInstantDaysOffsetFromNow(-4))
+                        .withStartTime(TimeHelper.getInstantDaysOffsetFromNow(-3))
+                        .build());
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingOpenEmail()));
+
         ______TS("soft-deleted session should not appear");
 
-        // soft delete a feedback session now
-        FeedbackSessionAttributes feedbackSession = fsaList.get(0);
-        fsDb.softDeleteFeedbackSession(feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId());
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withStartTime(TimeHelperExtension.getInstantHoursOffsetFromNow(-1))
+                        .build());
+        assertTrue(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingOpenEmail()));
+
+        fsDb.softDeleteFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
 
-        fsaList = fsDb.getFeedbackSessionsPossiblyNeedingOpenEmail();
-        assertEquals(0, fsaList.size());
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingOpenEmail()));
+
+        ______TS("restored session should appear again");
+
+        fsDb.restoreDeletedFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+
+        assertTrue(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingOpenEmail()));
     }
 
     @Test
     public void testGetFeedbackSessionsPossiblyNeedingClosingEmail() throws Exception {
+        FeedbackSessionAttributes fs = getNewFeedbackSession();
+        fsDb.createEntity(fs);
 
-        ______TS("standard success case");
+        ______TS("standard success case: session closing within 24 hours");
 
         List<FeedbackSessionAttributes> fsaList = fsDb.getFeedbackSessionsPossiblyNeedingClosingEmail();
 
-        assertEquals(9, fsaList.size());
+        assertTrue(isSessionInList(fs, fsaList));
         for (FeedbackSessionAttributes fsa : fsaList) {
             assertFalse(fsa.isSentClosingEmail());
             assertTrue(fsa.isClosingEmailEnabled());
             assertFalse(fsa.isSessionDeleted());
         }
 
+        ______TS("session closing in more than 24 hours should not appear");
+
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withEndTime(TimeHelper.getInstantDaysOffsetFromNow(2))
+                        .build());
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingClosingEmail()));
+
+        ______TS("session with closing email disabled should not appear");
+
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withEndTime(TimeHelperExtension.getInstantHoursOffsetFromNow(1))
+                        .withIsClosingEmailEnabled(false)
+                        .build());
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingClosingEmail()));
+
         ______TS("soft-deleted session should not appear");
 
-        // soft delete a feedback session now
-        FeedbackSessionAttributes feedbackSession = fsaList.get(0);
-        fsDb.softDeleteFeedbackSession(feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId());
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withIsClosingEmailEnabled(true)
+                        .build());
+        assertTrue(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingClosingEmail()));
+
+        fsDb.softDeleteFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
 
-        fsaList = fsDb.getFeedbackSessionsPossiblyNeedingClosingEmail();
-        assertEquals(8, fsaList.size());
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingClosingEmail()));
     }
 
     @Test
     public void testGetFeedbackSessionsPossiblyNeedingClosedEmail() throws Exception {
+        FeedbackSessionAttributes fs = getNewFeedbackSession();
+        fsDb.createEntity(fs);
 
-        ______TS("standard success case");
+        ______TS("session still in grace period should not appear");
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingClosedEmail()));
+
+        ______TS("standard success case: session closed after its grace period");
+
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withSessionVisibleFromTime(TimeHelperExtension.getInstantHoursOffsetFromNow(-3))
+                        .withStartTime(TimeHelperExtension.getInstantHoursOffsetFromNow(-2))
+                        .withEndTime(TimeHelperExtension.getInstantHoursOffsetFromNow(-1))
+                        .build());
 
         List<FeedbackSessionAttributes> fsaList = fsDb.getFeedbackSessionsPossiblyNeedingClosedEmail();
 
-        assertEquals(9, fsaList.size());
+        assertTrue(isSessionInList(fs, fsaList));
         for (FeedbackSessionAttributes fsa : fsaList) {
             assertFalse(fsa.isSentClosedEmail());
             assertTrue(fsa.isClosingEmailEnabled());
             assertFalse(fsa.isSessionDeleted());
         }
 
+        ______TS("session with closed email sent should not appear");
+
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withSentClosedEmail(true)
+                        .build());
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingClosedEmail()));
+
         ______TS("soft-deleted session should not appear");
 
-        // soft delete a feedback session now
-        FeedbackSessionAttributes feedbackSession = fsaList.get(0);
-        fsDb.softDeleteFeedbackSession(feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId());
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withSentClosedEmail(false)
+                        .build());
+        assertTrue(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingClosedEmail()));
 
-        fsaList = fsDb.getFeedbackSessionsPossiblyNeedingClosedEmail();
-        assertEquals(8, fsaList.size());
+        fsDb.softDeleteFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingClosedEmail()));
     }
 
     @Test
     public void testGetFeedbackSessionsPossiblyNeedingPublishedEmail() throws Exception {
+        FeedbackSessionAttributes fs = getNewFeedbackSession();
+        fsDb.createEntity(fs);
 
-        ______TS("standard success case");
+        ______TS("session not yet published should not appear");
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingPublishedEmail()));
+
+        ______TS("standard success case: session published at a custom time");
+
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withResultsVisibleFromTime(TimeHelperExtension.getInstantMinutesOffsetFromNow(-1))
+                        .build());
 
         List<FeedbackSessionAttributes> fsaList = fsDb.getFeedbackSessionsPossiblyNeedingPublishedEmail();
 
-        assertEquals(11, fsaList.size());
+        assertTrue(isSessionInList(fs, fsaList));
         for (FeedbackSessionAttributes fsa : fsaList) {
             assertFalse(fsa.isSentPublishedEmail());
             assertTrue(fsa.isPublishedEmailEnabled());
             assertFalse(fsa.isSessionDeleted());
         }
 
+        ______TS("session published with a special time should not appear");
+
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withResultsVisibleFromTime(Const.TIME_REPRESENTS_NOW)
+                        .build());
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingPublishedEmail()));
+
         ______TS("soft-deleted session should not appear");
 
-        // soft delete a feedback session now
-        FeedbackSessionAttributes feedbackSession = fsaList.get(0);
-        fsDb.softDeleteFeedbackSession(feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId());
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withResultsVisibleFromTime(TimeHelperExtension.getInstantMinutesOffsetFromNow(-1))
+                        .build());
+        assertTrue(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingPublishedEmail()));
+
+        fsDb.softDeleteFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingPublishedEmail()));
 
-        fsaList = fsDb.getFeedbackSessionsPossiblyNeedingPublishedEmail();
-        assertEquals(10, fsaList.size());
+        ______TS("deleted session should not appear");
+
+        fsDb.restoreDeletedFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+        fsDb.deleteFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+
+        assertFalse(isSessionInList(fs, fsDb.getFeedbackSessionsPossiblyNeedingPublishedEmail()));
     }
 
     @Test
     public void testUpdateFeedbackSession_noChangeToSession_shouldNotIssueSaveRequest() throws Exception {
         FeedbackSessionAttributes fs = getNewFeedbackSession();
-        fs.setRespondingStudentList(Sets.newHashSet("student@email.com"));
-        fs.setRespondingInstructorList(Sets.newHashSet("instructor@email.com"));
         fs = fsDb.putEntity(fs);
 
         FeedbackSessionAttributes updatedFs = fsDb.updateFeedbackSession(
@@ -438,8 +555,6 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
                         .withSentPublishedEmail(fs.isSentPublishedEmail())
                         .withIsClosingEmailEnabled(fs.isClosingEmailEnabled())
                         .withIsPublishedEmailEnabled(fs.isPublishedEmailEnabled())
-                        .withAddingInstructorRespondent("instructor@email.com")
-                        .withAddingStudentRespondent("student@email.com")
                         .build());
 
         assertEquals(JsonUtils.toJson(fs), JsonUtils.toJson(updatedFs));
@@ -641,62 +756,6 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         actualFs = fsDb.getFeedbackSession(typicalFs.getCourseId(), typicalFs.getFeedbackSessionName());
         assertFalse(updatedFs.isPublishedEmailEnabled());
         assertFalse(actualFs.isPublishedEmailEnabled());
-
-        assertTrue(actualFs.getRespondingInstructorList().isEmpty());
-        updatedFs = fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes
-                        .updateOptionsBuilder(typicalFs.getFeedbackSessionName(), typicalFs.getCourseId())
-                        .withAddingInstructorRespondent("test@email.com")
-                        .build());
-        actualFs = fsDb.getFeedbackSession(typicalFs.getCourseId(), typicalFs.getFeedbackSessionName());
-        assertEquals(Sets.newHashSet("test@email.com"), updatedFs.getRespondingInstructorList());
-        assertEquals(Sets.newHashSet("test@email.com"), actualFs.getRespondingInstructorList());
-
-        assertTrue(actualFs.getRespondingStudentList().isEmpty());
-        updatedFs = fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes
-                        .updateOptionsBuilder(typicalFs.getFeedbackSessionName(), typicalFs.getCourseId())
-                        .withAddingStudentRespondent("test@email.com")
-                        .build());
-        actualFs = fsDb.getFeedbackSession(typicalFs.getCourseId(), typicalFs.getFeedbackSessionName());
-        assertEquals(Sets.newHashSet("test@email.com"), updatedFs.getRespondingStudentList());
-        assertEquals(Sets.newHashSet("test@email.com"), actualFs.getRespondingStudentList());
-
-        updatedFs = fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes
-                        .updateOptionsBuilder(typicalFs.getFeedbackSessionName(), typicalFs.getCourseId())
-                        .withUpdatingInstructorRespondent("test@email.com", "test1@email.com")
-                        .build());
-        actualFs = fsDb.getFeedbackSession(typicalFs.getCourseId(), typicalFs.getFeedbackSessionName());
-        assertEquals(Sets.newHashSet("test1@email.com"), updatedFs.getRespondingInstructorList());
-        assertEquals(Sets.newHashSet("test1@email.com"), actualFs.getRespondingInstructorList());
-
-        updatedFs = fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes
-                        .updateOptionsBuilder(typicalFs.getFeedbackSessionName(), typicalFs.getCourseId())
-                        .withUpdatingStudentRespondent("test@email.com", "test1@email.com")
-                        .build());
-        actualFs = fsDb.getFeedbackSession(typicalFs.getCourseId(), typicalFs.getFeedbackSessionName());
-        assertEquals(Sets.newHashSet("test1@email.com"), updatedFs.getRespondingStudentList());
-        assertEquals(Sets.newHashSet("test1@email.com"), actualFs.getRespondingStudentList());
-
-        updatedFs = fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes
-                        .updateOptionsBuilder(typicalFs.getFeedbackSessionName(), typicalFs.getCourseId())
-                        .withRemovingStudentRespondent("test1@email.com")
-                        .build());
-        actualFs = fsDb.getFeedbackSession(typicalFs.getCourseId(), typicalFs.getFeedbackSessionName());
-        assertTrue(updatedFs.getRespondingStudentList().isEmpty());
-        assertTrue(actualFs.getRespondingStudentList().isEmpty());
-
-        updatedFs = fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes
-                        .updateOptionsBuilder(typicalFs.getFeedbackSessionName(), typicalFs.getCourseId())
-                        .withRemovingInstructorRespondent("test1@email.com")
-                        .build());
-        actualFs = fsDb.getFeedbackSession(typicalFs.getCourseId(), typicalFs.getFeedbackSessionName());
-        assertTrue(updatedFs.getRespondingInstructorList().isEmpty());
-        assertTrue(actualFs.getRespondingInstructorList().isEmpty());
     }
 
     private FeedbackSessionAttributes getNewFeedbackSession() {
@@ -711,4 +770,9 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
                 .build();
     }
 
+    private static boolean isSessionInList(FeedbackSessionAttributes session, List<FeedbackSessionAttributes> sessions) {
+        return sessions.stream().anyMatch(s -> s.getCourseId().equals(session.getCourseId())
+                && s.getFeedbackSessionName().equals(session.getFeedbackSessionName()));
+    }
+
 }
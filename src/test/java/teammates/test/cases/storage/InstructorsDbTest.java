@@ -1,6 +1,7 @@
 package teammates.test.cases.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.BeforeMethod;
@@ -126,6 +127,28 @@ public class InstructorsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testGetInstructorsByIds() {
+
+        InstructorAttributes i1 = dataBundle.instructors.get("instructor1OfCourse1");
+        InstructorAttributes i2 = dataBundle.instructors.get("instructor2OfCourse1");
+
+        ______TS("Success: get instructors, skipping those which do not exist");
+
+        List<InstructorAttributes> retrieved = instructorsDb.getInstructorsByIds(i1.courseId,
+                Arrays.asList(i1.email, "non.existent@email.tmt", i2.email));
+        assertEquals(2, retrieved.size());
+        assertTrue(retrieved.stream().anyMatch(instructor -> instructor.email.equals(i1.email)));
+        assertTrue(retrieved.stream().anyMatch(instructor -> instructor.email.equals(i2.email)));
+
+        ______TS("Failure: null parameters");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> instructorsDb.getInstructorsByIds(null, Arrays.asList(i1.email)));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+    }
+
     @Test
     public void testGetInstructorForGoogleId() {
 
@@ -0,0 +1,99 @@
+package teammates.test.cases.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.storage.api.SearchIndexOutboxDb;
+import teammates.storage.api.StudentsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link SearchIndexOutboxDb}.
+ */
+public class SearchIndexOutboxDbTest extends BaseComponentTestCase {
+
+    private final SearchIndexOutboxDb searchIndexOutboxDb = new SearchIndexOutboxDb();
+    private final StudentsDb studentsDb = new StudentsDb();
+
+    private DataBundle dataBundle;
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreTypicalDataBundle();
+        for (String courseId : searchIndexOutboxDb.getCourseIdsWithOutdatedDocuments(Integer.MAX_VALUE)) {
+            searchIndexOutboxDb.updateOutdatedDocuments(courseId);
+        }
+    }
+
+    @Test
+    public void testMarkOutdated_sameDocumentMarkedTwice_shouldBeUpdatedOnce() {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        searchIndexOutboxDb.markOutdated(Const.SearchIndex.STUDENT, student.course,
+                Collections.singletonList(student.email));
+        searchIndexOutboxDb.markOutdated(Const.SearchIndex.STUDENT, student.course,
+                Arrays.asList(student.email, student.email));
+
+        assertEquals(Collections.singleton(student.course),
+                searchIndexOutboxDb.getCourseIdsWithOutdatedDocuments(Integer.MAX_VALUE));
+        assertEquals(1, searchIndexOutboxDb.updateOutdatedDocuments(student.course));
+
+        assertTrue(searchIndexOutboxDb.getCourseIdsWithOutdatedDocuments(Integer.MAX_VALUE).isEmpty());
+        assertEquals(0, searchIndexOutboxDb.updateOutdatedDocuments(student.course));
+    }
+
+    @Test
+    public void testUpdateOutdatedDocuments_manyEntries_shouldAllBeDeleted() {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            emails.add("outbox.student" + i + "@email.tmt");
+        }
+        emails.add(student.email);
+
+        searchIndexOutboxDb.markOutdated(Const.SearchIndex.STUDENT, student.course, emails);
+
+        assertEquals(emails.size(), searchIndexOutboxDb.updateOutdatedDocuments(student.course));
+        assertTrue(searchIndexOutboxDb.getCourseIdsWithOutdatedDocuments(Integer.MAX_VALUE).isEmpty());
+        assertEquals(1, studentsDb.searchStudentsInWholeSystem(student.email).numberOfResults);
+    }
+
+    @Test
+    public void testUpdateOutdatedDocuments_studentDeleted_shouldNotBeSearchable() {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        searchIndexOutboxDb.markOutdated(Const.SearchIndex.STUDENT, student.course,
+                Collections.singletonList(student.email));
+        studentsDb.deleteStudent(student.course, student.email);
+
+        assertEquals(1, searchIndexOutboxDb.updateOutdatedDocuments(student.course));
+        assertEquals(0, studentsDb.searchStudentsInWholeSystem(student.email).numberOfResults);
+    }
+
+    @Test
+    public void testUpdateOutdatedDocuments_documentsOfSeveralIndexes_shouldAllBeUpdated() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        studentsDb.updateStudent(StudentAttributes.updateOptionsBuilder(student.course, student.email)
+                .withName("Outbox Student")
+                .build());
+        searchIndexOutboxDb.markOutdated(Const.SearchIndex.INSTRUCTOR, student.course,
+                Collections.singletonList(dataBundle.instructors.get("instructor1OfCourse1").email));
+        searchIndexOutboxDb.markOutdated(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, student.course,
+                Collections.singletonList("-1"));
+
+        assertEquals(3, searchIndexOutboxDb.updateOutdatedDocuments(student.course));
+        assertEquals(1, studentsDb.searchStudentsInWholeSystem("\"Outbox Student\"").numberOfResults);
+        assertTrue(searchIndexOutboxDb.getCourseIdsWithOutdatedDocuments(Integer.MAX_VALUE).isEmpty());
+    }
+
+}
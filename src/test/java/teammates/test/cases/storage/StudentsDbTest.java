@@ -3,9 +3,14 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentEnrollmentResult;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -14,6 +19,7 @@ import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.StringHelper;
+import teammates.storage.api.RequestCache;
 import teammates.storage.api.StudentsDb;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
@@ -146,6 +152,12 @@ public class StudentsDbTest extends BaseComponentTestCase {
                 || studentsDb.getStudentsForCourse(s.course).get(0).isEnrollInfoSameAs(s2));
         assertTrue(studentsDb.getStudentsForTeam(s.team, s.course).get(0).isEnrollInfoSameAs(s));
 
+        ______TS("typical success case for getStudentsForEmails: non-existent students are skipped");
+        List<StudentAttributes> studentsForEmails = studentsDb.getStudentsForEmails(s.course,
+                Arrays.asList(s.email, "non-existent@email.com", s2.email));
+        assertEquals(2, studentsForEmails.size());
+        assertTrue(studentsForEmails.stream().anyMatch(student -> student.isEnrollInfoSameAs(s)));
+
         ______TS("null params case");
         AssertionError ae = assertThrows(AssertionError.class, () -> studentsDb.getStudentForEmail(null, "valid@email.com"));
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
@@ -359,6 +371,7 @@ public class StudentsDbTest extends BaseComponentTestCase {
 
         // should pass, others students remain
         assertEquals(1, studentsDb.getStudentsForCourse(s.course).size());
+        assertEquals(1, studentsDb.getNumberOfStudentsForCourse(s.course));
 
         // delete all students in a course
 
@@ -383,6 +396,7 @@ public class StudentsDbTest extends BaseComponentTestCase {
                         .build());
 
         assertEquals(0, studentsDb.getStudentsForCourse(s.course).size());
+        assertEquals(0, studentsDb.getNumberOfStudentsForCourse(s.course));
         // other course should remain
         assertEquals(1, studentsDb.getStudentsForCourse(anotherStudent.getCourse()).size());
 
@@ -400,6 +414,122 @@ public class StudentsDbTest extends BaseComponentTestCase {
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
     }
 
+    @Test
+    public void testEnrollStudents() throws Exception {
+        StudentAttributes existingStudent = createNewStudent();
+        StudentAttributes unchangedStudent = createNewStudent("unchanged@email.com");
+
+        StudentAttributes newStudent = StudentAttributes
+                .builder(existingStudent.course, "enrolled-fresh@email.com")
+                .withName("new student")
+                .withComment("")
+                .withTeamName("validTeamName")
+                .withSectionName("validSectionName")
+                .build();
+        StudentAttributes invalidStudent = newStudent.getCopy();
+        invalidStudent.email = "invalid email";
+        StudentAttributes movedStudent = existingStudent.getCopy();
+        movedStudent.team = "new team";
+        movedStudent.section = "new section";
+        studentsDb.deleteStudent(newStudent.course, newStudent.email);
+
+        ______TS("success : new, changed and unchanged students are enrolled in order, invalid ones are skipped");
+
+        StudentEnrollmentResult enrollmentResult = studentsDb.enrollStudents(existingStudent.course,
+                Arrays.asList(newStudent, invalidStudent, movedStudent, unchangedStudent));
+
+        List<StudentAttributes> enrolledStudents = enrollmentResult.getEnrolledStudents();
+        assertEquals(3, enrolledStudents.size());
+        assertTrue(enrolledStudents.get(0).isEnrollInfoSameAs(newStudent));
+        assertTrue(enrolledStudents.get(1).isEnrollInfoSameAs(movedStudent));
+        assertTrue(enrolledStudents.get(2).isEnrollInfoSameAs(unchangedStudent));
+        verifyPresentInDatastore(newStudent);
+        verifyAbsentInDatastore(invalidStudent);
+
+        StudentAttributes updatedStudent = studentsDb.getStudentForEmail(movedStudent.course, movedStudent.email);
+        assertEquals("new team", updatedStudent.team);
+        assertEquals("new section", updatedStudent.section);
+        assertEquals(existingStudent.key, updatedStudent.key);
+        assertEquals(existingStudent.getCreatedAt(), updatedStudent.getCreatedAt());
+
+        List<StudentAttributes> movedStudents = enrollmentResult.getMovedStudents();
+        assertEquals(1, movedStudents.size());
+        assertEquals(existingStudent.email, movedStudents.get(0).email);
+        assertEquals(existingStudent.team, movedStudents.get(0).team);
+        assertEquals(existingStudent.section, movedStudents.get(0).section);
+
+        ______TS("success : registered student who has just been enrolled keeps the registration details");
+
+        studentsDb.updateStudent(StudentAttributes.updateOptionsBuilder(newStudent.course, newStudent.email)
+                .withGoogleId("enrolledFreshGoogleId")
+                .build());
+        StudentAttributes registeredStudent = studentsDb.getStudentForEmail(newStudent.course, newStudent.email);
+        StudentAttributes renamedStudent = newStudent.getCopy();
+        renamedStudent.name = "renamed student";
+
+        enrollmentResult = studentsDb.enrollStudents(newStudent.course, Collections.singletonList(renamedStudent));
+        assertTrue(enrollmentResult.getMovedStudents().isEmpty());
+
+        updatedStudent = studentsDb.getStudentForEmail(newStudent.course, newStudent.email);
+        assertEquals("renamed student", updatedStudent.name);
+        assertEquals("enrolledFreshGoogleId", updatedStudent.googleId);
+        assertEquals(registeredStudent.key, updatedStudent.key);
+        assertEquals(registeredStudent.getCreatedAt(), updatedStudent.getCreatedAt());
+
+        ______TS("null params check");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> studentsDb.enrollStudents(null, Collections.emptyList()));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+        studentsDb.deleteStudent(newStudent.course, newStudent.email);
+        studentsDb.deleteStudent(unchangedStudent.course, unchangedStudent.email);
+    }
+
+    @Test
+    public void testRequestCache() throws Exception {
+        StudentAttributes s = createNewStudent();
+        RequestCache.begin();
+
+        try {
+            ______TS("cache miss then hit for the same team");
+
+            assertEquals(1, studentsDb.getStudentsForTeam(s.team, s.course).size());
+            assertEquals(0, RequestCache.getHitCount("CourseStudent"));
+            assertEquals(1, RequestCache.getMissCount("CourseStudent"));
+
+            assertEquals(1, studentsDb.getStudentsForTeam(s.team, s.course).size());
+            assertEquals(1, RequestCache.getHitCount("CourseStudent"));
+            assertEquals(1, RequestCache.getMissCount("CourseStudent"));
+
+            ______TS("non-existent student is cached as well");
+
+            assertNull(studentsDb.getStudentForEmail(s.course, "non-existent@email.com"));
+            assertNull(studentsDb.getStudentForEmail(s.course, "non-existent@email.com"));
+            assertEquals(2, RequestCache.getHitCount("CourseStudent"));
+            assertEquals(2, RequestCache.getMissCount("CourseStudent"));
+
+            ______TS("writes invalidate the cache");
+
+            studentsDb.updateStudent(
+                    StudentAttributes.updateOptionsBuilder(s.course, s.email)
+                            .withTeamName("new-team")
+                            .build());
+            assertTrue(studentsDb.getStudentsForTeam(s.team, s.course).isEmpty());
+            assertEquals(1, studentsDb.getStudentsForTeam("new-team", s.course).size());
+            assertEquals(2, RequestCache.getHitCount("CourseStudent"));
+            assertEquals(5, RequestCache.getMissCount("CourseStudent"));
+        } finally {
+            RequestCache.end();
+        }
+
+        ______TS("no caching outside of request scope");
+
+        assertFalse(RequestCache.isActive());
+        assertEquals(1, studentsDb.getStudentsForTeam("new-team", s.course).size());
+        assertEquals(0, RequestCache.getMissCount("CourseStudent"));
+    }
+
     private StudentAttributes createNewStudent() throws Exception {
         StudentAttributes s = StudentAttributes
                 .builder("valid-course", "valid@email.com")
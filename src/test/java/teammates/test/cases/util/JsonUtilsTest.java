@@ -1,5 +1,6 @@
 package teammates.test.cases.util;
 
+import java.io.StringWriter;
 import java.util.ArrayList;
 
 import org.testng.annotations.Test;
@@ -101,4 +102,24 @@ public class JsonUtilsTest extends BaseTestCase {
             fail("error detected during serializing");
         }
     }
+
+    @Test
+    public void testWriteCompactJson_typicalResponse_shouldMatchCompactString() {
+        FeedbackResponseAttributes fra =
+                FeedbackResponseAttributes.builder(
+                        "questionId", "giver@email.com", "recipient@email.com")
+                .withFeedbackSessionName("Session1")
+                .withCourseId("CS3281")
+                .withResponseDetails(new FeedbackTextResponseDetails("<b>My answer</b>"))
+                .build();
+
+        String compactString = JsonUtils.toCompactJson(fra);
+        assertFalse(compactString.contains("\n"));
+        assertTrue(compactString.contains("\"answer\":\"<b>My answer</b>\""));
+        assertEquals(JsonUtils.parse(JsonUtils.toJson(fra)), JsonUtils.parse(compactString));
+
+        StringWriter writer = new StringWriter();
+        JsonUtils.writeCompactJson(fra, writer);
+        assertEquals(compactString, writer.toString());
+    }
 }
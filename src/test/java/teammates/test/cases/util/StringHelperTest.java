@@ -88,6 +88,20 @@ public class StringHelperTest extends BaseTestCase {
         assertEquals(msg, decrptedMsg);
     }
 
+    @Test
+    public void testBulkKeyEncryption() throws InvalidParametersException {
+        List<String> msgs = Arrays.asList("Test decryption", "", "Test decryption", "Another message");
+
+        List<String> encryptedMsgs = StringHelper.encrypt(msgs);
+
+        assertEquals(msgs.size(), encryptedMsgs.size());
+        for (int i = 0; i < msgs.size(); i++) {
+            assertEquals(StringHelper.encrypt(msgs.get(i)), encryptedMsgs.get(i));
+            assertEquals(msgs.get(i), StringHelper.decrypt(encryptedMsgs.get(i)));
+        }
+        assertTrue(StringHelper.encrypt(new ArrayList<>()).isEmpty());
+    }
+
     @Test
     public void testDefaultAesCipherParams() throws Exception {
         //plaintext is less than 1 block long
@@ -130,7 +144,7 @@ public class StringHelperTest extends BaseTestCase {
     }
 
     @Test
-    public void testDecryptingInvalidCiphertextThrowsException() {
+    public void testDecryptingInvalidCiphertextThrowsException() throws InvalidParametersException {
         // The decrypt function converts a hex string into an array of bytes before decryption.
         // E.g AF is the byte 10101111
         // Hence, non-hex strings should fail to decrypt.
@@ -145,6 +159,11 @@ public class StringHelperTest extends BaseTestCase {
         for (String invalidCiphertext : invalidCiphertexts) {
             assertThrows(InvalidParametersException.class, () -> StringHelper.decrypt(invalidCiphertext));
         }
+
+        ______TS("valid ciphertext can still be decrypted after invalid ones");
+
+        String msg = "Test decryption";
+        assertEquals(msg, StringHelper.decrypt(StringHelper.encrypt(msg)));
     }
 
     @Test
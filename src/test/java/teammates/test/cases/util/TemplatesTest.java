@@ -0,0 +1,71 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link Templates}.
+ */
+public class TemplatesTest extends BaseTestCase {
+
+    @Test
+    public void testPopulateTemplate() {
+
+        ______TS("variables are replaced by their values");
+
+        assertEquals("Hello Alice, welcome to CS101!",
+                Templates.populateTemplate("Hello ${name}, welcome to ${course}!",
+                        "${name}", "Alice", "${course}", "CS101"));
+
+        ______TS("variables without a value and text which is not a variable are kept");
+
+        assertEquals("${name} costs $5 {not a variable} ${unclosed",
+                Templates.populateTemplate("${name} costs $5 {not a variable} ${unclosed",
+                        "${other}", "value"));
+        assertEquals("${a value",
+                Templates.populateTemplate("${a ${b}", "${b}", "value"));
+
+        ______TS("values are populated by later pairs only, as when replacing one pair after another");
+
+        assertEquals("<p>Join at http://join</p> http://join",
+                Templates.populateTemplate("${joinFragment} ${joinUrl}",
+                        "${joinFragment}", "<p>Join at ${joinUrl}</p>", "${joinUrl}", "http://join"));
+        assertEquals("${name} and Bob",
+                Templates.populateTemplate("${first} and ${second}",
+                        "${second}", "Bob", "${first}", "${name}"));
+        assertEquals("Alice and Alice",
+                Templates.populateTemplate("${first} and ${second}",
+                        "${first}", "${second}", "${second}", "Alice"));
+
+        ______TS("keys which are not variables are replaced one after another");
+
+        assertEquals("new.course new.course.instructor@x.tmt",
+                Templates.populateTemplate("demo.course teammates.demo.instructor@demo.course",
+                        "teammates.demo.instructor@demo.course", "new.course.instructor@x.tmt",
+                        "demo.course", "new.course"));
+
+        ______TS("templates read from files give the same result as replacing one pair after another");
+
+        String[] keyValuePairs = {
+                "${joinFragment}", EmailTemplates.FRAGMENT_STUDENT_COURSE_JOIN,
+                "${joinUrl}", "http://join",
+                "${userName}", "Alice",
+                "${courseName}", "CS101",
+                "${coOwnersEmails}", "owner@x.tmt",
+                "${supportEmail}", "support@x.tmt",
+        };
+        String expected = EmailTemplates.USER_COURSE_JOIN;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            expected = expected.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        assertEquals(expected, Templates.populateTemplate(EmailTemplates.USER_COURSE_JOIN, keyValuePairs));
+
+        StringBuilder builder = new StringBuilder("prefix ");
+        Templates.appendPopulatedTemplate(builder, EmailTemplates.USER_COURSE_JOIN, keyValuePairs);
+        assertEquals("prefix " + expected, builder.toString());
+    }
+
+}
@@ -0,0 +1,63 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.TokenBucket;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link TokenBucket}.
+ */
+public class TokenBucketTest extends BaseTestCase {
+
+    private long currentTimeMillis;
+
+    @Test
+    public void testReserve() {
+        currentTimeMillis = 0;
+        TokenBucket bucket = new TokenBucket(10, 20, () -> currentTimeMillis);
+
+        ______TS("full bucket: permits available immediately");
+
+        assertEquals(0, bucket.reserve(15, 0));
+        assertEquals(0, bucket.reserve(5, 0));
+
+        ______TS("empty bucket: wait for tokens to be added");
+
+        assertEquals(-1, bucket.reserve(1, 50));
+        assertEquals(100, bucket.reserve(1, 100));
+        assertEquals(300, bucket.reserve(2, 500));
+
+        ______TS("tokens added over time, up to the capacity");
+
+        currentTimeMillis = 300;
+        assertEquals(0, bucket.reserve(0, 0));
+        assertEquals(100, bucket.reserve(1, 100));
+
+        currentTimeMillis = 100_000;
+        assertEquals(0, bucket.reserve(20, 0));
+        assertEquals(-1, bucket.reserve(1, 0));
+    }
+
+    @Test
+    public void testGetWaitMillis() {
+        currentTimeMillis = 0;
+        TokenBucket bucket = new TokenBucket(10, 20, () -> currentTimeMillis);
+
+        ______TS("permits available: no wait");
+
+        assertEquals(0, bucket.getWaitMillis(20));
+
+        ______TS("permits not available: wait for tokens to be added, without reserving them");
+
+        assertEquals(0, bucket.reserve(20, 0));
+        assertEquals(100, bucket.getWaitMillis(1));
+        assertEquals(500, bucket.getWaitMillis(5));
+        assertEquals(100, bucket.getWaitMillis(1));
+
+        currentTimeMillis = 100;
+        assertEquals(0, bucket.getWaitMillis(1));
+        assertEquals(0, bucket.reserve(1, 0));
+    }
+
+}
@@ -3,6 +3,7 @@ package teammates.test.cases.webapi;
 import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CascadeDeletionJobStatus;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
@@ -55,7 +56,10 @@ public class DeleteCourseActionTest
 
         assertEquals(HttpStatus.SC_OK, result.getStatusCode());
         assertEquals("OK", messageOutput.getMessage());
-        assertNull(logic.getCourse(instructor1OfCourse1.courseId));
+        // the course stays in the recycle bin until its entities are deleted in the background
+        assertTrue(logic.getCourse(instructor1OfCourse1.courseId).isCourseDeleted());
+        verifySpecifiedTasksAdded(deleteCourseAction, Const.TaskQueue.CASCADE_DELETION_QUEUE_NAME,
+                CascadeDeletionJobStatus.EntityKind.values().length);
     }
 
     @Test
@@ -80,7 +84,9 @@ public class DeleteCourseActionTest
 
         assertEquals(HttpStatus.SC_OK, result.getStatusCode());
         assertEquals("OK", messageOutput.getMessage());
-        assertNull(logic.getCourse(instructor1OfCourse1.courseId));
+        assertTrue(logic.getCourse(instructor1OfCourse1.courseId).isCourseDeleted());
+        verifySpecifiedTasksAdded(deleteCourseAction, Const.TaskQueue.CASCADE_DELETION_QUEUE_NAME,
+                CascadeDeletionJobStatus.EntityKind.values().length);
     }
 
     @Override
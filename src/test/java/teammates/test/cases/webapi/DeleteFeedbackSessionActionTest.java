@@ -74,8 +74,10 @@ public class DeleteFeedbackSessionActionTest extends BaseActionTest<DeleteFeedba
         MessageOutput messageOutput = (MessageOutput) result.getOutput();
 
         assertEquals(messageOutput.getMessage(), "The feedback session is deleted.");
-        assertNull(logic.getFeedbackSessionFromRecycleBin(session.getFeedbackSessionName(), course.getId()));
+        // the session stays in the recycle bin until its entities are deleted in the background
+        assertNotNull(logic.getFeedbackSessionFromRecycleBin(session.getFeedbackSessionName(), course.getId()));
         assertNull(logic.getFeedbackSession(session.getFeedbackSessionName(), course.getId()));
+        verifySpecifiedTasksAdded(deleteFeedbackSessionAction, Const.TaskQueue.CASCADE_DELETION_QUEUE_NAME, 3);
 
         ______TS("Delete session not in recycle bin");
 
@@ -94,8 +96,9 @@ public class DeleteFeedbackSessionActionTest extends BaseActionTest<DeleteFeedba
         messageOutput = (MessageOutput) result.getOutput();
 
         assertEquals(messageOutput.getMessage(), "The feedback session is deleted.");
-        assertNull(logic.getFeedbackSessionFromRecycleBin(session2.getFeedbackSessionName(), course.getId()));
+        assertNotNull(logic.getFeedbackSessionFromRecycleBin(session2.getFeedbackSessionName(), course.getId()));
         assertNull(logic.getFeedbackSession(session2.getFeedbackSessionName(), course.getId()));
+        verifySpecifiedTasksAdded(deleteFeedbackSessionAction, Const.TaskQueue.CASCADE_DELETION_QUEUE_NAME, 3);
     }
 
     @Test
@@ -117,9 +120,11 @@ public class DeleteFeedbackSessionActionTest extends BaseActionTest<DeleteFeedba
         assertNull(logic.getFeedbackSession(session.getFeedbackSessionName(), course.getId()));
 
         // Delete again
-        // Will fail silently and not throw any exception
+        // Will continue the unfinished deletion and not throw any exception
+        deleteFeedbackSessionAction = getAction(params);
         getJsonResult(deleteFeedbackSessionAction);
         assertNull(logic.getFeedbackSession(session.getFeedbackSessionName(), course.getId()));
+        verifySpecifiedTasksAdded(deleteFeedbackSessionAction, Const.TaskQueue.CASCADE_DELETION_QUEUE_NAME, 3);
 
         ______TS("Delete session that does not exist");
 
@@ -134,6 +139,7 @@ public class DeleteFeedbackSessionActionTest extends BaseActionTest<DeleteFeedba
         // Will fail silently and not throw any exception
         getJsonResult(deleteFeedbackSessionAction);
         assertNull(logic.getFeedbackSession(session.getFeedbackSessionName(), course.getId()));
+        verifyNoTasksAdded(deleteFeedbackSessionAction);
     }
 
     @Test
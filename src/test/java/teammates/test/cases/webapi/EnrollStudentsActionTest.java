@@ -115,11 +115,19 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
         StudentsEnrollRequest req = prepareRequest(Arrays.asList(studentToUpdate));
 
         loginAsInstructor(typicalBundle.instructors.get("instructor1OfCourse1").getGoogleId());
-        List<StudentData> enrolledStudents = executeActionAndReturnResults(courseId, req);
+        String[] params = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+        };
+        EnrollStudentsAction action = getAction(req, params);
+        JsonResult result = action.execute();
+        List<StudentData> enrolledStudents = ((StudentsData) result.getOutput()).getStudents();
 
         assertEquals(1, enrolledStudents.size());
         verifyStudentInDatabase(studentToUpdate, enrolledStudents.get(0).getCourseId(), enrolledStudents.get(0).getEmail());
         verifyCorrectResponseData(req.getStudentEnrollRequests().get(0), enrolledStudents.get(0));
+
+        // responses are updated in the background
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.STUDENT_UPDATE_CASCADE_QUEUE_NAME, 1);
     }
 
     @Test
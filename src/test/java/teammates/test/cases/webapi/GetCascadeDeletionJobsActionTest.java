@@ -0,0 +1,63 @@
+package teammates.test.cases.webapi;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.ui.webapi.action.GetCascadeDeletionJobsAction;
+import teammates.ui.webapi.action.JsonResult;
+import teammates.ui.webapi.output.CascadeDeletionJobData;
+import teammates.ui.webapi.output.CascadeDeletionJobsData;
+
+/**
+ * SUT: {@link GetCascadeDeletionJobsAction}.
+ */
+public class GetCascadeDeletionJobsActionTest extends BaseActionTest<GetCascadeDeletionJobsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.CASCADE_DELETION_JOBS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() throws Exception {
+        loginAsAdmin();
+
+        ______TS("Typical case: unfinished jobs of a deleted session are shown");
+
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        logic.startFeedbackSessionDeletionCascade(session.getFeedbackSessionName(), session.getCourseId());
+
+        GetCascadeDeletionJobsAction action = getAction();
+        JsonResult result = getJsonResult(action);
+        CascadeDeletionJobsData output = (CascadeDeletionJobsData) result.getOutput();
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        // jobs started by other tests may also be shown
+        List<CascadeDeletionJobData> jobsOfSession = output.getJobs().stream()
+                .filter(job -> session.getCourseId().equals(job.getCourseId())
+                        && session.getFeedbackSessionName().equals(job.getFeedbackSessionName()))
+                .collect(Collectors.toList());
+        assertEquals(3, jobsOfSession.size());
+        for (CascadeDeletionJobData job : jobsOfSession) {
+            assertEquals(0, job.getNumberOfDeletedEntities());
+            assertFalse(job.isDone());
+        }
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        verifyOnlyAdminCanAccess();
+    }
+}
@@ -0,0 +1,213 @@
+package teammates.test.cases.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityNotFoundException;
+import teammates.common.util.Const;
+import teammates.ui.webapi.action.GetFeedbackSessionRecipientsAction;
+import teammates.ui.webapi.action.Intent;
+import teammates.ui.webapi.action.JsonResult;
+import teammates.ui.webapi.output.FeedbackQuestionRecipientsData;
+import teammates.ui.webapi.output.FeedbackSessionRecipientsData;
+
+/**
+ * SUT: {@link GetFeedbackSessionRecipientsAction}.
+ */
+public class GetFeedbackSessionRecipientsActionTest extends BaseActionTest<GetFeedbackSessionRecipientsAction> {
+
+    private FeedbackSessionAttributes firstSessionInCourse1;
+    private FeedbackSessionAttributes secondSessionInCourse1;
+    private FeedbackSessionAttributes firstSessionInCourse2;
+    private StudentAttributes student1InCourse1;
+    private InstructorAttributes instructor1OfCourse1;
+    private InstructorAttributes instructor1OfCourse2;
+
+    @Override
+    public void prepareTestData() {
+        DataBundle testData = loadDataBundle("/GetFeedbackQuestionRecipientsActionTest.json");
+        removeAndRestoreDataBundle(testData);
+        firstSessionInCourse1 = testData.feedbackSessions.get("session1InCourse1");
+        secondSessionInCourse1 = testData.feedbackSessions.get("session2InCourse1");
+        firstSessionInCourse2 = testData.feedbackSessions.get("session1InCourse2");
+        student1InCourse1 = testData.students.get("student1InCourse1");
+        instructor1OfCourse1 = testData.instructors.get("instructor1OfCourse1");
+        instructor1OfCourse2 = testData.instructors.get("instructor1OfCourse2");
+    }
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.SESSION_RECIPIENTS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    protected void testExecute() throws Exception {
+        // See independent test cases
+    }
+
+    @Test
+    public void testExecute_invalidIntent_shouldFail() {
+        ______TS("Invalid intent, should fail");
+        String[] invalidIntentParams = generateParameters(firstSessionInCourse1, Intent.FULL_DETAIL, "", "");
+        verifyHttpParameterFailure(invalidIntentParams);
+    }
+
+    @Test
+    public void testExecute_studentSubmission_shouldReturnRecipientsOfEveryQuestionForStudent() {
+        loginAsStudent(student1InCourse1.googleId);
+
+        ______TS("Questions with recipients of different types, should be same as the recipients of each question");
+        String[] params = generateParameters(secondSessionInCourse1, Intent.STUDENT_SUBMISSION, "", "");
+        FeedbackSessionRecipientsData recipients = getRecipients(params);
+
+        List<FeedbackQuestionAttributes> questions = logic.getFeedbackQuestionsForStudents(
+                secondSessionInCourse1.getFeedbackSessionName(), secondSessionInCourse1.getCourseId());
+        assertEquals(4, questions.size());
+        assertEquals(getQuestionIds(questions), new ArrayList<>(recipients.getRecipients().keySet()));
+        for (FeedbackQuestionAttributes question : questions) {
+            Map<String, String> expected = logic.getRecipientsOfQuestionForStudent(
+                    question, student1InCourse1.getEmail(), student1InCourse1.getTeam());
+            verifyFeedbackQuestionRecipientsDataEquals(new FeedbackQuestionRecipientsData(expected),
+                    recipients.getRecipients().get(question.getId()));
+        }
+
+        ______TS("Moderated student, should be same as recipients got by the student");
+        loginAsInstructor(instructor1OfCourse1.googleId);
+        String[] moderatedParams =
+                generateParameters(secondSessionInCourse1, Intent.STUDENT_SUBMISSION, student1InCourse1.email, "");
+        FeedbackSessionRecipientsData moderatedRecipients = getRecipients(moderatedParams);
+
+        List<FeedbackQuestionAttributes> moderatedQuestions = new ArrayList<>(questions);
+        moderatedQuestions.removeIf(question ->
+                !question.showResponsesTo.contains(FeedbackParticipantType.INSTRUCTORS)
+                        || !question.showGiverNameTo.contains(FeedbackParticipantType.INSTRUCTORS)
+                        || !question.showRecipientNameTo.contains(FeedbackParticipantType.INSTRUCTORS));
+        assertEquals(getQuestionIds(moderatedQuestions),
+                new ArrayList<>(moderatedRecipients.getRecipients().keySet()));
+        moderatedRecipients.getRecipients().forEach((questionId, questionRecipients) ->
+                verifyFeedbackQuestionRecipientsDataEquals(recipients.getRecipients().get(questionId),
+                        questionRecipients));
+    }
+
+    @Test
+    public void testExecute_instructorSubmission_shouldReturnRecipientsOfEveryQuestionForInstructor() {
+        loginAsInstructor(instructor1OfCourse2.googleId);
+
+        ______TS("Questions to teams and instructors, should be same as the recipients of each question");
+        String[] params = generateParameters(firstSessionInCourse2, Intent.INSTRUCTOR_SUBMISSION, "", "");
+        FeedbackSessionRecipientsData recipients = getRecipients(params);
+
+        assertEquals(2, recipients.getRecipients().size());
+        for (int questionNumber = 1; questionNumber <= 2; questionNumber++) {
+            FeedbackQuestionAttributes question = logic.getFeedbackQuestion(
+                    firstSessionInCourse2.getFeedbackSessionName(), firstSessionInCourse2.getCourseId(), questionNumber);
+            Map<String, String> expected =
+                    logic.getRecipientsOfQuestionForInstructor(question, instructor1OfCourse2.getEmail());
+            verifyFeedbackQuestionRecipientsDataEquals(new FeedbackQuestionRecipientsData(expected),
+                    recipients.getRecipients().get(question.getId()));
+        }
+
+        FeedbackQuestionAttributes instructorQuestion = logic.getFeedbackQuestion(
+                firstSessionInCourse2.getFeedbackSessionName(), firstSessionInCourse2.getCourseId(), 2);
+        FeedbackQuestionRecipientsData instructorRecipients = recipients.getRecipients().get(instructorQuestion.getId());
+        assertEquals(2, instructorRecipients.getRecipients().size());
+        assertEquals("instructor2@course2.tmt", instructorRecipients.getRecipients().get(0).getIdentifier());
+        assertEquals("instructor3@course2.tmt", instructorRecipients.getRecipients().get(1).getIdentifier());
+    }
+
+    @Test
+    @Override
+    protected void testAccessControl() throws Exception {
+
+        // Use typical bundle for testing access control because we want to make the login account consistent
+        // with "high-level" and "mid-level" access control tests, although accounts are same in two bundles
+        useTypicalDataBundle();
+
+        ______TS("Non-existent session, should fail");
+        loginAsStudent(student1InCourse1.googleId);
+        String[] nonExistentSessionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, firstSessionInCourse1.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, "non-existent session",
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString(),
+        };
+        assertThrows(EntityNotFoundException.class,
+                () -> getAction(nonExistentSessionParams).checkAccessControl());
+
+        ______TS("Student submission, should be accessible to students of the same course");
+        String[] studentSubmissionParams =
+                generateParameters(firstSessionInCourse1, Intent.STUDENT_SUBMISSION, "", "");
+        verifyAccessibleForStudentsOfTheSameCourse(studentSubmissionParams);
+
+        ______TS("Instructor submission, should be accessible to instructors of the same course");
+        String[] instructorSubmissionParams =
+                generateParameters(firstSessionInCourse1, Intent.INSTRUCTOR_SUBMISSION, "", "");
+        verifyOnlyInstructorsOfTheSameCourseCanAccess(instructorSubmissionParams);
+
+        ______TS("Instructor moderates student's submission, should be accessible if he has privilege");
+        String[] moderatedStudentSubmissionParams =
+                generateParameters(firstSessionInCourse1, Intent.STUDENT_SUBMISSION, student1InCourse1.email, "");
+        verifyAccessibleForInstructorsOfTheSameCourse(moderatedStudentSubmissionParams);
+        verifyInaccessibleWithoutModifyInstructorPrivilege(moderatedStudentSubmissionParams);
+
+        ______TS("Instructor previews student's submission, should be accessible if he has privilege");
+        String[] previewStudentSubmissionParams =
+                generateParameters(firstSessionInCourse1, Intent.STUDENT_SUBMISSION, "", student1InCourse1.email);
+        verifyAccessibleForInstructorsOfTheSameCourse(previewStudentSubmissionParams);
+        verifyInaccessibleWithoutModifyInstructorPrivilege(previewStudentSubmissionParams);
+    }
+
+    private void useTypicalDataBundle() {
+        removeAndRestoreTypicalDataBundle();
+        firstSessionInCourse1 = typicalBundle.feedbackSessions.get("session1InCourse1");
+        student1InCourse1 = typicalBundle.students.get("student1InCourse1");
+    }
+
+    private String[] generateParameters(FeedbackSessionAttributes session, Intent intent,
+                                        String moderatedPerson, String previewPerson) {
+        return new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.INTENT, intent.toString(),
+                Const.ParamsNames.FEEDBACK_SESSION_MODERATED_PERSON, moderatedPerson,
+                Const.ParamsNames.PREVIEWAS, previewPerson,
+        };
+    }
+
+    private FeedbackSessionRecipientsData getRecipients(String[] params) {
+        GetFeedbackSessionRecipientsAction action = getAction(params);
+        JsonResult result = getJsonResult(action);
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        return (FeedbackSessionRecipientsData) result.getOutput();
+    }
+
+    private List<String> getQuestionIds(List<FeedbackQuestionAttributes> questions) {
+        List<String> questionIds = new ArrayList<>();
+        questions.forEach(question -> questionIds.add(question.getId()));
+        return questionIds;
+    }
+
+    private void verifyFeedbackQuestionRecipientsDataEquals(FeedbackQuestionRecipientsData expected,
+                                                            FeedbackQuestionRecipientsData actual) {
+        assertEquals(expected.getRecipients().size(), actual.getRecipients().size());
+        for (int i = 0; i < expected.getRecipients().size(); i++) {
+            assertEquals(expected.getRecipients().get(i).getIdentifier(),
+                    actual.getRecipients().get(i).getIdentifier());
+            assertEquals(expected.getRecipients().get(i).getName(), actual.getRecipients().get(i).getName());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
 import teammates.common.util.NationalityHelper;
+import teammates.ui.webapi.action.CachePolicy;
 import teammates.ui.webapi.action.GetNationalitiesAction;
 import teammates.ui.webapi.action.JsonResult;
 import teammates.ui.webapi.output.NationalitiesData;
@@ -35,6 +36,11 @@ public class GetNationalitiesActionTest extends BaseActionTest<GetNationalitiesA
 
         assertEquals(HttpStatus.SC_OK, result.getStatusCode());
         assertEquals(NationalityHelper.getNationalities().toString(), output.getNationalities().toString());
+
+        ______TS("List of nationalities can be cached");
+
+        assertEquals(CachePolicy.MAX_AGE_ONE_DAY, action.getCachePolicy());
+        assertEquals(action.getEntityTag(), getAction().getEntityTag());
     }
 
     @Override
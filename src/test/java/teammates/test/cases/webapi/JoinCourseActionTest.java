@@ -4,9 +4,11 @@ import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
+import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.StringHelper;
+import teammates.test.driver.MockEmailSender;
 import teammates.ui.webapi.action.JoinCourseAction;
 import teammates.ui.webapi.action.JsonResult;
 
@@ -148,6 +150,31 @@ public class JoinCourseActionTest extends BaseActionTest<JoinCourseAction> {
 
         assertEquals(HttpStatus.SC_OK, r.getStatusCode());
 
+        ______TS("Normal case: email over the rate limit of the email service is scheduled for sending");
+
+        loginAsUnregistered("unreg.user2");
+
+        String otherUnregisteredStudentKey =
+                logic.getStudentForEmail("idOfUnregisteredCourse", "student2InUnregisteredCourse@gmail.tmt").key;
+
+        params = new String[] {
+                Const.ParamsNames.REGKEY, StringHelper.encrypt(otherUnregisteredStudentKey),
+                Const.ParamsNames.ENTITY_TYPE, Const.EntityType.STUDENT,
+        };
+
+        a = getAction(params);
+        a.setEmailSender(new MockEmailSender() {
+            @Override
+            public EmailSendingStatus sendEmail(EmailWrapper email) {
+                return new EmailSendingStatus(EmailSendingStatus.RATE_LIMITED_STATUS_CODE, null);
+            }
+        });
+        r = getJsonResult(a);
+
+        verifySpecifiedTasksAdded(a, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+
+        assertEquals(HttpStatus.SC_OK, r.getStatusCode());
+
         ______TS("Failure case: invalid entity type");
 
         params = new String[] {
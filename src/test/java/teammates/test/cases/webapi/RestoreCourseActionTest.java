@@ -87,6 +87,22 @@ public class RestoreCourseActionTest
 
         assertEquals(HttpStatus.SC_NOT_FOUND, result.getStatusCode());
         assertEquals(CoursesDb.ERROR_UPDATE_NON_EXISTENT, message.getMessage());
+
+        ______TS("Course being deleted permanently cannot be restored");
+
+        String idOfCourseBeingDeleted = typicalBundle.courses.get("typicalCourse2").getId();
+        logic.startCourseDeletionCascade(idOfCourseBeingDeleted);
+
+        action = getAction(new String[] {
+                Const.ParamsNames.COURSE_ID, idOfCourseBeingDeleted,
+        });
+        result = getJsonResult(action);
+        message = (MessageOutput) result.getOutput();
+
+        assertEquals(HttpStatus.SC_CONFLICT, result.getStatusCode());
+        assertEquals("The course " + idOfCourseBeingDeleted + " is being deleted permanently and cannot be restored.",
+                message.getMessage());
+        assertTrue(logic.getCourse(idOfCourseBeingDeleted).isCourseDeleted());
     }
 
     @Override
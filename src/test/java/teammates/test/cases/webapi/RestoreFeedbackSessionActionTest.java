@@ -1,9 +1,14 @@
 package teammates.test.cases.webapi;
 
+import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
+import teammates.ui.webapi.action.JsonResult;
 import teammates.ui.webapi.action.RestoreFeedbackSessionAction;
+import teammates.ui.webapi.output.FeedbackSessionData;
+import teammates.ui.webapi.output.MessageOutput;
 
 /**
  * SUT: {@link RestoreFeedbackSessionAction}.
@@ -23,7 +28,52 @@ public class RestoreFeedbackSessionActionTest extends BaseActionTest<RestoreFeed
     @Test
     @Override
     protected void testExecute() throws Exception {
-        // TODO
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+        String[] params = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, sessionName,
+        };
+
+        ______TS("Typical case, restore a session from the recycle bin");
+
+        logic.moveFeedbackSessionToRecycleBin(sessionName, courseId);
+
+        RestoreFeedbackSessionAction action = getAction(params);
+        JsonResult result = getJsonResult(action);
+        FeedbackSessionData output = (FeedbackSessionData) result.getOutput();
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        assertEquals(sessionName, output.getFeedbackSessionName());
+        assertNotNull(logic.getFeedbackSession(sessionName, courseId));
+        assertNull(logic.getFeedbackSessionFromRecycleBin(sessionName, courseId));
+
+        ______TS("Session being deleted permanently cannot be restored");
+
+        logic.startFeedbackSessionDeletionCascade(sessionName, courseId);
+
+        action = getAction(params);
+        result = getJsonResult(action);
+        MessageOutput message = (MessageOutput) result.getOutput();
+
+        assertEquals(HttpStatus.SC_CONFLICT, result.getStatusCode());
+        assertEquals("The feedback session is being deleted permanently and cannot be restored.", message.getMessage());
+        assertNotNull(logic.getFeedbackSessionFromRecycleBin(sessionName, courseId));
+
+        ______TS("Session of a course being deleted permanently cannot be restored");
+
+        FeedbackSessionAttributes sessionInCourse2 = typicalBundle.feedbackSessions.get("session1InCourse2");
+        logic.moveFeedbackSessionToRecycleBin(sessionInCourse2.getFeedbackSessionName(), sessionInCourse2.getCourseId());
+        logic.startCourseDeletionCascade(sessionInCourse2.getCourseId());
+
+        action = getAction(new String[] {
+                Const.ParamsNames.COURSE_ID, sessionInCourse2.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, sessionInCourse2.getFeedbackSessionName(),
+        });
+        result = getJsonResult(action);
+
+        assertEquals(HttpStatus.SC_CONFLICT, result.getStatusCode());
     }
 
     @Test
@@ -0,0 +1,253 @@
+package teammates.test.cases.webapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackRankRecipientsQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRankRecipientsResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.exception.EntityNotFoundException;
+import teammates.common.exception.InvalidHttpRequestBodyException;
+import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.Const;
+import teammates.test.driver.AssertHelper;
+import teammates.ui.webapi.action.Intent;
+import teammates.ui.webapi.action.JsonResult;
+import teammates.ui.webapi.action.SubmitFeedbackResponsesAction;
+import teammates.ui.webapi.output.FeedbackResponsesData;
+import teammates.ui.webapi.request.FeedbackResponseBasicRequest;
+import teammates.ui.webapi.request.FeedbackResponsesRequest;
+
+/**
+ * SUT: {@link SubmitFeedbackResponsesAction}.
+ */
+public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeedbackResponsesAction> {
+
+    private FeedbackSessionAttributes session1InCourse1;
+    private FeedbackQuestionAttributes qn1InSession1InCourse1;
+    private FeedbackQuestionAttributes qn2InSession1InCourse1;
+    private FeedbackQuestionAttributes qn1InClosedSessionInCourse1;
+    private StudentAttributes student1InCourse1;
+    private StudentAttributes student2InCourse1;
+    private StudentAttributes student3InCourse1;
+    private StudentAttributes student5InCourse1;
+    private InstructorAttributes instructor1OfCourse1;
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.RESPONSES;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return PUT;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        removeAndRestoreTypicalDataBundle();
+        session1InCourse1 = typicalBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackSessionAttributes closedSession = typicalBundle.feedbackSessions.get("closedSession");
+        qn1InSession1InCourse1 = logic.getFeedbackQuestion(
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId(), 1);
+        qn2InSession1InCourse1 = logic.getFeedbackQuestion(
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId(), 2);
+        qn1InClosedSessionInCourse1 = logic.getFeedbackQuestion(
+                closedSession.getFeedbackSessionName(), closedSession.getCourseId(), 1);
+        student1InCourse1 = typicalBundle.students.get("student1InCourse1");
+        student2InCourse1 = typicalBundle.students.get("student2InCourse1");
+        student3InCourse1 = typicalBundle.students.get("student3InCourse1");
+        student5InCourse1 = typicalBundle.students.get("student5InCourse1");
+        instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+    }
+
+    @Test
+    @Override
+    protected void testExecute() throws Exception {
+
+        ______TS("not enough attributes");
+        verifyHttpParameterFailure();
+        verifyHttpParameterFailure(Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString());
+        verifyHttpParameterFailure(Const.ParamsNames.FEEDBACK_QUESTION_ID, qn2InSession1InCourse1.getId());
+
+        ______TS("typical case, responses replace all existing responses of the giver to the question");
+        loginAsStudent(student2InCourse1.getGoogleId());
+        String[] params = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, qn2InSession1InCourse1.getId(),
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString(),
+        };
+        assertNotNull(logic.getFeedbackResponse(qn2InSession1InCourse1.getId(),
+                student2InCourse1.getEmail(), student5InCourse1.getEmail()));
+
+        FeedbackResponsesRequest submitRequest = getResponsesRequest(
+                getTextResponseRequest(student1InCourse1.getEmail(), "To student 1"),
+                getTextResponseRequest(student3InCourse1.getEmail(), "To student 3"));
+        SubmitFeedbackResponsesAction action = getAction(submitRequest, params);
+        JsonResult result = getJsonResult(action);
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        FeedbackResponsesData data = (FeedbackResponsesData) result.getOutput();
+        assertEquals(2, data.getResponses().size());
+        assertEquals(student1InCourse1.getEmail(), data.getResponses().get(0).getRecipientIdentifier());
+        assertEquals("To student 1", data.getResponses().get(0).getResponseDetails().getAnswerString());
+        assertEquals(student3InCourse1.getEmail(), data.getResponses().get(1).getRecipientIdentifier());
+        assertEquals("To student 3", data.getResponses().get(1).getResponseDetails().getAnswerString());
+
+        assertEquals(2, logic.getFeedbackResponsesFromStudentOrTeamForQuestion(
+                qn2InSession1InCourse1, student2InCourse1).size());
+        assertNull(logic.getFeedbackResponse(qn2InSession1InCourse1.getId(),
+                student2InCourse1.getEmail(), student5InCourse1.getEmail()));
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_QUEUE_NAME, 1);
+
+        ______TS("updated response, should keep the same ID");
+        submitRequest = getResponsesRequest(getTextResponseRequest(student1InCourse1.getEmail(), "Updated"));
+        data = (FeedbackResponsesData) getJsonResult(getAction(submitRequest, params)).getOutput();
+
+        assertEquals(1, data.getResponses().size());
+        assertEquals("Updated", data.getResponses().get(0).getResponseDetails().getAnswerString());
+        assertEquals(logic.getFeedbackResponse(qn2InSession1InCourse1.getId(), student2InCourse1.getEmail(),
+                student1InCourse1.getEmail()).getId(), data.getResponses().get(0).getFeedbackResponseId());
+
+        ______TS("no responses, should delete all responses of the giver to the question");
+        action = getAction(getResponsesRequest(), params);
+        data = (FeedbackResponsesData) getJsonResult(action).getOutput();
+
+        assertTrue(data.getResponses().isEmpty());
+        assertTrue(logic.getFeedbackResponsesFromStudentOrTeamForQuestion(
+                qn2InSession1InCourse1, student2InCourse1).isEmpty());
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_QUEUE_NAME, 1);
+
+        ______TS("duplicate recipients, should fail");
+        FeedbackResponsesRequest duplicateRequest = getResponsesRequest(
+                getTextResponseRequest(student1InCourse1.getEmail(), "First"),
+                getTextResponseRequest(student1InCourse1.getEmail(), "Second"));
+        SubmitFeedbackResponsesAction duplicateAction = getAction(duplicateRequest, params);
+        assertThrows(InvalidHttpRequestBodyException.class, () -> getJsonResult(duplicateAction));
+    }
+
+    @Test
+    public void testExecute_responsesInvalidTogether_shouldSaveNoneOfThem() throws Exception {
+        FeedbackQuestionAttributes rankQuestion = logic.createFeedbackQuestion(FeedbackQuestionAttributes.builder()
+                .withCourseId(session1InCourse1.getCourseId())
+                .withFeedbackSessionName(session1InCourse1.getFeedbackSessionName())
+                .withNumberOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                .withQuestionDescription("test")
+                .withQuestionNumber(6)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.STUDENTS)
+                .withQuestionDetails(new FeedbackRankRecipientsQuestionDetails())
+                .withShowResponsesTo(new ArrayList<>())
+                .withShowGiverNameTo(new ArrayList<>())
+                .withShowRecipientNameTo(new ArrayList<>())
+                .build());
+
+        loginAsStudent(student1InCourse1.getGoogleId());
+        String[] params = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, rankQuestion.getFeedbackQuestionId(),
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString(),
+        };
+        FeedbackResponsesRequest submitRequest = getResponsesRequest(
+                getRankResponseRequest(student2InCourse1.getEmail(), 1),
+                getRankResponseRequest(student3InCourse1.getEmail(), 1));
+
+        SubmitFeedbackResponsesAction action = getAction(submitRequest, params);
+        InvalidHttpRequestBodyException e =
+                assertThrows(InvalidHttpRequestBodyException.class, () -> getJsonResult(action));
+        AssertHelper.assertContains("Duplicate rank 1", e.getMessage());
+        assertTrue(logic.getFeedbackResponsesFromStudentOrTeamForQuestion(
+                rankQuestion, student1InCourse1).isEmpty());
+    }
+
+    @Test
+    @Override
+    protected void testAccessControl() throws Exception {
+
+        ______TS("non-exist feedback question");
+        loginAsInstructor(instructor1OfCourse1.getGoogleId());
+        String[] nonExistFeedbackQuestionParams = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, "randomNonExist",
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_SUBMISSION.toString(),
+        };
+        assertThrows(EntityNotFoundException.class,
+                () -> getAction(nonExistFeedbackQuestionParams).checkAccessControl());
+
+        ______TS("feedback session is closed");
+        String[] closedFeedbackSessionParams = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, qn1InClosedSessionInCourse1.getId(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_SUBMISSION.toString(),
+        };
+        verifyCannotAccess(closedFeedbackSessionParams);
+
+        ______TS("in preview request");
+        String[] previewParams = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, qn1InSession1InCourse1.getId(),
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString(),
+                Const.ParamsNames.PREVIEWAS, student1InCourse1.getEmail(),
+        };
+        verifyCannotAccess(previewParams);
+
+        ______TS("not answerable to instructors");
+        String[] notAnswerableForInstructors = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, qn2InSession1InCourse1.getId(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_SUBMISSION.toString(),
+        };
+        verifyCannotAccess(notAnswerableForInstructors);
+
+        ______TS("any invalid recipient for student, should fail");
+        loginAsStudent(student1InCourse1.getGoogleId());
+        String[] studentParams = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, qn2InSession1InCourse1.getId(),
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString(),
+        };
+        assertThrows(UnauthorizedAccessException.class, () -> {
+            FeedbackResponsesRequest submitRequest = getResponsesRequest(
+                    getTextResponseRequest(student2InCourse1.getEmail(), "Valid recipient"),
+                    getTextResponseRequest(student1InCourse1.getEmail(), "Giver is not a recipient"));
+            getAction(submitRequest, studentParams).checkAccessControl();
+        });
+
+        ______TS("all recipients valid for student, should pass");
+        FeedbackResponsesRequest validRequest = getResponsesRequest(
+                getTextResponseRequest(student2InCourse1.getEmail(), "Valid recipient"));
+        getAction(validRequest, studentParams).checkAccessControl();
+    }
+
+    private FeedbackResponsesRequest getResponsesRequest(FeedbackResponseBasicRequest... responses) {
+        FeedbackResponsesRequest submitRequest = new FeedbackResponsesRequest();
+        List<FeedbackResponseBasicRequest> responseRequests = new ArrayList<>(Arrays.asList(responses));
+        submitRequest.setResponses(responseRequests);
+        return submitRequest;
+    }
+
+    private FeedbackResponseBasicRequest getTextResponseRequest(String recipientIdentifier, String answer) {
+        FeedbackResponseDetails responseDetails = new FeedbackTextResponseDetails(answer);
+        return getResponseRequest(recipientIdentifier, FeedbackQuestionType.TEXT, responseDetails);
+    }
+
+    private FeedbackResponseBasicRequest getRankResponseRequest(String recipientIdentifier, int rank) {
+        FeedbackRankRecipientsResponseDetails responseDetails = new FeedbackRankRecipientsResponseDetails();
+        responseDetails.answer = rank;
+        return getResponseRequest(recipientIdentifier, FeedbackQuestionType.RANK_RECIPIENTS, responseDetails);
+    }
+
+    private FeedbackResponseBasicRequest getResponseRequest(String recipientIdentifier,
+                                                            FeedbackQuestionType questionType,
+                                                            FeedbackResponseDetails responseDetails) {
+        FeedbackResponseBasicRequest responseRequest = new FeedbackResponseBasicRequest();
+        responseRequest.setQuestionType(questionType);
+        responseRequest.setRecipientIdentifier(recipientIdentifier);
+        responseRequest.setResponseDetails(responseDetails);
+        return responseRequest;
+    }
+}
@@ -117,7 +117,51 @@ public class WebApiServletTest extends BaseTestCaseWithObjectifyAccess {
 
         SERVLET.doGet(mockRequest, mockResponse);
         assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, mockResponse.getStatus());
+        assertEquals("no-store", mockResponse.getHeader("Cache-Control"));
 
     }
 
+    @Test
+    public void testConditionalGet() throws Exception {
+
+        ______TS("Typical case: cacheable resource gets entity tag");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.NATIONALITIES);
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+        assertEquals("private, max-age=86400", mockResponse.getHeader("Cache-Control"));
+        String entityTag = mockResponse.getHeader("ETag");
+        assertNotNull(entityTag);
+
+        ______TS("Typical case: matching entity tag is not modified");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.NATIONALITIES);
+        mockRequest.addHeader("If-None-Match", "\"outdated\", W/" + entityTag);
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, mockResponse.getStatus());
+        assertEquals(entityTag, mockResponse.getHeader("ETag"));
+
+        ______TS("Typical case: outdated entity tag gets the resource");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.NATIONALITIES);
+        mockRequest.addHeader("If-None-Match", "\"outdated\"");
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+        assertEquals(entityTag, mockResponse.getHeader("ETag"));
+
+        ______TS("Typical case: resource which is not cacheable");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+        mockRequest.addParam(Const.ParamsNames.ERROR, "NoException");
+        mockRequest.addHeader("If-None-Match", "*");
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+        assertEquals("no-store", mockResponse.getHeader("Cache-Control"));
+        assertNull(mockResponse.getHeader("ETag"));
+    }
+
 }
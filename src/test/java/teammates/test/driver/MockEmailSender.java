@@ -2,6 +2,7 @@ package teammates.test.driver;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.http.HttpStatus;
 
@@ -25,6 +26,11 @@ public class MockEmailSender extends EmailSender {
         return new EmailSendingStatus(HttpStatus.SC_OK, null);
     }
 
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> emails) {
+        return emails.stream().map(this::sendEmail).collect(Collectors.toList());
+    }
+
     @Override
     public List<EmailWrapper> getEmailsSent() {
         return sentEmails;
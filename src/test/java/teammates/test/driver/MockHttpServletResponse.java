@@ -3,8 +3,10 @@ package teammates.test.driver;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.Cookie;
@@ -22,6 +24,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
     private int statusCode = HttpStatus.SC_OK;
     private String redirectUrl;
     private List<Cookie> cookies = new ArrayList<>();
+    private Map<String, String> headers = new HashMap<>();
 
     @Override
     public void addCookie(Cookie cookie) {
@@ -84,7 +87,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void setHeader(String name, String value) {
-        // not used
+        this.headers.put(name, value);
     }
 
     @Override
@@ -119,7 +122,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public String getHeader(String s) {
-        return null;
+        return this.headers.get(s);
     }
 
     @Override
@@ -16,12 +16,15 @@ import {
   FeedbackQuestionRecipient,
   FeedbackQuestionRecipients,
   FeedbackResponse,
+  FeedbackResponses,
   FeedbackSession,
+  FeedbackSessionRecipients,
   FeedbackSessionSubmissionStatus,
   Instructor,
   NumberOfEntitiesToGiveFeedbackToSetting,
   Student,
 } from '../../../types/api-output';
+import { FeedbackResponseBasicRequest } from '../../../types/api-request';
 import {
   FeedbackResponseRecipient,
   FeedbackResponseRecipientSubmissionFormModel,
@@ -291,7 +294,30 @@ export class SessionSubmissionPageComponent implements OnInit, AfterViewInit {
               showResponsesTo: feedbackQuestion.showResponsesTo,
             };
             this.questionSubmissionForms.push(model);
-            this.loadFeedbackQuestionRecipientsForQuestion(model);
+          });
+          this.loadFeedbackSessionRecipients();
+        }, (resp: ErrorMessageOutput) => this.statusMessageService.showErrorMessage(resp.error.message));
+  }
+
+  /**
+   * Loads the recipients of all the questions to submit in a single request.
+   */
+  loadFeedbackSessionRecipients(): void {
+    const paramMap: { [key: string]: string } = {
+      courseid: this.courseId,
+      fsname: this.feedbackSessionName,
+      intent: this.intent,
+      key: this.regKey,
+      moderatedperson: this.moderatedPerson,
+      previewas: this.previewAsPerson,
+    };
+    this.httpRequestService.get('/session/recipients', paramMap)
+        .subscribe((response: FeedbackSessionRecipients) => {
+          this.questionSubmissionForms.forEach((model: QuestionSubmissionFormModel) => {
+            const recipients: FeedbackQuestionRecipients | undefined = response.recipients[model.feedbackQuestionId];
+            if (recipients) {
+              this.populateFeedbackQuestionRecipientsForQuestion(model, recipients);
+            }
           });
         }, (resp: ErrorMessageOutput) => this.statusMessageService.showErrorMessage(resp.error.message));
   }
@@ -306,41 +332,32 @@ export class SessionSubmissionPageComponent implements OnInit, AfterViewInit {
   }
 
   /**
-   * Loads the feedback question recipients for the question.
+   * Populates the feedback question recipients for the question and loads the responses to them.
    */
-  loadFeedbackQuestionRecipientsForQuestion(model: QuestionSubmissionFormModel): void {
-    const paramMap: { [key: string]: string } = {
-      questionid: model.feedbackQuestionId,
-      intent: this.intent,
-      key: this.regKey,
-      moderatedperson: this.moderatedPerson,
-      previewas: this.previewAsPerson,
-    };
-    this.httpRequestService.get('/question/recipients', paramMap)
-        .subscribe((response: FeedbackQuestionRecipients) => {
-          response.recipients.forEach((recipient: FeedbackQuestionRecipient) => {
-            model.recipientList.push({
-              recipientIdentifier: recipient.identifier,
-              recipientName: recipient.name,
-            });
-          });
+  populateFeedbackQuestionRecipientsForQuestion(model: QuestionSubmissionFormModel,
+                                                response: FeedbackQuestionRecipients): void {
+    response.recipients.forEach((recipient: FeedbackQuestionRecipient) => {
+      model.recipientList.push({
+        recipientIdentifier: recipient.identifier,
+        recipientName: recipient.name,
+      });
+    });
 
-          if (this.previewAsPerson) {
-            // don't load responses in preview mode
-            // generate a list of empty response box
-            model.recipientList.forEach((recipient: FeedbackResponseRecipient) => {
-              model.recipientSubmissionForms.push({
-                recipientIdentifier:
-                    this.getQuestionSubmissionFormMode(model) === QuestionSubmissionFormMode.FLEXIBLE_RECIPIENT
-                        ? '' : recipient.recipientIdentifier,
-                responseDetails: this.feedbackResponsesService.getDefaultFeedbackResponseDetails(model.questionType),
-                responseId: '',
-              });
-            });
-          } else {
-            this.loadFeedbackResponses(model);
-          }
-        }, (resp: ErrorMessageOutput) => this.statusMessageService.showErrorMessage(resp.error.message));
+    if (this.previewAsPerson) {
+      // don't load responses in preview mode
+      // generate a list of empty response box
+      model.recipientList.forEach((recipient: FeedbackResponseRecipient) => {
+        model.recipientSubmissionForms.push({
+          recipientIdentifier:
+              this.getQuestionSubmissionFormMode(model) === QuestionSubmissionFormMode.FLEXIBLE_RECIPIENT
+                  ? '' : recipient.recipientIdentifier,
+          responseDetails: this.feedbackResponsesService.getDefaultFeedbackResponseDetails(model.questionType),
+          responseId: '',
+        });
+      });
+    } else {
+      this.loadFeedbackResponses(model);
+    }
   }
 
   /**
@@ -425,7 +442,8 @@ export class SessionSubmissionPageComponent implements OnInit, AfterViewInit {
   /**
    * Saves all feedback response.
    *
-   * <p>All empty feedback response will be deleted; For non-empty responses, update/create them if necessary.
+   * <p>All responses of each question are submitted together, where empty feedback responses will be deleted
+   * and non-empty responses will be created or updated.
    */
   saveFeedbackResponses(): void {
     const notYetAnsweredQuestions: Set<number> = new Set();
@@ -434,6 +452,8 @@ export class SessionSubmissionPageComponent implements OnInit, AfterViewInit {
 
     this.questionSubmissionForms.forEach((questionSubmissionFormModel: QuestionSubmissionFormModel) => {
       let isQuestionFullyAnswered: boolean = true;
+      let hasResponseToSave: boolean = false;
+      const responsesToSubmit: FeedbackResponseBasicRequest[] = [];
 
       questionSubmissionFormModel.recipientSubmissionForms
           .forEach((recipientSubmissionFormModel: FeedbackResponseRecipientSubmissionFormModel) => {
@@ -442,76 +462,51 @@ export class SessionSubmissionPageComponent implements OnInit, AfterViewInit {
                     questionSubmissionFormModel.questionType, recipientSubmissionFormModel.responseDetails);
             isQuestionFullyAnswered = isQuestionFullyAnswered && !isFeedbackResponseDetailsEmpty;
 
-            if (recipientSubmissionFormModel.responseId !== '' && isFeedbackResponseDetailsEmpty) {
-              // existing response but empty details -> delete response
-              savingRequests.push(this.httpRequestService.delete('/response', {
-                responseid: recipientSubmissionFormModel.responseId,
-                intent: this.intent,
-                key: this.regKey,
-                moderatedperson: this.moderatedPerson,
-              }).pipe(
-                  tap(() => {
-                    recipientSubmissionFormModel.responseId = '';
-                  }),
-                  catchError((error: any) => {
-                    this.statusMessageService.showErrorMessage((error as ErrorMessageOutput).error.message);
-                    failToSaveQuestions.add(questionSubmissionFormModel.questionNumber);
-                    return of(error);
-                  }),
-              ));
-            }
-
-            if (recipientSubmissionFormModel.responseId !== '' && !isFeedbackResponseDetailsEmpty) {
-              // existing response and details is not empty -> update response
-              savingRequests.push(
-                  this.feedbackResponsesService.updateFeedbackResponse(recipientSubmissionFormModel.responseId, {
-                    intent: this.intent,
-                    key: this.regKey,
-                    moderatedperson: this.moderatedPerson,
-                  }, {
-                    recipientIdentifier: recipientSubmissionFormModel.recipientIdentifier,
-                    questionType: questionSubmissionFormModel.questionType,
-                    responseDetails: recipientSubmissionFormModel.responseDetails,
-                  }).pipe(
-                      tap((resp: FeedbackResponse) => {
-                        recipientSubmissionFormModel.responseId = resp.feedbackResponseId;
-                        recipientSubmissionFormModel.responseDetails = resp.responseDetails;
-                        recipientSubmissionFormModel.recipientIdentifier = resp.recipientIdentifier;
-                      }),
-                      catchError((error: any) => {
-                        this.statusMessageService.showErrorMessage((error as ErrorMessageOutput).error.message);
-                        failToSaveQuestions.add(questionSubmissionFormModel.questionNumber);
-                        return of(error);
-                      }),
-                  ));
-            }
-
-            if (recipientSubmissionFormModel.responseId === '' && !isFeedbackResponseDetailsEmpty) {
-              // new response and the details is not empty -> create response
-              savingRequests.push(
-                  this.feedbackResponsesService.createFeedbackResponse(questionSubmissionFormModel.feedbackQuestionId, {
-                    intent: this.intent,
-                    key: this.regKey,
-                    moderatedperson: this.moderatedPerson,
-                  }, {
-                    recipientIdentifier: recipientSubmissionFormModel.recipientIdentifier,
-                    questionType: questionSubmissionFormModel.questionType,
-                    responseDetails: recipientSubmissionFormModel.responseDetails,
-                  }).pipe(
-                      tap((resp: FeedbackResponse) => {
-                        recipientSubmissionFormModel.responseId = resp.feedbackResponseId;
-                        recipientSubmissionFormModel.responseDetails = resp.responseDetails;
-                        recipientSubmissionFormModel.recipientIdentifier = resp.recipientIdentifier;
-                      }),
-                      catchError((error: any) => {
-                        this.statusMessageService.showErrorMessage((error as ErrorMessageOutput).error.message);
-                        failToSaveQuestions.add(questionSubmissionFormModel.questionNumber);
-                        return of(error);
-                      }),
-                  ));
+            // existing responses with empty details are deleted by leaving them out
+            hasResponseToSave = hasResponseToSave || recipientSubmissionFormModel.responseId !== ''
+                || !isFeedbackResponseDetailsEmpty;
+            if (!isFeedbackResponseDetailsEmpty) {
+              responsesToSubmit.push({
+                recipientIdentifier: recipientSubmissionFormModel.recipientIdentifier,
+                questionType: questionSubmissionFormModel.questionType,
+                responseDetails: recipientSubmissionFormModel.responseDetails,
+              });
             }
           });
 
+      if (hasResponseToSave) {
+        savingRequests.push(
+            this.feedbackResponsesService.submitFeedbackResponses(questionSubmissionFormModel.feedbackQuestionId, {
+              intent: this.intent,
+              key: this.regKey,
+              moderatedperson: this.moderatedPerson,
+            }, {
+              responses: responsesToSubmit,
+            }).pipe(
+                tap((resp: FeedbackResponses) => {
+                  const responsesByRecipient: Map<string, FeedbackResponse> = new Map();
+                  resp.responses.forEach((response: FeedbackResponse) =>
+                      responsesByRecipient.set(response.recipientIdentifier, response));
+                  questionSubmissionFormModel.recipientSubmissionForms
+                      .forEach((recipientSubmissionFormModel: FeedbackResponseRecipientSubmissionFormModel) => {
+                        const response: FeedbackResponse | undefined =
+                            responsesByRecipient.get(recipientSubmissionFormModel.recipientIdentifier);
+                        if (response) {
+                          recipientSubmissionFormModel.responseId = response.feedbackResponseId;
+                          recipientSubmissionFormModel.responseDetails = response.responseDetails;
+                        } else {
+                          recipientSubmissionFormModel.responseId = '';
+                        }
+                      });
+                }),
+                catchError((error: any) => {
+                  this.statusMessageService.showErrorMessage((error as ErrorMessageOutput).error.message);
+                  failToSaveQuestions.add(questionSubmissionFormModel.questionNumber);
+                  return of(error);
+                }),
+            ));
+      }
+
       if (!isQuestionFullyAnswered) {
         notYetAnsweredQuestions.add(questionSubmissionFormModel.questionNumber);
       }
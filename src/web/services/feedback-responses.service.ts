@@ -10,10 +10,14 @@ import {
   FeedbackRankOptionsResponseDetails,
   FeedbackRankRecipientsResponseDetails,
   FeedbackResponse,
-  FeedbackResponseDetails, FeedbackRubricResponseDetails,
+  FeedbackResponseDetails, FeedbackResponses, FeedbackRubricResponseDetails,
   FeedbackTextResponseDetails,
 } from '../types/api-output';
-import { FeedbackResponseCreateRequest, FeedbackResponseUpdateRequest } from '../types/api-request';
+import {
+  FeedbackResponseCreateRequest,
+  FeedbackResponsesRequest,
+  FeedbackResponseUpdateRequest,
+} from '../types/api-request';
 import {
   DEFAULT_CONSTSUM_RESPONSE_DETAILS,
   DEFAULT_CONTRIBUTION_RESPONSE_DETAILS,
@@ -140,4 +144,17 @@ export class FeedbackResponsesService {
     }, request);
   }
 
+  /**
+   * Submits all feedback responses of the giver to a question by calling API.
+   *
+   * <p>The responses replace all existing responses of the giver to the question.
+   */
+  submitFeedbackResponses(questionId: string, additionalParams: { [key: string]: string } = {},
+                          request: FeedbackResponsesRequest): Observable<FeedbackResponses> {
+    return this.httpRequestService.put('/responses', {
+      questionid: questionId,
+      ...additionalParams,
+    }, request);
+  }
+
 }